@@ -0,0 +1,231 @@
+package com.onmoim.server.loadtest;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.onmoim.server.chat.common.config.ChatSequenceProperties;
+import com.onmoim.server.chat.common.config.StompCborMessageConverter;
+import com.onmoim.server.chat.domain.dto.ChatMessageDto;
+import com.onmoim.server.chat.domain.dto.ChatRoomListUpdateDto;
+import com.onmoim.server.chat.domain.dto.ChatSyncResponse;
+import com.onmoim.server.chat.domain.dto.ChatUserDto;
+import com.onmoim.server.chat.domain.enums.MessageType;
+import com.onmoim.server.chat.repository.ChatSequenceStore;
+import com.onmoim.server.chat.repository.InMemoryRoomChatMessageIdGenerator;
+import com.onmoim.server.chat.service.ChatFanOutSender;
+
+/**
+ * 채팅 구성 요소 마이크로 벤치마크 (gradle chatComponentBenchmark)
+ * <p>
+ * 단위 테스트에서는 결과(쓰기 횟수, 바이트)만 검증하고, 시간 비교는 여기서 출력합니다.
+ * 장비와 JVM 상태에 따라 값이 달라지므로 같은 환경에서 변경 전후를 비교하는 용도로 사용합니다.
+ * - 시퀀스 발급 : 메시지마다 chat_sequence 쓰기(blockSize=1) vs 구간 예약(blockSize=500)
+ * - fan-out : 목적지별 convertAndSend vs 직렬화 1회 fan-out, 스레드 단위 할당량(ThreadMXBean)과 CPU 시간
+ * - 인코딩 : 채팅 메시지, 채팅방 목록, 동기화 응답의 JSON/CBOR 크기와 직렬화 CPU 시간
+ */
+public class ChatComponentBenchmark {
+	private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+		(com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+
+	public static void main(String[] args) throws Exception {
+		sequenceAllocation();
+		fanOut();
+		encoding();
+	}
+
+	/**
+	 * chat_sequence 행 잠금을 잡고 UPDATE 하는 왕복 비용(100us)을 가정하고, 8개 스레드가 같은 방의 순번을 발급합니다.
+	 */
+	private static void sequenceAllocation() throws InterruptedException {
+		int threadCount = 8;
+		int perThread = 500;
+		int total = threadCount * perThread;
+
+		for (long blockSize : new long[] {1, 500}) {
+			SimulatedSequenceStore store = new SimulatedSequenceStore(TimeUnit.MICROSECONDS.toNanos(100));
+			ChatSequenceProperties properties = new ChatSequenceProperties();
+			properties.setBlockSize(blockSize);
+			InMemoryRoomChatMessageIdGenerator generator = new InMemoryRoomChatMessageIdGenerator(store, properties);
+
+			long elapsedNanos = issueConcurrently(generator, threadCount, perThread);
+			System.out.printf("시퀀스 발급 blockSize=%3d | %,d 건, DB 쓰기 %,d 회, %,.0f 건/s%n",
+				blockSize, total, store.writes.get(), total / (elapsedNanos / 1e9));
+		}
+	}
+
+	/**
+	 * 회원 10/100/1000명 방에서 채팅방 목록 갱신을 fan-out 1회 보낼 때의 평균 할당량과 CPU 시간
+	 */
+	private static void fanOut() {
+		// WebSocketConfig.configureMessageConverters 와 같은 설정
+		MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+		ObjectMapper objectMapper = new ObjectMapper();
+		objectMapper.registerModule(new JavaTimeModule());
+		converter.setObjectMapper(objectMapper);
+		SimpMessagingTemplate messagingTemplate = new SimpMessagingTemplate((message, timeout) -> true);
+		messagingTemplate.setMessageConverter(converter);
+		ChatFanOutSender chatFanOutSender = new ChatFanOutSender(messagingTemplate, Optional.empty());
+
+		ChatRoomListUpdateDto payload = ChatRoomListUpdateDto.builder()
+			.groupId(1L)
+			.groupName("주말 등산 모임")
+			.participantCount(1000)
+			.latestMessage(sampleMessage(1024L))
+			.build();
+
+		for (int members : new int[] {10, 100, 1000}) {
+			List<String> destinations = IntStream.rangeClosed(1, members)
+				.mapToObj(userId -> "/topic/chat.room.list." + userId)
+				.toList();
+			int iterations = Math.max(50, 50_000 / members);
+
+			Measurement perDestination = measure(iterations, () -> {
+				for (String destination : destinations) {
+					messagingTemplate.convertAndSend(destination, payload);
+				}
+			});
+			Measurement serializeOnce = measure(iterations, () -> chatFanOutSender.send(destinations, payload, null));
+
+			System.out.printf("fan-out members=%4d | convertAndSend: %,10d B, %,8d us | serialize-once: %,10d B, %,8d us%n",
+				members, perDestination.bytes(), perDestination.cpuMicros(),
+				serializeOnce.bytes(), serializeOnce.cpuMicros());
+		}
+	}
+
+	/**
+	 * 워밍업 후 1회당 평균 할당 바이트와 CPU 시간
+	 */
+	private static Measurement measure(int iterations, Runnable task) {
+		for (int i = 0; i < iterations; i++) {
+			task.run();
+		}
+
+		long bytesBefore = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+		long cpuBefore = THREAD_MX_BEAN.getCurrentThreadCpuTime();
+		for (int i = 0; i < iterations; i++) {
+			task.run();
+		}
+		long bytes = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - bytesBefore;
+		long cpuNanos = THREAD_MX_BEAN.getCurrentThreadCpuTime() - cpuBefore;
+
+		return new Measurement(bytes / iterations, cpuNanos / iterations / 1_000);
+	}
+
+	private static void encoding() throws Exception {
+		ObjectMapper jsonMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+		ObjectMapper cborMapper = StompCborMessageConverter.compactMapper();
+		ChatMessageDto chatMessage = sampleMessage(1024L);
+		ChatRoomListUpdateDto listUpdate = ChatRoomListUpdateDto.builder()
+			.groupId(1L)
+			.groupName("주말 등산 모임")
+			.participantCount(1000)
+			.latestMessage(chatMessage)
+			.build();
+		ChatSyncResponse sync = ChatSyncResponse.of(1L,
+			LongStream.rangeClosed(1, 50).mapToObj(ChatComponentBenchmark::sampleMessage).toList());
+
+		Map<String, Object> payloads = new LinkedHashMap<>();
+		payloads.put("chat.room", chatMessage);
+		payloads.put("chat.room.list", listUpdate);
+		payloads.put("chat.sync(50)", sync);
+		for (Map.Entry<String, Object> entry : payloads.entrySet()) {
+			byte[] json = jsonMapper.writeValueAsBytes(entry.getValue());
+			byte[] cbor = cborMapper.writeValueAsBytes(entry.getValue());
+			Measurement jsonWrite = measure(20_000, () -> write(jsonMapper, entry.getValue()));
+			Measurement cborWrite = measure(20_000, () -> write(cborMapper, entry.getValue()));
+
+			System.out.printf("인코딩 %-15s | json: %,6d B, %,5d us | cbor: %,6d B, %,5d us (%.0f%%)%n",
+				entry.getKey(), json.length, jsonWrite.cpuMicros(), cbor.length, cborWrite.cpuMicros(),
+				cbor.length * 100.0 / json.length);
+		}
+	}
+
+	private static void write(ObjectMapper mapper, Object payload) {
+		try {
+			mapper.writeValueAsBytes(payload);
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static ChatMessageDto sampleMessage(Long sequence) {
+		return ChatMessageDto.builder()
+			.messageSequence(sequence)
+			.groupId(1L)
+			.type(MessageType.CHAT)
+			.content("이번 주 모임은 화요일 저녁 7시에 강남역 근처에서 진행합니다. 늦지 않게 와주세요!")
+			.senderId(54321L)
+			.timestamp(LocalDateTime.of(2025, 8, 11, 14, 0))
+			.chatUserDto(ChatUserDto.builder()
+				.id(54321L)
+				.username("홍길동")
+				.profileImageUrl("https://cdn.onmoim.com/profile/54321.png")
+				.isOwner(false)
+				.build())
+			.build();
+	}
+
+	private static long issueConcurrently(InMemoryRoomChatMessageIdGenerator generator, int threadCount,
+		int perThread) throws InterruptedException {
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch latch = new CountDownLatch(threadCount);
+		long start = System.nanoTime();
+		for (int i = 0; i < threadCount; i++) {
+			executorService.submit(() -> {
+				try {
+					for (int j = 0; j < perThread; j++) {
+						generator.getSequence(1L);
+					}
+				} finally {
+					latch.countDown();
+				}
+			});
+		}
+		latch.await(60, TimeUnit.SECONDS);
+		long elapsed = System.nanoTime() - start;
+		executorService.shutdown();
+		return elapsed;
+	}
+
+	private record Measurement(long bytes, long cpuMicros) {
+	}
+
+	/**
+	 * 같은 행에 대한 UPDATE 가 행 잠금으로 직렬화되는 chat_sequence
+	 */
+	private static class SimulatedSequenceStore extends ChatSequenceStore {
+		private final long rowWriteNanos;
+		private final AtomicInteger writes = new AtomicInteger();
+		private long current;
+
+		private SimulatedSequenceStore(long rowWriteNanos) {
+			super(null);
+			this.rowWriteNanos = rowWriteNanos;
+		}
+
+		@Override
+		public synchronized long reserve(Long roomId, long blockSize) {
+			LockSupport.parkNanos(rowWriteNanos);
+			writes.incrementAndGet();
+			current += blockSize;
+			return current;
+		}
+	}
+}
@@ -0,0 +1,240 @@
+package com.onmoim.server.loadtest;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.messaging.converter.ByteArrayMessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import com.onmoim.server.chat.domain.enums.SubscribeRegistry;
+
+/**
+ * 부하 테스트용 STOMP 클라이언트
+ * <p>
+ * 세션마다 채팅방 하나를 구독하고, 전송 시각(nanoTime)을 본문에 넣어 수신 시점에 지연 시간을 기록합니다.
+ * 본문은 byte[] 그대로 주고받아 클라이언트 쪽 역직렬화 비용이 측정에 섞이지 않게 합니다.
+ */
+public class ChatLoadClient {
+	private static final String SEND_DESTINATION = "/app/chat.sendMessage";
+	private static final String SYSTEM_DESTINATION = "/system" + SubscribeRegistry.SYSTEM_MESSAGE_PREFIX.getDestination();
+	private static final byte[] MEASURED_MARKER = "\"lt-m-".getBytes(StandardCharsets.UTF_8);
+	private static final byte[] ERROR_MARKER = "\"type\":\"ERROR\"".getBytes(StandardCharsets.UTF_8);
+	private static final int CONNECT_CONCURRENCY = 64;
+
+	private final LoadTestOptions options;
+	private final List<Long> roomIds;
+	private final WebSocketStompClient stompClient;
+	private final ThreadPoolTaskScheduler heartbeatScheduler;
+	private final List<StompSession> sessions = new ArrayList<>();
+	private final String padding;
+
+	private final LatencyHistogram histogram = new LatencyHistogram();
+	private final AtomicLong received = new AtomicLong();
+	private final AtomicLong errors = new AtomicLong();
+	private final AtomicLong sent = new AtomicLong();
+	private final AtomicLong expected = new AtomicLong();
+	private volatile boolean measuring;
+
+	public ChatLoadClient(LoadTestOptions options, List<Long> roomIds) {
+		this.options = options;
+		this.roomIds = roomIds;
+		this.padding = "x".repeat(Math.max(0, options.payloadLength()));
+
+		this.heartbeatScheduler = new ThreadPoolTaskScheduler();
+		heartbeatScheduler.setPoolSize(2);
+		heartbeatScheduler.setThreadNamePrefix("loadtest-heartbeat-");
+		heartbeatScheduler.setDaemon(true);
+		heartbeatScheduler.initialize();
+
+		this.stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+		stompClient.setMessageConverter(new ByteArrayMessageConverter() {
+			@Override
+			protected boolean supportsMimeType(org.springframework.messaging.MessageHeaders headers) {
+				return true;
+			}
+		});
+		stompClient.setTaskScheduler(heartbeatScheduler);
+		stompClient.setInboundMessageSizeLimit(1024 * 1024);
+	}
+
+	/**
+	 * 세션을 연결하고 채팅방을 구독합니다. 동시에 진행하는 연결 수는 제한합니다.
+	 */
+	public void connect(String url) throws InterruptedException {
+		Semaphore permits = new Semaphore(CONNECT_CONCURRENCY);
+		List<CompletableFuture<StompSession>> futures = new ArrayList<>(options.sessions());
+		for (int i = 0; i < options.sessions(); i++) {
+			permits.acquire();
+			CompletableFuture<StompSession> future = stompClient.connectAsync(url, new StompSessionHandlerAdapter() {
+			});
+			future.whenComplete((session, e) -> permits.release());
+			futures.add(future);
+		}
+
+		for (int i = 0; i < futures.size(); i++) {
+			StompSession session = futures.get(i).orTimeout(30, TimeUnit.SECONDS).join();
+			Long roomId = roomIds.get(options.roomOf(i));
+			session.subscribe(SubscribeRegistry.CHAT_ROOM_SUBSCRIBE_PREFIX.getDestination() + roomId, roomHandler());
+			if (i == 0) {
+				session.subscribe(SYSTEM_DESTINATION, systemHandler());
+			}
+			sessions.add(session);
+		}
+	}
+
+	/**
+	 * 초당 rate 건을 10ms 단위로 나눠 전송합니다. 방과 세션은 순서대로 돌아가며 고릅니다.
+	 */
+	public void run(int seconds, boolean measure) throws InterruptedException {
+		measuring = measure;
+		long tickNanos = TimeUnit.MILLISECONDS.toNanos(10);
+		long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+		double perTick = options.rate() / 100.0;
+		double budget = 0;
+		long next = System.nanoTime();
+		long index = 0;
+
+		while (next < end) {
+			budget += perTick;
+			while (budget >= 1) {
+				budget--;
+				int sessionIndex = (int)(index++ % sessions.size());
+				send(sessionIndex, measure);
+			}
+			next += tickNanos;
+			long sleep = next - System.nanoTime();
+			if (sleep > 0) {
+				TimeUnit.NANOSECONDS.sleep(sleep);
+			}
+		}
+	}
+
+	private void send(int sessionIndex, boolean measure) {
+		int roomIndex = options.roomOf(sessionIndex);
+		String content = "lt-" + (measure ? "m-" : "w-") + System.nanoTime() + "-" + padding;
+		String body = "{\"groupId\":" + roomIds.get(roomIndex) + ",\"type\":\"CHAT\",\"content\":\"" + content + "\"}";
+
+		StompHeaders headers = new StompHeaders();
+		headers.setDestination(SEND_DESTINATION);
+		headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+		try {
+			sessions.get(sessionIndex).send(headers, body.getBytes(StandardCharsets.UTF_8));
+			if (measure) {
+				sent.incrementAndGet();
+				expected.addAndGet(options.subscribersOf(roomIndex));
+			}
+		} catch (Exception e) {
+			errors.incrementAndGet();
+		}
+	}
+
+	/**
+	 * 측정 구간에 보낸 메시지가 모두 도착하거나 timeout 이 지날 때까지 기다립니다.
+	 */
+	public void drain(long timeoutMillis) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + timeoutMillis;
+		while (received.get() < expected.get() && System.currentTimeMillis() < deadline) {
+			Thread.sleep(50);
+		}
+	}
+
+	public void disconnect() {
+		sessions.forEach(session -> {
+			try {
+				session.disconnect();
+			} catch (Exception ignored) {
+				// 종료 중 오류는 결과에 영향이 없습니다.
+			}
+		});
+		stompClient.stop();
+		heartbeatScheduler.shutdown();
+	}
+
+	private StompFrameHandler roomHandler() {
+		return new ByteFrameHandler() {
+			@Override
+			public void handleFrame(StompHeaders headers, Object payload) {
+				byte[] body = (byte[])payload;
+				int index = indexOf(body, MEASURED_MARKER);
+				if (index < 0) {
+					return;
+				}
+				long sentAt = parseLong(body, index + MEASURED_MARKER.length);
+				histogram.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - sentAt));
+				received.incrementAndGet();
+			}
+		};
+	}
+
+	private StompFrameHandler systemHandler() {
+		return new ByteFrameHandler() {
+			@Override
+			public void handleFrame(StompHeaders headers, Object payload) {
+				if (measuring && indexOf((byte[])payload, ERROR_MARKER) >= 0) {
+					errors.incrementAndGet();
+				}
+			}
+		};
+	}
+
+	private static int indexOf(byte[] body, byte[] marker) {
+		outer:
+		for (int i = 0; i <= body.length - marker.length; i++) {
+			for (int j = 0; j < marker.length; j++) {
+				if (body[i + j] != marker[j]) {
+					continue outer;
+				}
+			}
+			return i;
+		}
+		return -1;
+	}
+
+	private static long parseLong(byte[] body, int from) {
+		long value = 0;
+		for (int i = from; i < body.length && body[i] >= '0' && body[i] <= '9'; i++) {
+			value = value * 10 + (body[i] - '0');
+		}
+		return value;
+	}
+
+	public LatencyHistogram histogram() {
+		return histogram;
+	}
+
+	public long sent() {
+		return sent.get();
+	}
+
+	public long expected() {
+		return expected.get();
+	}
+
+	public long received() {
+		return received.get();
+	}
+
+	public long errors() {
+		return errors.get();
+	}
+
+	private abstract static class ByteFrameHandler implements StompFrameHandler {
+		@Override
+		public Type getPayloadType(StompHeaders headers) {
+			return byte[].class;
+		}
+	}
+}
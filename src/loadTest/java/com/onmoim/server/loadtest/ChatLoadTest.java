@@ -0,0 +1,123 @@
+package com.onmoim.server.loadtest;
+
+import java.util.List;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.socket.config.WebSocketMessageBrokerStats;
+
+import com.onmoim.server.OnmoimApplication;
+import com.onmoim.server.chat.domain.enums.SubscribeRegistry;
+
+/**
+ * 채팅 STOMP 부하 테스트
+ * <p>
+ * 1. loadtest 프로필(내장 H2)로 애플리케이션을 띄우고 채팅방 M 개를 만듭니다.
+ * 2. STOMP 세션 N 개가 채팅방을 나눠 구독하고, /app/chat.sendMessage 로 초당 rate 건을 보냅니다.
+ * 3. 워밍업 후 측정 구간의 전송 → 구독자 수신 지연 시간, 처리량, 유실 수와 서버 스레드/큐 상태를 출력합니다.
+ * 클라이언트와 서버가 같은 JVM 에서 실행되므로 절대값보다는 변경 전후 비교에 사용합니다.
+ */
+public class ChatLoadTest {
+	private static final long DRAIN_TIMEOUT_MILLIS = 10_000;
+	private static final long SETTLE_TIMEOUT_MILLIS = 120_000;
+
+	public static void main(String[] args) throws Exception {
+		LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+		System.setProperty("spring.profiles.active", "loadtest");
+
+		ConfigurableApplicationContext context = new SpringApplication(OnmoimApplication.class).run(args);
+		int exitCode = 0;
+		try {
+			run(context, options);
+		} catch (Exception e) {
+			e.printStackTrace();
+			exitCode = 1;
+		} finally {
+			context.close();
+		}
+		// 애플리케이션의 non-daemon 스레드가 남아 있어 직접 종료합니다.
+		System.exit(exitCode);
+	}
+
+	private static void run(ConfigurableApplicationContext context, LoadTestOptions options) throws Exception {
+		List<Long> roomIds = LoadTestSeeder.seed(context, options.rooms());
+		String url = "ws://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/ws-chat";
+
+		ChatLoadClient client = new ChatLoadClient(options, roomIds);
+		long connectStart = System.nanoTime();
+		client.connect(url);
+		awaitSubscriptions(context, options.sessions());
+		System.out.printf("세션 %,d개 연결 완료 (%,d ms)%n", options.sessions(), (System.nanoTime() - connectStart) / 1_000_000);
+
+		client.run(options.warmupSeconds(), false);
+
+		ServerStatsSampler sampler = new ServerStatsSampler(context);
+		double droppedBefore = sampler.counter("stomp.outbound.dropped");
+		double disconnectedBefore = sampler.counter("stomp.outbound.slow_consumer.disconnected");
+		double rejectedBefore = sampler.counter("chat.lane.rejected");
+		double throttledBefore = sampler.counter("stomp.inbound.throttled");
+
+		sampler.start();
+		long measureStart = System.nanoTime();
+		client.run(options.durationSeconds(), true);
+		double sendSeconds = (System.nanoTime() - measureStart) / 1e9;
+		client.drain(DRAIN_TIMEOUT_MILLIS);
+		double totalSeconds = (System.nanoTime() - measureStart) / 1e9;
+		sampler.stop();
+
+		LatencyHistogram histogram = client.histogram();
+		System.out.println();
+		System.out.println("==================== 채팅 부하 테스트 결과 ====================");
+		System.out.printf("설정       : 세션 %,d, 채팅방 %,d, 초당 %,d건, 측정 %d초 (워밍업 %d초), 본문 %d자%n",
+			options.sessions(), options.rooms(), options.rate(), options.durationSeconds(), options.warmupSeconds(),
+			options.payloadLength());
+		System.out.printf("전송       : %,d건 (%,.1f msg/s)%n", client.sent(), client.sent() / sendSeconds);
+		System.out.printf("수신       : %,d / %,d 프레임 (%,.1f frame/s), 유실 %,d%n",
+			client.received(), client.expected(), client.received() / totalSeconds,
+			Math.max(0, client.expected() - client.received()));
+		System.out.printf("오류       : %,d%n", client.errors());
+		System.out.printf("지연 시간  : p50 %s, p99 %s, p999 %s, max %s%n",
+			millis(histogram.percentile(50)), millis(histogram.percentile(99)),
+			millis(histogram.percentile(99.9)), millis(histogram.max()));
+		System.out.println("--------------------------- 서버 ------------------------------");
+		System.out.println(sampler.report());
+		System.out.printf("느린 구독자 : 버린 프레임 %,.0f, 강제 종료 세션 %,.0f%n",
+			sampler.counter("stomp.outbound.dropped") - droppedBefore,
+			sampler.counter("stomp.outbound.slow_consumer.disconnected") - disconnectedBefore);
+		System.out.printf("거절        : lane %,.0f, 전송 제한 %,.0f%n",
+			sampler.counter("chat.lane.rejected") - rejectedBefore,
+			sampler.counter("stomp.inbound.throttled") - throttledBefore);
+		System.out.println(context.getBean(WebSocketMessageBrokerStats.class));
+		System.out.println("===============================================================");
+
+		client.disconnect();
+	}
+
+	/**
+	 * 모든 세션의 채팅방 구독이 등록되고, 구독 직후의 안내 메시지가 모두 처리될 때까지 기다립니다.
+	 */
+	private static void awaitSubscriptions(ConfigurableApplicationContext context, int sessions)
+		throws InterruptedException {
+		SimpUserRegistry userRegistry = context.getBean(SimpUserRegistry.class);
+		ThreadPoolTaskExecutor inbound = context.getBean("stompInboundExecutor", ThreadPoolTaskExecutor.class);
+		ThreadPoolTaskExecutor outbound = context.getBean("stompOutboundExecutor", ThreadPoolTaskExecutor.class);
+		String roomPrefix = SubscribeRegistry.CHAT_ROOM_SUBSCRIBE_PREFIX.getDestination();
+
+		long deadline = System.currentTimeMillis() + SETTLE_TIMEOUT_MILLIS;
+		while (System.currentTimeMillis() < deadline) {
+			int subscribed = userRegistry.findSubscriptions(sub -> sub.getDestination().startsWith(roomPrefix)).size();
+			if (subscribed >= sessions && inbound.getQueueSize() == 0 && outbound.getQueueSize() == 0
+				&& inbound.getActiveCount() == 0 && outbound.getActiveCount() == 0) {
+				return;
+			}
+			Thread.sleep(100);
+		}
+		throw new IllegalStateException("채팅방 구독이 " + SETTLE_TIMEOUT_MILLIS + "ms 안에 끝나지 않았습니다.");
+	}
+
+	private static String millis(long micros) {
+		return String.format("%,.2f ms", micros / 1000.0);
+	}
+}
@@ -0,0 +1,74 @@
+package com.onmoim.server.loadtest;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 마이크로초 단위 지연 시간 히스토그램 (lock-free)
+ * <p>
+ * 2의 거듭제곱 구간마다 32개 하위 구간으로 나눠 약 3% 오차로 백분위를 계산합니다.
+ */
+public class LatencyHistogram {
+	private static final int SUB_BUCKET_BITS = 5;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+	private final AtomicLongArray counts = new AtomicLongArray(64 * SUB_BUCKETS);
+	private final LongAdder total = new LongAdder();
+	private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+	public void record(long micros) {
+		long value = Math.max(0, micros);
+		counts.incrementAndGet(indexOf(value));
+		total.increment();
+		max.accumulate(value);
+	}
+
+	public long count() {
+		return total.sum();
+	}
+
+	public long max() {
+		return max.get();
+	}
+
+	/**
+	 * @param percentile 0 ~ 100
+	 * @return 해당 백분위 구간의 상한 (마이크로초)
+	 */
+	public long percentile(double percentile) {
+		long count = count();
+		if (count == 0) {
+			return 0;
+		}
+		long rank = (long)Math.ceil(count * percentile / 100.0);
+		long seen = 0;
+		for (int i = 0; i < counts.length(); i++) {
+			seen += counts.get(i);
+			if (seen >= Math.max(rank, 1)) {
+				return Math.min(upperBoundOf(i), max());
+			}
+		}
+		return max();
+	}
+
+	private static int indexOf(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int)value;
+		}
+		int magnitude = 63 - Long.numberOfLeadingZeros(value);
+		int shift = magnitude - SUB_BUCKET_BITS;
+		int sub = (int)((value >>> shift) & (SUB_BUCKETS - 1));
+		return (shift + 1) * SUB_BUCKETS + sub;
+	}
+
+	private static long upperBoundOf(int index) {
+		int group = index / SUB_BUCKETS;
+		int sub = index % SUB_BUCKETS;
+		if (group == 0) {
+			return sub;
+		}
+		int shift = group - 1;
+		return ((long)(SUB_BUCKETS + sub + 1) << shift) - 1;
+	}
+}
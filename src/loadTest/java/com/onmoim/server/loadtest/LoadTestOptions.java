@@ -0,0 +1,39 @@
+package com.onmoim.server.loadtest;
+
+/**
+ * 부하 테스트 설정, 시스템 프로퍼티(loadtest.*)로 지정합니다.
+ * @param sessions STOMP 세션 수
+ * @param rooms 채팅방 수, 세션은 방마다 고르게 나눠 구독합니다.
+ * @param rate 초당 전송 메시지 수 (전체)
+ * @param durationSeconds 측정 시간
+ * @param warmupSeconds 측정 전 워밍업 시간, 이 동안의 지연 시간은 기록하지 않습니다.
+ * @param payloadLength 메시지 본문 길이
+ */
+public record LoadTestOptions(
+	int sessions,
+	int rooms,
+	int rate,
+	int durationSeconds,
+	int warmupSeconds,
+	int payloadLength
+) {
+
+	public static LoadTestOptions fromSystemProperties() {
+		return new LoadTestOptions(
+			Integer.getInteger("loadtest.sessions", 1_000),
+			Integer.getInteger("loadtest.rooms", 20),
+			Integer.getInteger("loadtest.rate", 200),
+			Integer.getInteger("loadtest.duration", 30),
+			Integer.getInteger("loadtest.warmup", 5),
+			Integer.getInteger("loadtest.payload", 64)
+		);
+	}
+
+	public int roomOf(int sessionIndex) {
+		return sessionIndex % rooms;
+	}
+
+	public int subscribersOf(int roomIndex) {
+		return sessions / rooms + (roomIndex < sessions % rooms ? 1 : 0);
+	}
+}
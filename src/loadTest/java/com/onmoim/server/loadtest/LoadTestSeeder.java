@@ -0,0 +1,71 @@
+package com.onmoim.server.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.onmoim.server.category.entity.Category;
+import com.onmoim.server.category.repository.CategoryRepository;
+import com.onmoim.server.chat.service.ChatRoomService;
+import com.onmoim.server.group.entity.Group;
+import com.onmoim.server.group.entity.GroupUser;
+import com.onmoim.server.group.entity.Status;
+import com.onmoim.server.group.repository.GroupRepository;
+import com.onmoim.server.group.repository.GroupUserRepository;
+import com.onmoim.server.location.entity.Location;
+import com.onmoim.server.location.repository.LocationRepository;
+import com.onmoim.server.user.entity.User;
+import com.onmoim.server.user.repository.UserRepository;
+
+/**
+ * 부하 테스트용 사용자, 모임, 채팅방 데이터
+ */
+public final class LoadTestSeeder {
+	/** WebSocketConfig.handshakeHandler 는 모든 세션을 사용자 101 로 인증합니다. */
+	public static final long LOAD_TEST_USER_ID = 101L;
+
+	private LoadTestSeeder() {
+	}
+
+	/**
+	 * 사용자 101 이 회원인 모임(채팅방)을 rooms 개 만듭니다.
+	 * @return 채팅방(모임) ID
+	 */
+	public static List<Long> seed(ApplicationContext context, int rooms) {
+		context.getBean(JdbcTemplate.class)
+			.execute("ALTER TABLE user ALTER COLUMN id RESTART WITH " + LOAD_TEST_USER_ID);
+
+		return context.getBean(TransactionTemplate.class).execute(status -> {
+			Category category = context.getBean(CategoryRepository.class).save(Category.create("부하 테스트", null));
+			Location location = context.getBean(LocationRepository.class)
+				.save(Location.create("1100000000", "서울특별시", "강남구", "역삼동", null));
+			User user = context.getBean(UserRepository.class).save(
+				User.create(1L, "loadtest", "kakao", "loadtest@onmoim.com", "부하테스트", "M", null, location, null, null));
+			if (user.getId() != LOAD_TEST_USER_ID) {
+				throw new IllegalStateException("부하 테스트 사용자 ID 가 " + LOAD_TEST_USER_ID + " 가 아닙니다: " + user.getId());
+			}
+
+			GroupRepository groupRepository = context.getBean(GroupRepository.class);
+			GroupUserRepository groupUserRepository = context.getBean(GroupUserRepository.class);
+			ChatRoomService chatRoomService = context.getBean(ChatRoomService.class);
+
+			List<Long> roomIds = new ArrayList<>(rooms);
+			for (int i = 0; i < rooms; i++) {
+				Group group = groupRepository.save(Group.builder()
+					.category(category)
+					.location(location)
+					.name("부하 테스트 모임 " + i)
+					.description("부하 테스트")
+					.capacity(10_000)
+					.build());
+				groupUserRepository.save(GroupUser.create(group, user, Status.MEMBER));
+				chatRoomService.createRoom(group.getId(), group.getName(), group.getDescription(), user.getId());
+				roomIds.add(group.getId());
+			}
+			return roomIds;
+		});
+	}
+}
@@ -0,0 +1,80 @@
+package com.onmoim.server.loadtest;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 측정 구간 동안 서버 스레드 풀과 큐 상태를 주기적으로 기록합니다. (최댓값)
+ */
+public class ServerStatsSampler {
+	private static final long INTERVAL_MILLIS = 100;
+
+	private final ThreadPoolTaskExecutor inboundExecutor;
+	private final ThreadPoolTaskExecutor outboundExecutor;
+	private final MeterRegistry meterRegistry;
+	private final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "loadtest-sampler");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private volatile int maxInboundQueue;
+	private volatile int maxInboundActive;
+	private volatile int maxOutboundQueue;
+	private volatile int maxOutboundActive;
+	private volatile double maxLaneQueue;
+	private volatile double maxSessionBuffer;
+
+	public ServerStatsSampler(ApplicationContext context) {
+		this.inboundExecutor = context.getBean("stompInboundExecutor", ThreadPoolTaskExecutor.class);
+		this.outboundExecutor = context.getBean("stompOutboundExecutor", ThreadPoolTaskExecutor.class);
+		this.meterRegistry = context.getBean(MeterRegistry.class);
+	}
+
+	public void start() {
+		sampler.scheduleAtFixedRate(this::sample, 0, INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+	}
+
+	public void stop() {
+		sampler.shutdownNow();
+	}
+
+	private void sample() {
+		maxInboundQueue = Math.max(maxInboundQueue, inboundExecutor.getQueueSize());
+		maxInboundActive = Math.max(maxInboundActive, inboundExecutor.getActiveCount());
+		maxOutboundQueue = Math.max(maxOutboundQueue, outboundExecutor.getQueueSize());
+		maxOutboundActive = Math.max(maxOutboundActive, outboundExecutor.getActiveCount());
+		maxLaneQueue = Math.max(maxLaneQueue, sumGauges("chat.lane.queue.size", Gauge::value));
+		maxSessionBuffer = Math.max(maxSessionBuffer, sumGauges("stomp.outbound.buffer.max", Gauge::value));
+	}
+
+	private double sumGauges(String name, ToDoubleFunction<Gauge> value) {
+		return meterRegistry.find(name).gauges().stream().mapToDouble(value).sum();
+	}
+
+	/**
+	 * 이름이 같은 카운터(태그 무관)의 합계
+	 */
+	public double counter(String name) {
+		return meterRegistry.find(name).counters().stream().mapToDouble(counter -> counter.count()).sum();
+	}
+
+	public String report() {
+		return String.format(
+			"inbound executor  : 최대 큐 %,d, 최대 활성 스레드 %d/%d%n"
+				+ "outbound executor : 최대 큐 %,d, 최대 활성 스레드 %d/%d%n"
+				+ "방별 lane 큐 합계 : 최대 %,.0f%n"
+				+ "세션 송신 버퍼    : 최대 %,.0f B",
+			maxInboundQueue, maxInboundActive, inboundExecutor.getMaxPoolSize(),
+			maxOutboundQueue, maxOutboundActive, outboundExecutor.getMaxPoolSize(),
+			maxLaneQueue, maxSessionBuffer);
+	}
+}
@@ -0,0 +1,24 @@
+package com.onmoim.server.chat.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 메시지 보관 설정
+ * - enabled : 오래된 메시지를 보관 테이블로 옮기는 작업 실행 여부, 다중 노드에서는 한 노드에서만 켭니다.
+ * - hotRetentionDays : 최근 메시지 테이블에 남겨 두는 기간
+ * - batchSize : 한 트랜잭션에서 옮기는 최대 메시지 수
+ * - roomPageSize : 채팅방 ID 를 한 번에 조회하는 수
+ * - intervalMillis : 작업 실행 간격
+ */
+@Component
+@ConfigurationProperties(prefix = "chat.archive")
+@Data
+public class ChatArchiveProperties {
+	private boolean enabled = false;
+	private int hotRetentionDays = 90;
+	private int batchSize = 1_000;
+	private int roomPageSize = 500;
+	private long intervalMillis = 600_000;
+}
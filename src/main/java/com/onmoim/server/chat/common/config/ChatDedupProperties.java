@@ -0,0 +1,22 @@
+package com.onmoim.server.chat.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 클라이언트 메시지 ID 중복 전송 확인 설정
+ * - store : memory(단일 노드, 기본값) / redis(다중 노드)
+ * - windowMillis : 같은 clientMessageId 를 중복으로 보는 기간
+ * - maxEntriesPerRoom : memory 사용 시 방마다 기억하는 최대 ID 수, 넘으면 오래된 것부터 잊습니다.
+ * - maxClientMessageIdLength : clientMessageId 최대 길이
+ */
+@Component
+@ConfigurationProperties(prefix = "chat.dedup")
+@Data
+public class ChatDedupProperties {
+	private String store = "memory";
+	private long windowMillis = 300_000;
+	private int maxEntriesPerRoom = 10_000;
+	private int maxClientMessageIdLength = 64;
+}
@@ -0,0 +1,20 @@
+package com.onmoim.server.chat.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방 접속/입력 중 상태 설정
+ * - coalesceWindowMillis : 같은 방의 상태 프레임은 이 간격마다 최대 한 번, 최신 상태로 전송합니다.
+ * - typingTtlMillis : 입력 중 표시 유지 시간, 클라이언트가 다시 보내지 않으면 해제됩니다.
+ * - schedulerPoolSize : 상태 프레임 전송 스레드 수
+ */
+@Component
+@ConfigurationProperties(prefix = "chat.presence")
+@Data
+public class ChatPresenceProperties {
+	private long coalesceWindowMillis = 2_000;
+	private long typingTtlMillis = 5_000;
+	private int schedulerPoolSize = 1;
+}
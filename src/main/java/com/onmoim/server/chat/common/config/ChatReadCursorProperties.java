@@ -0,0 +1,18 @@
+package com.onmoim.server.chat.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 읽음 위치 설정
+ * - flushIntervalMillis : 읽음 위치를 모아서 DB 에 반영하는 간격, 사용자/방마다 이 간격에 최대 한 번 기록합니다.
+ * - backfill : 시작 시 읽음 위치가 없는 참여자를 현재 마지막 순번으로 채울지 여부
+ */
+@Component
+@ConfigurationProperties(prefix = "chat.read-cursor")
+@Data
+public class ChatReadCursorProperties {
+	private long flushIntervalMillis = 3_000;
+	private boolean backfill = true;
+}
@@ -0,0 +1,20 @@
+package com.onmoim.server.chat.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방 최근 메시지 캐시 설정
+ * - messagesPerRoom : 방마다 보관하는 최근 메시지 수, 커서 없는 첫 페이지 크기 이상이어야 캐시에서 응답합니다.
+ * - maxRooms : 보관하는 최대 방 수, 넘으면 가장 오래 사용하지 않은 방부터 제거합니다.
+ * - maxMemoryBytes : 보관 메시지의 추정 메모리 상한, 넘으면 가장 오래 사용하지 않은 방부터 제거합니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "chat.recent-message")
+@Data
+public class ChatRecentMessageProperties {
+	private int messagesPerRoom = 100;
+	private int maxRooms = 10_000;
+	private long maxMemoryBytes = 64L * 1024 * 1024;
+}
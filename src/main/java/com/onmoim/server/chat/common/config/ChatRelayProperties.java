@@ -0,0 +1,30 @@
+package com.onmoim.server.chat.common.config;
+
+import java.util.UUID;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드 간 STOMP 메시지 중계 설정 (Redis pub/sub)
+ * - enabled : 다중 노드로 운영할 때 true
+ * - channel : 중계에 사용하는 Redis 채널
+ * - invalidationChannel : 노드별 캐시(권한, 구성원 등) 무효화를 중계하는 Redis 채널
+ * - nodeId : 자신이 발행한 메시지를 구분하기 위한 노드 식별자, 기본값은 기동 시 생성
+ * - dedupeCapacity : 중복 판단을 위해 기억하는 최근 메시지 ID 수
+ * - unflushedRetentionMillis : 다른 노드의 채팅방 메시지를 재연결 동기화용으로 보관하는 시간, 그 노드의 저장 지연보다 길어야 합니다.
+ * - unflushedMaxPerRoom : 방마다 보관하는 다른 노드 메시지 최대 수
+ */
+@Component
+@ConfigurationProperties(prefix = "chat.relay")
+@Data
+public class ChatRelayProperties {
+	private boolean enabled = false;
+	private String channel = "chat:broker";
+	private String invalidationChannel = "chat:invalidation";
+	private String nodeId = UUID.randomUUID().toString();
+	private int dedupeCapacity = 10_000;
+	private long unflushedRetentionMillis = 60_000;
+	private int unflushedMaxPerRoom = 1_000;
+}
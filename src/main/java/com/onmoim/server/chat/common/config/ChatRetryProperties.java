@@ -0,0 +1,26 @@
+package com.onmoim.server.chat.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 전송 실패 메시지 재전송 설정
+ * - maxAttempts : 재전송 최대 횟수, 모두 실패하면 FAILED_PERMANENTLY 로 기록합니다.
+ * - initialDelayMillis / multiplier / maxDelayMillis : 재전송 간격 (지수 증가, 0.5~1.5 배 무작위)
+ * - maxPending : 재전송 대기 최대 메시지 수, 넘으면 바로 FAILED_PERMANENTLY 로 기록합니다.
+ * - poolSize : 재전송 스레드 수
+ * - shutdownTimeoutMillis : 종료 시 진행 중인 재전송을 기다리는 최대 시간, 이후 대기 중인 메시지는 FAILED_PERMANENTLY 로 기록합니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "chat.retry")
+@Data
+public class ChatRetryProperties {
+	private int maxAttempts = 3;
+	private long initialDelayMillis = 100;
+	private double multiplier = 1.5;
+	private long maxDelayMillis = 1_000;
+	private int maxPending = 10_000;
+	private int poolSize = 1;
+	private long shutdownTimeoutMillis = 1_000;
+}
@@ -0,0 +1,89 @@
+package com.onmoim.server.chat.common.config;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import com.onmoim.server.common.exception.CustomException;
+import com.onmoim.server.common.exception.ErrorCode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅방 단위 단일 스레드 lane
+ * <p>
+ * roomId 해시로 lane 을 고르므로 같은 방의 작업은 항상 같은 스레드에서 들어온 순서대로 실행됩니다.
+ * 순번 발급, 저장, 브로드캐스트가 방마다 한 스레드에서만 일어나 락 없이 순서가 보장되고,
+ * 메시지가 몰리는 방은 자신의 lane 만 밀리게 됩니다.
+ */
+@Slf4j
+public class ChatRoomLaneExecutor {
+	private final ThreadPoolExecutor[] lanes;
+	private final Counter rejectedCounter;
+
+	public ChatRoomLaneExecutor(int laneCount, int queueCapacity, MeterRegistry meterRegistry) {
+		this.lanes = new ThreadPoolExecutor[laneCount];
+		for (int i = 0; i < laneCount; i++) {
+			ThreadPoolExecutor lane = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity),
+				new CustomizableThreadFactory("chat-lane-" + i + "-"),
+				new StompRejectedHandler());
+			lanes[i] = lane;
+
+			Gauge.builder("chat.lane.queue.size", lane.getQueue(), BlockingQueue::size)
+				.description("lane 에서 실행을 기다리는 작업 수")
+				.tag("lane", String.valueOf(i))
+				.register(meterRegistry);
+		}
+		this.rejectedCounter = Counter.builder("chat.lane.rejected")
+			.description("lane 대기열이 가득 차 거절된 작업 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 방의 lane 에 작업을 넣습니다.
+	 * @throws CustomException lane 대기열이 가득 찬 경우
+	 */
+	public void execute(Long roomId, Runnable task) {
+		try {
+			lanes[laneOf(roomId)].execute(task);
+		} catch (RejectedExecutionException e) {
+			rejectedCounter.increment();
+			throw new CustomException(ErrorCode.CHAT_MESSAGE_QUEUE_FULL);
+		}
+	}
+
+	public int laneOf(Long roomId) {
+		return Math.floorMod(roomId.hashCode(), lanes.length);
+	}
+
+	public int queueSize(int lane) {
+		return lanes[lane].getQueue().size();
+	}
+
+	/**
+	 * 대기 중인 작업까지 처리한 뒤 종료합니다.
+	 */
+	public void shutdown() {
+		for (ThreadPoolExecutor lane : lanes) {
+			lane.shutdown();
+		}
+		for (ThreadPoolExecutor lane : lanes) {
+			try {
+				if (!lane.awaitTermination(10, TimeUnit.SECONDS)) {
+					log.warn("lane 종료 대기 시간 초과, 남은 작업 수: {}", lane.getQueue().size());
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+}
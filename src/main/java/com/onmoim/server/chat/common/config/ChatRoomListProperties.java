@@ -0,0 +1,20 @@
+package com.onmoim.server.chat.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방 목록 갱신 설정
+ * - coalesceWindowMillis : 같은 방의 목록 갱신은 이 간격마다 최대 한 번, 마지막 메시지 기준으로 전송합니다.
+ * - schedulerPoolSize : 목록 갱신 전송 스레드 수
+ * - backfillLastMessage : 시작 시 마지막 메시지(read model)가 없는 채팅방을 메시지 테이블에서 채울지 여부
+ */
+@Component
+@ConfigurationProperties(prefix = "chat.room-list")
+@Data
+public class ChatRoomListProperties {
+	private long coalesceWindowMillis = 1_000;
+	private int schedulerPoolSize = 2;
+	private boolean backfillLastMessage = true;
+}
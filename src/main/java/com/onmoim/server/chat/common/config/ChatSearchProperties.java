@@ -0,0 +1,30 @@
+package com.onmoim.server.chat.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방 메시지 검색 색인 설정
+ * - defaultPageSize / maxPageSize : 검색 결과 한 페이지 크기
+ * - loadBatchSize : 색인 생성/따라잡기 때 DB 에서 한 번에 읽는 메시지 수
+ * - maxIndexPerSearch : 검색 요청 한 번에 색인하는 최대 메시지 수, 다 따라잡지 못하면 "준비 중" 으로 응답하고 다음 검색에서 이어서 색인합니다.
+ * - maxRooms : 색인을 보관하는 최대 방 수, 넘으면 가장 오래 사용하지 않은 방부터 제거합니다.
+ * - maxMemoryBytes : 색인의 추정 메모리 상한, 넘으면 가장 오래 사용하지 않은 방부터 제거합니다.
+ * 방 하나의 색인만으로 넘으면 그 방을 제거하고 이후 검색을 거절합니다.
+ * - maxGaps : 방마다 기억하는 빈 순번 구간 수, 넘으면 가장 앞쪽 구간부터 버립니다.
+ * - gapRetentionMillis : 빈 순번 구간을 다시 확인하는 기간, 이 기간 동안 채워지지 않으면 버려진 순번으로 봅니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "chat.search")
+@Data
+public class ChatSearchProperties {
+	private int defaultPageSize = 20;
+	private int maxPageSize = 50;
+	private int loadBatchSize = 1_000;
+	private int maxIndexPerSearch = 20_000;
+	private int maxRooms = 1_000;
+	private long maxMemoryBytes = 64L * 1024 * 1024;
+	private int maxGaps = 32;
+	private long gapRetentionMillis = 600_000;
+}
@@ -0,0 +1,16 @@
+package com.onmoim.server.chat.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 발신자 정보 캐시 설정
+ * - maxSize : 보관하는 최대 사용자 수, 넘으면 가장 오래 사용하지 않은 사용자부터 제거합니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "chat.sender-profile")
+@Data
+public class ChatSenderProfileProperties {
+	private int maxSize = 10_000;
+}
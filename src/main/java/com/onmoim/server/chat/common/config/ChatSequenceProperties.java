@@ -0,0 +1,21 @@
+package com.onmoim.server.chat.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 메시지 시퀀스 발급 설정
+ * - generator : memory(단일 노드, 기본값) / redis(다중 노드)
+ * - blockSize : memory 사용 시 chat_sequence 에서 한 번에 예약하는 시퀀스 구간 크기
+ * - checkpointInterval : redis 사용 시 chat_sequence 에 high-water-mark 를 기록하는 간격
+ * memory 는 기동 후 방마다 처음 예약할 때 이만큼 건너뛰므로, redis 에서 memory 로 바꿔도 순번을 재사용하지 않습니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "chat.sequence")
+@Data
+public class ChatSequenceProperties {
+	private String generator = "memory";
+	private long blockSize = 500;
+	private long checkpointInterval = 100;
+}
@@ -0,0 +1,16 @@
+package com.onmoim.server.chat.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재연결 동기화 설정
+ * - maxMessages : 한 번에 돌려주는 최대 메시지 수, 넘으면 메시지 대신 다시 불러오기(reloadRequired)를 응답합니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "chat.sync")
+@Data
+public class ChatSyncProperties {
+	private int maxMessages = 300;
+}
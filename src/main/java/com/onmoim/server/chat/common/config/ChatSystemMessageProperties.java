@@ -0,0 +1,22 @@
+package com.onmoim.server.chat.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시스템 메시지(가입, 탈퇴 등) 전송 설정
+ * - coalesceWindowMillis : 같은 방의 같은 template 메시지는 이 간격마다 최대 한 번, 모아서 전송합니다. (0 이면 병합하지 않음)
+ * - maxNames : 병합 메시지에 표시할 이름 수, 나머지는 "외 N명" 으로 표시합니다.
+ * - schedulerPoolSize : 시스템 메시지 전송 스레드 수
+ * - sendQueueCapacity : 전송 대기열 크기, 가득 차면 해당 메시지는 전송하지 않습니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "chat.system-message")
+@Data
+public class ChatSystemMessageProperties {
+	private long coalesceWindowMillis = 1_000;
+	private int maxNames = 2;
+	private int schedulerPoolSize = 1;
+	private int sendQueueCapacity = 1_000;
+}
@@ -0,0 +1,16 @@
+package com.onmoim.server.chat.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메시지별 안 읽은 멤버 수 계산 설정
+ * - maxRooms : 멤버 읽음 위치를 메모리에 보관하는 최대 방 수, 넘으면 가장 오래 사용하지 않은 방부터 제거합니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "chat.unread-counter")
+@Data
+public class ChatUnreadCounterProperties {
+	private int maxRooms = 5_000;
+}
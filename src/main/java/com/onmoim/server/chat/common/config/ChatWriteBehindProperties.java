@@ -0,0 +1,23 @@
+package com.onmoim.server.chat.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 메시지 write-behind 저장 설정
+ * - queueCapacity : 저장 대기 메시지 최대 개수, 가득 차면 offerTimeoutMillis 동안 기다린 뒤 거절합니다.
+ * - batchSize : 한 번에 INSERT 하는 최대 메시지 수
+ * - flushIntervalMillis : batchSize 를 채우지 못해도 첫 메시지가 들어온 뒤 이 시간이 지나면 저장합니다.
+ * - maxFlushAttempts : 저장 실패 시 같은 batch 를 다시 시도하는 최대 횟수, 모두 실패하면 한 건씩 나눠 저장합니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "chat.write-behind")
+@Data
+public class ChatWriteBehindProperties {
+	private int queueCapacity = 10_000;
+	private int batchSize = 200;
+	private long flushIntervalMillis = 50;
+	private long offerTimeoutMillis = 100;
+	private int maxFlushAttempts = 3;
+}
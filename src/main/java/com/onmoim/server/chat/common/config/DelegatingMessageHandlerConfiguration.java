@@ -2,21 +2,25 @@ package com.onmoim.server.chat.common.config;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
 import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.config.annotation.DelegatingWebSocketMessageBrokerConfiguration;
 
 /**
  * CustomHandler를 이용하기 위핸 Configuration 입니다.
  * CustomHandler에서 소켓을 통한 예외 메시지 발송을 위해 사용되는 EventPublisher를 주입합니다.
+ * 세션 전송은 느린 클라이언트 대응 decorator 로 감쌉니다.
  */
 @Configuration
 @RequiredArgsConstructor
 public class DelegatingMessageHandlerConfiguration extends DelegatingWebSocketMessageBrokerConfiguration {
 
 	private final ApplicationEventPublisher eventPublisher;
+	private final StompOutboundSessionMonitor stompOutboundSessionMonitor;
 
 	@Override
 	protected SimpAnnotationMethodMessageHandler createAnnotationMethodMessageHandler(
@@ -30,4 +34,15 @@ public class DelegatingMessageHandlerConfiguration extends DelegatingWebSocketMe
 		return handler;
 	}
 
+	@Bean
+	@Override
+	public WebSocketHandler subProtocolWebSocketHandler(
+		AbstractSubscribableChannel clientInboundChannel, AbstractSubscribableChannel clientOutboundChannel) {
+
+		SlowConsumerSubProtocolWebSocketHandler handler = new SlowConsumerSubProtocolWebSocketHandler(
+			clientInboundChannel, clientOutboundChannel, stompOutboundSessionMonitor);
+
+		handler.setPhase(getPhase());
+		return handler;
+	}
 }
@@ -0,0 +1,83 @@
+package com.onmoim.server.chat.common.config;
+
+import static com.onmoim.server.chat.domain.enums.SubscribeRegistry.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+
+/**
+ * 느린 클라이언트 대응 세션 decorator
+ * <p>
+ * - 전송 버퍼가 listUpdateDropBufferSize 이상이면 낮은 우선순위 프레임(채팅방 목록 갱신, 접속/입력 중 상태)을 버립니다.
+ *   (다음 갱신이 최신 상태를 다시 보냄)
+ * - 전송 시간이나 버퍼가 상한을 넘으면 ConcurrentWebSocketSessionDecorator 와 같이 예외를 던지고,
+ *   SubProtocolWebSocketHandler 가 연결을 끊습니다.
+ */
+public class SlowConsumerSessionDecorator extends ConcurrentWebSocketSessionDecorator {
+	private static final List<String> DROPPABLE_DESTINATION_HEADERS = List.of(
+		"\ndestination:" + CHAT_ROOM_LIST_PREFIX.getDestination(),
+		"\ndestination:" + CHAT_PRESENCE_PREFIX.getDestination()
+	);
+	// STOMP 헤더만 확인하면 되므로 프레임 앞부분만 봅니다.
+	private static final int HEADER_SCAN_LENGTH = 256;
+
+	private final StompOutboundSessionMonitor monitor;
+	private final int listUpdateDropBufferSize;
+
+	public SlowConsumerSessionDecorator(WebSocketSession session, int sendTimeLimit, int bufferSizeLimit,
+		int listUpdateDropBufferSize, StompOutboundSessionMonitor monitor) {
+		super(session, sendTimeLimit, bufferSizeLimit, OverflowStrategy.TERMINATE);
+		this.listUpdateDropBufferSize = listUpdateDropBufferSize;
+		this.monitor = monitor;
+	}
+
+	@Override
+	public void sendMessage(WebSocketMessage<?> message) throws IOException {
+		if (listUpdateDropBufferSize > 0 && getBufferSize() >= listUpdateDropBufferSize && isDroppable(message)) {
+			monitor.recordDropped();
+			return;
+		}
+		try {
+			super.sendMessage(message);
+		} catch (SessionLimitExceededException e) {
+			monitor.recordDisconnected(getId(), e.getMessage());
+			throw e;
+		}
+		monitor.recordBufferSize(getBufferSize());
+	}
+
+	static boolean isDroppable(WebSocketMessage<?> message) {
+		String head;
+		if (message instanceof TextMessage text) {
+			String payload = text.getPayload();
+			head = payload.substring(0, Math.min(payload.length(), HEADER_SCAN_LENGTH));
+		} else if (message instanceof BinaryMessage binary) {
+			ByteBuffer payload = binary.getPayload().duplicate();
+			byte[] bytes = new byte[Math.min(payload.remaining(), HEADER_SCAN_LENGTH)];
+			payload.get(bytes);
+			head = new String(bytes, StandardCharsets.UTF_8);
+		} else {
+			return false;
+		}
+		if (!head.startsWith("MESSAGE\n")) {
+			return false;
+		}
+		int headerEnd = head.indexOf("\n\n");
+		for (String header : DROPPABLE_DESTINATION_HEADERS) {
+			int index = head.indexOf(header);
+			if (index >= 0 && (headerEnd < 0 || index < headerEnd)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
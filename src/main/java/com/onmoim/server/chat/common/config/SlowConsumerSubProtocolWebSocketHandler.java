@@ -0,0 +1,35 @@
+package com.onmoim.server.chat.common.config;
+
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+/**
+ * 세션을 {@link SlowConsumerSessionDecorator} 로 감싸는 SubProtocolWebSocketHandler
+ * sendTimeLimit, sendBufferSizeLimit 은 WebSocketConfig.configureWebSocketTransport 설정이 적용됩니다.
+ */
+public class SlowConsumerSubProtocolWebSocketHandler extends SubProtocolWebSocketHandler {
+	private final StompOutboundSessionMonitor monitor;
+
+	public SlowConsumerSubProtocolWebSocketHandler(MessageChannel clientInboundChannel,
+		SubscribableChannel clientOutboundChannel, StompOutboundSessionMonitor monitor) {
+		super(clientInboundChannel, clientOutboundChannel);
+		this.monitor = monitor;
+	}
+
+	@Override
+	protected WebSocketSession decorateSession(WebSocketSession session) {
+		return monitor.decorate(session, getSendTimeLimit(), getSendBufferSizeLimit());
+	}
+
+	@Override
+	public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+		try {
+			super.afterConnectionClosed(session, closeStatus);
+		} finally {
+			monitor.remove(session.getId());
+		}
+	}
+}
@@ -0,0 +1,100 @@
+package com.onmoim.server.chat.common.config;
+
+import java.time.LocalDateTime;
+
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.util.MimeType;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.onmoim.server.chat.domain.dto.ChatMessageDto;
+import com.onmoim.server.chat.domain.dto.ChatRoomListUpdateDto;
+import com.onmoim.server.chat.domain.dto.ChatUserDto;
+import com.onmoim.server.chat.domain.enums.MessageType;
+
+/**
+ * application/cbor STOMP 메시지 컨버터
+ * <p>
+ * JSON 과 같은 DTO 를 CBOR 로 직렬화하되, 채팅 DTO 는 축약 필드명을 사용합니다.
+ * - null 필드는 생략합니다.
+ * - LocalDateTime 은 ISO 문자열 대신 [년, 월, 일, 시, 분, 초, 나노초] 배열로 보냅니다.
+ * - ChatMessageDto : q(messageSequence), g(groupId), t(type), c(content), s(senderId), u(chatUserDto), ts(timestamp), n(unreadMemberCount),
+ *   k(clientMessageId)
+ * - ChatUserDto : i(id), n(username), p(profileImageUrl), o(isOwner)
+ * - ChatRoomListUpdateDto : g(groupId), gn(groupName), pc(participantCount), m(latestMessage)
+ * content-type 이 application/cbor 인 프레임만 처리하므로(strict) 기본 JSON 변환에는 영향이 없습니다.
+ */
+public class StompCborMessageConverter extends MappingJackson2MessageConverter {
+	public static final MimeType APPLICATION_CBOR = MimeType.valueOf("application/cbor");
+
+	public StompCborMessageConverter() {
+		super(APPLICATION_CBOR);
+		setObjectMapper(compactMapper());
+		setStrictContentTypeMatch(true);
+	}
+
+	public static ObjectMapper compactMapper() {
+		return CBORMapper.builder()
+			.addModule(new JavaTimeModule())
+			.enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+			.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+			.serializationInclusion(JsonInclude.Include.NON_NULL)
+			.addMixIn(ChatMessageDto.class, ChatMessageMixin.class)
+			.addMixIn(ChatUserDto.class, ChatUserMixin.class)
+			.addMixIn(ChatRoomListUpdateDto.class, ChatRoomListUpdateMixin.class)
+			.build();
+	}
+
+	abstract static class ChatMessageMixin {
+		@JsonProperty("q")
+		private Long messageSequence;
+		@JsonProperty("g")
+		private Long groupId;
+		@JsonProperty("t")
+		private MessageType type;
+		@JsonProperty("c")
+		private String content;
+		@JsonProperty("s")
+		private Long senderId;
+		@JsonProperty("u")
+		private ChatUserDto chatUserDto;
+		@JsonProperty("ts")
+		private LocalDateTime timestamp;
+		@JsonProperty("n")
+		private Integer unreadMemberCount;
+		@JsonProperty("k")
+		private String clientMessageId;
+	}
+
+	abstract static class ChatUserMixin {
+		@JsonProperty("i")
+		private Long id;
+		@JsonProperty("n")
+		private String username;
+		@JsonProperty("p")
+		private String profileImageUrl;
+
+		// 필드명(isOwner)과 getter 이름(owner)이 달라 메서드에 지정합니다.
+		@JsonProperty("o")
+		abstract boolean isOwner();
+
+		@JsonProperty("o")
+		abstract void setOwner(boolean owner);
+	}
+
+	abstract static class ChatRoomListUpdateMixin {
+		@JsonProperty("g")
+		private Long groupId;
+		@JsonProperty("gn")
+		private String groupName;
+		@JsonProperty("pc")
+		private long participantCount;
+		@JsonProperty("m")
+		private ChatMessageDto latestMessage;
+	}
+}
@@ -0,0 +1,16 @@
+package com.onmoim.server.chat.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * STOMP 페이로드 인코딩 설정
+ * - cborEnabled : CONNECT 프레임에 content-type:application/cbor 를 보낸 세션에 CBOR(축약 필드명)로 전송할지 여부
+ */
+@Component
+@ConfigurationProperties(prefix = "stomp.encoding")
+@Data
+public class StompEncodingProperties {
+	private boolean cborEnabled = true;
+}
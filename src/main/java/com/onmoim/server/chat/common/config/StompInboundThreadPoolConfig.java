@@ -1,5 +1,6 @@
 package com.onmoim.server.chat.common.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,6 +14,7 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 public class StompInboundThreadPoolConfig {
 
 	private final StompInboundThreadProperties properties;
+	private final StompOutboundThreadProperties outboundProperties;
 
 	@Bean(name = "stompInboundExecutor")
 	public ThreadPoolTaskExecutor stompInboundExecutor() {
@@ -27,4 +29,28 @@ public class StompInboundThreadPoolConfig {
 		executor.initialize();
 		return executor;
 	}
+
+	/**
+	 * 클라이언트로 나가는 메시지 전송용, 대기열이 가득 차면 거절합니다.
+	 */
+	@Bean(name = "stompOutboundExecutor")
+	public ThreadPoolTaskExecutor stompOutboundExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setThreadNamePrefix("stomp-outbound-");
+		executor.setCorePoolSize(outboundProperties.getCorePoolSize());
+		executor.setMaxPoolSize(outboundProperties.getMaxPoolSize());
+		executor.setQueueCapacity(outboundProperties.getQueueCapacity());
+		executor.setKeepAliveSeconds(outboundProperties.getKeepAliveSeconds());
+		executor.setRejectedExecutionHandler(new StompRejectedHandler());
+		executor.initialize();
+		return executor;
+	}
+
+	/**
+	 * /app/chat.sendMessage 처리용 채팅방 lane
+	 */
+	@Bean(name = "chatRoomLaneExecutor", destroyMethod = "shutdown")
+	public ChatRoomLaneExecutor chatRoomLaneExecutor(MeterRegistry meterRegistry) {
+		return new ChatRoomLaneExecutor(properties.getLaneCount(), properties.getLaneQueueCapacity(), meterRegistry);
+	}
 }
@@ -4,6 +4,11 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+/**
+ * STOMP inbound 스레드 설정
+ * - laneCount : 채팅방 전송 lane(단일 스레드) 수, 같은 방은 항상 같은 lane 에서 처리됩니다.
+ * - laneQueueCapacity : lane 하나의 대기 작업 최대 개수, 가득 차면 전송을 거절합니다.
+ */
 @Component
 @ConfigurationProperties(prefix = "stomp.inbound.thread")
 @Data
@@ -13,4 +18,6 @@ public class StompInboundThreadProperties {
 	private int maxPoolSize;
 	private int queueCapacity;
 	private int keepAliveSeconds;
+	private int laneCount = Runtime.getRuntime().availableProcessors();
+	private int laneQueueCapacity = 1_000;
 }
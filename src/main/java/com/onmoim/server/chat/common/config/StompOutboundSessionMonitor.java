@@ -0,0 +1,89 @@
+package com.onmoim.server.chat.common.config;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 세션별 전송 버퍼 현황과 느린 클라이언트 처리 지표
+ * 세션 ID 를 태그로 쓰면 지표가 세션 수만큼 늘어나므로, 세션별 값은 분포(summary)와 최대/합계 gauge 로 노출합니다.
+ * - stomp.outbound.session.buffer : 전송 후 세션 버퍼 크기 분포
+ * - stomp.outbound.buffer.max / total : 현재 세션 버퍼 최대값, 합계
+ * - stomp.outbound.dropped : 버린 채팅방 목록 갱신 수
+ * - stomp.outbound.slow_consumer.disconnected : 전송 시간/버퍼 상한 초과로 끊은 세션 수
+ */
+@Slf4j
+@Component
+public class StompOutboundSessionMonitor {
+	private final StompTransportProperties properties;
+	private final ConcurrentHashMap<String, SlowConsumerSessionDecorator> sessions = new ConcurrentHashMap<>();
+
+	private final DistributionSummary bufferSummary;
+	private final Counter droppedCounter;
+	private final Counter disconnectedCounter;
+
+	public StompOutboundSessionMonitor(StompTransportProperties properties, MeterRegistry meterRegistry) {
+		this.properties = properties;
+		this.bufferSummary = DistributionSummary.builder("stomp.outbound.session.buffer")
+			.baseUnit("bytes")
+			.publishPercentiles(0.5, 0.99)
+			.register(meterRegistry);
+		this.droppedCounter = Counter.builder("stomp.outbound.dropped")
+			.description("느린 세션에서 버린 채팅방 목록 갱신 수")
+			.register(meterRegistry);
+		this.disconnectedCounter = Counter.builder("stomp.outbound.slow_consumer.disconnected")
+			.register(meterRegistry);
+		Gauge.builder("stomp.outbound.sessions", sessions, ConcurrentHashMap::size)
+			.register(meterRegistry);
+		Gauge.builder("stomp.outbound.buffer.max", this, monitor -> monitor.maxBufferSize())
+			.baseUnit("bytes")
+			.register(meterRegistry);
+		Gauge.builder("stomp.outbound.buffer.total", this, monitor -> monitor.totalBufferSize())
+			.baseUnit("bytes")
+			.register(meterRegistry);
+	}
+
+	public SlowConsumerSessionDecorator decorate(WebSocketSession session, int sendTimeLimit, int bufferSizeLimit) {
+		SlowConsumerSessionDecorator decorated = new SlowConsumerSessionDecorator(
+			session, sendTimeLimit, bufferSizeLimit, properties.getListUpdateDropBufferSize(), this);
+		sessions.put(session.getId(), decorated);
+		return decorated;
+	}
+
+	public void remove(String sessionId) {
+		sessions.remove(sessionId);
+	}
+
+	public int bufferSize(String sessionId) {
+		SlowConsumerSessionDecorator session = sessions.get(sessionId);
+		return session != null ? session.getBufferSize() : 0;
+	}
+
+	public long maxBufferSize() {
+		return sessions.values().stream().mapToLong(SlowConsumerSessionDecorator::getBufferSize).max().orElse(0);
+	}
+
+	public long totalBufferSize() {
+		return sessions.values().stream().mapToLong(SlowConsumerSessionDecorator::getBufferSize).sum();
+	}
+
+	void recordBufferSize(int bufferSize) {
+		bufferSummary.record(bufferSize);
+	}
+
+	void recordDropped() {
+		droppedCounter.increment();
+	}
+
+	void recordDisconnected(String sessionId, String reason) {
+		disconnectedCounter.increment();
+		log.warn("느린 클라이언트 연결 종료: 세션: {}, 사유: {}", sessionId, reason);
+	}
+}
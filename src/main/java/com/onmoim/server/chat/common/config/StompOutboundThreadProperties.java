@@ -0,0 +1,19 @@
+package com.onmoim.server.chat.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * STOMP outbound 스레드 설정
+ * 대기열이 가득 차면 전송을 거절합니다. (느린 클라이언트가 스레드를 붙잡아도 대기열이 무한히 늘어나지 않도록)
+ */
+@Component
+@ConfigurationProperties(prefix = "stomp.outbound.thread")
+@Data
+public class StompOutboundThreadProperties {
+	private int corePoolSize = Runtime.getRuntime().availableProcessors() * 2;
+	private int maxPoolSize = Runtime.getRuntime().availableProcessors() * 2;
+	private int queueCapacity = 10_000;
+	private int keepAliveSeconds = 60;
+}
@@ -0,0 +1,178 @@
+package com.onmoim.server.chat.common.config;
+
+import static com.onmoim.server.chat.common.config.StompCborMessageConverter.*;
+import static com.onmoim.server.chat.domain.enums.SubscribeRegistry.*;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.onmoim.server.chat.domain.dto.ChatMessageDto;
+import com.onmoim.server.chat.domain.dto.ChatRoomListUpdateDto;
+import com.onmoim.server.chat.domain.dto.ChatSyncResponse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 세션별 STOMP 페이로드 인코딩 협상
+ * <p>
+ * clientInboundChannel 과 clientOutboundChannel 에 모두 등록합니다.
+ * - inbound : CONNECT 프레임의 content-type 이 application/cbor 인 세션을 기억하고, DISCONNECT 시 제거합니다.
+ * - outbound : 해당 세션으로 나가는 JSON MESSAGE 프레임을 CBOR 로 바꿉니다. (채팅 DTO 는 축약 필드명, {@link StompCborMessageConverter})
+ * 브로커는 구독자 모두에게 같은 byte[] 를 보내므로, 변환 결과를 payload 단위로 기억해 메시지당 한 번만 변환합니다.
+ * 협상하지 않은 세션은 지금과 같은 JSON 을 받습니다.
+ */
+@Slf4j
+@Component
+public class StompPayloadEncodingInterceptor implements ChannelInterceptor {
+	static final String CONTENT_TYPE_HEADER = "content-type";
+
+	private final StompEncodingProperties properties;
+	private final ObjectMapper jsonMapper = new ObjectMapper()
+		.registerModule(new JavaTimeModule())
+		.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+	private final ObjectMapper cborMapper = compactMapper();
+
+	private final Set<String> cborSessions = ConcurrentHashMap.newKeySet();
+	// JSON payload -> CBOR payload, payload 가 더 이상 참조되지 않으면 함께 사라집니다.
+	private final Map<byte[], byte[]> transcoded = Collections.synchronizedMap(new WeakHashMap<>());
+
+	private final Counter cborFrameCounter;
+	private final Counter transcodeCounter;
+
+	public StompPayloadEncodingInterceptor(StompEncodingProperties properties, MeterRegistry meterRegistry) {
+		this.properties = properties;
+		this.cborFrameCounter = Counter.builder("stomp.outbound.cbor.frames").register(meterRegistry);
+		this.transcodeCounter = Counter.builder("stomp.outbound.cbor.transcoded").register(meterRegistry);
+	}
+
+	@Override
+	public Message<?> preSend(Message<?> message, MessageChannel channel) {
+		MessageHeaders headers = message.getHeaders();
+		SimpMessageType messageType = SimpMessageHeaderAccessor.getMessageType(headers);
+		String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+		if (messageType == null || sessionId == null) {
+			return message;
+		}
+
+		switch (messageType) {
+			case CONNECT -> negotiate(sessionId, SimpMessageHeaderAccessor.getFirstNativeHeader(CONTENT_TYPE_HEADER, headers));
+			case DISCONNECT -> cborSessions.remove(sessionId);
+			// 구독 ID 가 있는 MESSAGE 는 브로커가 클라이언트로 보내는 프레임입니다. (클라이언트 SEND 프레임에는 없음)
+			case MESSAGE -> {
+				if (SimpMessageHeaderAccessor.getSubscriptionId(headers) != null && cborSessions.contains(sessionId)) {
+					return toCbor(message);
+				}
+			}
+			default -> {
+			}
+		}
+		return message;
+	}
+
+	public boolean isCborSession(String sessionId) {
+		return cborSessions.contains(sessionId);
+	}
+
+	private void negotiate(String sessionId, String contentType) {
+		if (!properties.isCborEnabled() || contentType == null) {
+			return;
+		}
+		try {
+			if (APPLICATION_CBOR.isCompatibleWith(MimeType.valueOf(contentType))) {
+				cborSessions.add(sessionId);
+			}
+		} catch (IllegalArgumentException e) {
+			log.debug("알 수 없는 content-type, JSON 으로 전송합니다: 세션: {}, content-type: {}", sessionId, contentType);
+		}
+	}
+
+	private Message<?> toCbor(Message<?> message) {
+		MessageHeaders headers = message.getHeaders();
+		Object contentType = headers.get(MessageHeaders.CONTENT_TYPE);
+		if (!(message.getPayload() instanceof byte[] json) || !isJson(contentType)) {
+			return message;
+		}
+
+		byte[] cbor = transcode(SimpMessageHeaderAccessor.getDestination(headers), json);
+		if (cbor == null) {
+			return message;
+		}
+		cborFrameCounter.increment();
+
+		SimpMessageHeaderAccessor accessor = MessageHeaderAccessor.getMutableAccessor(message) instanceof SimpMessageHeaderAccessor simp
+			? simp : SimpMessageHeaderAccessor.wrap(message);
+		accessor.setContentType(APPLICATION_CBOR);
+		if (accessor.getFirstNativeHeader(CONTENT_TYPE_HEADER) != null) {
+			accessor.setNativeHeader(CONTENT_TYPE_HEADER, APPLICATION_CBOR.toString());
+		}
+		return MessageBuilder.createMessage(cbor, accessor.getMessageHeaders());
+	}
+
+	/**
+	 * @return 변환에 실패하면 null (JSON 그대로 전송)
+	 */
+	byte[] transcode(String destination, byte[] json) {
+		byte[] cached = transcoded.get(json);
+		if (cached != null) {
+			return cached;
+		}
+		try {
+			Class<?> type = payloadType(destination);
+			Object value = type != null ? jsonMapper.readValue(json, type) : jsonMapper.readTree(json);
+			byte[] cbor = cborMapper.writeValueAsBytes(value);
+			transcoded.put(json, cbor);
+			transcodeCounter.increment();
+			return cbor;
+		} catch (IOException e) {
+			log.warn("CBOR 변환 실패, JSON 으로 전송합니다: 목적지: {}, 오류: {}", destination, e.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * 축약 필드명을 적용할 DTO 타입, 그 외 목적지는 JSON 구조 그대로 CBOR 로 바꿉니다.
+	 */
+	private Class<?> payloadType(String destination) {
+		if (destination == null) {
+			return null;
+		}
+		if (destination.startsWith(CHAT_ROOM_LIST_PREFIX.getDestination())) {
+			return ChatRoomListUpdateDto.class;
+		}
+		if (destination.startsWith(CHAT_ROOM_SUBSCRIBE_PREFIX.getDestination())) {
+			return ChatMessageDto.class;
+		}
+		if (destination.contains(CHAT_SYNC_DESTINATION.getDestination())) {
+			return ChatSyncResponse.class;
+		}
+		return null;
+	}
+
+	private boolean isJson(Object contentType) {
+		if (contentType instanceof MimeType mimeType) {
+			return MimeTypeUtils.APPLICATION_JSON.isCompatibleWith(mimeType);
+		}
+		return contentType instanceof String value && value.startsWith(MimeTypeUtils.APPLICATION_JSON_VALUE);
+	}
+}
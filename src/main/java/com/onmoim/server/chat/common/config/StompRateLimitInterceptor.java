@@ -0,0 +1,200 @@
+package com.onmoim.server.chat.common.config;
+
+import static com.onmoim.server.chat.common.config.StompCborMessageConverter.*;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.onmoim.server.chat.common.exception.StompErrorEvent;
+import com.onmoim.server.common.exception.ErrorCode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * STOMP SEND 프레임 처리율 제한
+ * <p>
+ * clientInboundChannel 인터셉터로, inbound 스레드풀과 DB 작업 이전에 프레임을 거절합니다.
+ * - 연결(Principal + 세션)별 bucket : 모든 SEND 프레임
+ *   현재 핸드셰이크는 모든 연결에 같은 Principal 을 주므로(WebSocketConfig.handshakeHandler) Principal 만으로 나누면
+ *   전체 사용자가 bucket 하나를 공유하게 됩니다. 세션 ID 를 함께 사용해 연결마다 따로 제한합니다.
+ * - 채팅방별 bucket : /app/chat.sendMessage 프레임, 방 ID 는 payload 의 groupId 만 읽습니다.
+ *   content-type 이 application/cbor 인 프레임은 CBOR 로, 그 외는 JSON 으로 읽습니다. (CBOR 는 축약 필드명 g)
+ * 거절한 프레임은 버리고, 해당 사용자에게 초당 최대 한 번 StompErrorEvent 로 알립니다.
+ */
+@Slf4j
+@Component
+public class StompRateLimitInterceptor implements ChannelInterceptor {
+	static final String SEND_MESSAGE_DESTINATION = "/app/chat.sendMessage";
+	private static final long NOTIFY_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+	// StompCborMessageConverter 의 ChatMessageDto 축약 필드명
+	private static final String CBOR_GROUP_ID_FIELD = "g";
+
+	private final StompRateLimitProperties properties;
+	private final ApplicationEventPublisher eventPublisher;
+	private final LongSupplier clock;
+	private final JsonFactory jsonFactory = new JsonFactory();
+	private final CBORFactory cborFactory = new CBORFactory();
+
+	private final ConcurrentHashMap<String, TokenBucket> userBuckets = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<Long, TokenBucket> roomBuckets = new ConcurrentHashMap<>();
+	// 사용자별 마지막 거절 알림 시각
+	private final ConcurrentHashMap<String, Long> notifiedAt = new ConcurrentHashMap<>();
+
+	private final Counter userThrottledCounter;
+	private final Counter roomThrottledCounter;
+
+	@Autowired
+	public StompRateLimitInterceptor(StompRateLimitProperties properties, ApplicationEventPublisher eventPublisher,
+		MeterRegistry meterRegistry) {
+		this(properties, eventPublisher, meterRegistry, System::nanoTime);
+	}
+
+	StompRateLimitInterceptor(StompRateLimitProperties properties, ApplicationEventPublisher eventPublisher,
+		MeterRegistry meterRegistry, LongSupplier clock) {
+		this.properties = properties;
+		this.eventPublisher = eventPublisher;
+		this.clock = clock;
+		this.userThrottledCounter = Counter.builder("stomp.inbound.throttled").tag("scope", "user")
+			.register(meterRegistry);
+		this.roomThrottledCounter = Counter.builder("stomp.inbound.throttled").tag("scope", "room")
+			.register(meterRegistry);
+	}
+
+	@Override
+	public Message<?> preSend(Message<?> message, MessageChannel channel) {
+		MessageHeaders headers = message.getHeaders();
+		if (!properties.isEnabled() || SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE) {
+			return message;
+		}
+		long now = clock.getAsLong();
+		String userKey = bucketKey(headers);
+		String destination = SimpMessageHeaderAccessor.getDestination(headers);
+
+		TokenBucket userBucket = userBuckets.computeIfAbsent(userKey,
+			key -> new TokenBucket(properties.getUserBurst(), properties.getUserRefillPerSecond(), now));
+		if (!userBucket.tryAcquire(now)) {
+			userThrottledCounter.increment();
+			return throttle(headers, userKey, destination, now);
+		}
+
+		if (SEND_MESSAGE_DESTINATION.equals(destination)) {
+			Long roomId = groupIdOf(message.getPayload(), headers.get(MessageHeaders.CONTENT_TYPE));
+			if (roomId != null) {
+				TokenBucket roomBucket = roomBuckets.computeIfAbsent(roomId,
+					key -> new TokenBucket(properties.getRoomBurst(), properties.getRoomRefillPerSecond(), now));
+				if (!roomBucket.tryAcquire(now)) {
+					roomThrottledCounter.increment();
+					return throttle(headers, userKey, destination, now);
+				}
+			}
+		}
+		return message;
+	}
+
+	/**
+	 * 오래 사용하지 않은 bucket 정리, 가득 찬 bucket 은 새로 만든 것과 같습니다.
+	 */
+	@Scheduled(fixedDelayString = "${stomp.rate-limit.idle-evict-millis:60000}")
+	public void evictIdle() {
+		long now = clock.getAsLong();
+		long idleNanos = TimeUnit.MILLISECONDS.toNanos(properties.getIdleEvictMillis());
+		userBuckets.values().removeIf(bucket -> bucket.isIdle(now, idleNanos));
+		roomBuckets.values().removeIf(bucket -> bucket.isIdle(now, idleNanos));
+		notifiedAt.values().removeIf(at -> now - at > idleNanos);
+	}
+
+	int bucketCount() {
+		return userBuckets.size() + roomBuckets.size();
+	}
+
+	private Message<?> throttle(MessageHeaders headers, String userKey, String destination, long now) {
+		boolean[] notify = {false};
+		notifiedAt.compute(userKey, (key, previous) -> {
+			if (previous != null && now - previous < NOTIFY_INTERVAL_NANOS) {
+				return previous;
+			}
+			notify[0] = true;
+			return now;
+		});
+		if (notify[0]) {
+			log.debug("STOMP 처리율 제한: 사용자: {}, 대상: {}", userKey, destination);
+			eventPublisher.publishEvent(new StompErrorEvent(
+				this,
+				notifyTarget(headers),
+				destination,
+				ErrorCode.TOO_MANY_REQUEST.getDetail()
+			));
+		}
+		return null;
+	}
+
+	private String bucketKey(MessageHeaders headers) {
+		Principal user = SimpMessageHeaderAccessor.getUser(headers);
+		String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+		return user != null ? user.getName() + ":" + sessionId : sessionId;
+	}
+
+	private String notifyTarget(MessageHeaders headers) {
+		Principal user = SimpMessageHeaderAccessor.getUser(headers);
+		return user != null ? user.getName() : SimpMessageHeaderAccessor.getSessionId(headers);
+	}
+
+	/**
+	 * payload 최상위 groupId 만 읽습니다. (전체 역직렬화 없이)
+	 */
+	private Long groupIdOf(Object payload, Object contentType) {
+		if (!(payload instanceof byte[] bytes)) {
+			return null;
+		}
+		boolean cbor = isCbor(contentType);
+		String groupIdField = cbor ? CBOR_GROUP_ID_FIELD : "groupId";
+		try (JsonParser parser = cbor ? cborFactory.createParser(bytes) : jsonFactory.createParser(bytes)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				return null;
+			}
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String field = parser.currentName();
+				JsonToken value = parser.nextToken();
+				if (groupIdField.equals(field)) {
+					return value == JsonToken.VALUE_NUMBER_INT ? parser.getLongValue() : null;
+				}
+				parser.skipChildren();
+			}
+		} catch (IOException e) {
+			return null;
+		}
+		return null;
+	}
+
+	private boolean isCbor(Object contentType) {
+		try {
+			if (contentType instanceof MimeType mimeType) {
+				return APPLICATION_CBOR.isCompatibleWith(mimeType);
+			}
+			return contentType instanceof String value && APPLICATION_CBOR.isCompatibleWith(MimeType.valueOf(value));
+		} catch (IllegalArgumentException e) {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,23 @@
+package com.onmoim.server.chat.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * STOMP 수신 프레임 처리율 제한 (token bucket)
+ * - userBurst / userRefillPerSecond : 연결(Principal + 세션)별 SEND 프레임 최대 연속 허용 수와 초당 충전 수
+ * - roomBurst / roomRefillPerSecond : 채팅방별 메시지 전송 최대 연속 허용 수와 초당 충전 수
+ * - idleEvictMillis : 이 시간 동안 사용하지 않은 bucket 은 정리합니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "stomp.rate-limit")
+@Data
+public class StompRateLimitProperties {
+	private boolean enabled = true;
+	private int userBurst = 20;
+	private double userRefillPerSecond = 5;
+	private int roomBurst = 200;
+	private double roomRefillPerSecond = 50;
+	private long idleEvictMillis = 60_000;
+}
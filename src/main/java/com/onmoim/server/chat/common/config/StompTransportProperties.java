@@ -0,0 +1,22 @@
+package com.onmoim.server.chat.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * WebSocket 전송 설정 (세션 단위)
+ * - messageSizeLimit : 수신 메시지 최대 크기
+ * - sendTimeLimitMillis : 한 번의 전송이 이 시간을 넘기면 느린 클라이언트로 보고 연결을 끊습니다.
+ * - sendBufferSizeLimit : 세션 전송 버퍼가 이 크기를 넘으면 연결을 끊습니다.
+ * - listUpdateDropBufferSize : 세션 전송 버퍼가 이 크기 이상이면 채팅방 목록 갱신(다음 갱신으로 대체 가능)을 버립니다. 0 이면 버리지 않습니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "stomp.transport")
+@Data
+public class StompTransportProperties {
+	private int messageSizeLimit = 256 * 1024;
+	private int sendTimeLimitMillis = 5_000;
+	private int sendBufferSizeLimit = 256 * 1024;
+	private int listUpdateDropBufferSize = 64 * 1024;
+}
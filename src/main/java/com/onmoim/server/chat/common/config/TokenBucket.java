@@ -0,0 +1,45 @@
+package com.onmoim.server.chat.common.config;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 잠금 없는 token bucket
+ * <p>
+ * 남은 토큰 대신 "bucket 이 가득 차는 시각"(theoretical arrival time) 하나를 AtomicLong 으로 보관하는 GCRA 방식입니다.
+ * 요청 1개는 이 시각을 충전 간격만큼 뒤로 미루고, 미룬 시각이 지금 + burst * 간격을 넘으면 거절합니다.
+ * 토큰 burst 개, 초당 refillPerSecond 개 충전하는 token bucket 과 같은 결과를 CAS 한 번으로 계산합니다.
+ */
+public class TokenBucket {
+	private final long intervalNanos;
+	private final long burstNanos;
+	private final AtomicLong fullAt;
+
+	public TokenBucket(int burst, double refillPerSecond, long nowNanos) {
+		this.intervalNanos = Math.max(1L, (long)(1_000_000_000L / refillPerSecond));
+		this.burstNanos = intervalNanos * burst;
+		this.fullAt = new AtomicLong(nowNanos);
+	}
+
+	/**
+	 * @return 토큰이 있으면 하나 사용하고 true
+	 */
+	public boolean tryAcquire(long nowNanos) {
+		while (true) {
+			long current = fullAt.get();
+			long next = Math.max(current, nowNanos) + intervalNanos;
+			if (next - nowNanos > burstNanos) {
+				return false;
+			}
+			if (fullAt.compareAndSet(current, next)) {
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * @return 가득 찬 상태로 idleNanos 이상 지났으면 true
+	 */
+	public boolean isIdle(long nowNanos, long idleNanos) {
+		return nowNanos - fullAt.get() > idleNanos;
+	}
+}
@@ -39,6 +39,7 @@ import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.onmoim.server.chat.common.exception.StompErrorEvent;
+import com.onmoim.server.chat.messaging.relay.RedisChatBrokerRelay;
 import com.onmoim.server.security.CustomUserDetails;
 import com.onmoim.server.security.JwtProvider;
 
@@ -52,7 +53,7 @@ import lombok.extern.slf4j.Slf4j;
  * 1. WebSocket 엔드포인트 등록
  * 2. 애플리케이션 목적지와 브로커 목적지를 포함한 STOMP 메시지 브로커 설정
  * 3. STOMP 수신 및 발신 채널에 대한 인터셉터 설정 (로깅 및 작업 실행 등)
- * 4. WebSocket 메시지 크기 제한 설정
+ * 4. WebSocket 메시지 크기 제한, 세션별 전송 시간/버퍼 제한 설정
  * 5. 고유한 세션 식별자를 부여하기 위한 커스텀 핸드셰이크 핸들러 제공
  */
 
@@ -63,16 +64,31 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
 	private final ApplicationEventPublisher eventPublisher;
 	private final ThreadPoolTaskExecutor stompInboundExecutor;
+	private final ThreadPoolTaskExecutor stompOutboundExecutor;
+	private final StompTransportProperties transportProperties;
+	private final StompRateLimitInterceptor stompRateLimitInterceptor;
+	private final StompPayloadEncodingInterceptor stompPayloadEncodingInterceptor;
+	private final Optional<RedisChatBrokerRelay> chatBrokerRelay;
 	private JwtProvider jwtProvider;
 	@Value("${websocket.cors.pattern.string:}")
 	private String corsPattern; //test에서는 cors=*, 프러덕션에서는 ='';
 
 	public WebSocketConfig(ApplicationEventPublisher eventPublisher,
 		@Qualifier("stompInboundExecutor") ThreadPoolTaskExecutor inboundExecutor,
-		@Autowired JwtProvider jwtProvider) {
+		@Qualifier("stompOutboundExecutor") ThreadPoolTaskExecutor outboundExecutor,
+		StompTransportProperties transportProperties,
+		StompRateLimitInterceptor stompRateLimitInterceptor,
+		StompPayloadEncodingInterceptor stompPayloadEncodingInterceptor,
+		@Autowired JwtProvider jwtProvider,
+		Optional<RedisChatBrokerRelay> chatBrokerRelay) {
 		this.eventPublisher = eventPublisher;
 		this.stompInboundExecutor = inboundExecutor;
+		this.stompOutboundExecutor = outboundExecutor;
+		this.transportProperties = transportProperties;
+		this.stompRateLimitInterceptor = stompRateLimitInterceptor;
+		this.stompPayloadEncodingInterceptor = stompPayloadEncodingInterceptor;
 		this.jwtProvider = jwtProvider;
+		this.chatBrokerRelay = chatBrokerRelay;
 	}
 
 	@Override
@@ -86,6 +102,12 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
 		// 클라이언트에서 서버로 메시지를 보낼 때 "/app" 접두사 사용, @MessageMapping 에서 처리
 		config.setApplicationDestinationPrefixes("/app");
+
+		// outbound 스레드가 여러 개여도 세션별 전송 순서를 유지합니다.
+		config.setPreservePublishOrder(true);
+
+		// 다중 노드 운영 시 브로커로 가는 채팅 메시지를 Redis 로 중계
+		chatBrokerRelay.ifPresent(config.configureBrokerChannel()::interceptors);
 	}
 
 	@Override
@@ -94,13 +116,19 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 		registry.addEndpoint("/ws-chat")
 			.setHandshakeHandler(handshakeHandler())
 			.setAllowedOriginPatterns(corsPattern); //cors,
+
+		// inbound 스레드가 여러 개여도 세션별 프레임 순서를 유지합니다. (채팅방 lane 에 들어가는 순서)
+		registry.setPreserveReceiveOrder(true);
 	}
 
 	@Override
 	public void configureClientInboundChannel(ChannelRegistration registration) { // request Channel
 
 		// 클라이언트로부터 들어오는 메시지 처리에 대한 설정
-		registration.interceptors(new ChannelInterceptor() {
+		registration.executor(stompInboundExecutor);
+		// 처리율 제한은 inbound 스레드풀에 들어가기 전에 적용됩니다.
+		// CONNECT 프레임의 content-type 으로 세션별 페이로드 인코딩(JSON/CBOR)을 정합니다.
+		registration.interceptors(stompRateLimitInterceptor, stompPayloadEncodingInterceptor, new ChannelInterceptor() {
 
 			@Override
 			public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -135,23 +163,31 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 	@Override
 	public void configureClientOutboundChannel(ChannelRegistration registration) { // response Channel
 		// 클라이언트로 나가는 메시지 처리에 대한 설정
-		registration.interceptors(new ChannelInterceptor() {
+		registration.executor(stompOutboundExecutor);
+		// CBOR 를 협상한 세션은 JSON 대신 CBOR 로 받습니다.
+		registration.interceptors(stompPayloadEncodingInterceptor, new ChannelInterceptor() {
 			@Override
 			public Message<?> preSend(Message<?> message, MessageChannel channel) {
 				log.debug(" clientOutboundChannel - 발송된 메시지: {}", message);
 				return message;
 			}
-		}).taskExecutor();
+		});
 	}
 
+	/**
+	 * 느린 클라이언트 대응은 {@link SlowConsumerSessionDecorator} 참고
+	 */
 	@Override
 	public void configureWebSocketTransport(WebSocketTransportRegistration registry) {
-		registry.setMessageSizeLimit(256 * 1024); // 메시지 크기제한 : 256KB까지 허용
+		registry.setMessageSizeLimit(transportProperties.getMessageSizeLimit()); // 메시지 크기제한 : 기본 256KB
+		registry.setSendTimeLimit(transportProperties.getSendTimeLimitMillis());
+		registry.setSendBufferSizeLimit(transportProperties.getSendBufferSizeLimit());
 	}
 
 	/**
 	 * STOMP 메시지 변환을 위한 메시지 컨버터 설정
 	 * LocalDateTime과 같은 Java 8 날짜/시간 타입을 처리하기 위한 JavaTimeModule을 등록합니다.
+	 * content-type 이 application/cbor 인 SEND 프레임은 {@link StompCborMessageConverter} 가 처리합니다.
 	 */
 	@Override
 	public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
@@ -160,6 +196,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 		objectMapper.registerModule(new JavaTimeModule());
 		converter.setObjectMapper(objectMapper);
 		messageConverters.add(converter);
+		messageConverters.add(new StompCborMessageConverter());
 		return false; // false는 기본 컨버터도 추가하도록 함
 	}
 
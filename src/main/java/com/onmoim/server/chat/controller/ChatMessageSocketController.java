@@ -1,11 +1,25 @@
 package com.onmoim.server.chat.controller;
 
+import com.onmoim.server.chat.common.config.ChatRoomLaneExecutor;
+import com.onmoim.server.chat.common.exception.StompErrorEvent;
 import com.onmoim.server.chat.domain.dto.ChatMessageDto;
+import com.onmoim.server.chat.domain.dto.ChatReadRequest;
+import com.onmoim.server.chat.domain.dto.ChatSyncRequest;
+import com.onmoim.server.chat.domain.dto.ChatTypingRequest;
+import com.onmoim.server.chat.domain.enums.SubscribeRegistry;
+import com.onmoim.server.chat.service.ChatMessageService;
+import com.onmoim.server.chat.service.ChatPresenceService;
+import com.onmoim.server.chat.service.ChatReadCursorService;
+import com.onmoim.server.chat.service.ChatSessionAuthorizationCache;
 import com.onmoim.server.chat.service.facade.ChatMessageFacade;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
 
 import java.security.Principal;
@@ -15,20 +29,98 @@ import java.security.Principal;
 @RequiredArgsConstructor
 public class ChatMessageSocketController {
 
+	private static final String SEND_MESSAGE_DESTINATION = "/app/chat.sendMessage";
+
 	private final ChatMessageFacade chatMessageFacade;
+	private final ChatRoomLaneExecutor chatRoomLaneExecutor;
+	private final ApplicationEventPublisher eventPublisher;
+	private final ChatSessionAuthorizationCache chatSessionAuthorizationCache;
+	private final ChatReadCursorService chatReadCursorService;
+	private final ChatMessageService chatMessageService;
+	private final SimpMessagingTemplate messagingTemplate;
+	private final ChatPresenceService chatPresenceService;
 
 	/**
 	 * 채팅방에 메시지 전송
 	 * 클라이언트: /app/chat.sendMessage 형식으로 요청
+	 * 같은 방의 메시지는 같은 lane 에서 순서대로 처리됩니다.
+	 * lane 에서 발생한 예외는 @MessageExceptionHandler 를 거치지 않으므로 여기서 오류 이벤트를 발행합니다.
 	 */
 	@MessageMapping("/chat.sendMessage")
 	public void sendMessage(
 		@Payload ChatMessageDto chatMessage,
+		@Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId,
 		Principal principal) {
 
 		Long userId = Long.parseLong(principal.getName());
 		chatMessage.setSenderId(userId);
-		// Facade를 통한 메시지 전송
-		chatMessageFacade.sendMessage(chatMessage, userId);
+
+		chatRoomLaneExecutor.execute(chatMessage.getGroupId(), () -> {
+			try {
+				// Facade를 통한 메시지 전송
+				chatMessageFacade.sendMessage(chatMessage, userId, sessionId);
+			} catch (Exception e) {
+				log.error("WebSocket 메시지 처리 중 오류 발생 - 사용자: {}, 대상: {}, 오류: {}",
+					userId, SEND_MESSAGE_DESTINATION, e.getMessage(), e);
+				eventPublisher.publishEvent(new StompErrorEvent(
+					this,
+					String.valueOf(userId),
+					SEND_MESSAGE_DESTINATION,
+					e.getMessage()
+				));
+			}
+		});
+	}
+
+	/**
+	 * 채팅방 읽음 위치 갱신
+	 * 클라이언트: /app/chat.read 형식으로 요청
+	 * 권한은 세션에 보관된 값으로 확인하고, DB 반영은 주기적으로 모아서 처리됩니다.
+	 */
+	@MessageMapping("/chat.read")
+	public void read(
+		@Payload ChatReadRequest request,
+		@Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId,
+		Principal principal) {
+
+		Long userId = Long.parseLong(principal.getName());
+		chatSessionAuthorizationCache.authorize(sessionId, request.getGroupId(), userId);
+		chatReadCursorService.advance(request.getGroupId(), userId, request.getMessageSequence());
+	}
+
+	/**
+	 * 재연결 동기화, afterSequence 이후 놓친 메시지를 요청한 사용자에게만 응답합니다.
+	 * 클라이언트: /app/chat.sync 요청, /system/queue/chat.sync 구독
+	 * 채팅방을 다시 구독한 뒤 요청해야 그 사이 전송된 메시지를 놓치지 않습니다.
+	 */
+	@MessageMapping("/chat.sync")
+	public void sync(
+		@Payload ChatSyncRequest request,
+		@Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId,
+		Principal principal) {
+
+		Long userId = Long.parseLong(principal.getName());
+		chatSessionAuthorizationCache.authorize(sessionId, request.getGroupId(), userId);
+		messagingTemplate.convertAndSendToUser(
+			principal.getName(),
+			SubscribeRegistry.CHAT_SYNC_DESTINATION.getDestination(),
+			chatMessageService.getMessagesAfter(request.getGroupId(), request.getAfterSequence())
+		);
+	}
+
+	/**
+	 * 입력 중 상태 갱신
+	 * 클라이언트: /app/chat.typing 요청, /topic/chat.presence.{groupId} 구독
+	 * 상태 프레임은 방마다 주기적으로 모아서 전송됩니다.
+	 */
+	@MessageMapping("/chat.typing")
+	public void typing(
+		@Payload ChatTypingRequest request,
+		@Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId,
+		Principal principal) {
+
+		Long userId = Long.parseLong(principal.getName());
+		chatSessionAuthorizationCache.authorize(sessionId, request.getGroupId(), userId);
+		chatPresenceService.typing(request.getGroupId(), userId, request.isTyping());
 	}
 }
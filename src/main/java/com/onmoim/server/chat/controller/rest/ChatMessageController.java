@@ -10,16 +10,24 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.onmoim.server.chat.domain.ChatRoomMessage;
 import com.onmoim.server.chat.domain.dto.ChatMessageDto;
+import com.onmoim.server.chat.domain.dto.ChatPresenceDto;
 import com.onmoim.server.chat.domain.dto.ChatRoomListUpdateDto;
 import com.onmoim.server.chat.domain.dto.ChatRoomSummeryDto;
+import com.onmoim.server.chat.domain.dto.ChatSearchResponse;
+import com.onmoim.server.chat.domain.dto.ChatSyncResponse;
 import com.onmoim.server.chat.service.ChatMessageService;
+import com.onmoim.server.chat.service.ChatPresenceService;
+import com.onmoim.server.chat.service.ChatReadCursorService;
 import com.onmoim.server.chat.service.ChatRoomListService;
+import com.onmoim.server.chat.service.ChatSessionAuthorizationCache;
+import com.onmoim.server.chat.service.search.ChatMessageSearchService;
 import com.onmoim.server.common.exception.CustomException;
 import com.onmoim.server.common.response.ResponseHandler;
 import com.onmoim.server.group.dto.response.GroupSummaryResponseDto;
@@ -45,6 +53,10 @@ import lombok.extern.slf4j.Slf4j;
 public class ChatMessageController {
 	private final ChatMessageService chatMessageService;
 	private final ChatRoomListService chatRoomListService;
+	private final ChatReadCursorService chatReadCursorService;
+	private final ChatSessionAuthorizationCache chatSessionAuthorizationCache;
+	private final ChatPresenceService chatPresenceService;
+	private final ChatMessageSearchService chatMessageSearchService;
 
 	@Operation(
 		summary = "채팅방 메시지 목록 조회",
@@ -71,6 +83,77 @@ public class ChatMessageController {
 		return ResponseEntity.ok(ResponseHandler.response(messages));
 	}
 
+	@Operation(
+		summary = "채팅방 놓친 메시지 동기화",
+		description = "재연결 후 afterSequence 이후 메시지를 순번 오름차순으로 조회합니다. " +
+			"놓친 메시지가 최대 개수를 넘으면 메시지 없이 reloadRequired = true 를 반환하며, 최신 메시지부터 다시 조회해야 합니다.",
+		parameters = {
+			@Parameter(name = "roomId", description = "채팅방 ID", required = true, example = "1"),
+			@Parameter(name = "afterSequence", description = "클라이언트가 마지막으로 받은 메시지 순번", required = true, example = "12345")
+		},
+		responses = {
+			@ApiResponse(responseCode = "200", description = "동기화 성공",
+				content = @Content(schema = @Schema(implementation = ChatSyncResponse.class))),
+			@ApiResponse(responseCode = "404", description = "채팅방을 찾을 수 없음")
+		}
+	)
+	@GetMapping("/chat/rooms/{roomId}/messages/sync")
+	public ResponseEntity<ResponseHandler<ChatSyncResponse>> syncMessages(
+		@PathVariable Long roomId,
+		@RequestParam Long afterSequence) {
+		chatSessionAuthorizationCache.authorize(null, roomId, getCurrentUserId());
+		ChatSyncResponse response = chatMessageService.getMessagesAfter(roomId, afterSequence);
+		return ResponseEntity.ok(ResponseHandler.response(response));
+	}
+
+	@Operation(
+		summary = "채팅방 메시지 검색",
+		description = "채팅방 메시지 중 검색어를 포함한 메시지 ID 를 최신 순으로 조회합니다. " +
+			"검색어는 두 글자 이상이어야 하며, 공백으로 나눈 단어를 모두 포함한 메시지를 찾습니다. " +
+			"다음 페이지는 응답의 nextCursor 를 cursor 로 전달합니다.",
+		parameters = {
+			@Parameter(name = "roomId", description = "채팅방 ID", required = true, example = "1"),
+			@Parameter(name = "query", description = "검색어", required = true, example = "모임 장소"),
+			@Parameter(name = "cursor", description = "이전 페이지의 nextCursor (messageSequence)", example = "12345"),
+			@Parameter(name = "size", description = "페이지 크기, 기본값 20, 최대 50", example = "20")
+		},
+		responses = {
+			@ApiResponse(responseCode = "200", description = "검색 성공",
+				content = @Content(schema = @Schema(implementation = ChatSearchResponse.class))),
+			@ApiResponse(responseCode = "400", description = "검색어가 너무 짧음"),
+			@ApiResponse(responseCode = "404", description = "채팅방을 찾을 수 없음")
+		}
+	)
+	@GetMapping("/chat/rooms/{roomId}/messages/search")
+	public ResponseEntity<ResponseHandler<ChatSearchResponse>> searchMessages(
+		@PathVariable Long roomId,
+		@RequestParam String query,
+		@RequestParam(required = false) Long cursor,
+		@RequestParam(required = false) Integer size) {
+		chatSessionAuthorizationCache.authorize(null, roomId, getCurrentUserId());
+		ChatSearchResponse response = chatMessageSearchService.search(roomId, query, cursor, size);
+		return ResponseEntity.ok(ResponseHandler.response(response));
+	}
+
+	@Operation(
+		summary = "채팅방 접속 상태 조회",
+		description = "채팅방에 접속 중인 사용자 수와 입력 중인 사용자를 조회합니다. " +
+			"이후 변경은 /topic/chat.presence.{roomId} 구독으로 받습니다.",
+		parameters = {
+			@Parameter(name = "roomId", description = "채팅방 ID", required = true, example = "1")
+		},
+		responses = {
+			@ApiResponse(responseCode = "200", description = "조회 성공",
+				content = @Content(schema = @Schema(implementation = ChatPresenceDto.class))),
+			@ApiResponse(responseCode = "404", description = "채팅방을 찾을 수 없음")
+		}
+	)
+	@GetMapping("/chat/rooms/{roomId}/presence")
+	public ResponseEntity<ResponseHandler<ChatPresenceDto>> getPresence(@PathVariable Long roomId) {
+		chatSessionAuthorizationCache.authorize(null, roomId, getCurrentUserId());
+		return ResponseEntity.ok(ResponseHandler.response(chatPresenceService.getPresence(roomId)));
+	}
+
 	/**
 	 * 채팅방 목록 조회
 	 * GET /api/chat/rooms
@@ -110,6 +193,32 @@ public class ChatMessageController {
 		return ResponseEntity.ok(ResponseHandler.response(chatRooms));
 	}
 
+	/**
+	 * 채팅방 읽음 위치 갱신
+	 * PUT /api/chat/rooms/{roomId}/read
+	 */
+	@PutMapping("/chat/rooms/{roomId}/read")
+	@Operation(
+		summary = "채팅방 읽음 위치 갱신",
+		description = "마지막으로 읽은 메시지 순번을 갱신합니다. 더 작은 순번은 무시되며, DB 반영은 몇 초 단위로 모아서 처리됩니다.",
+		parameters = {
+			@Parameter(name = "roomId", description = "채팅방 ID", required = true, example = "1"),
+			@Parameter(name = "messageSequence", description = "마지막으로 읽은 메시지 순번", required = true, example = "12345")
+		},
+		responses = {
+			@ApiResponse(responseCode = "200", description = "읽음 위치 갱신 성공"),
+			@ApiResponse(responseCode = "404", description = "채팅방을 찾을 수 없음")
+		}
+	)
+	public ResponseEntity<ResponseHandler<Void>> read(
+		@PathVariable Long roomId,
+		@RequestParam Long messageSequence) {
+		Long userId = getCurrentUserId();
+		chatSessionAuthorizationCache.authorize(null, roomId, userId);
+		chatReadCursorService.advance(roomId, userId, messageSequence);
+		return ResponseEntity.ok(ResponseHandler.response(null));
+	}
+
 	private Long getCurrentUserId() {
 		Object principal = SecurityContextHolder.getContextHolderStrategy()
 			.getContext()
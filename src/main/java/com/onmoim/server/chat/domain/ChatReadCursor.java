@@ -0,0 +1,33 @@
+package com.onmoim.server.chat.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 채팅방 읽음 위치
+ * 안 읽은 메시지 수는 채팅방 메시지 수({@link ChatRoomLastMessage#getMessageCount()}) - readMessageCount 로 구합니다.
+ * 순번은 연속되지 않으므로(블록 할당, 중복 전송으로 버려진 순번) 순번 차이 대신 메시지 수를 기록합니다.
+ * readMessageCount 는 마지막 메시지까지 읽었을 때의 채팅방 메시지 수이며, 중간까지만 읽은 경우는 갱신하지 않습니다.
+ * 갱신은 메모리에서 병합한 뒤 주기적으로 일괄 반영합니다. {@link com.onmoim.server.chat.repository.ChatReadCursorRepository}
+ */
+@Entity
+@Table(name = "chat_read_cursor")
+@Getter
+@NoArgsConstructor
+public class ChatReadCursor {
+
+	@EmbeddedId
+	private ChatReadCursorId id;
+
+	@Column(name = "last_read_sequence", nullable = false)
+	private Long lastReadSequence;
+
+	@Column(name = "read_message_count", nullable = false)
+	private Long readMessageCount;
+
+	@Column(name = "modified_date", nullable = false)
+	private LocalDateTime modifiedDate;
+}
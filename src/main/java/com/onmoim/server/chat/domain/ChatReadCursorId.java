@@ -0,0 +1,32 @@
+package com.onmoim.server.chat.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@Embeddable
+public class ChatReadCursorId implements Serializable {
+	@Column(name = "room_id")
+	private Long roomId;
+
+	@Column(name = "user_id")
+	private Long userId;
+
+	public static ChatReadCursorId create(Long roomId, Long userId) {
+		return new ChatReadCursorId(roomId, userId);
+	}
+
+	@Override
+	public String toString() {
+		return roomId+"-"+userId;
+	}
+}
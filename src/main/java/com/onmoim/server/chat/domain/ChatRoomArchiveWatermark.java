@@ -0,0 +1,24 @@
+package com.onmoim.server.chat.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 채팅방별로 보관 테이블로 옮긴 마지막 순번
+ * 이 순번 이하의 메시지는 chat_room_message_archive 에만, 초과하는 메시지는 chat_room_messages 에만 있습니다.
+ * 메시지를 옮기는 트랜잭션에서 함께 갱신합니다. {@link com.onmoim.server.chat.repository.ChatMessageArchiveBatchRepository}
+ */
+@Entity
+@Table(name = "chat_room_archive_watermark")
+@Getter
+@NoArgsConstructor
+public class ChatRoomArchiveWatermark {
+
+	@Id
+	@Column(name = "room_id")
+	private Long roomId;
+
+	@Column(name = "archived_sequence", nullable = false)
+	private Long archivedSequence;
+}
@@ -0,0 +1,56 @@
+package com.onmoim.server.chat.domain;
+
+import com.onmoim.server.chat.domain.enums.MessageType;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅방 마지막 메시지 (채팅방 목록 조회용 read model)
+ * 메시지 저장(write-behind flush)과 같은 트랜잭션에서 갱신합니다. {@link com.onmoim.server.chat.repository.ChatMessageBatchRepository}
+ * messageCount 는 저장된 메시지 수로, 안 읽은 메시지 수는 읽음 위치에 기록한 값과의 차이로 구합니다. {@link ChatReadCursor}
+ * (컬럼 도입 이후부터 셉니다, 보관 테이블로 옮겨도 줄지 않습니다)
+ */
+@Entity
+@Table(
+	name = "chat_room_last_message",
+	indexes = @Index(name = "idx_chat_room_last_message_time", columnList = "last_message_time")
+)
+@Getter
+@NoArgsConstructor
+public class ChatRoomLastMessage {
+
+	public static final int PREVIEW_LENGTH = 100;
+
+	@Id
+	@Column(name = "room_id")
+	private Long roomId;
+
+	@Column(name = "last_sequence", nullable = false)
+	private Long lastSequence;
+
+	@Column(name = "message_count", nullable = false)
+	private Long messageCount;
+
+	@Column(name = "last_message_time", nullable = false)
+	private LocalDateTime lastMessageTime;
+
+	@Column(name = "sender_id")
+	private Long senderId;
+
+	@Column(nullable = false)
+	@Enumerated(EnumType.STRING)
+	private MessageType type;
+
+	@Column(length = PREVIEW_LENGTH)
+	private String preview;
+
+	public static String preview(String content) {
+		if (content == null || content.length() <= PREVIEW_LENGTH) {
+			return content;
+		}
+		return content.substring(0, PREVIEW_LENGTH);
+	}
+}
@@ -0,0 +1,36 @@
+package com.onmoim.server.chat.domain;
+
+import com.onmoim.server.chat.domain.enums.MessageType;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간이 지난 채팅 메시지 (cold)
+ * chat_room_messages 에서 방마다 오래된 순번부터 옮겨 오며, 옮긴 메시지는 더 이상 변경하지 않습니다.
+ * {@link com.onmoim.server.chat.service.archive.ChatMessageArchiveService}
+ */
+@Entity
+@Table(name = "chat_room_message_archive")
+@Getter
+@NoArgsConstructor
+public class ChatRoomMessageArchive {
+
+	@EmbeddedId
+	private ChatRoomMessageId id;
+
+	@Column(name = "sender_id")
+	private Long senderId;
+
+	@Column(nullable = false, columnDefinition = "TEXT")
+	private String content;
+
+	@Column(nullable = false)
+	private LocalDateTime timestamp;
+
+	@Column(nullable = false)
+	@Enumerated(EnumType.STRING)
+	private MessageType type;
+}
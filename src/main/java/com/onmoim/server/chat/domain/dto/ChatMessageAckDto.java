@@ -0,0 +1,22 @@
+package com.onmoim.server.chat.domain.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "중복 전송 확인 응답, 이미 처리한 clientMessageId 를 다시 보냈을 때 보낸 사람에게만 전송됩니다.")
+public class ChatMessageAckDto {
+
+	@Schema(description = "모임 ID", example = "12345")
+	private Long groupId;
+
+	@Schema(description = "클라이언트가 보낸 메시지 ID", example = "3f6c1e0a-7d2b-4c59-9a51-0c7e2f1b8d44")
+	private String clientMessageId;
+
+	@Schema(description = "처음 전송했을 때 발급된 메시지 순번", example = "9876")
+	private Long messageSequence;
+}
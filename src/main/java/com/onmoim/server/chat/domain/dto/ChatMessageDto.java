@@ -39,6 +39,13 @@ public class ChatMessageDto {
     @Builder.Default
     private LocalDateTime timestamp = LocalDateTime.now();
 
+    @Schema(description = "읽지 않은 멤버 수 (메시지 목록 조회 시)", example = "3")
+    private Integer unreadMemberCount;
+
+    @Schema(description = "클라이언트 메시지 ID (선택), 재전송 시 같은 값을 보내면 한 번만 처리됩니다.",
+        example = "3f6c1e0a-7d2b-4c59-9a51-0c7e2f1b8d44")
+    private String clientMessageId;
+
     public static ChatMessageDto of(ChatRoomMessage entity, ChatUserDto chatUserDto) {
         return ChatMessageDto.builder()
             .messageSequence(entity.getId().getMessageSequence())
@@ -51,6 +58,17 @@ public class ChatMessageDto {
             .build();
     }
 
+    // 프로젝션용 생성자, 발신자 정보는 ChatSenderProfileCache 에서 채웁니다.
+    public ChatMessageDto(Long messageSequence, Long groupId, MessageType type,
+        String content, Long senderId, LocalDateTime timestamp) {
+        this.messageSequence = messageSequence;
+        this.groupId = groupId;
+        this.type = type;
+        this.content = content;
+        this.senderId = senderId;
+        this.timestamp = timestamp;
+    }
+
     // 프로젝션용 생성자 추가
     public ChatMessageDto(Long messageSequence, Long groupId, MessageType type,
         String content, Long senderId, LocalDateTime timestamp,
@@ -0,0 +1,11 @@
+package com.onmoim.server.chat.domain.dto;
+
+import java.util.List;
+
+/**
+ * 채팅방 접속/입력 중 상태 프레임 (/topic/chat.presence.{groupId})
+ * @param onlineCount 채팅방을 구독 중인 사용자 수 (기기가 여러 개여도 한 명)
+ * @param typingUserIds 입력 중인 사용자 ID, 오름차순
+ */
+public record ChatPresenceDto(Long groupId, int onlineCount, List<Long> typingUserIds) {
+}
@@ -0,0 +1,21 @@
+package com.onmoim.server.chat.domain.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "채팅방 읽음 위치 갱신")
+public class ChatReadRequest {
+
+	@Schema(description = "모임 ID")
+	private Long groupId;
+
+	@Schema(description = "마지막으로 읽은 메시지 순번")
+	private Long messageSequence;
+}
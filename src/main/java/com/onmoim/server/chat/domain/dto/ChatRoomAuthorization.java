@@ -0,0 +1,7 @@
+package com.onmoim.server.chat.domain.dto;
+
+/**
+ * 세션 단위로 보관하는 채팅방 전송 권한 (회원 여부 확인 완료)
+ */
+public record ChatRoomAuthorization(Long roomId, Long userId, boolean owner) {
+}
@@ -0,0 +1,13 @@
+package com.onmoim.server.chat.domain.dto;
+
+import java.util.List;
+
+/**
+ * 채팅방 목록 갱신 대상 캐시 항목
+ */
+public record ChatRoomRoster(String groupName, List<Long> memberIds) {
+
+	public long participantCount() {
+		return memberIds.size();
+	}
+}
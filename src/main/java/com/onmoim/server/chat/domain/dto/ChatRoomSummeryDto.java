@@ -1,5 +1,6 @@
 package com.onmoim.server.chat.domain.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.onmoim.server.group.entity.Status;
 
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -48,10 +49,16 @@ public class ChatRoomSummeryDto {
 	@Schema(description = "다가오는 일정 수")
 	private Long upcomingMeetingCount;
 
+	@Schema(description = "안 읽은 메시지 수")
+	private Long unreadCount;
+
+	@JsonIgnore
+	private Long lastReadSequence;
+
 	public ChatRoomSummeryDto(Long groupId, String name, String imgUrl, String category,
 		Status status, String likeStatus,
 		ChatMessageDto message,
-		String location, Long memberCount, Long upcomingMeetingCount) {
+		String location, Long memberCount, Long upcomingMeetingCount, Long lastReadSequence, Long unreadCount) {
 		this.groupId = groupId;
 		this.name = name;
 		this.imgUrl = imgUrl;
@@ -62,6 +69,8 @@ public class ChatRoomSummeryDto {
 		this.location = location;
 		this.memberCount = memberCount;
 		this.upcomingMeetingCount = upcomingMeetingCount;
+		this.lastReadSequence = lastReadSequence;
+		this.unreadCount = unreadCount;
 	}
 
 }
@@ -0,0 +1,23 @@
+package com.onmoim.server.chat.domain.dto;
+
+import java.util.List;
+
+import com.onmoim.server.chat.domain.ChatRoomMessageId;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "채팅방 메시지 검색 응답")
+public class ChatSearchResponse {
+
+	@Schema(description = "검색어를 포함한 메시지 ID, 순번 내림차순")
+	private List<ChatRoomMessageId> messageIds;
+
+	@Schema(description = "다음 페이지 커서 (messageSequence), 마지막 페이지면 null")
+	private Long nextCursor;
+}
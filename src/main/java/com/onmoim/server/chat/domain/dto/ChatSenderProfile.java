@@ -0,0 +1,23 @@
+package com.onmoim.server.chat.domain.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅 메시지 발신자 표시 정보 캐시 항목
+ */
+public record ChatSenderProfile(Long id, String name, String profileImgUrl, boolean deleted) {
+
+	// 프로젝션용 생성자
+	public ChatSenderProfile(Long id, String name, String profileImgUrl, LocalDateTime deletedDate) {
+		this(id, name, profileImgUrl, deletedDate != null);
+	}
+
+	public ChatUserDto toChatUserDto(boolean isOwner) {
+		return ChatUserDto.builder()
+			.id(id)
+			.username(name)
+			.profileImageUrl(profileImgUrl)
+			.isOwner(isOwner)
+			.build();
+	}
+}
@@ -0,0 +1,21 @@
+package com.onmoim.server.chat.domain.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "재연결 동기화 요청")
+public class ChatSyncRequest {
+
+	@Schema(description = "모임 ID")
+	private Long groupId;
+
+	@Schema(description = "클라이언트가 마지막으로 받은 메시지 순번")
+	private Long afterSequence;
+}
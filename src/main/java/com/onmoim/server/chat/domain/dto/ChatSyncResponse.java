@@ -0,0 +1,34 @@
+package com.onmoim.server.chat.domain.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "재연결 동기화 응답")
+public class ChatSyncResponse {
+
+	@Schema(description = "모임 ID")
+	private Long groupId;
+
+	@Schema(description = "afterSequence 이후 메시지, 순번 오름차순")
+	private List<ChatMessageDto> messages;
+
+	@Schema(description = "놓친 메시지가 너무 많음, true 면 messages 는 비어 있고 최신 메시지부터 다시 불러와야 합니다.")
+	private boolean reloadRequired;
+
+	public static ChatSyncResponse of(Long groupId, List<ChatMessageDto> messages) {
+		return new ChatSyncResponse(groupId, messages, false);
+	}
+
+	public static ChatSyncResponse reload(Long groupId) {
+		return new ChatSyncResponse(groupId, List.of(), true);
+	}
+}
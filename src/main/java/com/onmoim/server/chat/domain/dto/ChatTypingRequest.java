@@ -0,0 +1,21 @@
+package com.onmoim.server.chat.domain.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "채팅방 입력 중 상태 갱신")
+public class ChatTypingRequest {
+
+	@Schema(description = "모임 ID")
+	private Long groupId;
+
+	@Schema(description = "입력 중이면 true, 입력을 멈추거나 전송하면 false")
+	private boolean typing;
+}
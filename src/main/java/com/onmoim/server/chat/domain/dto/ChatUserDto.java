@@ -2,11 +2,14 @@ package com.onmoim.server.chat.domain.dto;
 
 import com.onmoim.server.user.entity.User;
 
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
 @Builder
+@NoArgsConstructor(access = AccessLevel.PRIVATE) // 역직렬화용 (노드 간 중계, CBOR 변환)
 public class ChatUserDto {
 	private Long id;
 	private String username;
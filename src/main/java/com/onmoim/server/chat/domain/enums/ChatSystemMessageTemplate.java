@@ -1,22 +1,42 @@
 package com.onmoim.server.chat.domain.enums;
 
+import java.util.List;
+
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 /**
  * DB에서 관리하면 template 변경에 용이
+ * coalescedContent : 같은 방에서 짧은 간격으로 여러 건이 발생했을 때 하나로 합친 문구, 없으면 병합하지 않습니다.
  */
 @AllArgsConstructor
 @Getter
 public enum ChatSystemMessageTemplate {
-	CREATE_CHAT_ROOM( "채팅방이 생성되었습니다.", "채팅방 생싱시 발송"),
-	JOIN_CHAT_ROOM("%s님이 가입했습니다.", "채팅방 가입시 발송"),
-	LEAVE_CHAT_ROOM("%s님이 탈퇴했습니다.", "채팅방 나갈때 발송");
+	CREATE_CHAT_ROOM( "채팅방이 생성되었습니다.", null, "채팅방 생싱시 발송"),
+	JOIN_CHAT_ROOM("%s님이 가입했습니다.", "%s님 외 %d명이 가입했습니다.", "채팅방 가입시 발송"),
+	LEAVE_CHAT_ROOM("%s님이 탈퇴했습니다.", "%s님 외 %d명이 탈퇴했습니다.", "채팅방 나갈때 발송");
 
 	private final String content;
+	private final String coalescedContent;
 	private final String description;
 
 	public String getContentWithBind(Object... args) {
 		return String.format(content, args);
 	}
+
+	public boolean isCoalescable() {
+		return coalescedContent != null;
+	}
+
+	/**
+	 * @param names 표시할 이름 (앞에서부터 일부)
+	 * @param total 병합된 전체 건수
+	 */
+	public String getCoalescedContent(List<String> names, int total) {
+		String joined = String.join(", ", names);
+		if (total <= names.size()) {
+			return getContentWithBind(joined);
+		}
+		return String.format(coalescedContent, joined, total - names.size());
+	}
 }
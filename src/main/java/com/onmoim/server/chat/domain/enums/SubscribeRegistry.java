@@ -8,7 +8,10 @@ import lombok.Getter;
 public enum SubscribeRegistry {
 	CHAT_ROOM_SUBSCRIBE_PREFIX("/topic/chat.room."),
 	SYSTEM_MESSAGE_PREFIX("/queue"),
-	CHAT_ROOM_LIST_PREFIX("/topic/chat.room.list.");
+	CHAT_ROOM_LIST_PREFIX("/topic/chat.room.list."),
+	CHAT_SYNC_DESTINATION("/queue/chat.sync"),
+	CHAT_ACK_DESTINATION("/queue/chat.ack"),
+	CHAT_PRESENCE_PREFIX("/topic/chat.presence.");
 
 	private final String destination;
 }
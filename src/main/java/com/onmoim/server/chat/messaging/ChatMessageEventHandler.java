@@ -1,9 +1,8 @@
 package com.onmoim.server.chat.messaging;
 
-import com.onmoim.server.chat.service.ChatMessageService;
+import com.onmoim.server.chat.service.ChatSystemMessageCoalescer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
@@ -12,11 +11,13 @@ import org.springframework.transaction.event.TransactionalEventListener;
 @Component
 @RequiredArgsConstructor
 public class ChatMessageEventHandler {
-	private final ChatMessageService chatMessageService;
+	private final ChatSystemMessageCoalescer chatSystemMessageCoalescer;
 
-	@Async
+	/**
+	 * 등록만 하고 바로 반환합니다. 전송은 시스템 메시지 전용 스레드에서 병합 후 처리합니다.
+	 */
 	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
 	public void systemChatListener(ChatSystemMessageEvent event) {
-		chatMessageService.sendSystemMessage(event.groupId(), event.content());
+		chatSystemMessageCoalescer.submit(event);
 	}
 }
@@ -0,0 +1,15 @@
+package com.onmoim.server.chat.messaging;
+
+import java.util.List;
+
+/**
+ * 채팅방 구성원 변경(가입, 탈퇴, 강퇴, 모임장 위임, 모임 삭제)
+ * {@link com.onmoim.server.chat.service.ChatRoomRosterCache}
+ * @param relayed 다른 노드에서 중계된 변경이면 true, 캐시만 정리하고 DB 반영은 변경한 노드에서만 합니다.
+ */
+public record ChatRoomMemberChangedEvent(Long groupId, List<Long> userIds, boolean relayed) {
+
+	public ChatRoomMemberChangedEvent(Long groupId, List<Long> userIds) {
+		this(groupId, userIds, false);
+	}
+}
@@ -0,0 +1,13 @@
+package com.onmoim.server.chat.messaging;
+
+/**
+ * 채팅 발신자 표시 정보(이름, 프로필 이미지) 변경, 회원 탈퇴 포함
+ * {@link com.onmoim.server.chat.service.ChatSenderProfileCache}
+ * @param relayed 다른 노드에서 중계된 변경이면 true
+ */
+public record ChatSenderProfileChangedEvent(Long userId, boolean relayed) {
+
+	public ChatSenderProfileChangedEvent(Long userId) {
+		this(userId, false);
+	}
+}
@@ -1,7 +1,28 @@
 package com.onmoim.server.chat.messaging;
 
+import com.onmoim.server.chat.domain.enums.ChatSystemMessageTemplate;
+
 /**
  * {@link com.onmoim.server.chat.messaging.ChatMessageEventHandler}
+ * template 과 name 이 있으면 같은 방의 같은 template 이벤트를 짧은 간격 안에서 하나의 메시지로 병합합니다.
  */
-public record ChatSystemMessageEvent(Long groupId, String content) {
+public record ChatSystemMessageEvent(Long groupId, String content, ChatSystemMessageTemplate template, String name) {
+
+	/**
+	 * 병합하지 않는 시스템 메시지
+	 */
+	public ChatSystemMessageEvent(Long groupId, String content) {
+		this(groupId, content, null, null);
+	}
+
+	/**
+	 * 사용자 이름을 바인딩하는 시스템 메시지 (가입, 탈퇴)
+	 */
+	public static ChatSystemMessageEvent of(Long groupId, ChatSystemMessageTemplate template, String name) {
+		return new ChatSystemMessageEvent(groupId, template.getContentWithBind(name), template, name);
+	}
+
+	public boolean isCoalescable() {
+		return template != null && template.isCoalescable() && name != null;
+	}
 }
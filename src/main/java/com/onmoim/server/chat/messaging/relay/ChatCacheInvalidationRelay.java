@@ -0,0 +1,94 @@
+package com.onmoim.server.chat.messaging.relay;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onmoim.server.chat.common.config.ChatRelayProperties;
+import com.onmoim.server.chat.messaging.ChatRoomMemberChangedEvent;
+import com.onmoim.server.chat.messaging.ChatSenderProfileChangedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 노드별 캐시 무효화 이벤트를 Redis pub/sub 으로 다른 노드에 중계합니다.
+ * <p>
+ * - 발행 : 이 노드에서 커밋된 구성원 변경, 발신자 정보 변경 이벤트를 invalidationChannel 에 발행합니다.
+ * - 수신 : 다른 노드의 변경을 relayed=true 인 같은 이벤트로 다시 발행해, 이 노드의 캐시(전송 권한, 구성원 명단, 발신자 정보 등)를 정리합니다.
+ * 중계된 이벤트는 다시 발행하지 않습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "chat.relay", name = "enabled", havingValue = "true")
+public class ChatCacheInvalidationRelay implements MessageListener {
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ChatRelayProperties properties;
+	private final ApplicationEventPublisher eventPublisher;
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	public ChatCacheInvalidationRelay(
+		RedisTemplate<String, String> redisTemplate,
+		ChatRelayProperties properties,
+		ApplicationEventPublisher eventPublisher
+	) {
+		this.redisTemplate = redisTemplate;
+		this.properties = properties;
+		this.eventPublisher = eventPublisher;
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onMemberChanged(ChatRoomMemberChangedEvent event) {
+		if (event.relayed()) {
+			return;
+		}
+		publish(new ChatInvalidationEnvelope(properties.getNodeId(), ChatInvalidationEnvelope.Type.MEMBER_CHANGED,
+			event.groupId(), event.userIds()));
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProfileChanged(ChatSenderProfileChangedEvent event) {
+		if (event.relayed()) {
+			return;
+		}
+		publish(new ChatInvalidationEnvelope(properties.getNodeId(),
+			ChatInvalidationEnvelope.Type.SENDER_PROFILE_CHANGED, null, List.of(event.userId())));
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		ChatInvalidationEnvelope envelope;
+		try {
+			envelope = objectMapper.readValue(message.getBody(), ChatInvalidationEnvelope.class);
+		} catch (IOException e) {
+			log.warn("캐시 무효화 중계 메시지 해석 실패: {}", e.getMessage());
+			return;
+		}
+		if (properties.getNodeId().equals(envelope.origin())) {
+			return;
+		}
+		switch (envelope.type()) {
+			case MEMBER_CHANGED ->
+				eventPublisher.publishEvent(new ChatRoomMemberChangedEvent(envelope.groupId(), envelope.userIds(), true));
+			case SENDER_PROFILE_CHANGED -> envelope.userIds().forEach(userId ->
+				eventPublisher.publishEvent(new ChatSenderProfileChangedEvent(userId, true)));
+		}
+	}
+
+	private void publish(ChatInvalidationEnvelope envelope) {
+		try {
+			redisTemplate.convertAndSend(properties.getInvalidationChannel(), objectMapper.writeValueAsString(envelope));
+		} catch (Exception e) {
+			log.warn("캐시 무효화 중계 발행 실패: 유형: {}, 방ID: {}, 사용자: {}, 오류: {}", envelope.type(),
+				envelope.groupId(), envelope.userIds(), e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,22 @@
+package com.onmoim.server.chat.messaging.relay;
+
+import java.util.List;
+
+/**
+ * Redis 로 중계하는 캐시 무효화 메시지
+ * @param origin 발행 노드 ID
+ * @param type 무효화 대상
+ * @param groupId 구성원 변경 방 ID (발신자 정보 변경은 null)
+ * @param userIds 대상 사용자 ID
+ */
+public record ChatInvalidationEnvelope(
+	String origin,
+	Type type,
+	Long groupId,
+	List<Long> userIds
+) {
+	public enum Type {
+		MEMBER_CHANGED,
+		SENDER_PROFILE_CHANGED
+	}
+}
@@ -0,0 +1,32 @@
+package com.onmoim.server.chat.messaging.relay;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.onmoim.server.chat.common.config.ChatRelayProperties;
+
+/**
+ * 노드 간 중계 채널 구독 설정, chat.relay.enabled=true 일 때만 등록합니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "chat.relay", name = "enabled", havingValue = "true")
+public class ChatRelayConfig {
+
+	@Bean
+	public RedisMessageListenerContainer chatRelayListenerContainer(
+		RedisConnectionFactory redisConnectionFactory,
+		RedisChatBrokerRelay redisChatBrokerRelay,
+		ChatCacheInvalidationRelay chatCacheInvalidationRelay,
+		ChatRelayProperties properties
+	) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisConnectionFactory);
+		container.addMessageListener(redisChatBrokerRelay, new ChannelTopic(properties.getChannel()));
+		container.addMessageListener(chatCacheInvalidationRelay, new ChannelTopic(properties.getInvalidationChannel()));
+		return container;
+	}
+}
@@ -0,0 +1,17 @@
+package com.onmoim.server.chat.messaging.relay;
+
+import java.util.List;
+
+/**
+ * Redis 로 중계하는 메시지, 직렬화된 payload 를 그대로 전달하고 수신 노드에서 목적지마다 전송합니다.
+ * @param origin 발행 노드 ID
+ * @param dedupeKey 같은 메시지의 재전송을 걸러내기 위한 키, 없으면 null
+ */
+public record ChatRelayEnvelope(
+	String origin,
+	List<String> destinations,
+	String dedupeKey,
+	String contentType,
+	byte[] payload
+) {
+}
@@ -0,0 +1,219 @@
+package com.onmoim.server.chat.messaging.relay;
+
+import static com.onmoim.server.chat.domain.enums.SubscribeRegistry.*;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onmoim.server.chat.common.config.ChatRelayProperties;
+import com.onmoim.server.chat.domain.dto.ChatMessageDto;
+import com.onmoim.server.chat.service.ChatRecentMessageCache;
+import com.onmoim.server.chat.service.ChatRelayedMessageBuffer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SimpleBroker 를 여러 노드로 확장하기 위한 Redis pub/sub 중계
+ * <p>
+ * - 발행 : brokerChannel 인터셉터로 /topic/chat.room.* (채팅방 목록 포함) 메시지를 Redis 채널에 발행합니다.
+ * - 수신 : 다른 노드가 발행한 메시지를 자신의 brokerChannel 로 보내 로컬 구독자에게 전달합니다.
+ * 중계된 메시지와 이미 발행한 fan-out 메시지는 {@link #SKIP_RELAY_HEADER} 로 표시해 다시 발행하지 않습니다.
+ * 같은 ChatRoomMessageId 의 재전송(retry)은 최근 ID 를 기억해 한 번만 중계합니다.
+ * 다른 노드의 채팅방 메시지는 이 노드의 최근 메시지 캐시와 재연결 동기화용 버퍼에도 반영합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "chat.relay", name = "enabled", havingValue = "true")
+public class RedisChatBrokerRelay implements ChannelInterceptor, MessageListener {
+
+	/** 메시지 ID native 헤더, 값은 ChatRoomMessageId 문자열 */
+	public static final String MESSAGE_ID_HEADER = "chat-message-id";
+	/** 중계 대상에서 제외하는 헤더 (클라이언트로는 전송되지 않음) */
+	public static final String SKIP_RELAY_HEADER = "chatSkipRelay";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ChatRelayProperties properties;
+	private final SimpMessagingTemplate messagingTemplate;
+	private final ChatRecentMessageCache chatRecentMessageCache;
+	private final ChatRelayedMessageBuffer chatRelayedMessageBuffer;
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final Map<String, Boolean> recentKeys;
+
+	private final Counter publishedCounter;
+	private final Counter receivedCounter;
+	private final Counter duplicateCounter;
+
+	public RedisChatBrokerRelay(
+		RedisTemplate<String, String> redisTemplate,
+		ChatRelayProperties properties,
+		@Lazy SimpMessagingTemplate messagingTemplate,
+		ChatRecentMessageCache chatRecentMessageCache,
+		ChatRelayedMessageBuffer chatRelayedMessageBuffer,
+		MeterRegistry meterRegistry
+	) {
+		this.redisTemplate = redisTemplate;
+		this.properties = properties;
+		this.messagingTemplate = messagingTemplate;
+		this.chatRecentMessageCache = chatRecentMessageCache;
+		this.chatRelayedMessageBuffer = chatRelayedMessageBuffer;
+
+		int capacity = properties.getDedupeCapacity();
+		this.recentKeys = new LinkedHashMap<>(capacity, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+				return size() > capacity;
+			}
+		};
+
+		this.publishedCounter = Counter.builder("chat.relay.published").register(meterRegistry);
+		this.receivedCounter = Counter.builder("chat.relay.received").register(meterRegistry);
+		this.duplicateCounter = Counter.builder("chat.relay.duplicates").register(meterRegistry);
+	}
+
+	/**
+	 * brokerChannel 로 들어온 단건 메시지를 다른 노드로 발행합니다.
+	 */
+	@Override
+	public Message<?> preSend(Message<?> message, MessageChannel channel) {
+		MessageHeaders headers = message.getHeaders();
+		String destination = SimpMessageHeaderAccessor.getDestination(headers);
+		if (headers.containsKey(SKIP_RELAY_HEADER) || !isRelayTarget(destination)
+			|| !(message.getPayload() instanceof byte[] payload)) {
+			return message;
+		}
+
+		String messageId = SimpMessageHeaderAccessor.getFirstNativeHeader(MESSAGE_ID_HEADER, headers);
+		String dedupeKey = messageId != null ? destination + "|" + messageId : null;
+
+		publish(List.of(destination), payload, contentType(headers), dedupeKey);
+		return message;
+	}
+
+	/**
+	 * 직렬화된 payload 를 여러 목적지로 한 번에 발행합니다. (fan-out)
+	 */
+	public void publish(Collection<String> destinations, byte[] payload, MimeType contentType, String dedupeKey) {
+		if (dedupeKey != null && !markSeen(dedupeKey)) {
+			duplicateCounter.increment();
+			return;
+		}
+		try {
+			ChatRelayEnvelope envelope = new ChatRelayEnvelope(
+				properties.getNodeId(),
+				List.copyOf(destinations),
+				dedupeKey,
+				contentType != null ? contentType.toString() : null,
+				payload
+			);
+			redisTemplate.convertAndSend(properties.getChannel(), objectMapper.writeValueAsString(envelope));
+			publishedCounter.increment();
+		} catch (Exception e) {
+			log.warn("노드 간 메시지 중계 발행 실패: 목적지 수: {}, 키: {}, 오류: {}", destinations.size(), dedupeKey, e.getMessage());
+		}
+	}
+
+	/**
+	 * 다른 노드가 발행한 메시지를 로컬 구독자에게 전달합니다.
+	 */
+	@Override
+	public void onMessage(org.springframework.data.redis.connection.Message redisMessage, byte[] pattern) {
+		ChatRelayEnvelope envelope;
+		try {
+			envelope = objectMapper.readValue(redisMessage.getBody(), ChatRelayEnvelope.class);
+		} catch (IOException e) {
+			log.warn("노드 간 중계 메시지 해석 실패: {}", e.getMessage());
+			return;
+		}
+		if (properties.getNodeId().equals(envelope.origin())) {
+			return;
+		}
+		if (envelope.dedupeKey() != null && !markSeen(envelope.dedupeKey())) {
+			duplicateCounter.increment();
+			return;
+		}
+		receivedCounter.increment();
+
+		MimeType contentType = envelope.contentType() != null ? MimeType.valueOf(envelope.contentType()) : null;
+		for (String destination : envelope.destinations()) {
+			Message<byte[]> message = MessageBuilder.createMessage(envelope.payload(), headers(contentType));
+			try {
+				messagingTemplate.send(destination, message);
+			} catch (Exception e) {
+				log.warn("중계 메시지 전달 실패: 목적지: {}, 오류: {}", destination, e.getMessage());
+			}
+			if (isRoomMessage(destination)) {
+				appendRecentMessage(message);
+			}
+		}
+	}
+
+	private void appendRecentMessage(Message<byte[]> message) {
+		try {
+			Object converted = messagingTemplate.getMessageConverter().fromMessage(message, ChatMessageDto.class);
+			if (converted instanceof ChatMessageDto chatMessage) {
+				chatRecentMessageCache.append(chatMessage);
+				chatRelayedMessageBuffer.record(chatMessage);
+			}
+		} catch (Exception e) {
+			log.warn("중계 메시지 캐시 반영 실패: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 로컬 전송용 헤더, 다시 발행되지 않도록 표시합니다.
+	 */
+	private MessageHeaders headers(MimeType contentType) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+		accessor.setContentType(contentType);
+		accessor.setHeader(SKIP_RELAY_HEADER, Boolean.TRUE);
+		accessor.setLeaveMutable(true);
+		return accessor.getMessageHeaders();
+	}
+
+	private MimeType contentType(MessageHeaders headers) {
+		Object contentType = headers.get(MessageHeaders.CONTENT_TYPE);
+		if (contentType instanceof String value) {
+			return MimeType.valueOf(value);
+		}
+		return (MimeType)contentType;
+	}
+
+	private boolean isRoomMessage(String destination) {
+		return !destination.startsWith(CHAT_ROOM_LIST_PREFIX.getDestination());
+	}
+
+	private boolean isRelayTarget(String destination) {
+		return destination != null && destination.startsWith(CHAT_ROOM_SUBSCRIBE_PREFIX.getDestination());
+	}
+
+	/**
+	 * @return 처음 보는 키면 true
+	 */
+	private boolean markSeen(String dedupeKey) {
+		synchronized (recentKeys) {
+			return recentKeys.put(dedupeKey, Boolean.TRUE) == null;
+		}
+	}
+}
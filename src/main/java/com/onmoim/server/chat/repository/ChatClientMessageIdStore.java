@@ -0,0 +1,24 @@
+package com.onmoim.server.chat.repository;
+
+/**
+ * 채팅방별로 clientMessageId 와 처음 발급한 메시지 순번을 일정 기간 기억합니다.
+ * 키는 (roomId, senderId, clientMessageId) 입니다.
+ */
+public interface ChatClientMessageIdStore {
+
+	/**
+	 * @return 기간 안에 이미 처리한 clientMessageId 면 처음 발급한 순번, 아니면 null
+	 */
+	Long find(Long roomId, Long senderId, String clientMessageId);
+
+	/**
+	 * 처음 보는 clientMessageId 면 순번을 기록합니다.
+	 * @return 이미 기록된 순번이 있으면 그 순번, 새로 기록했으면 null
+	 */
+	Long putIfAbsent(Long roomId, Long senderId, String clientMessageId, Long sequence);
+
+	/**
+	 * 저장에 실패한 메시지의 기록을 지워 재전송을 다시 처리하도록 합니다. 순번이 같을 때만 지웁니다.
+	 */
+	void remove(Long roomId, Long senderId, String clientMessageId, Long sequence);
+}
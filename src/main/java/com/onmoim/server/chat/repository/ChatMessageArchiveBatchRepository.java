@@ -0,0 +1,98 @@
+package com.onmoim.server.chat.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.onmoim.server.chat.domain.ChatRoomMessage;
+import com.onmoim.server.chat.domain.ChatRoomMessageId;
+import com.onmoim.server.chat.domain.enums.DeliveryStatus;
+import com.onmoim.server.chat.domain.enums.MessageType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 오래된 채팅 메시지를 보관 테이블로 옮깁니다.
+ * 방마다 가장 작은 순번부터 옮기므로, 보관 테이블에는 항상 보관 순번(watermark) 이하의 메시지만 있습니다.
+ * 보관 기간은 서버가 저장한 시각(created_date)으로 판단합니다. (timestamp 는 클라이언트가 보낸 값입니다)
+ * {@link #moveAll} 은 호출하는 쪽의 트랜잭션 안에서 실행해야 합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageArchiveBatchRepository {
+
+	private static final String FIND_ROOM_IDS_SQL = "SELECT room_id FROM chat_room_last_message " +
+		"WHERE room_id > ? ORDER BY room_id LIMIT ?";
+
+	private static final String FIND_OLDEST_SQL = "SELECT room_id, message_sequence, sender_id, content, timestamp, " +
+		"type, delivery_status, created_date FROM chat_room_messages WHERE room_id = ? ORDER BY message_sequence LIMIT ?";
+
+	private static final String INSERT_ARCHIVE_SQL = "INSERT INTO chat_room_message_archive " +
+		"(room_id, message_sequence, sender_id, content, timestamp, type) VALUES (?, ?, ?, ?, ?, ?)";
+
+	private static final String DELETE_SQL = "DELETE FROM chat_room_messages " +
+		"WHERE room_id = ? AND message_sequence <= ?";
+
+	private static final String UPSERT_WATERMARK_SQL = "INSERT INTO chat_room_archive_watermark " +
+		"(room_id, archived_sequence) VALUES (?, ?) " +
+		"ON DUPLICATE KEY UPDATE archived_sequence = GREATEST(archived_sequence, VALUES(archived_sequence))";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 채팅방 ID 를 오름차순으로 limit 개 조회합니다. (afterRoomId 다음부터)
+	 */
+	public List<Long> findRoomIds(Long afterRoomId, int limit) {
+		return jdbcTemplate.queryForList(FIND_ROOM_IDS_SQL, Long.class, afterRoomId, limit);
+	}
+
+	/**
+	 * 최근 메시지 테이블에 남아 있는 가장 오래된 메시지를 순번 오름차순으로 조회합니다.
+	 */
+	public List<StoredMessage> findOldest(Long roomId, int limit) {
+		return jdbcTemplate.query(FIND_OLDEST_SQL, (rs, rowNum) -> new StoredMessage(
+			ChatRoomMessage.create(
+				ChatRoomMessageId.create(rs.getLong("room_id"), rs.getLong("message_sequence")),
+				rs.getObject("sender_id", Long.class),
+				rs.getString("content"),
+				rs.getTimestamp("timestamp").toLocalDateTime(),
+				MessageType.valueOf(rs.getString("type")),
+				rs.getString("delivery_status") != null ? DeliveryStatus.valueOf(rs.getString("delivery_status")) : null
+			),
+			rs.getTimestamp("created_date").toLocalDateTime()
+		), roomId, limit);
+	}
+
+	/**
+	 * 한 채팅방의 가장 오래된 메시지들을 보관 테이블로 옮기고 보관 순번을 갱신합니다.
+	 * 그 사이 같은 범위에 늦게 저장된 메시지가 있으면 지운 건수가 달라지므로 예외로 트랜잭션을 되돌립니다.
+	 * @param messages {@link #findOldest} 로 조회한 메시지의 앞부분 (순번 오름차순)
+	 */
+	public void moveAll(Long roomId, List<ChatRoomMessage> messages) {
+		jdbcTemplate.batchUpdate(INSERT_ARCHIVE_SQL, messages, messages.size(), (ps, message) -> {
+			ps.setLong(1, message.getId().getRoomId());
+			ps.setLong(2, message.getId().getMessageSequence());
+			ps.setObject(3, message.getSenderId());
+			ps.setString(4, message.getContent());
+			ps.setTimestamp(5, Timestamp.valueOf(message.getTimestamp()));
+			ps.setString(6, message.getType().name());
+		});
+
+		long lastSequence = messages.get(messages.size() - 1).getId().getMessageSequence();
+		int deleted = jdbcTemplate.update(DELETE_SQL, roomId, lastSequence);
+		if (deleted != messages.size()) {
+			throw new IllegalStateException("보관 대상 메시지 수가 달라졌습니다. roomId: " + roomId
+				+ ", 예상: " + messages.size() + ", 삭제: " + deleted);
+		}
+		jdbcTemplate.update(UPSERT_WATERMARK_SQL, roomId, lastSequence);
+	}
+
+	/**
+	 * @param createdDate 서버가 메시지를 저장한 시각
+	 */
+	public record StoredMessage(ChatRoomMessage message, LocalDateTime createdDate) {
+	}
+}
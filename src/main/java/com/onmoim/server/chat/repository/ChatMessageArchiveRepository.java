@@ -0,0 +1,61 @@
+package com.onmoim.server.chat.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.onmoim.server.chat.domain.ChatRoomMessageArchive;
+import com.onmoim.server.chat.domain.ChatRoomMessageId;
+import com.onmoim.server.chat.domain.dto.ChatMessageDto;
+
+/**
+ * 보관 테이블 조회, {@link ChatMessageRepository} 와 같은 모양으로 조회합니다.
+ * 직접 사용하지 않고 {@link ChatMessageHistoryRepository} 를 통해 최근 메시지를 먼저 조회한 뒤 이어서 조회합니다.
+ */
+public interface ChatMessageArchiveRepository extends JpaRepository<ChatRoomMessageArchive, ChatRoomMessageId> {
+
+	@Query("SELECT w.archivedSequence FROM ChatRoomArchiveWatermark w WHERE w.roomId = :roomId")
+	Optional<Long> findArchivedSequence(@Param("roomId") Long roomId);
+
+	@Query("SELECT new com.onmoim.server.chat.domain.dto.ChatMessageDto(" +
+		"cm.id.messageSequence, cm.id.roomId, cm.type, cm.content, " +
+		"cm.senderId, cm.timestamp) " +
+		"FROM ChatRoomMessageArchive cm " +
+		"WHERE cm.id.roomId = :roomId " +
+		"AND cm.senderId IS NOT NULL " +
+		"AND cm.id.messageSequence < :cursor " +
+		"ORDER BY cm.id.messageSequence DESC")
+	List<ChatMessageDto> findByRoomIdBeforeCursor(
+		@Param("roomId") Long roomId,
+		@Param("cursor") Long cursor,
+		Pageable pageable);
+
+	@Query("SELECT new com.onmoim.server.chat.domain.dto.ChatMessageDto(" +
+		"cm.id.messageSequence, cm.id.roomId, cm.type, cm.content, " +
+		"cm.senderId, cm.timestamp) " +
+		"FROM ChatRoomMessageArchive cm " +
+		"WHERE cm.id.roomId = :roomId " +
+		"AND cm.senderId IS NOT NULL " +
+		"AND cm.id.messageSequence > :cursor " +
+		"ORDER BY cm.id.messageSequence ASC")
+	List<ChatMessageDto> findByRoomIdAfterCursor(
+		@Param("roomId") Long roomId,
+		@Param("cursor") Long cursor,
+		Pageable pageable);
+
+	@Query("SELECT new com.onmoim.server.chat.domain.dto.ChatMessageDto(" +
+		"cm.id.messageSequence, cm.id.roomId, cm.type, cm.content, " +
+		"cm.senderId, cm.timestamp) " +
+		"FROM ChatRoomMessageArchive cm " +
+		"WHERE cm.id.roomId = :roomId " +
+		"AND cm.senderId IS NOT NULL " +
+		"AND cm.id.messageSequence IN :sequences")
+	List<ChatMessageDto> findByRoomIdAndSequences(
+		@Param("roomId") Long roomId,
+		@Param("sequences") Collection<Long> sequences);
+}
@@ -0,0 +1,128 @@
+package com.onmoim.server.chat.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.onmoim.server.chat.domain.ChatRoomLastMessage;
+import com.onmoim.server.chat.domain.ChatRoomMessage;
+import com.onmoim.server.chat.domain.ChatRoomMessageId;
+import com.onmoim.server.chat.domain.enums.DeliveryStatus;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 채팅 메시지를 JDBC batch 로 저장합니다.
+ * JPA save 는 메시지마다 INSERT 를 실행하므로, 여러 메시지를 한 번에 저장하는 경로는 JdbcTemplate 을 사용합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageBatchRepository {
+
+	private static final String INSERT_SQL = "INSERT INTO chat_room_messages " +
+		"(room_id, message_sequence, sender_id, content, timestamp, type, delivery_status, created_date, modified_date) " +
+		"VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+	private static final String UPDATE_STATUS_SQL = "UPDATE chat_room_messages SET delivery_status = ?, modified_date = ? " +
+		"WHERE room_id = ? AND message_sequence = ?";
+
+	/**
+	 * 더 큰 순번일 때만 갱신합니다. last_sequence 는 비교에 쓰이므로 마지막에 갱신합니다.
+	 * IF() 대신 CASE 를 사용해 부하 테스트의 H2(MySQL 모드)에서도 같은 SQL 로 실행됩니다.
+	 */
+	private static final String UPSERT_LAST_MESSAGE_SQL = "INSERT INTO chat_room_last_message " +
+		"(room_id, last_sequence, message_count, last_message_time, sender_id, type, preview) " +
+		"VALUES (?, ?, ?, ?, ?, ?, ?) " +
+		"ON DUPLICATE KEY UPDATE " +
+		"message_count = message_count + VALUES(message_count), " +
+		"last_message_time = " + ifNewer("last_message_time") + ", " +
+		"sender_id = " + ifNewer("sender_id") + ", " +
+		"type = " + ifNewer("type") + ", " +
+		"preview = " + ifNewer("preview") + ", " +
+		"last_sequence = GREATEST(last_sequence, VALUES(last_sequence))";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public void insertAll(List<ChatRoomMessage> messages) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		jdbcTemplate.batchUpdate(INSERT_SQL, messages, messages.size(), (ps, message) -> {
+			ps.setLong(1, message.getId().getRoomId());
+			ps.setLong(2, message.getId().getMessageSequence());
+			ps.setObject(3, message.getSenderId());
+			ps.setString(4, message.getContent());
+			ps.setTimestamp(5, Timestamp.valueOf(message.getTimestamp()));
+			ps.setString(6, message.getType().name());
+			ps.setString(7, message.getDeliveryStatus().name());
+			ps.setTimestamp(8, now);
+			ps.setTimestamp(9, now);
+		});
+	}
+
+	/**
+	 * 방마다 가장 큰 순번의 메시지로 채팅방 마지막 메시지를 갱신하고, 저장한 메시지 수만큼 message_count 를 늘립니다.
+	 * insertAll 과 같은 트랜잭션에서 호출해야 메시지 수가 실제 행 수와 맞습니다.
+	 */
+	public void upsertLastMessages(List<ChatRoomMessage> messages) {
+		Map<Long, ChatRoomMessage> latest = new HashMap<>();
+		Map<Long, Long> counts = new HashMap<>();
+		for (ChatRoomMessage message : messages) {
+			latest.merge(message.getId().getRoomId(), message, (current, candidate) ->
+				candidate.getId().getMessageSequence() > current.getId().getMessageSequence() ? candidate : current);
+			counts.merge(message.getId().getRoomId(), 1L, Long::sum);
+		}
+		List<ChatRoomMessage> rows = new ArrayList<>(latest.values());
+
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		jdbcTemplate.batchUpdate(UPSERT_LAST_MESSAGE_SQL, rows, rows.size(), (ps, message) -> {
+			ps.setLong(1, message.getId().getRoomId());
+			ps.setLong(2, message.getId().getMessageSequence());
+			ps.setLong(3, counts.get(message.getId().getRoomId()));
+			ps.setTimestamp(4, now);
+			ps.setObject(5, message.getSenderId());
+			ps.setString(6, message.getType().name());
+			ps.setString(7, ChatRoomLastMessage.preview(message.getContent()));
+		});
+	}
+
+	/**
+	 * 메시지별 현재 deliveryStatus 로 갱신합니다.
+	 */
+	public void updateDeliveryStatuses(List<ChatRoomMessage> messages) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		jdbcTemplate.batchUpdate(UPDATE_STATUS_SQL, messages, messages.size(), (ps, message) -> {
+			ps.setString(1, message.getDeliveryStatus().name());
+			ps.setTimestamp(2, now);
+			ps.setLong(3, message.getId().getRoomId());
+			ps.setLong(4, message.getId().getMessageSequence());
+		});
+	}
+
+	/**
+	 * 여러 메시지의 상태를 한 번의 UPDATE 로 변경합니다.
+	 * WHERE (room_id, message_sequence) IN ((?, ?), ...) 로 기본키를 그대로 사용합니다.
+	 */
+	public int updateDeliveryStatus(DeliveryStatus status, List<ChatRoomMessageId> messageIds) {
+		String sql = "UPDATE chat_room_messages SET delivery_status = ?, modified_date = ? " +
+			"WHERE (room_id, message_sequence) IN (" + String.join(", ", Collections.nCopies(messageIds.size(), "(?, ?)")) + ")";
+
+		List<Object> args = new ArrayList<>(messageIds.size() * 2 + 2);
+		args.add(status.name());
+		args.add(Timestamp.valueOf(LocalDateTime.now()));
+		for (ChatRoomMessageId messageId : messageIds) {
+			args.add(messageId.getRoomId());
+			args.add(messageId.getMessageSequence());
+		}
+		return jdbcTemplate.update(sql, args.toArray());
+	}
+
+	private static String ifNewer(String column) {
+		return "CASE WHEN VALUES(last_sequence) > last_sequence THEN VALUES(" + column + ") ELSE " + column + " END";
+	}
+}
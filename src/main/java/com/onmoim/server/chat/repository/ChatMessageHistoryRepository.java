@@ -0,0 +1,116 @@
+package com.onmoim.server.chat.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import com.onmoim.server.chat.domain.dto.ChatMessageDto;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 채팅 메시지 이력 조회, 최근 메시지(chat_room_messages)를 먼저 조회하고 부족하면 보관 테이블로 이어서 조회합니다.
+ * <p>
+ * 방마다 보관 순번(watermark) 이하는 보관 테이블에만, 초과는 최근 메시지 테이블에만 있습니다.
+ * 최근 메시지를 먼저 조회한 뒤 보관 순번을 읽으므로, 그 사이 옮겨진 메시지도 둘 중 한 곳에서 조회됩니다.
+ * 보관한 적이 없거나 커서가 보관 순번보다 뒤면 보관 테이블은 조회하지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageHistoryRepository {
+
+	private final ChatMessageRepository chatMessageRepository;
+	private final ChatMessageArchiveRepository chatMessageArchiveRepository;
+
+	/**
+	 * 최신 메시지를 순번 내림차순으로 조회합니다.
+	 */
+	public List<ChatMessageDto> findTop100ByRoomId(Long roomId, Pageable pageable) {
+		return fallThroughBefore(roomId, Long.MAX_VALUE, chatMessageRepository.findTop100ByRoomId(roomId, pageable),
+			pageable);
+	}
+
+	/**
+	 * cursor 이전 메시지를 순번 내림차순으로 조회합니다.
+	 */
+	public List<ChatMessageDto> findTop100ByRoomIdBeforeCursor(Long roomId, Long cursor, Pageable pageable) {
+		return fallThroughBefore(roomId, cursor,
+			chatMessageRepository.findTop100ByRoomIdBeforeCursor(roomId, cursor, pageable), pageable);
+	}
+
+	/**
+	 * cursor 이후 메시지를 순번 오름차순으로 조회합니다.
+	 */
+	public List<ChatMessageDto> findByRoomIdAfterCursor(Long roomId, Long cursor, Pageable pageable) {
+		List<ChatMessageDto> hot = chatMessageRepository.findByRoomIdAfterCursor(roomId, cursor, pageable);
+		Long archivedSequence = archivedSequence(roomId);
+		if (archivedSequence <= cursor) {
+			return hot;
+		}
+
+		// 옮기는 중인 메시지는 양쪽에서 조회될 수 있으므로 순번으로 합칩니다.
+		TreeMap<Long, ChatMessageDto> merged = new TreeMap<>();
+		chatMessageArchiveRepository.findByRoomIdAfterCursor(roomId, cursor, pageable)
+			.forEach(message -> merged.put(message.getMessageSequence(), message));
+		hot.forEach(message -> merged.putIfAbsent(message.getMessageSequence(), message));
+		return merged.values().stream().limit(pageable.getPageSize()).toList();
+	}
+
+	/**
+	 * after 초과 upTo 이하 최근 메시지를 순번 오름차순으로 조회합니다.
+	 * 늦게 커밋된 메시지를 찾는 용도라 보관 테이블은 조회하지 않습니다.
+	 */
+	public List<ChatMessageDto> findRecentByRoomIdBetween(Long roomId, Long after, Long upTo, Pageable pageable) {
+		return chatMessageRepository.findByRoomIdBetween(roomId, after, upTo, pageable);
+	}
+
+	/**
+	 * 순번 목록의 메시지를 조회합니다. 순서는 보장하지 않습니다.
+	 */
+	public List<ChatMessageDto> findByRoomIdAndSequences(Long roomId, Collection<Long> sequences) {
+		List<ChatMessageDto> found = new ArrayList<>(chatMessageRepository.findByRoomIdAndSequences(roomId, sequences));
+		Set<Long> missing = new HashSet<>(sequences);
+		found.forEach(message -> missing.remove(message.getMessageSequence()));
+
+		Long archivedSequence = archivedSequence(roomId);
+		missing.removeIf(sequence -> sequence > archivedSequence);
+		if (!missing.isEmpty()) {
+			found.addAll(chatMessageArchiveRepository.findByRoomIdAndSequences(roomId, missing));
+		}
+		return found;
+	}
+
+	/**
+	 * 최근 메시지가 한 페이지보다 적으면, 가장 오래된 최근 메시지 이전을 보관 테이블에서 채웁니다.
+	 */
+	private List<ChatMessageDto> fallThroughBefore(Long roomId, Long cursor, List<ChatMessageDto> hot,
+		Pageable pageable) {
+		if (hot.size() >= pageable.getPageSize()) {
+			return hot;
+		}
+		Long archivedSequence = archivedSequence(roomId);
+		if (archivedSequence == 0) {
+			return hot;
+		}
+
+		long archiveCursor = hot.isEmpty() ? cursor : Math.min(cursor, hot.get(hot.size() - 1).getMessageSequence());
+		List<ChatMessageDto> merged = new ArrayList<>(hot);
+		merged.addAll(chatMessageArchiveRepository.findByRoomIdBeforeCursor(
+			roomId, archiveCursor, PageRequest.of(0, pageable.getPageSize() - hot.size())));
+		return merged;
+	}
+
+	/**
+	 * @return 보관 테이블로 옮긴 마지막 순번, 없으면 0
+	 */
+	private Long archivedSequence(Long roomId) {
+		return chatMessageArchiveRepository.findArchivedSequence(roomId).orElse(0L);
+	}
+}
@@ -1,5 +1,6 @@
 package com.onmoim.server.chat.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.domain.Pageable;
@@ -9,33 +10,90 @@ import org.springframework.data.jpa.repository.Query;
 import com.onmoim.server.chat.domain.ChatRoomMessage;
 import com.onmoim.server.chat.domain.ChatRoomMessageId;
 import com.onmoim.server.chat.domain.dto.ChatMessageDto;
+import com.onmoim.server.chat.domain.dto.ChatSenderProfile;
 
 import io.lettuce.core.dynamic.annotation.Param;
 
+/**
+ * 메시지 이력 조회는 User 를 JOIN 하지 않습니다. 발신자 정보는 ChatSenderProfileCache 에서 채웁니다.
+ * 발신자가 없는 시스템 메시지는 이력에 포함하지 않습니다.
+ */
 public interface ChatMessageRepository extends JpaRepository<ChatRoomMessage, ChatRoomMessageId> {
 	@Query("SELECT new com.onmoim.server.chat.domain.dto.ChatMessageDto(" +
 		"cm.id.messageSequence, cm.id.roomId, cm.type, cm.content, " +
-		"cm.senderId, cm.timestamp, " +
-		"u.id, u.name, u.profileImgUrl) " +
+		"cm.senderId, cm.timestamp) " +
 		"FROM ChatRoomMessage cm " +
-		"JOIN User u ON cm.senderId = u.id " +
 		"WHERE cm.id.roomId = :roomId " +
+		"AND cm.senderId IS NOT NULL " +
 		"AND cm.id.messageSequence < :cursor " +
 		"ORDER BY cm.id.messageSequence DESC")
-	List<ChatMessageDto> findTop100ByRoomIdWithUserBeforeCursor(
+	List<ChatMessageDto> findTop100ByRoomIdBeforeCursor(
 		@Param("roomId") Long roomId,
 		@Param("cursor") Long cursor,
 		Pageable pageable);
 
 	@Query("SELECT new com.onmoim.server.chat.domain.dto.ChatMessageDto(" +
 		"cm.id.messageSequence, cm.id.roomId, cm.type, cm.content, " +
-		"cm.senderId, cm.timestamp, " +
-		"u.id, u.name, u.profileImgUrl) " +
+		"cm.senderId, cm.timestamp) " +
 		"FROM ChatRoomMessage cm " +
-		"JOIN User u ON cm.senderId = u.id " +
 		"WHERE cm.id.roomId = :roomId " +
+		"AND cm.senderId IS NOT NULL " +
 		"ORDER BY cm.id.messageSequence DESC")
-	List<ChatMessageDto> findTop100ByRoomIdWithUser(
+	List<ChatMessageDto> findTop100ByRoomId(
 		@Param("roomId") Long roomId,
 		Pageable pageable);
+
+	/**
+	 * 재연결 동기화: cursor 이후 메시지를 순번 오름차순으로, 기본키 (room_id, message_sequence) 범위 조회
+	 */
+	@Query("SELECT new com.onmoim.server.chat.domain.dto.ChatMessageDto(" +
+		"cm.id.messageSequence, cm.id.roomId, cm.type, cm.content, " +
+		"cm.senderId, cm.timestamp) " +
+		"FROM ChatRoomMessage cm " +
+		"WHERE cm.id.roomId = :roomId " +
+		"AND cm.senderId IS NOT NULL " +
+		"AND cm.id.messageSequence > :cursor " +
+		"ORDER BY cm.id.messageSequence ASC")
+	List<ChatMessageDto> findByRoomIdAfterCursor(
+		@Param("roomId") Long roomId,
+		@Param("cursor") Long cursor,
+		Pageable pageable);
+
+	/**
+	 * 검색 색인 빈 순번 확인: after 초과 upTo 이하 메시지를 순번 오름차순으로, 기본키 범위 조회
+	 */
+	@Query("SELECT new com.onmoim.server.chat.domain.dto.ChatMessageDto(" +
+		"cm.id.messageSequence, cm.id.roomId, cm.type, cm.content, " +
+		"cm.senderId, cm.timestamp) " +
+		"FROM ChatRoomMessage cm " +
+		"WHERE cm.id.roomId = :roomId " +
+		"AND cm.senderId IS NOT NULL " +
+		"AND cm.id.messageSequence > :after " +
+		"AND cm.id.messageSequence <= :upTo " +
+		"ORDER BY cm.id.messageSequence ASC")
+	List<ChatMessageDto> findByRoomIdBetween(
+		@Param("roomId") Long roomId,
+		@Param("after") Long after,
+		@Param("upTo") Long upTo,
+		Pageable pageable);
+
+	/**
+	 * 검색 후보 확인: 기본키 (room_id, message_sequence) 로 본문을 조회합니다.
+	 */
+	@Query("SELECT new com.onmoim.server.chat.domain.dto.ChatMessageDto(" +
+		"cm.id.messageSequence, cm.id.roomId, cm.type, cm.content, " +
+		"cm.senderId, cm.timestamp) " +
+		"FROM ChatRoomMessage cm " +
+		"WHERE cm.id.roomId = :roomId " +
+		"AND cm.senderId IS NOT NULL " +
+		"AND cm.id.messageSequence IN :sequences")
+	List<ChatMessageDto> findByRoomIdAndSequences(
+		@Param("roomId") Long roomId,
+		@Param("sequences") Collection<Long> sequences);
+
+	@Query("SELECT new com.onmoim.server.chat.domain.dto.ChatSenderProfile(" +
+		"u.id, u.name, u.profileImgUrl, u.deletedDate) " +
+		"FROM User u " +
+		"WHERE u.id IN :userIds")
+	List<ChatSenderProfile> findSenderProfiles(@Param("userIds") Collection<Long> userIds);
 }
@@ -0,0 +1,139 @@
+package com.onmoim.server.chat.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.onmoim.server.chat.domain.ChatReadCursor;
+import com.onmoim.server.chat.domain.ChatReadCursorId;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 채팅 읽음 위치를 JDBC batch 로 저장합니다.
+ * 읽음 위치는 뒤로 가지 않으므로 항상 더 큰 순번만 반영합니다.
+ * 마지막 메시지까지 읽은 위치는 그때의 채팅방 메시지 수(read_message_count)를 함께 기록합니다. {@link ChatReadCursor}
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatReadCursorRepository {
+
+	private static final String JOINED_STATUSES = "('OWNER', 'MEMBER')";
+
+	/**
+	 * last_read_sequence 는 비교에 쓰이므로 마지막에 갱신합니다.
+	 */
+	private static final String UPSERT_SQL = "INSERT INTO chat_read_cursor " +
+		"(room_id, user_id, last_read_sequence, read_message_count, modified_date) VALUES (?, ?, ?, ?, ?) " +
+		"ON DUPLICATE KEY UPDATE " +
+		"modified_date = CASE WHEN VALUES(last_read_sequence) > last_read_sequence " +
+		"THEN VALUES(modified_date) ELSE modified_date END, " +
+		"read_message_count = GREATEST(read_message_count, VALUES(read_message_count)), " +
+		"last_read_sequence = GREATEST(last_read_sequence, VALUES(last_read_sequence))";
+
+	private static final String FIND_LAST_MESSAGES_SQL = "SELECT room_id, last_sequence, message_count " +
+		"FROM chat_room_last_message WHERE room_id IN ";
+
+	/**
+	 * 읽음 위치가 없는 참여자를 채팅방 마지막 순번으로 채웁니다. (이전 메시지는 읽은 것으로 봅니다)
+	 */
+	private static final String INSERT_MISSING_SQL = "INSERT IGNORE INTO chat_read_cursor " +
+		"(room_id, user_id, last_read_sequence, read_message_count, modified_date) " +
+		"SELECT gu.group_id, gu.user_id, COALESCE(l.last_sequence, 0), COALESCE(l.message_count, 0), NOW() " +
+		"FROM group_user gu " +
+		"LEFT JOIN chat_room_last_message l ON l.room_id = gu.group_id " +
+		"LEFT JOIN chat_read_cursor c ON c.room_id = gu.group_id AND c.user_id = gu.user_id " +
+		"WHERE gu.status IN " + JOINED_STATUSES + " AND c.user_id IS NULL";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 채팅방 마지막 메시지를 기본키 IN 조회 한 번으로 읽어, 마지막 순번까지 읽은 위치에만 메시지 수를 기록합니다.
+	 * 중간까지만 읽은 위치는 0 으로 보내 기존 값을 유지합니다. (안 읽은 수가 실제보다 적게 보이지 않도록)
+	 */
+	public void upsertAll(Map<ChatReadCursorId, Long> cursors) {
+		Map<Long, LastMessage> lastMessages = findLastMessages(
+			cursors.keySet().stream().map(ChatReadCursorId::getRoomId).distinct().toList());
+
+		List<Map.Entry<ChatReadCursorId, Long>> rows = new ArrayList<>(cursors.entrySet());
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		jdbcTemplate.batchUpdate(UPSERT_SQL, rows, rows.size(), (ps, row) -> {
+			LastMessage lastMessage = lastMessages.get(row.getKey().getRoomId());
+			boolean caughtUp = lastMessage != null && row.getValue() >= lastMessage.lastSequence();
+			ps.setLong(1, row.getKey().getRoomId());
+			ps.setLong(2, row.getKey().getUserId());
+			ps.setLong(3, row.getValue());
+			ps.setLong(4, caughtUp ? lastMessage.messageCount() : 0L);
+			ps.setTimestamp(5, now);
+		});
+	}
+
+	private Map<Long, LastMessage> findLastMessages(List<Long> roomIds) {
+		Map<Long, LastMessage> lastMessages = new HashMap<>();
+		if (roomIds.isEmpty()) {
+			return lastMessages;
+		}
+		jdbcTemplate.query(
+			FIND_LAST_MESSAGES_SQL + "(" + String.join(", ", Collections.nCopies(roomIds.size(), "?")) + ")",
+			rs -> {
+				lastMessages.put(rs.getLong("room_id"),
+					new LastMessage(rs.getLong("last_sequence"), rs.getLong("message_count")));
+			},
+			roomIds.toArray());
+		return lastMessages;
+	}
+
+	/**
+	 * 구성원이 바뀐 사용자의 읽음 위치를 정리합니다.
+	 * - 참여 중이 아니면 삭제합니다. (재가입 시 이전 위치부터 세지 않도록)
+	 * - 참여 중인데 없으면 현재 마지막 순번으로 만듭니다.
+	 */
+	public void resetMembers(Long roomId, Collection<Long> userIds) {
+		String placeholders = String.join(", ", Collections.nCopies(userIds.size(), "?"));
+		List<Object> args = new ArrayList<>(userIds.size() + 1);
+		args.add(roomId);
+		args.addAll(userIds);
+
+		jdbcTemplate.update("DELETE c FROM chat_read_cursor c " +
+			"LEFT JOIN group_user gu ON gu.group_id = c.room_id AND gu.user_id = c.user_id " +
+			"AND gu.status IN " + JOINED_STATUSES + " " +
+			"WHERE c.room_id = ? AND c.user_id IN (" + placeholders + ") AND gu.user_id IS NULL", args.toArray());
+
+		jdbcTemplate.update(INSERT_MISSING_SQL + " AND gu.group_id = ? AND gu.user_id IN (" + placeholders + ")",
+			args.toArray());
+	}
+
+	/**
+	 * 채팅방 참여자별 저장된 읽음 위치 (userId -> 순번), 읽음 위치가 없으면 0
+	 */
+	public Map<Long, Long> findRoomCursors(Long roomId) {
+		Map<Long, Long> cursors = new HashMap<>();
+		jdbcTemplate.query("SELECT gu.user_id, COALESCE(c.last_read_sequence, 0) AS last_read_sequence " +
+				"FROM group_user gu " +
+				"LEFT JOIN chat_read_cursor c ON c.room_id = gu.group_id AND c.user_id = gu.user_id " +
+				"WHERE gu.group_id = ? AND gu.status IN " + JOINED_STATUSES,
+			rs -> {
+				cursors.put(rs.getLong("user_id"), rs.getLong("last_read_sequence"));
+			},
+			roomId);
+		return cursors;
+	}
+
+	/**
+	 * 읽음 위치 도입 이전의 참여자를 채웁니다.
+	 */
+	public int backfillMissing() {
+		return jdbcTemplate.update(INSERT_MISSING_SQL);
+	}
+
+	private record LastMessage(long lastSequence, long messageCount) {
+	}
+}
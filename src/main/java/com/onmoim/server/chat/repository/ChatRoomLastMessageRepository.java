@@ -0,0 +1,26 @@
+package com.onmoim.server.chat.repository;
+
+import com.onmoim.server.chat.domain.ChatRoomLastMessage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface ChatRoomLastMessageRepository extends JpaRepository<ChatRoomLastMessage, Long> {
+
+	/**
+	 * read model 이 없는 채팅방을 메시지 테이블에서 채웁니다. (도입 이전 메시지)
+	 * 방마다 최대 message_sequence 는 기본키 (room_id, message_sequence) 로 찾습니다.
+	 * message_count 는 0 부터 셉니다. (읽음 위치의 read_message_count 와 같은 기준)
+	 */
+	@Modifying
+	@Query(value = "INSERT IGNORE INTO chat_room_last_message " +
+		"(room_id, last_sequence, message_count, last_message_time, sender_id, type, preview) " +
+		"SELECT m.room_id, m.message_sequence, 0, m.created_date, m.sender_id, m.type, LEFT(m.content, " +
+		ChatRoomLastMessage.PREVIEW_LENGTH + ") " +
+		"FROM chat_room_messages m " +
+		"JOIN (SELECT room_id, MAX(message_sequence) AS max_sequence FROM chat_room_messages GROUP BY room_id) latest " +
+		"ON latest.room_id = m.room_id AND latest.max_sequence = m.message_sequence " +
+		"LEFT JOIN chat_room_last_message l ON l.room_id = m.room_id " +
+		"WHERE l.room_id IS NULL", nativeQuery = true)
+	int backfillMissing();
+}
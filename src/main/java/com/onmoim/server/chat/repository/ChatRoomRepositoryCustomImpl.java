@@ -1,6 +1,8 @@
 package com.onmoim.server.chat.repository;
 
 import static com.onmoim.server.category.entity.QCategory.*;
+import static com.onmoim.server.chat.domain.QChatReadCursor.*;
+import static com.onmoim.server.chat.domain.QChatRoomLastMessage.*;
 import static com.onmoim.server.group.entity.QGroup.*;
 import static com.onmoim.server.group.entity.QGroupLike.*;
 import static com.onmoim.server.group.entity.QGroupUser.*;
@@ -9,21 +11,18 @@ import static com.onmoim.server.location.entity.QLocation.*;
 import java.time.LocalDateTime;
 import java.util.List;
 
-import com.onmoim.server.chat.domain.QChatRoomMessage;
 import com.onmoim.server.chat.domain.dto.ChatMessageDto;
 import com.onmoim.server.chat.domain.dto.ChatRoomSummeryDto;
 import com.onmoim.server.group.entity.GroupLikeStatus;
 import com.onmoim.server.group.entity.QGroupUser;
 import com.onmoim.server.group.entity.Status;
 import com.onmoim.server.meeting.entity.QMeeting;
-import com.onmoim.server.user.entity.QUser;  // 가정: 유저 엔티티 Q클래스
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.CaseBuilder;
-import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
@@ -33,38 +32,27 @@ import lombok.RequiredArgsConstructor;
 public class ChatRoomRepositoryCustomImpl implements ChatRoomRepositoryCustom {
 	private final JPAQueryFactory queryFactory;
 
+	/**
+	 * 참여 중인 채팅방 목록, 마지막 메시지 시간 내림차순 (메시지가 없는 방은 마지막)
+	 * 마지막 메시지는 chat_room_last_message 의 기본키로 조인하고, 발신자 정보는 서비스에서 캐시로 채웁니다.
+	 * 읽음 위치는 chat_read_cursor 기본키로 조인하고, 안 읽은 메시지 수는 채팅방 메시지 수 - 읽음 위치에 기록한 메시지 수입니다.
+	 * (순번은 블록 할당/중복 전송으로 건너뛸 수 있어 마지막 순번 - 읽음 위치는 실제 메시지 수가 아닙니다)
+	 * 반영 대기 중인 읽음 위치는 서비스에서 함께 봅니다.
+	 */
 	public List<ChatRoomSummeryDto> findJoinedGroupList(Long userId, LocalDateTime cursorTime, String cursorGroupName, int size) {
 
 		QGroupUser groupUserSub = new QGroupUser("groupUserSub");
 		QMeeting meetingSub = new QMeeting("meetingSub");
-		QChatRoomMessage chatMessageSub = new QChatRoomMessage("chatMessageSub");
-		QUser sender = new QUser("sender");  // 유저 정보 조인용 별칭
 
 		BooleanBuilder where = new BooleanBuilder();
 		where.and(groupUser.user.id.eq(userId));
 		where.and(groupUser.status.in(Status.OWNER, Status.MEMBER));
 
-		// 마지막 메시지 생성 시간 서브쿼리
-		Expression<LocalDateTime> lastMsgTimeExpr = JPAExpressions
-			.select(chatMessageSub.createdDate)
-			.from(chatMessageSub)
-			.where(
-				chatMessageSub.id.roomId.eq(group.id),
-				chatMessageSub.id.messageSequence.eq(
-					JPAExpressions.select(chatMessageSub.id.messageSequence.max())
-						.from(chatMessageSub)
-						.where(chatMessageSub.id.roomId.eq(group.id))
-				)
-			);
-
 		// 커서 페이징 조건 (lastMsgTime < cursorTime) OR (lastMsgTime = cursorTime AND groupName > cursorGroupName)
 		if (cursorTime != null && cursorGroupName != null) {
 			where.and(
-				Expressions.booleanTemplate(
-					"({0} < {1}) OR ({0} = {1} AND {2} > {3})",
-					lastMsgTimeExpr, cursorTime,
-					group.name, cursorGroupName
-				)
+				chatRoomLastMessage.lastMessageTime.lt(cursorTime)
+					.or(chatRoomLastMessage.lastMessageTime.eq(cursorTime).and(group.name.gt(cursorGroupName)))
 			);
 		}
 
@@ -86,24 +74,21 @@ public class ChatRoomRepositoryCustomImpl implements ChatRoomRepositoryCustom {
 				meetingSub.startAt.gt(LocalDateTime.now())
 			);
 
-		// 마지막 메시지 전체 정보 프로젝션
+		// 마지막 메시지 프로젝션 (발신자 정보 제외)
 		Expression<ChatMessageDto> lastMessageDtoExpr = Projections.constructor(
 			ChatMessageDto.class,
-			chatMessageSub.id.messageSequence,
-			chatMessageSub.id.roomId,
-			chatMessageSub.type,
-			chatMessageSub.content,
-			chatMessageSub.senderId,
-			chatMessageSub.createdDate,
-			sender.id,
-			sender.name,
-			sender.profileImgUrl
+			chatRoomLastMessage.lastSequence,
+			chatRoomLastMessage.roomId,
+			chatRoomLastMessage.type,
+			chatRoomLastMessage.preview,
+			chatRoomLastMessage.senderId,
+			chatRoomLastMessage.lastMessageTime
 		);
 
 		// 정렬 기준: 마지막 메시지 시간 DESC nullsLast + 그룹 이름 ASC
 		OrderSpecifier<LocalDateTime> lastMsgOrder = new OrderSpecifier<>(
 			Order.DESC,
-			lastMsgTimeExpr,
+			chatRoomLastMessage.lastMessageTime,
 			OrderSpecifier.NullHandling.NullsLast
 		);
 		OrderSpecifier<String> groupNameOrder = new OrderSpecifier<>(
@@ -126,7 +111,9 @@ public class ChatRoomRepositoryCustomImpl implements ChatRoomRepositoryCustom {
 				lastMessageDtoExpr,
 				location.dong,
 				memberCountExpr,
-				upcomingMeetingCountExpr
+				upcomingMeetingCountExpr,
+				chatReadCursor.lastReadSequence.coalesce(0L),
+				chatRoomLastMessage.messageCount.coalesce(0L).subtract(chatReadCursor.readMessageCount.coalesce(0L))
 			))
 			.from(groupUser)
 			.leftJoin(groupUser.group, group)
@@ -136,17 +123,13 @@ public class ChatRoomRepositoryCustomImpl implements ChatRoomRepositoryCustom {
 				groupLike.user.eq(groupUser.user),
 				groupLike.group.eq(groupUser.group)
 			)
-			// 마지막 메시지 조인 (서브쿼리 기반으로 최대 messageSequence 일치 조건)
-			.leftJoin(chatMessageSub).on(
-				chatMessageSub.id.roomId.eq(group.id)
-					.and(chatMessageSub.id.messageSequence.eq(
-						JPAExpressions.select(chatMessageSub.id.messageSequence.max())
-							.from(chatMessageSub)
-							.where(chatMessageSub.id.roomId.eq(group.id))
-					))
+			// 마지막 메시지 조인 (read model 기본키)
+			.leftJoin(chatRoomLastMessage).on(chatRoomLastMessage.roomId.eq(group.id))
+			// 읽음 위치 조인 (기본키)
+			.leftJoin(chatReadCursor).on(
+				chatReadCursor.id.roomId.eq(group.id),
+				chatReadCursor.id.userId.eq(userId)
 			)
-			// 발신자 유저 정보 조인
-			.leftJoin(sender).on(chatMessageSub.senderId.eq(sender.id))
 			.where(where)
 			.orderBy(lastMsgOrder, groupNameOrder)
 			.limit(size + 1)
@@ -155,20 +138,14 @@ public class ChatRoomRepositoryCustomImpl implements ChatRoomRepositoryCustom {
 		return result;
 	}
 
+	/**
+	 * 채팅방 마지막 메시지 시간, 기본키 조회
+	 */
 	public LocalDateTime getLastMessageTime(Long groupId) {
-		QChatRoomMessage chatMessage = new QChatRoomMessage("chatMessage");
-
 		return queryFactory
-			.select(chatMessage.createdDate)
-			.from(chatMessage)
-			.where(
-				chatMessage.id.roomId.eq(groupId),
-				chatMessage.id.messageSequence.eq(
-					JPAExpressions.select(chatMessage.id.messageSequence.max())
-						.from(chatMessage)
-						.where(chatMessage.id.roomId.eq(groupId))
-				)
-			)
+			.select(chatRoomLastMessage.lastMessageTime)
+			.from(chatRoomLastMessage)
+			.where(chatRoomLastMessage.roomId.eq(groupId))
 			.fetchOne();
 	}
 }
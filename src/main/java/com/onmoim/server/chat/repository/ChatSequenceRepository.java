@@ -2,6 +2,32 @@ package com.onmoim.server.chat.repository;
 
 import com.onmoim.server.chat.domain.ChatSequence;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ChatSequenceRepository extends JpaRepository<ChatSequence, Long> {
+
+	/**
+	 * 시퀀스 high-water-mark 기록, 기존 값보다 작은 값으로는 갱신하지 않습니다.
+	 */
+	@Modifying
+	@Query(value = "INSERT INTO chat_sequence (room_id, current_sequence, created_date, modified_date) " +
+		"VALUES (:roomId, :sequence, NOW(), NOW()) " +
+		"ON DUPLICATE KEY UPDATE current_sequence = GREATEST(current_sequence, VALUES(current_sequence)), " +
+		"modified_date = NOW()", nativeQuery = true)
+	int upsertHighWaterMark(@Param("roomId") Long roomId, @Param("sequence") Long sequence);
+
+	/**
+	 * 시퀀스 구간 예약, 한 번의 원자적 UPDATE 로 blockSize 만큼 증가시킵니다. (행이 없으면 생성)
+	 */
+	@Modifying
+	@Query(value = "INSERT INTO chat_sequence (room_id, current_sequence, created_date, modified_date) " +
+		"VALUES (:roomId, :blockSize, NOW(), NOW()) " +
+		"ON DUPLICATE KEY UPDATE current_sequence = current_sequence + VALUES(current_sequence), " +
+		"modified_date = NOW()", nativeQuery = true)
+	int increaseSequence(@Param("roomId") Long roomId, @Param("blockSize") Long blockSize);
+
+	@Query(value = "SELECT current_sequence FROM chat_sequence WHERE room_id = :roomId", nativeQuery = true)
+	Long findCurrentSequenceValue(@Param("roomId") Long roomId);
 }
@@ -0,0 +1,43 @@
+package com.onmoim.server.chat.repository;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.onmoim.server.chat.domain.ChatSequence;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * chat_sequence 테이블 접근을 담당합니다.
+ * 메시지 저장 트랜잭션이 롤백되더라도 기록한 시퀀스가 되돌아가지 않도록 별도 트랜잭션(REQUIRES_NEW)으로 처리합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatSequenceStore {
+
+	private final ChatSequenceRepository sequenceRepository;
+
+	@Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+	public Optional<Long> findCurrentSequence(Long roomId) {
+		return sequenceRepository.findById(roomId)
+			.map(ChatSequence::getCurrentSequence);
+	}
+
+	/**
+	 * blockSize 만큼 시퀀스 구간을 예약하고 예약된 구간의 마지막 값을 반환합니다.
+	 * UPDATE 로 잡은 행 잠금은 이 트랜잭션이 끝날 때까지 유지되므로, 같은 트랜잭션에서 읽은 값은 이번 예약의 결과입니다.
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public long reserve(Long roomId, long blockSize) {
+		sequenceRepository.increaseSequence(roomId, blockSize);
+		return sequenceRepository.findCurrentSequenceValue(roomId);
+	}
+
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void checkpoint(Long roomId, long sequence) {
+		sequenceRepository.upsertHighWaterMark(roomId, sequence);
+	}
+}
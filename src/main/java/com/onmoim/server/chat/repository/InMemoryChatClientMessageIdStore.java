@@ -0,0 +1,107 @@
+package com.onmoim.server.chat.repository;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.onmoim.server.chat.common.config.ChatDedupProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 메모리 기반 ChatClientMessageIdStore 입니다. (chat.dedup.store=memory)
+ * 단일 노드용 기본 구현체이며, 다중 노드 환경에서는 chat.dedup.store=redis 로 {@link RedisChatClientMessageIdStore}를 사용합니다.
+ * <p>
+ * 방마다 등록 순서를 유지하는 맵을 두고, 접근할 때 앞에서부터 기간이 지난 ID 를 지웁니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "chat.dedup", name = "store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryChatClientMessageIdStore implements ChatClientMessageIdStore {
+
+	private final ChatDedupProperties properties;
+	private final ConcurrentHashMap<Long, RoomWindow> rooms = new ConcurrentHashMap<>();
+	private final Counter duplicateCounter;
+
+	public InMemoryChatClientMessageIdStore(ChatDedupProperties properties, MeterRegistry meterRegistry) {
+		this.properties = properties;
+		this.duplicateCounter = Counter.builder("chat.dedup.duplicates").register(meterRegistry);
+	}
+
+	@Override
+	public Long find(Long roomId, Long senderId, String clientMessageId) {
+		RoomWindow window = rooms.get(roomId);
+		if (window == null) {
+			return null;
+		}
+		synchronized (window) {
+			window.expire(System.currentTimeMillis());
+			Entry entry = window.entries.get(key(senderId, clientMessageId));
+			if (entry == null) {
+				return null;
+			}
+			duplicateCounter.increment();
+			return entry.sequence();
+		}
+	}
+
+	@Override
+	public Long putIfAbsent(Long roomId, Long senderId, String clientMessageId, Long sequence) {
+		RoomWindow window = rooms.computeIfAbsent(roomId, id -> new RoomWindow());
+		long now = System.currentTimeMillis();
+		synchronized (window) {
+			window.expire(now);
+			Entry existing = window.entries.putIfAbsent(key(senderId, clientMessageId),
+				new Entry(sequence, now + properties.getWindowMillis()));
+			if (existing != null) {
+				duplicateCounter.increment();
+				return existing.sequence();
+			}
+			if (window.entries.size() > properties.getMaxEntriesPerRoom()) {
+				Iterator<Entry> eldest = window.entries.values().iterator();
+				eldest.next();
+				eldest.remove();
+			}
+			return null;
+		}
+	}
+
+	@Override
+	public void remove(Long roomId, Long senderId, String clientMessageId, Long sequence) {
+		RoomWindow window = rooms.get(roomId);
+		if (window == null) {
+			return;
+		}
+		synchronized (window) {
+			String key = key(senderId, clientMessageId);
+			Entry entry = window.entries.get(key);
+			if (entry != null && entry.sequence().equals(sequence)) {
+				window.entries.remove(key);
+			}
+		}
+	}
+
+	private String key(Long senderId, String clientMessageId) {
+		return senderId + ":" + clientMessageId;
+	}
+
+	private record Entry(Long sequence, long expiresAt) {
+	}
+
+	/**
+	 * 등록 순서 = 만료 순서이므로 앞에서부터 만료된 ID 만 지웁니다. 방 단위 잠금 안에서만 접근합니다.
+	 */
+	private static class RoomWindow {
+		private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+
+		void expire(long now) {
+			Iterator<Entry> iterator = entries.values().iterator();
+			while (iterator.hasNext() && iterator.next().expiresAt() <= now) {
+				iterator.remove();
+			}
+		}
+	}
+}
@@ -1,84 +1,100 @@
 package com.onmoim.server.chat.repository;
 
-import com.onmoim.server.chat.domain.ChatSequence;
+import com.onmoim.server.chat.common.config.ChatSequenceProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * RoomChatMessageId는 '{RoomId}+{SequenceValue}'로 구성됩니다. 방마다 고유한 순차적 ID를 통해 클라이언트가 메시지 순서 및 유실을 판단합니다.
  * RoomChatMessageIdGenerator 는 간단하게 ConcurrentHashMap으로 구성했습니다.
- * 추후에 분산환겨을 고려하여 Redis 나 다른 방법으로 개선하면 좋을 것 같습니다.
+ * 단일 노드용 기본 구현체이며, 다중 노드 환경에서는 chat.sequence.generator=redis 로 {@link RedisRoomChatMessageIdGenerator}를 사용합니다.
+ * <p>
+ * 메시지마다 chat_sequence 를 갱신하지 않고 blockSize 만큼 구간(hi/lo)을 예약한 뒤 메모리에서 발급합니다.
+ * DB 쓰기는 구간을 모두 소진했을 때만 발생하며, 서버가 비정상 종료되면 남은 구간은 건너뛰지만 재사용되지는 않습니다.
+ * <p>
+ * redis 에서 memory 로 바꾸면 chat_sequence 에는 마지막 체크포인트만 남아 있고, 그 이후 checkpointInterval 미만의 순번이 이미 발급되었을 수 있습니다.
+ * 어느 쪽이 행을 기록했는지 구분할 수 없으므로, 기동 후 방마다 처음 예약할 때 행이 있으면 checkpointInterval 만큼 건너뛰고 예약합니다.
  */
 @Component
+@ConditionalOnProperty(prefix = "chat.sequence", name = "generator", havingValue = "memory", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 public class InMemoryRoomChatMessageIdGenerator implements RoomChatMessageIdGenerator {
 
-	private final ChatSequenceRepository sequenceRepository;
+	private final ChatSequenceStore sequenceStore;
+	private final ChatSequenceProperties properties;
 
-	// 채팅방 ID를 키로, AtomicLong 시퀀스 카운터를 값으로 저장하는 맵
-	private static final ConcurrentHashMap<Long, AtomicLong> SEQUENCE_MAP = new ConcurrentHashMap<>();
+	// 채팅방 ID를 키로, 예약된 시퀀스 구간을 값으로 저장하는 맵
+	private final ConcurrentHashMap<Long, SequenceBlock> blocks = new ConcurrentHashMap<>();
 
 	@Override
-	@Transactional
 	public Long getSequence(Long roomId) {
-		// 1. 메모리에서 시퀀스 값 조회 (없으면 새로 생성)
-		AtomicLong sequenceCounter = SEQUENCE_MAP.computeIfAbsent(roomId, this::loadSequenceFromDb);
+		SequenceBlock block = blocks.computeIfAbsent(roomId, id -> new SequenceBlock());
 
-		// 2. 시퀀스 값 증가 (원자적 연산)
-		long nextSequence = sequenceCounter.incrementAndGet();
-
-		updateSequenceInDatabase(roomId, nextSequence);
+		// 방 단위로만 잠그므로 다른 방의 발급은 기다리지 않습니다.
+		synchronized (block) {
+			if (block.isExhausted()) {
+				reserveBlock(roomId, block);
+			}
+			return block.next();
+		}
+	}
 
-		// 4. roomId와 시퀀스를 결합한 ID 반환
-		return nextSequence;
+	/**
+	 * 이 노드에서 발급한 마지막 순번, 발급 전이면 예약된 구간의 끝(chat_sequence)
+	 */
+	@Override
+	public long currentSequence(Long roomId) {
+		SequenceBlock block = blocks.get(roomId);
+		if (block != null) {
+			synchronized (block) {
+				if (block.current > 0) {
+					return block.current;
+				}
+			}
+		}
+		return sequenceStore.findCurrentSequence(roomId).orElse(0L);
 	}
 
 	/**
-	 * DB에서 시퀀스 값을 로드하거나, 없을 경우 새로 생성
+	 * DB에서 다음 시퀀스 구간을 예약
 	 */
-	private AtomicLong loadSequenceFromDb(Long roomId) {
-		try {
-			log.debug("메모리에 시퀀스 없음, roomId: {}, DB에서 조회", roomId);
-			// DB에서 시퀀스 조회
-			return sequenceRepository.findById(roomId)
-				.map(sequence -> {
-					log.debug("DB에서 시퀀스 로드, roomId: {}, 현재값: {}", roomId, sequence.getCurrentSequence());
-					return new AtomicLong(sequence.getCurrentSequence());
-				})
-				.orElseGet(() -> {
-					// 없으면 새로 생성 (시작값 0)
-					log.debug("DB에 시퀀스 없음, roomId: {}, 새로 생성", roomId);
-					ChatSequence newSequence = new ChatSequence(roomId, 0L);
-					sequenceRepository.save(newSequence);
-					return new AtomicLong(0);
-				});
-		} catch (Exception e) {
-			log.error("DB에서 시퀀스 로드 실패, roomId: {}, 초기값 0으로 시작, 오류: {}", roomId, e.getMessage());
-			return new AtomicLong(0);
+	private void reserveBlock(Long roomId, SequenceBlock block) {
+		long blockSize = properties.getBlockSize();
+		long skip = 0;
+		if (!block.reserved && sequenceStore.findCurrentSequence(roomId).isPresent()) {
+			skip = properties.getCheckpointInterval();
 		}
+		long max = sequenceStore.reserve(roomId, skip + blockSize);
+		block.reset(max - blockSize, max);
+		log.debug("시퀀스 구간 예약, roomId: {}, 구간: ({}, {}], 건너뜀: {}", roomId, max - blockSize, max, skip);
 	}
 
 	/**
-	 * DB에 시퀀스 값 업데이트
+	 * (current, max] 구간의 시퀀스를 순서대로 발급합니다. 방 단위 잠금 안에서만 접근합니다.
 	 */
-	@Transactional
-	public void updateSequenceInDatabase(Long roomId, Long sequence) {
-		try {
-			sequenceRepository.findById(roomId)
-				.ifPresent(chatSequence -> {
-					chatSequence.setCurrentSequence(sequence);
-					sequenceRepository.save(chatSequence);
-					log.debug("시퀀스 DB 업데이트 완료, roomId: {}, sequence: {}", roomId, sequence);
-				});
-		} catch (Exception e) {
-			log.error("시퀀스 DB 업데이트 실패, roomId: {}, sequence: {}, 오류: {}",
-				roomId, sequence, e.getMessage());
+	private static class SequenceBlock {
+		private long current;
+		private long max;
+		// 이 노드에서 한 번이라도 예약했으면 true
+		private boolean reserved;
+
+		boolean isExhausted() {
+			return current >= max;
+		}
+
+		long next() {
+			return ++current;
+		}
+
+		void reset(long current, long max) {
+			this.current = current;
+			this.max = max;
+			this.reserved = true;
 		}
 	}
 }
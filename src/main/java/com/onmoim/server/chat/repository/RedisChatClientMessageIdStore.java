@@ -0,0 +1,102 @@
+package com.onmoim.server.chat.repository;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.onmoim.server.chat.common.config.ChatDedupProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 기반 ChatClientMessageIdStore 입니다. (chat.dedup.store=redis)
+ * 모든 노드가 같은 키를 사용하므로 다른 노드로 재연결한 뒤의 재전송도 중복으로 확인합니다.
+ * <p>
+ * 키마다 SET NX PX 로 windowMillis 만큼만 유지합니다.
+ * Redis 오류 시에는 중복 확인 없이 메시지를 처리합니다. (전송이 중복보다 중요합니다)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "chat.dedup", name = "store", havingValue = "redis")
+public class RedisChatClientMessageIdStore implements ChatClientMessageIdStore {
+
+	private static final String KEY_PREFIX = "chat:client-message:";
+
+	// 다른 순번으로 다시 기록된 키는 지우지 않습니다.
+	private static final RedisScript<Long> DELETE_IF_EQUALS = new DefaultRedisScript<>(
+		"if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+		Long.class
+	);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ChatDedupProperties properties;
+	private final Counter duplicateCounter;
+
+	public RedisChatClientMessageIdStore(
+		RedisTemplate<String, String> redisTemplate,
+		ChatDedupProperties properties,
+		MeterRegistry meterRegistry
+	) {
+		this.redisTemplate = redisTemplate;
+		this.properties = properties;
+		this.duplicateCounter = Counter.builder("chat.dedup.duplicates").register(meterRegistry);
+	}
+
+	@Override
+	public Long find(Long roomId, Long senderId, String clientMessageId) {
+		try {
+			String sequence = redisTemplate.opsForValue().get(getKey(roomId, senderId, clientMessageId));
+			if (sequence == null) {
+				return null;
+			}
+			duplicateCounter.increment();
+			return Long.valueOf(sequence);
+		} catch (Exception e) {
+			log.warn("clientMessageId 조회 실패, roomId: {}, 오류: {}", roomId, e.getMessage());
+			return null;
+		}
+	}
+
+	@Override
+	public Long putIfAbsent(Long roomId, Long senderId, String clientMessageId, Long sequence) {
+		String key = getKey(roomId, senderId, clientMessageId);
+		try {
+			Boolean stored = redisTemplate.opsForValue()
+				.setIfAbsent(key, String.valueOf(sequence), Duration.ofMillis(properties.getWindowMillis()));
+			if (Boolean.TRUE.equals(stored)) {
+				return null;
+			}
+			String existing = redisTemplate.opsForValue().get(key);
+			if (existing == null) {
+				// 그 사이 만료되었으면 이번 메시지를 처음 처리하는 것으로 봅니다.
+				return null;
+			}
+			duplicateCounter.increment();
+			return Long.valueOf(existing);
+		} catch (Exception e) {
+			log.warn("clientMessageId 기록 실패, roomId: {}, 오류: {}", roomId, e.getMessage());
+			return null;
+		}
+	}
+
+	@Override
+	public void remove(Long roomId, Long senderId, String clientMessageId, Long sequence) {
+		try {
+			redisTemplate.execute(DELETE_IF_EQUALS, List.of(getKey(roomId, senderId, clientMessageId)),
+				String.valueOf(sequence));
+		} catch (Exception e) {
+			log.warn("clientMessageId 삭제 실패, roomId: {}, 오류: {}", roomId, e.getMessage());
+		}
+	}
+
+	private String getKey(Long roomId, Long senderId, String clientMessageId) {
+		return KEY_PREFIX + roomId + ":" + senderId + ":" + clientMessageId;
+	}
+}
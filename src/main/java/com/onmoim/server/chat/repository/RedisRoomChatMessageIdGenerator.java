@@ -0,0 +1,116 @@
+package com.onmoim.server.chat.repository;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.onmoim.server.chat.common.config.ChatSequenceProperties;
+import com.onmoim.server.common.exception.CustomException;
+import com.onmoim.server.common.exception.ErrorCode;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis INCR 기반 RoomChatMessageIdGenerator 입니다. (chat.sequence.generator=redis)
+ * 모든 노드가 같은 Redis 키를 사용하므로 노드 수와 관계없이 방마다 중복 없는 순차 시퀀스를 발급합니다.
+ * <p>
+ * chat_sequence 테이블은 메시지마다 갱신하지 않고 checkpointInterval 마다 high-water-mark 만 기록합니다.
+ * Redis 키가 유실되면 체크포인트 + (checkpointInterval * 2) 부터 다시 발급하므로, 시퀀스가 건너뛸 수는 있어도 재사용되지는 않습니다.
+ * 다시 시작한 값도 체크포인트로 기록하므로, 발급된 순번은 항상 마지막 체크포인트 + checkpointInterval 미만입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "chat.sequence", name = "generator", havingValue = "redis")
+public class RedisRoomChatMessageIdGenerator implements RoomChatMessageIdGenerator {
+
+	private static final String KEY_PREFIX = "chat:sequence:";
+	private static final long NOT_INITIALIZED = -1L;
+
+	// 키가 없을 때 INCR 이 0부터 새로 시작하지 않도록, 키가 존재할 때만 증가시킵니다.
+	private static final RedisScript<Long> INCREMENT_IF_EXISTS = new DefaultRedisScript<>(
+		"if redis.call('EXISTS', KEYS[1]) == 1 then return redis.call('INCR', KEYS[1]) end return " + NOT_INITIALIZED,
+		Long.class
+	);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ChatSequenceStore sequenceStore;
+	private final ChatSequenceProperties properties;
+
+	@Override
+	public Long getSequence(Long roomId) {
+		String key = getKey(roomId);
+
+		Long sequence = redisTemplate.execute(INCREMENT_IF_EXISTS, List.of(key));
+		if (isNotInitialized(sequence)) {
+			initialize(roomId, key);
+			sequence = redisTemplate.execute(INCREMENT_IF_EXISTS, List.of(key));
+		}
+
+		if (isNotInitialized(sequence)) {
+			log.error("Redis 시퀀스 발급 실패, roomId: {}", roomId);
+			throw new CustomException(ErrorCode.CHAT_SEQUENCE_UNAVAILABLE);
+		}
+
+		if (sequence % properties.getCheckpointInterval() == 0) {
+			checkpoint(roomId, sequence);
+		}
+		return sequence;
+	}
+
+	/**
+	 * Redis 의 현재 값, 키가 없으면 초기화 시 시작값이 될 체크포인트 + (checkpointInterval * 2)
+	 */
+	@Override
+	public long currentSequence(Long roomId) {
+		String value = redisTemplate.opsForValue().get(getKey(roomId));
+		if (value != null) {
+			return Long.parseLong(value);
+		}
+		return sequenceStore.findCurrentSequence(roomId)
+			.map(checkpoint -> checkpoint + properties.getCheckpointInterval() * 2)
+			.orElse(0L);
+	}
+
+	/**
+	 * Redis 에 시퀀스 키가 없을 때 DB 체크포인트를 기준으로 시작값을 설정합니다.
+	 * 여러 노드가 동시에 초기화하더라도 SETNX 로 최초 한 번만 반영됩니다.
+	 */
+	private void initialize(Long roomId, String key) {
+		long start = sequenceStore.findCurrentSequence(roomId)
+			.map(checkpoint -> checkpoint + properties.getCheckpointInterval() * 2)
+			.orElseGet(() -> {
+				// 신규 채팅방: 이후 Redis 유실 시 신규 채팅방으로 오인하지 않도록 0으로 행을 만들어 둡니다.
+				sequenceStore.checkpoint(roomId, 0L);
+				return 0L;
+			});
+
+		Boolean initialized = redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(start));
+		log.debug("Redis 시퀀스 초기화, roomId: {}, 시작값: {}, 반영여부: {}", roomId, start, initialized);
+		if (Boolean.TRUE.equals(initialized) && start > 0) {
+			checkpoint(roomId, start);
+		}
+	}
+
+	private void checkpoint(Long roomId, long sequence) {
+		try {
+			sequenceStore.checkpoint(roomId, sequence);
+			log.debug("시퀀스 체크포인트 기록, roomId: {}, sequence: {}", roomId, sequence);
+		} catch (Exception e) {
+			log.error("시퀀스 체크포인트 기록 실패, roomId: {}, sequence: {}, 오류: {}", roomId, sequence, e.getMessage());
+		}
+	}
+
+	private boolean isNotInitialized(Long sequence) {
+		return sequence == null || sequence == NOT_INITIALIZED;
+	}
+
+	private String getKey(Long roomId) {
+		return KEY_PREFIX + roomId;
+	}
+}
@@ -2,5 +2,11 @@ package com.onmoim.server.chat.repository;
 
 public interface RoomChatMessageIdGenerator {
 	Long getSequence(Long roomId);
+
+	/**
+	 * 발급했을 수 있는 가장 큰 순번 (발급하지 않고 조회만 합니다)
+	 * 실제로 발급한 순번보다 클 수는 있어도 작지는 않습니다.
+	 */
+	long currentSequence(Long roomId);
 }
 
@@ -0,0 +1,72 @@
+package com.onmoim.server.chat.service;
+
+import java.util.Collection;
+import java.util.Optional;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import com.onmoim.server.chat.messaging.relay.RedisChatBrokerRelay;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 같은 payload 를 여러 목적지로 보낼 때 직렬화를 한 번만 수행합니다.
+ * <p>
+ * convertAndSend 는 목적지마다 payload 를 다시 직렬화합니다.
+ * 여기서는 브로커 메시지 컨버터로 byte[] 를 한 번 만들고, 목적지마다 헤더만 새로 만들어 같은 byte[] 를 재사용합니다.
+ * 노드 간 중계를 사용하면 목적지 전체를 Redis 에 한 번만 발행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatFanOutSender {
+	private final SimpMessagingTemplate messagingTemplate;
+	private final Optional<RedisChatBrokerRelay> chatBrokerRelay;
+
+	/**
+	 * @param dedupeKey 노드 간 중계 시 같은 메시지를 걸러내기 위한 키, 없으면 null
+	 * @return 전송에 실패한 목적지 수
+	 */
+	public int send(Collection<String> destinations, Object payload, String dedupeKey) {
+		Message<?> serialized = messagingTemplate.getMessageConverter().toMessage(payload, null);
+		if (serialized == null) {
+			throw new IllegalStateException("메시지 변환 실패: " + payload.getClass().getName());
+		}
+		Object body = serialized.getPayload();
+		MimeType contentType = serialized.getHeaders().get(MessageHeaders.CONTENT_TYPE, MimeType.class);
+
+		chatBrokerRelay.ifPresent(relay -> relay.publish(destinations, (byte[])body, contentType, dedupeKey));
+
+		int failed = 0;
+		for (String destination : destinations) {
+			try {
+				messagingTemplate.send(destination, MessageBuilder.createMessage(body, headers(destination, contentType)));
+			} catch (Exception e) {
+				failed++;
+				log.warn("메시지 전송 실패: 목적지: {}, 오류: {}", destination, e.getMessage());
+			}
+		}
+		return failed;
+	}
+
+	/**
+	 * 변경 가능한 상태로 두면 SimpMessagingTemplate 이 헤더를 다시 복사하지 않습니다.
+	 * 중계는 위에서 한 번에 발행했으므로 목적지별 메시지는 중계 대상에서 제외합니다.
+	 */
+	private MessageHeaders headers(String destination, MimeType contentType) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+		accessor.setDestination(destination);
+		accessor.setContentType(contentType);
+		accessor.setHeader(RedisChatBrokerRelay.SKIP_RELAY_HEADER, Boolean.TRUE);
+		accessor.setLeaveMutable(true);
+		return accessor.getMessageHeaders();
+	}
+}
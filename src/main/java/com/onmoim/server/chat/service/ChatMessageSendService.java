@@ -1,18 +1,15 @@
 package com.onmoim.server.chat.service;
 
 import static com.onmoim.server.chat.domain.enums.SubscribeRegistry.*;
+import static com.onmoim.server.chat.messaging.relay.RedisChatBrokerRelay.*;
 
-import java.util.List;
+import java.util.Map;
 
 import com.onmoim.server.chat.domain.ChatRoomMessageId;
+import com.onmoim.server.chat.domain.dto.ChatMessageAckDto;
 import com.onmoim.server.chat.domain.dto.ChatMessageDto;
-import com.onmoim.server.chat.domain.dto.ChatRoomListUpdateDto;
 import com.onmoim.server.chat.domain.enums.DeliveryStatus;
 import com.onmoim.server.chat.service.retry.ChatMessageRetryService;
-import com.onmoim.server.group.dto.GroupMember;
-import com.onmoim.server.group.entity.Group;
-import com.onmoim.server.group.implement.GroupQueryService;
-import com.onmoim.server.group.implement.GroupUserQueryService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,8 +24,7 @@ public class ChatMessageSendService {
 	private final SimpMessagingTemplate messagingTemplate;
 	private final ChatMessageRetryService chatMessageRetryService;
 	private final ChatStatusService chatStatusService;
-	private final GroupUserQueryService groupUserQueryService;
-	private final GroupQueryService groupQueryService;
+	private final ChatRoomListUpdateCoalescer chatRoomListUpdateCoalescer;
 
 	@Transactional
 	public void send(String destination, ChatMessageDto message) {
@@ -40,8 +36,8 @@ public class ChatMessageSendService {
 		ChatRoomMessageId messageId = ChatRoomMessageId.create(message.getGroupId(), message.getMessageSequence());
 
 		try {
-			// WebSocket을 통해 메시지 전송
-			messagingTemplate.convertAndSend(destination, message);
+			// WebSocket을 통해 메시지 전송, 노드 간 중계 시 메시지 ID로 중복을 거릅니다.
+			messagingTemplate.convertAndSend(destination, message, Map.of(MESSAGE_ID_HEADER, messageId.toString()));
 
 			// 전송 성공 시 SENT 상태 업데이트
 			chatStatusService.updateMessageDeliveryStatus(messageId, DeliveryStatus.SENT);
@@ -58,44 +54,16 @@ public class ChatMessageSendService {
 	}
 
 	/**
-	 * 채팅방 참여자들의 채팅방 목록 업데이트
+	 * 중복 전송 확인 응답, 보낸 사람에게만 처음 발급한 순번을 알려줍니다.
 	 */
-	public void updateChatRoomList(ChatMessageDto latestMessage) {
-		Long roomId = latestMessage.getGroupId();
-		try {
-			// 해당 채팅방에 참여한 모든 사용자 조회
-			int size = 100;
-			List<GroupMember> roomUsers = groupUserQueryService.findGroupUserAndMembers(roomId, null, size);
-			Group group = groupQueryService.getById(roomId);
-			Long count = groupUserQueryService.countMembers(roomId);
-
-			// 채팅방 목록 업데이트용 DTO 생성
-			ChatRoomListUpdateDto updateDto = ChatRoomListUpdateDto.builder()
-				.groupId(roomId)
-				.groupName(group.getName())
-				.participantCount(count)
-				.latestMessage(latestMessage)
-				.build();
-
-			// 각 참여자의 채팅방 목록 토픽으로 전송
-			for (GroupMember groupMember : roomUsers) {
-				Long userId = groupMember.memberId();
-				String destination = CHAT_ROOM_LIST_PREFIX.getDestination() + userId;
-
-				try {
-					messagingTemplate.convertAndSend(destination, updateDto);
-					log.debug("채팅방 목록 업데이트 전송: 사용자ID: {}, 방ID: {}", userId, roomId);
-
-				} catch (Exception e) {
-					log.warn("채팅방 목록 업데이트 실패: 사용자ID: {}, 방ID: {}, 오류: {}",
-						userId, roomId, e.getMessage());
-				}
-			}
-
-			log.info("채팅방 목록 업데이트 완료: 방ID: {}, 대상 사용자 수: {}", roomId, roomUsers.size());
+	public void sendAck(Long userId, ChatMessageAckDto ack) {
+		messagingTemplate.convertAndSendToUser(String.valueOf(userId), CHAT_ACK_DESTINATION.getDestination(), ack);
+	}
 
-		} catch (Exception e) {
-			log.error("채팅방 목록 업데이트 실패: 방ID: {}, 오류: {}", roomId, e.getMessage(), e);
-		}
+	/**
+	 * 채팅방 참여자들의 채팅방 목록 업데이트, 방 단위로 병합되어 전송됩니다.
+	 */
+	public void updateChatRoomList(ChatMessageDto latestMessage) {
+		chatRoomListUpdateCoalescer.submit(latestMessage);
 	}
 }
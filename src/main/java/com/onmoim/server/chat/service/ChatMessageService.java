@@ -1,14 +1,22 @@
 package com.onmoim.server.chat.service;
 
+import com.onmoim.server.chat.common.config.ChatDedupProperties;
+import com.onmoim.server.chat.common.config.ChatSyncProperties;
 import com.onmoim.server.chat.domain.ChatRoomMessage;
 import com.onmoim.server.chat.domain.ChatRoomMessageId;
+import com.onmoim.server.chat.domain.dto.ChatMessageAckDto;
 import com.onmoim.server.chat.domain.dto.ChatMessageDto;
+import com.onmoim.server.chat.domain.dto.ChatSyncResponse;
 import com.onmoim.server.chat.domain.dto.ChatUserDto;
 import com.onmoim.server.chat.domain.enums.DeliveryStatus;
 import com.onmoim.server.chat.domain.enums.MessageType;
 import com.onmoim.server.chat.domain.enums.SubscribeRegistry;
-import com.onmoim.server.chat.repository.ChatMessageRepository;
+import com.onmoim.server.chat.repository.ChatClientMessageIdStore;
+import com.onmoim.server.chat.repository.ChatMessageHistoryRepository;
 import com.onmoim.server.chat.repository.RoomChatMessageIdGenerator;
+import com.onmoim.server.chat.service.writebehind.ChatMessageWriteBehindService;
+import com.onmoim.server.common.exception.CustomException;
+import com.onmoim.server.common.exception.ErrorCode;
 import com.onmoim.server.user.repository.UserRepository;
 import com.onmoim.server.user.service.UserQueryService;
 import com.onmoim.server.user.service.UserService;
@@ -22,17 +30,30 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.TreeMap;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ChatMessageService {
-	private final ChatMessageRepository chatMessageRepository;
+	private static final int PAGE_SIZE = 100;
+
+	private final ChatMessageHistoryRepository chatMessageHistoryRepository;
 	private final RoomChatMessageIdGenerator roomChatMessageIdGenerator;
 	private final ChatMessageSendService chatMessageSendService;
 	private final UserQueryService userQueryService;
+	private final ChatMessageWriteBehindService chatMessageWriteBehindService;
+	private final ChatRecentMessageCache chatRecentMessageCache;
+	private final ChatSenderProfileCache chatSenderProfileCache;
+	private final ChatReadCursorService chatReadCursorService;
+	private final ChatSyncProperties chatSyncProperties;
+	private final ChatRelayedMessageBuffer chatRelayedMessageBuffer;
+	private final ChatClientMessageIdStore chatClientMessageIdStore;
+	private final ChatDedupProperties chatDedupProperties;
 
 	/**
 	 * 시스템 메시지 전송
@@ -48,8 +69,8 @@ public class ChatMessageService {
 			DeliveryStatus.PENDING
 		);
 
-		// 데이터베이스에 저장
-		chatMessageRepository.save(systemMessage);
+		// 저장 대기열에 등록, 저장 완료를 기다리지 않고 브로드캐스트합니다.
+		chatMessageWriteBehindService.enqueue(systemMessage);
 
 		// 시스템 메시지 브로드캐스트
 		// com.onmoim.server.chat.service.ChatMessageEventHandler 처리
@@ -63,39 +84,161 @@ public class ChatMessageService {
 		return systemMessage.getId();
 	}
 
+	/**
+	 * 사용자 메시지 전송
+	 * clientMessageId 가 있으면 방마다 일정 기간 기억해, 재전송된 메시지는 다시 저장하지 않고 처음 발급한 순번으로 응답합니다.
+	 */
 	@Transactional
 	public void sendUserMessage(ChatMessageDto message) {
 		Long roomId = message.getGroupId();
+		Long senderId = message.getSenderId();
+		String clientMessageId = clientMessageId(message);
+
+		if (clientMessageId != null) {
+			Long original = chatClientMessageIdStore.find(roomId, senderId, clientMessageId);
+			if (original != null) {
+				acknowledgeDuplicate(roomId, senderId, clientMessageId, original);
+				return;
+			}
+		}
+
+		Long sequence = roomChatMessageIdGenerator.getSequence(roomId);
+		if (clientMessageId != null) {
+			// 다른 노드에서 먼저 처리한 경우, 여기서 발급한 순번은 사용하지 않습니다. (동기화는 빈 순번을 허용합니다)
+			Long original = chatClientMessageIdStore.putIfAbsent(roomId, senderId, clientMessageId, sequence);
+			if (original != null) {
+				acknowledgeDuplicate(roomId, senderId, clientMessageId, original);
+				return;
+			}
+		}
 
 		ChatRoomMessage chatRoomMessage = ChatRoomMessage.create(
-			ChatRoomMessageId.create(roomId, roomChatMessageIdGenerator.getSequence(roomId)),
-			message.getSenderId(),
+			ChatRoomMessageId.create(roomId, sequence),
+			senderId,
 			message.getContent(),
 			message.getTimestamp(),
 			message.getType(),
 			DeliveryStatus.PENDING
 		);
 
-		chatMessageRepository.save(chatRoomMessage);
+		enqueue(chatRoomMessage, clientMessageId);
+
+		ChatMessageDto sent = ChatMessageDto.of(chatRoomMessage, message.getChatUserDto());
+		sent.setClientMessageId(clientMessageId);
+		chatRecentMessageCache.append(sent);
+		// 보낸 사람은 자신의 메시지까지 읽은 것으로 봅니다.
+		chatReadCursorService.advance(roomId, senderId, sequence);
 
 		String destination = SubscribeRegistry.CHAT_ROOM_SUBSCRIBE_PREFIX.getDestination() + roomId;
-		chatMessageSendService.send(
-			destination, ChatMessageDto.of(chatRoomMessage, message.getChatUserDto())
-		);
+		chatMessageSendService.send(destination, sent);
+	}
+
+	/**
+	 * 저장 대기열에 등록하고, 저장하지 못한 메시지는 clientMessageId 기록을 지워 재전송을 다시 처리하도록 합니다.
+	 */
+	private void enqueue(ChatRoomMessage chatRoomMessage, String clientMessageId) {
+		if (clientMessageId == null) {
+			chatMessageWriteBehindService.enqueue(chatRoomMessage);
+			return;
+		}
+		ChatRoomMessageId id = chatRoomMessage.getId();
+		Long senderId = chatRoomMessage.getSenderId();
+		try {
+			chatMessageWriteBehindService.enqueue(chatRoomMessage).whenComplete((saved, e) -> {
+				if (e != null) {
+					chatClientMessageIdStore.remove(id.getRoomId(), senderId, clientMessageId, id.getMessageSequence());
+				}
+			});
+		} catch (RuntimeException e) {
+			chatClientMessageIdStore.remove(id.getRoomId(), senderId, clientMessageId, id.getMessageSequence());
+			throw e;
+		}
+	}
+
+	private void acknowledgeDuplicate(Long roomId, Long senderId, String clientMessageId, Long sequence) {
+		log.debug("중복 전송 메시지: 방ID: {}, 발신자: {}, clientMessageId: {}, 순번: {}",
+			roomId, senderId, clientMessageId, sequence);
+		chatMessageSendService.sendAck(senderId, new ChatMessageAckDto(roomId, clientMessageId, sequence));
+	}
+
+	private String clientMessageId(ChatMessageDto message) {
+		String clientMessageId = message.getClientMessageId();
+		if (clientMessageId == null || clientMessageId.isBlank()) {
+			return null;
+		}
+		if (clientMessageId.length() > chatDedupProperties.getMaxClientMessageIdLength()) {
+			throw new CustomException(ErrorCode.CHAT_CLIENT_MESSAGE_ID_TOO_LONG);
+		}
+		return clientMessageId;
 	}
 
 	public List<ChatMessageDto> getMessages(Long roomId, Long cursor) {
 		List<ChatMessageDto> messageList = null;
-		Pageable pageable = PageRequest.of(0, 100);
+		Pageable pageable = PageRequest.of(0, PAGE_SIZE);
 
 		if (cursor == null) {
-			// 첫 조회: 최신 100개
-			messageList = chatMessageRepository.findTop100ByRoomIdWithUser(roomId,pageable);
+			// 첫 조회: 최신 100개, 최근 메시지 캐시에 없을 때만 DB 조회
+			messageList = chatRecentMessageCache.getLatest(roomId, PAGE_SIZE, () -> loadLatest(roomId, pageable));
 		} else {
 			// 커서가 있으면 이전 메시지 100개 조회
-			messageList =  chatMessageRepository.findTop100ByRoomIdWithUserBeforeCursor(roomId, cursor, pageable);
+			messageList =  chatMessageHistoryRepository.findTop100ByRoomIdBeforeCursor(roomId, cursor, pageable);
+		}
+
+		// 발신자 정보는 캐시에서 한 번에 채웁니다.
+		List<ChatMessageDto> enriched = chatSenderProfileCache.enrich(messageList);
+		// 메시지별 읽지 않은 멤버 수, enrich 가 만든 복사본에만 채웁니다.
+		chatReadCursorService.fillUnreadMemberCounts(roomId, enriched);
+		return enriched;
+	}
+
+	/**
+	 * 최근 메시지 캐시에 등록할 최신 메시지, 아직 저장되지 않은 메시지도 포함합니다.
+	 * 캐시는 등록 후 전송된 메시지만 붙이므로, 등록 전에 전송되어 저장 대기 중인 메시지를 여기서 합쳐야 빠지지 않습니다.
+	 * 저장 대기 메시지를 먼저 확인한 뒤 DB 를 조회합니다. (그 사이 저장된 메시지는 DB 에서 조회됨)
+	 */
+	private List<ChatMessageDto> loadLatest(Long roomId, Pageable pageable) {
+		TreeMap<Long, ChatMessageDto> merged = new TreeMap<>(Comparator.reverseOrder());
+		putPending(merged, roomId, 0L);
+		chatMessageHistoryRepository.findTop100ByRoomId(roomId, pageable)
+			.forEach(message -> merged.put(message.getMessageSequence(), message));
+		return merged.values().stream().limit(pageable.getPageSize()).toList();
+	}
+
+	private void putPending(TreeMap<Long, ChatMessageDto> merged, Long roomId, long afterSequence) {
+		for (ChatRoomMessage pending : chatMessageWriteBehindService.findPending(roomId, afterSequence)) {
+			// 이력 조회와 같게 발신자가 없는 시스템 메시지는 제외합니다.
+			if (pending.getSenderId() != null) {
+				merged.put(pending.getId().getMessageSequence(), ChatMessageDto.of(pending, null));
+			}
+		}
+	}
+
+	/**
+	 * 재연결 동기화: afterSequence 이후 놓친 메시지를 순번 오름차순으로 반환합니다.
+	 * 저장 대기 중인 메시지를 먼저 확인한 뒤 DB 를 기본키 범위로 조회합니다. (저장 완료 후 대기 목록에서 빠지므로 누락 없음)
+	 * 다중 노드에서는 다른 노드의 저장 대기 메시지가 이 노드 대기 목록에 없으므로, 중계받은 메시지도 함께 합칩니다.
+	 * maxMessages 를 넘으면 메시지 없이 다시 불러오기를 응답합니다.
+	 */
+	public ChatSyncResponse getMessagesAfter(Long roomId, Long afterSequence) {
+		if (afterSequence == null) {
+			return ChatSyncResponse.reload(roomId);
+		}
+		int maxMessages = chatSyncProperties.getMaxMessages();
+
+		TreeMap<Long, ChatMessageDto> merged = new TreeMap<>();
+		putPending(merged, roomId, afterSequence);
+		chatRelayedMessageBuffer.findAfter(roomId, afterSequence)
+			.forEach(message -> merged.putIfAbsent(message.getMessageSequence(), message));
+		chatMessageHistoryRepository.findByRoomIdAfterCursor(roomId, afterSequence, PageRequest.of(0, maxMessages + 1))
+			.forEach(message -> merged.putIfAbsent(message.getMessageSequence(), message));
+
+		if (merged.size() > maxMessages) {
+			log.debug("동기화 범위 초과, 다시 불러오기 응답: 방ID: {}, 기준 순번: {}", roomId, afterSequence);
+			return ChatSyncResponse.reload(roomId);
 		}
 
-		return messageList;
+		List<ChatMessageDto> enriched = chatSenderProfileCache.enrich(new ArrayList<>(merged.values()));
+		chatReadCursorService.fillUnreadMemberCounts(roomId, enriched);
+		return ChatSyncResponse.of(roomId, enriched);
 	}
 }
@@ -0,0 +1,277 @@
+package com.onmoim.server.chat.service;
+
+import static com.onmoim.server.chat.domain.enums.SubscribeRegistry.*;
+
+import java.security.Principal;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import com.onmoim.server.chat.common.config.ChatPresenceProperties;
+import com.onmoim.server.chat.domain.dto.ChatPresenceDto;
+import com.onmoim.server.common.exception.CustomException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅방 접속/입력 중 상태
+ * <p>
+ * /topic/chat.room.{id} 구독을 세션 단위로 기억해 방마다 접속 중인 사용자를 셉니다.
+ * 한 사용자가 여러 기기(세션)로 구독해도 한 명으로 세고, 마지막 구독이 끝날 때 나간 것으로 봅니다.
+ * 입력 중 상태는 typingTtl 동안 유지되며 클라이언트가 다시 보내지 않으면 해제됩니다.
+ * <p>
+ * 상태 변경은 바로 보내지 않고 방마다 coalesceWindow 간격으로 최대 한 번, 최신 상태만 /topic/chat.presence.{id} 로 보냅니다.
+ * 직전에 보낸 상태와 같으면 보내지 않으므로 재연결이 몰려도(나갔다 다시 들어옴) 프레임이 늘지 않습니다.
+ * 상태 프레임은 낮은 우선순위로, 느린 클라이언트에게는 버려질 수 있습니다. ({@link com.onmoim.server.chat.common.config.SlowConsumerSessionDecorator})
+ * 접속 수는 노드 단위로 집계합니다. (노드 간 중계 대상 아님)
+ */
+@Slf4j
+@Component
+public class ChatPresenceService {
+	private final SimpMessagingTemplate messagingTemplate;
+	private final ChatSessionAuthorizationCache chatSessionAuthorizationCache;
+	private final ChatPresenceProperties properties;
+	private final ThreadPoolTaskScheduler scheduler;
+	private final LongSupplier clock;
+
+	private final ConcurrentHashMap<String, SessionPresence> sessions = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<Long, RoomPresence> rooms = new ConcurrentHashMap<>();
+
+	private final Counter sentCounter;
+
+	@Autowired
+	public ChatPresenceService(
+		SimpMessagingTemplate messagingTemplate,
+		ChatSessionAuthorizationCache chatSessionAuthorizationCache,
+		ChatPresenceProperties properties,
+		MeterRegistry meterRegistry
+	) {
+		this(messagingTemplate, chatSessionAuthorizationCache, properties, meterRegistry,
+			newScheduler(properties), System::currentTimeMillis);
+	}
+
+	ChatPresenceService(
+		SimpMessagingTemplate messagingTemplate,
+		ChatSessionAuthorizationCache chatSessionAuthorizationCache,
+		ChatPresenceProperties properties,
+		MeterRegistry meterRegistry,
+		ThreadPoolTaskScheduler scheduler,
+		LongSupplier clock
+	) {
+		this.messagingTemplate = messagingTemplate;
+		this.chatSessionAuthorizationCache = chatSessionAuthorizationCache;
+		this.properties = properties;
+		this.scheduler = scheduler;
+		this.clock = clock;
+
+		this.sentCounter = Counter.builder("chat.presence.sent").register(meterRegistry);
+		Gauge.builder("chat.presence.rooms", rooms, ConcurrentHashMap::size).register(meterRegistry);
+	}
+
+	private static ThreadPoolTaskScheduler newScheduler(ChatPresenceProperties properties) {
+		ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+		scheduler.setPoolSize(properties.getSchedulerPoolSize());
+		scheduler.setThreadNamePrefix("chat-presence-");
+		scheduler.initialize();
+		return scheduler;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		scheduler.shutdown();
+	}
+
+	/**
+	 * 채팅방 회원의 구독만 접속으로 셉니다.
+	 */
+	@EventListener
+	public void onSubscribe(SessionSubscribeEvent event) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+		Long roomId = roomIdOf(accessor.getDestination());
+		Principal user = accessor.getUser();
+		if (roomId == null || user == null || accessor.getSubscriptionId() == null) {
+			return;
+		}
+		try {
+			Long userId = Long.parseLong(user.getName());
+			chatSessionAuthorizationCache.authorize(accessor.getSessionId(), roomId, userId);
+			subscribe(accessor.getSessionId(), accessor.getSubscriptionId(), roomId, userId);
+		} catch (CustomException | NumberFormatException e) {
+			log.debug("접속 상태 집계 제외: 세션: {}, 방ID: {}, 사유: {}", accessor.getSessionId(), roomId, e.getMessage());
+		}
+	}
+
+	@EventListener
+	public void onUnsubscribe(SessionUnsubscribeEvent event) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+		unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+	}
+
+	@EventListener
+	public void onDisconnect(SessionDisconnectEvent event) {
+		disconnect(event.getSessionId());
+	}
+
+	public void subscribe(String sessionId, String subscriptionId, Long roomId, Long userId) {
+		SessionPresence session = sessions.computeIfAbsent(sessionId,
+			id -> new SessionPresence(userId, new ConcurrentHashMap<>()));
+		if (session.subscriptions().putIfAbsent(subscriptionId, roomId) != null) {
+			return;
+		}
+		RoomPresence room = rooms.compute(roomId, (id, current) -> {
+			RoomPresence presence = current != null ? current : new RoomPresence();
+			presence.members.merge(userId, 1, Integer::sum);
+			return presence;
+		});
+		markDirty(roomId, room);
+	}
+
+	public void unsubscribe(String sessionId, String subscriptionId) {
+		SessionPresence session = sessionId != null ? sessions.get(sessionId) : null;
+		if (session == null || subscriptionId == null) {
+			return;
+		}
+		Long roomId = session.subscriptions().remove(subscriptionId);
+		if (roomId != null) {
+			leave(roomId, session.userId());
+		}
+	}
+
+	public void disconnect(String sessionId) {
+		SessionPresence session = sessions.remove(sessionId);
+		if (session == null) {
+			return;
+		}
+		session.subscriptions().values().forEach(roomId -> leave(roomId, session.userId()));
+	}
+
+	/**
+	 * 입력 중 상태 갱신, 채팅방을 구독하지 않은 사용자는 무시합니다.
+	 */
+	public void typing(Long roomId, Long userId, boolean typing) {
+		long expiresAt = clock.getAsLong() + properties.getTypingTtlMillis();
+		RoomPresence room = rooms.computeIfPresent(roomId, (id, presence) -> {
+			if (presence.members.containsKey(userId)) {
+				if (typing) {
+					presence.typing.put(userId, expiresAt);
+				} else {
+					presence.typing.remove(userId);
+				}
+			}
+			return presence;
+		});
+		if (room != null) {
+			markDirty(roomId, room);
+		}
+	}
+
+	private void leave(Long roomId, Long userId) {
+		RoomPresence room = rooms.computeIfPresent(roomId, (id, presence) -> {
+			if (presence.members.computeIfPresent(userId, (key, count) -> count > 1 ? count - 1 : null) == null) {
+				presence.typing.remove(userId);
+			}
+			return presence;
+		});
+		if (room != null) {
+			markDirty(roomId, room);
+		}
+	}
+
+	private void markDirty(Long roomId, RoomPresence room) {
+		synchronized (room) {
+			if (room.scheduled) {
+				return;
+			}
+			room.scheduled = true;
+			long sendAt = Math.max(clock.getAsLong(), room.lastSentAt + properties.getCoalesceWindowMillis());
+			scheduler.schedule(() -> flush(roomId, room), Instant.ofEpochMilli(sendAt));
+		}
+	}
+
+	private void flush(Long roomId, RoomPresence room) {
+		long now = clock.getAsLong();
+		synchronized (room) {
+			room.scheduled = false;
+			room.lastSentAt = now;
+		}
+		room.typing.values().removeIf(expiresAt -> expiresAt <= now);
+
+		ChatPresenceDto presence = snapshot(roomId, room);
+		if (!presence.equals(room.lastSent)) {
+			room.lastSent = presence;
+			send(presence);
+		}
+
+		// 입력 중인 사용자가 남아 있으면 만료 확인을 위해 다시 예약합니다.
+		if (!room.typing.isEmpty()) {
+			markDirty(roomId, room);
+		}
+		rooms.computeIfPresent(roomId, (id, current) -> current == room && room.isIdle() ? null : current);
+	}
+
+	private void send(ChatPresenceDto presence) {
+		try {
+			messagingTemplate.convertAndSend(CHAT_PRESENCE_PREFIX.getDestination() + presence.groupId(), presence);
+			sentCounter.increment();
+		} catch (Exception e) {
+			log.warn("접속 상태 전송 실패: 방ID: {}, 오류: {}", presence.groupId(), e.getMessage());
+		}
+	}
+
+	/**
+	 * 현재 접속/입력 중 상태 (전송 여부와 무관)
+	 */
+	public ChatPresenceDto getPresence(Long roomId) {
+		RoomPresence room = rooms.get(roomId);
+		return room != null ? snapshot(roomId, room) : new ChatPresenceDto(roomId, 0, List.of());
+	}
+
+	private ChatPresenceDto snapshot(Long roomId, RoomPresence room) {
+		return new ChatPresenceDto(roomId, room.members.size(), room.typing.keySet().stream().sorted().toList());
+	}
+
+	private Long roomIdOf(String destination) {
+		if (destination == null
+			|| !destination.startsWith(CHAT_ROOM_SUBSCRIBE_PREFIX.getDestination())
+			|| destination.startsWith(CHAT_ROOM_LIST_PREFIX.getDestination())) {
+			return null;
+		}
+		try {
+			return Long.parseLong(destination.substring(CHAT_ROOM_SUBSCRIBE_PREFIX.getDestination().length()));
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	private record SessionPresence(Long userId, ConcurrentHashMap<String, Long> subscriptions) {
+	}
+
+	private static class RoomPresence {
+		// userId -> 구독 수 (기기별 세션 포함)
+		private final ConcurrentHashMap<Long, Integer> members = new ConcurrentHashMap<>();
+		// userId -> 입력 중 만료 시각
+		private final ConcurrentHashMap<Long, Long> typing = new ConcurrentHashMap<>();
+		private volatile ChatPresenceDto lastSent;
+		private boolean scheduled;
+		private long lastSentAt;
+
+		private synchronized boolean isIdle() {
+			return members.isEmpty() && typing.isEmpty() && !scheduled;
+		}
+	}
+}
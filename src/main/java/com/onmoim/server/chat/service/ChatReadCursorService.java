@@ -0,0 +1,164 @@
+package com.onmoim.server.chat.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.onmoim.server.chat.domain.ChatReadCursorId;
+import com.onmoim.server.chat.domain.dto.ChatMessageDto;
+import com.onmoim.server.chat.domain.dto.ChatRoomSummeryDto;
+import com.onmoim.server.chat.messaging.ChatRoomMemberChangedEvent;
+import com.onmoim.server.chat.repository.ChatReadCursorRepository;
+import com.onmoim.server.chat.repository.RoomChatMessageIdGenerator;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅방 읽음 위치 관리
+ * <p>
+ * 읽음 위치는 메시지를 읽을 때마다 바뀌므로 매번 기록하지 않습니다.
+ * 메모리에서 사용자/방마다 가장 큰 순번만 남기고, flushIntervalMillis 마다 한 번에 upsert 합니다.
+ * 아직 반영되지 않은 위치도 채팅방 목록의 안 읽은 메시지 수를 정할 때 함께 봅니다.
+ * 메시지별 안 읽은 멤버 수는 {@link ChatUnreadMemberCounter} 로 계산합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatReadCursorService {
+	private final ChatReadCursorRepository chatReadCursorRepository;
+	private final ChatUnreadMemberCounter chatUnreadMemberCounter;
+	private final RoomChatMessageIdGenerator roomChatMessageIdGenerator;
+
+	// 반영 대기 중인 읽음 위치, 같은 사용자/방은 가장 큰 순번만 남습니다.
+	private final ConcurrentHashMap<ChatReadCursorId, Long> pendingCursors = new ConcurrentHashMap<>();
+
+	/**
+	 * 읽음 위치를 앞으로 옮깁니다. 더 작은 순번은 무시됩니다.
+	 * 클라이언트가 보낸 순번은 채팅방에서 발급한 마지막 순번을 넘지 않도록 맞춥니다.
+	 * (읽음 위치는 뒤로 가지 않으므로, 잘못 보낸 큰 순번이 그대로 남으면 이후 메시지가 계속 읽은 것으로 보입니다)
+	 */
+	public void advance(Long roomId, Long userId, Long messageSequence) {
+		if (messageSequence == null || messageSequence <= 0) {
+			return;
+		}
+		long sequence = Math.min(messageSequence, roomChatMessageIdGenerator.currentSequence(roomId));
+		if (sequence <= 0) {
+			return;
+		}
+		if (sequence < messageSequence) {
+			log.debug("읽음 위치 보정: 방ID: {}, 사용자: {}, 요청: {}, 보정: {}", roomId, userId, messageSequence, sequence);
+		}
+		pendingCursors.merge(ChatReadCursorId.create(roomId, userId), sequence, Math::max);
+		chatUnreadMemberCounter.advance(roomId, userId, sequence);
+	}
+
+	/**
+	 * 메시지마다 읽지 않은 멤버 수를 채웁니다.
+	 * 방이 메모리에 없으면 저장된 읽음 위치와 반영 대기 중인 위치를 합쳐 불러옵니다.
+	 */
+	public void fillUnreadMemberCounts(Long roomId, List<ChatMessageDto> messages) {
+		chatUnreadMemberCounter.fill(roomId, messages, () -> {
+			Map<Long, Long> cursors = chatReadCursorRepository.findRoomCursors(roomId);
+			pendingCursors.forEach((cursorId, sequence) -> {
+				if (cursorId.getRoomId().equals(roomId)) {
+					cursors.merge(cursorId.getUserId(), sequence, Math::max);
+				}
+			});
+			return cursors;
+		});
+	}
+
+	/**
+	 * 채팅방 목록의 안 읽은 메시지 수를 정합니다. (DB 조회 없음)
+	 * 조회 결과의 메시지 수 차이를 사용하되, 저장된 읽음 위치나 반영 대기 중인 위치가 마지막 메시지 이상이면 0 입니다.
+	 */
+	public void fillUnreadCounts(Long userId, List<ChatRoomSummeryDto> rooms) {
+		for (ChatRoomSummeryDto room : rooms) {
+			ChatMessageDto lastMessage = room.getMessage();
+			if (lastMessage == null || lastMessage.getMessageSequence() == null) {
+				room.setUnreadCount(0L);
+				continue;
+			}
+			long readSequence = room.getLastReadSequence() != null ? room.getLastReadSequence() : 0L;
+			Long pending = pendingCursors.get(ChatReadCursorId.create(room.getGroupId(), userId));
+			if (pending != null) {
+				readSequence = Math.max(readSequence, pending);
+			}
+			long unreadCount = room.getUnreadCount() != null ? Math.max(room.getUnreadCount(), 0L) : 0L;
+			room.setUnreadCount(readSequence >= lastMessage.getMessageSequence() ? 0L : unreadCount);
+		}
+	}
+
+	/**
+	 * 모아 둔 읽음 위치를 한 번의 batch upsert 로 반영합니다.
+	 */
+	@Scheduled(fixedDelayString = "${chat.read-cursor.flush-interval-millis:3000}")
+	@PreDestroy
+	public void flush() {
+		if (pendingCursors.isEmpty()) {
+			return;
+		}
+
+		Map<ChatReadCursorId, Long> cursors = new HashMap<>();
+		for (ChatReadCursorId cursorId : pendingCursors.keySet()) {
+			Long sequence = pendingCursors.remove(cursorId);
+			if (sequence != null) {
+				cursors.put(cursorId, sequence);
+			}
+		}
+		write(cursors);
+	}
+
+	/**
+	 * 구성원이 바뀐 사용자의 읽음 위치를 정리합니다.
+	 * 대기 중인 위치를 먼저 반영해야 탈퇴 후 다시 생기지 않습니다.
+	 * 다른 노드에서 중계된 변경이면 대기 중인 위치만 버립니다.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void onMemberChanged(ChatRoomMemberChangedEvent event) {
+		Map<ChatReadCursorId, Long> cursors = new HashMap<>();
+		for (Long userId : event.userIds()) {
+			ChatReadCursorId cursorId = ChatReadCursorId.create(event.groupId(), userId);
+			Long sequence = pendingCursors.remove(cursorId);
+			if (sequence != null) {
+				cursors.put(cursorId, sequence);
+			}
+		}
+		// 참여자가 바뀌었으므로 다음 조회 때 다시 불러옵니다.
+		chatUnreadMemberCounter.evict(event.groupId());
+		if (event.relayed()) {
+			// DB 정리는 변경한 노드에서 했으므로, 이 노드에 대기 중이던 위치만 버립니다. (다시 생기지 않도록)
+			return;
+		}
+		try {
+			if (!cursors.isEmpty()) {
+				chatReadCursorRepository.upsertAll(cursors);
+			}
+			chatReadCursorRepository.resetMembers(event.groupId(), event.userIds());
+			log.debug("읽음 위치 정리: 방ID: {}, 대상 사용자: {}", event.groupId(), event.userIds());
+		} catch (Exception e) {
+			log.warn("읽음 위치 정리 실패: 방ID: {}, 대상 사용자: {}, 오류: {}", event.groupId(), event.userIds(), e.getMessage());
+		}
+	}
+
+	private void write(Map<ChatReadCursorId, Long> cursors) {
+		try {
+			chatReadCursorRepository.upsertAll(cursors);
+			log.debug("읽음 위치 일괄 반영: {} 건", cursors.size());
+		} catch (Exception e) {
+			// 다음 주기에 다시 시도, 그 사이 더 큰 위치가 들어왔다면 그 위치를 유지합니다.
+			cursors.forEach((cursorId, sequence) -> pendingCursors.merge(cursorId, sequence, Math::max));
+			log.warn("읽음 위치 일괄 반영 실패: {} 건, 오류: {}", cursors.size(), e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,218 @@
+package com.onmoim.server.chat.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.onmoim.server.chat.common.config.ChatRecentMessageProperties;
+import com.onmoim.server.chat.domain.dto.ChatMessageDto;
+import com.onmoim.server.chat.domain.dto.ChatUserDto;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅방별 최근 메시지 ring buffer
+ * <p>
+ * 커서 없는 메시지 조회(최신 페이지)를 DB 없이 응답하기 위한 캐시입니다.
+ * - 첫 조회 때 DB 에서 최신 메시지를 불러와 방을 등록하고, 이후 전송된 메시지를 뒤에 붙입니다.
+ * - 등록되지 않은 방의 전송은 무시합니다. (조회가 없는 방은 보관하지 않음)
+ * - 방 수나 추정 메모리가 상한을 넘으면 가장 오래 조회/전송이 없었던 방부터 제거합니다.
+ * DB 조회는 방 단위 잠금 밖에서 수행하고, 그 사이 전송된 메시지와 순번 기준으로 합칩니다.
+ */
+@Slf4j
+@Component
+public class ChatRecentMessageCache {
+	private static final long MESSAGE_OVERHEAD_BYTES = 160;
+
+	private final ChatRecentMessageProperties properties;
+	private final LinkedHashMap<Long, RoomBuffer> rooms = new LinkedHashMap<>(16, 0.75f, true);
+	private long totalBytes;
+
+	private final Counter hitCounter;
+	private final Counter missCounter;
+	private final Counter evictedCounter;
+
+	public ChatRecentMessageCache(ChatRecentMessageProperties properties, MeterRegistry meterRegistry) {
+		this.properties = properties;
+		this.hitCounter = Counter.builder("chat.recent_message.hit").register(meterRegistry);
+		this.missCounter = Counter.builder("chat.recent_message.miss").register(meterRegistry);
+		this.evictedCounter = Counter.builder("chat.recent_message.evicted")
+			.description("메모리/방 수 상한으로 제거된 방 수")
+			.register(meterRegistry);
+		Gauge.builder("chat.recent_message.rooms", this, cache -> cache.roomCount())
+			.register(meterRegistry);
+		Gauge.builder("chat.recent_message.bytes", this, cache -> cache.estimatedBytes())
+			.description("보관 중인 메시지의 추정 메모리")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 최신 메시지를 순번 내림차순으로 최대 limit 개 반환합니다.
+	 * 보관 중이 아니면 loader 로 DB 에서 불러와 등록합니다.
+	 */
+	public List<ChatMessageDto> getLatest(Long roomId, int limit, Supplier<List<ChatMessageDto>> loader) {
+		if (limit > properties.getMessagesPerRoom()) {
+			return loader.get();
+		}
+
+		RoomBuffer buffer;
+		synchronized (this) {
+			buffer = rooms.computeIfAbsent(roomId, id -> new RoomBuffer());
+		}
+		synchronized (buffer) {
+			if (buffer.loaded) {
+				hitCounter.increment();
+				return buffer.latest(limit);
+			}
+		}
+
+		missCounter.increment();
+		List<ChatMessageDto> loaded = loader.get();
+		long delta;
+		List<ChatMessageDto> result;
+		synchronized (buffer) {
+			delta = buffer.merge(loaded, properties.getMessagesPerRoom());
+			buffer.loaded = true;
+			result = buffer.latest(limit);
+		}
+		adjust(roomId, buffer, delta);
+		return result;
+	}
+
+	/**
+	 * 전송된 메시지를 등록된 방의 버퍼 뒤에 붙입니다.
+	 */
+	public void append(ChatMessageDto message) {
+		// 이력 조회(User JOIN)와 같게 발신자가 없는 시스템 메시지는 보관하지 않습니다.
+		if (message.getSenderId() == null || message.getMessageSequence() == null) {
+			return;
+		}
+		Long roomId = message.getGroupId();
+		RoomBuffer buffer;
+		synchronized (this) {
+			buffer = rooms.get(roomId);
+		}
+		if (buffer == null) {
+			return;
+		}
+		long delta;
+		synchronized (buffer) {
+			delta = buffer.merge(List.of(message), properties.getMessagesPerRoom());
+		}
+		adjust(roomId, buffer, delta);
+	}
+
+	public void evict(Long roomId) {
+		synchronized (this) {
+			RoomBuffer removed = rooms.remove(roomId);
+			if (removed != null) {
+				totalBytes -= removed.bytes;
+			}
+		}
+	}
+
+	public synchronized int roomCount() {
+		return rooms.size();
+	}
+
+	public synchronized long estimatedBytes() {
+		return totalBytes;
+	}
+
+	/**
+	 * 추정 메모리를 반영하고 상한을 넘으면 오래된 방부터 제거합니다.
+	 * 방금 사용한 방은 제거하지 않습니다.
+	 */
+	private synchronized void adjust(Long roomId, RoomBuffer buffer, long delta) {
+		if (rooms.get(roomId) != buffer) {
+			return; // 그 사이 제거된 방
+		}
+		totalBytes += delta;
+
+		Iterator<Map.Entry<Long, RoomBuffer>> iterator = rooms.entrySet().iterator();
+		while ((rooms.size() > properties.getMaxRooms() || totalBytes > properties.getMaxMemoryBytes())
+			&& iterator.hasNext()) {
+			Map.Entry<Long, RoomBuffer> eldest = iterator.next();
+			if (eldest.getKey().equals(roomId)) {
+				continue;
+			}
+			iterator.remove();
+			totalBytes -= eldest.getValue().bytes;
+			evictedCounter.increment();
+		}
+	}
+
+	static long estimateBytes(ChatMessageDto message) {
+		long bytes = MESSAGE_OVERHEAD_BYTES + length(message.getContent());
+		ChatUserDto user = message.getChatUserDto();
+		if (user != null) {
+			bytes += length(user.getUsername()) + length(user.getProfileImageUrl());
+		}
+		return bytes;
+	}
+
+	private static long length(String value) {
+		return value == null ? 0 : 2L * value.length();
+	}
+
+	/**
+	 * 순번 오름차순 ring buffer (ArrayDeque)
+	 */
+	private static class RoomBuffer {
+		private final ArrayDeque<ChatMessageDto> messages = new ArrayDeque<>();
+		private boolean loaded;
+		private long bytes;
+
+		/**
+		 * @return 추정 메모리 변화량
+		 */
+		private long merge(Collection<ChatMessageDto> incoming, int capacity) {
+			long before = bytes;
+			if (incoming.size() == 1 && isAfterLast(incoming.iterator().next())) {
+				// 전송 경로: 순번이 증가하는 경우 뒤에 붙이기만 합니다.
+				add(incoming.iterator().next());
+			} else if (!incoming.isEmpty()) {
+				TreeMap<Long, ChatMessageDto> merged = new TreeMap<>();
+				incoming.forEach(message -> merged.put(message.getMessageSequence(), message));
+				messages.forEach(message -> merged.put(message.getMessageSequence(), message));
+				messages.clear();
+				bytes = 0;
+				merged.values().forEach(this::add);
+			}
+			while (messages.size() > capacity) {
+				bytes -= estimateBytes(messages.pollFirst());
+			}
+			return bytes - before;
+		}
+
+		private boolean isAfterLast(ChatMessageDto message) {
+			ChatMessageDto last = messages.peekLast();
+			return last == null || last.getMessageSequence() < message.getMessageSequence();
+		}
+
+		private void add(ChatMessageDto message) {
+			messages.addLast(message);
+			bytes += estimateBytes(message);
+		}
+
+		private List<ChatMessageDto> latest(int limit) {
+			List<ChatMessageDto> result = new ArrayList<>(Math.min(limit, messages.size()));
+			Iterator<ChatMessageDto> descending = messages.descendingIterator();
+			while (descending.hasNext() && result.size() < limit) {
+				result.add(descending.next());
+			}
+			return result;
+		}
+	}
+}
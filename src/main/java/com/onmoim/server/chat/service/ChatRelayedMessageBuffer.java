@@ -0,0 +1,81 @@
+package com.onmoim.server.chat.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.onmoim.server.chat.common.config.ChatRelayProperties;
+import com.onmoim.server.chat.domain.dto.ChatMessageDto;
+
+/**
+ * 다른 노드에서 중계된 채팅방 메시지를 잠시 보관합니다.
+ * <p>
+ * 다른 노드의 저장 대기 메시지는 이 노드의 write-behind 대기 목록에 없으므로,
+ * 재연결 동기화에서 그보다 큰 순번이 먼저 저장되어 있으면 클라이언트가 빈 순번을 건너뛰게 됩니다.
+ * 중계받은 메시지를 unflushedRetentionMillis 동안 보관해 동기화 응답에 함께 합칩니다. (이미 저장된 메시지와는 순번으로 합쳐짐)
+ * 중계를 사용하지 않으면 비어 있습니다.
+ */
+@Component
+public class ChatRelayedMessageBuffer {
+
+	private final ChatRelayProperties properties;
+	private final ConcurrentHashMap<Long, LinkedHashMap<Long, Entry>> rooms = new ConcurrentHashMap<>();
+
+	public ChatRelayedMessageBuffer(ChatRelayProperties properties) {
+		this.properties = properties;
+	}
+
+	public void record(ChatMessageDto message) {
+		if (message.getSenderId() == null || message.getMessageSequence() == null) {
+			return;
+		}
+		long now = System.currentTimeMillis();
+		rooms.compute(message.getGroupId(), (roomId, messages) -> {
+			LinkedHashMap<Long, Entry> room = messages != null ? messages : new LinkedHashMap<>();
+			expire(room, now);
+			room.putIfAbsent(message.getMessageSequence(), new Entry(message, now + properties.getUnflushedRetentionMillis()));
+			Iterator<Entry> eldest = room.values().iterator();
+			while (room.size() > properties.getUnflushedMaxPerRoom()) {
+				eldest.next();
+				eldest.remove();
+			}
+			return room;
+		});
+	}
+
+	/**
+	 * @return afterSequence 이후 보관 중인 메시지, 순번 오름차순
+	 */
+	public List<ChatMessageDto> findAfter(Long roomId, long afterSequence) {
+		List<ChatMessageDto> found = new ArrayList<>();
+		long now = System.currentTimeMillis();
+		rooms.computeIfPresent(roomId, (id, room) -> {
+			expire(room, now);
+			room.values().stream()
+				.map(Entry::message)
+				.filter(message -> message.getMessageSequence() > afterSequence)
+				.forEach(found::add);
+			return room.isEmpty() ? null : room;
+		});
+		found.sort(Comparator.comparing(ChatMessageDto::getMessageSequence));
+		return found;
+	}
+
+	/**
+	 * 받은 순서 = 만료 순서이므로 앞에서부터 만료된 메시지만 지웁니다.
+	 */
+	private void expire(LinkedHashMap<Long, Entry> room, long now) {
+		Iterator<Entry> iterator = room.values().iterator();
+		while (iterator.hasNext() && iterator.next().expiresAt() <= now) {
+			iterator.remove();
+		}
+	}
+
+	private record Entry(ChatMessageDto message, long expiresAt) {
+	}
+}
@@ -0,0 +1,50 @@
+package com.onmoim.server.chat.service;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.onmoim.server.chat.common.config.ChatReadCursorProperties;
+import com.onmoim.server.chat.common.config.ChatRoomListProperties;
+import com.onmoim.server.chat.repository.ChatReadCursorRepository;
+import com.onmoim.server.chat.repository.ChatRoomLastMessageRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅방 마지막 메시지(read model) 도입 이전의 채팅방을 시작 시 한 번 채웁니다.
+ * 이어서 읽음 위치가 없는 참여자를 채팅방 마지막 순번으로 채웁니다. (마지막 메시지가 먼저 채워져야 합니다)
+ * 이미 있는 채팅방과 읽음 위치는 건드리지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomLastMessageBackfill {
+	private final ChatRoomLastMessageRepository chatRoomLastMessageRepository;
+	private final ChatReadCursorRepository chatReadCursorRepository;
+	private final ChatRoomListProperties properties;
+	private final ChatReadCursorProperties readCursorProperties;
+	private final TransactionTemplate transactionTemplate;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfill() {
+		if (properties.isBackfillLastMessage()) {
+			try {
+				Integer inserted = transactionTemplate.execute(status -> chatRoomLastMessageRepository.backfillMissing());
+				log.info("채팅방 마지막 메시지 채움: {} 개 방", inserted);
+			} catch (Exception e) {
+				log.warn("채팅방 마지막 메시지 채움 실패: {}", e.getMessage());
+			}
+		}
+		if (readCursorProperties.isBackfill()) {
+			try {
+				Integer inserted = transactionTemplate.execute(status -> chatReadCursorRepository.backfillMissing());
+				log.info("채팅 읽음 위치 채움: {} 건", inserted);
+			} catch (Exception e) {
+				log.warn("채팅 읽음 위치 채움 실패: {}", e.getMessage());
+			}
+		}
+	}
+}
@@ -2,6 +2,7 @@ package com.onmoim.server.chat.service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,8 +18,19 @@ import lombok.RequiredArgsConstructor;
 public class ChatRoomListService {
 
 	private final ChatRoomRepository chatRoomRepository;
+	private final ChatSenderProfileCache chatSenderProfileCache;
+	private final ChatReadCursorService chatReadCursorService;
 
 	public List<ChatRoomSummeryDto> getChatRoomList(Long userId, LocalDateTime cursorTime, String cursorGroupName, int size) {
-		return chatRoomRepository.findJoinedGroupList(userId, cursorTime, cursorGroupName, size);
+		List<ChatRoomSummeryDto> rooms = chatRoomRepository.findJoinedGroupList(userId, cursorTime, cursorGroupName, size);
+
+		// 마지막 메시지 발신자 정보는 캐시에서 한 번에 채웁니다.
+		chatSenderProfileCache.fillSenders(rooms.stream()
+			.map(ChatRoomSummeryDto::getMessage)
+			.filter(Objects::nonNull)
+			.toList());
+		// 안 읽은 메시지 수는 아직 DB 에 반영되지 않은 읽음 위치까지 보고 셉니다.
+		chatReadCursorService.fillUnreadCounts(userId, rooms);
+		return rooms;
 	}
 }
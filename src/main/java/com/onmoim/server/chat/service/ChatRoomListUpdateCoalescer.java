@@ -0,0 +1,168 @@
+package com.onmoim.server.chat.service;
+
+import static com.onmoim.server.chat.domain.enums.SubscribeRegistry.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import com.onmoim.server.chat.common.config.ChatRoomListProperties;
+import com.onmoim.server.chat.domain.dto.ChatMessageDto;
+import com.onmoim.server.chat.domain.dto.ChatRoomListUpdateDto;
+import com.onmoim.server.chat.domain.dto.ChatRoomRoster;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅방 목록 갱신 병합
+ * <p>
+ * 방마다 coalesceWindow 간격으로 최대 한 번만 목록 갱신을 전송합니다.
+ * - 직전 전송 후 window 가 지났으면 바로 전송을 예약합니다.
+ * - window 안에 들어온 메시지는 마지막 메시지만 남기고, window 가 끝나는 시점에 한 번 전송합니다.
+ * - window 가 끝날 때까지 들어온 메시지가 없으면 방 항목을 제거합니다.
+ * 전송은 전용 스케줄러 스레드에서 처리하므로 메시지 수신 스레드는 회원 수만큼 기다리지 않습니다.
+ */
+@Slf4j
+@Component
+public class ChatRoomListUpdateCoalescer {
+	private final ChatFanOutSender chatFanOutSender;
+	private final ChatRoomRosterCache chatRoomRosterCache;
+	private final ChatRoomListProperties properties;
+	private final ThreadPoolTaskScheduler scheduler;
+	private final LongSupplier clock;
+
+	private final ConcurrentHashMap<Long, RoomState> rooms = new ConcurrentHashMap<>();
+
+	@Autowired
+	public ChatRoomListUpdateCoalescer(
+		ChatFanOutSender chatFanOutSender,
+		ChatRoomRosterCache chatRoomRosterCache,
+		ChatRoomListProperties properties
+	) {
+		this(chatFanOutSender, chatRoomRosterCache, properties, newScheduler(properties), System::currentTimeMillis);
+	}
+
+	ChatRoomListUpdateCoalescer(
+		ChatFanOutSender chatFanOutSender,
+		ChatRoomRosterCache chatRoomRosterCache,
+		ChatRoomListProperties properties,
+		ThreadPoolTaskScheduler scheduler,
+		LongSupplier clock
+	) {
+		this.chatFanOutSender = chatFanOutSender;
+		this.chatRoomRosterCache = chatRoomRosterCache;
+		this.properties = properties;
+		this.scheduler = scheduler;
+		this.clock = clock;
+	}
+
+	private static ThreadPoolTaskScheduler newScheduler(ChatRoomListProperties properties) {
+		ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+		scheduler.setPoolSize(properties.getSchedulerPoolSize());
+		scheduler.setThreadNamePrefix("chat-room-list-");
+		scheduler.initialize();
+		return scheduler;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		scheduler.shutdown();
+	}
+
+	/**
+	 * 방의 최신 메시지를 등록합니다. 실제 전송은 window 단위로 병합됩니다.
+	 */
+	public void submit(ChatMessageDto latestMessage) {
+		Long roomId = latestMessage.getGroupId();
+		// 제거 직전의 항목을 받았다면 새 항목으로 다시 등록합니다.
+		boolean submitted;
+		do {
+			submitted = submit(roomId, rooms.computeIfAbsent(roomId, id -> new RoomState()), latestMessage);
+		} while (!submitted);
+	}
+
+	/**
+	 * @return 이미 제거된 항목이면 false
+	 */
+	private boolean submit(Long roomId, RoomState state, ChatMessageDto latestMessage) {
+		synchronized (state) {
+			if (state.removed) {
+				return false;
+			}
+			state.latestMessage = latestMessage;
+			if (state.scheduled) {
+				return true;
+			}
+			state.scheduled = true;
+			scheduler.schedule(() -> flush(roomId, state), Instant.ofEpochMilli(clock.getAsLong()));
+			return true;
+		}
+	}
+
+	/**
+	 * 마지막 메시지를 전송하고 window 종료 시 다시 확인하도록 예약합니다.
+	 * 그때까지 들어온 메시지가 없으면 방 항목을 제거합니다.
+	 */
+	private void flush(Long roomId, RoomState state) {
+		ChatMessageDto latestMessage;
+		long nextCheckAt;
+		synchronized (state) {
+			latestMessage = state.latestMessage;
+			if (latestMessage == null) {
+				state.removed = true;
+				rooms.remove(roomId, state);
+				return;
+			}
+			state.latestMessage = null;
+			nextCheckAt = clock.getAsLong() + properties.getCoalesceWindowMillis();
+		}
+		send(roomId, latestMessage);
+		scheduler.schedule(() -> flush(roomId, state), Instant.ofEpochMilli(nextCheckAt));
+	}
+
+	int roomCount() {
+		return rooms.size();
+	}
+
+	/**
+	 * 채팅방 참여자들의 채팅방 목록 업데이트
+	 */
+	private void send(Long roomId, ChatMessageDto latestMessage) {
+		try {
+			ChatRoomRoster roster = chatRoomRosterCache.get(roomId);
+
+			// 채팅방 목록 업데이트용 DTO 생성
+			ChatRoomListUpdateDto updateDto = ChatRoomListUpdateDto.builder()
+				.groupId(roomId)
+				.groupName(roster.groupName())
+				.participantCount(roster.participantCount())
+				.latestMessage(latestMessage)
+				.build();
+
+			// 각 참여자의 채팅방 목록 토픽으로 전송, 직렬화는 한 번만 수행합니다.
+			List<String> destinations = roster.memberIds().stream()
+				.map(userId -> CHAT_ROOM_LIST_PREFIX.getDestination() + userId)
+				.toList();
+			String dedupeKey = CHAT_ROOM_LIST_PREFIX.getDestination() + "|" + roomId + "-" + latestMessage.getMessageSequence();
+			int failed = chatFanOutSender.send(destinations, updateDto, dedupeKey);
+
+			log.debug("채팅방 목록 업데이트 완료: 방ID: {}, 대상 사용자 수: {}, 실패: {}", roomId, destinations.size(), failed);
+
+		} catch (Exception e) {
+			log.error("채팅방 목록 업데이트 실패: 방ID: {}, 오류: {}", roomId, e.getMessage(), e);
+		}
+	}
+
+	private static class RoomState {
+		private ChatMessageDto latestMessage;
+		// 예약된 flush 가 있으면 true, 제거될 때까지 유지됩니다.
+		private boolean scheduled;
+		private boolean removed;
+	}
+}
@@ -0,0 +1,50 @@
+package com.onmoim.server.chat.service;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.onmoim.server.chat.domain.dto.ChatRoomRoster;
+import com.onmoim.server.chat.messaging.ChatRoomMemberChangedEvent;
+import com.onmoim.server.group.implement.GroupQueryService;
+import com.onmoim.server.group.implement.GroupUserQueryService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅방별 이름과 전체 회원 ID 캐시
+ * <p>
+ * 구성원 변경 이벤트가 커밋된 뒤 해당 방 항목을 제거하고, 다음 조회 때 다시 불러옵니다.
+ * 불러오는 중에는 같은 방의 제거가 대기하므로(ConcurrentHashMap.computeIfAbsent) 변경 이전 명단이 남지 않습니다.
+ * 다른 노드의 구성원 변경은 {@link com.onmoim.server.chat.messaging.relay.ChatCacheInvalidationRelay} 가
+ * relayed 이벤트로 다시 발행하므로, 같은 리스너로 이 노드의 명단도 제거됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomRosterCache {
+	private final GroupQueryService groupQueryService;
+	private final GroupUserQueryService groupUserQueryService;
+
+	private final ConcurrentHashMap<Long, ChatRoomRoster> rosters = new ConcurrentHashMap<>();
+
+	public ChatRoomRoster get(Long roomId) {
+		return rosters.computeIfAbsent(roomId, this::load);
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onMemberChanged(ChatRoomMemberChangedEvent event) {
+		rosters.remove(event.groupId());
+		log.debug("채팅방 구성원 캐시 무효화: 방ID: {}, 대상 사용자: {}", event.groupId(), event.userIds());
+	}
+
+	private ChatRoomRoster load(Long roomId) {
+		String groupName = groupQueryService.getById(roomId).getName();
+		List<Long> memberIds = groupUserQueryService.findMemberIds(roomId);
+		log.debug("채팅방 구성원 캐시 적재: 방ID: {}, 회원 수: {}", roomId, memberIds.size());
+		return new ChatRoomRoster(groupName, List.copyOf(memberIds));
+	}
+}
@@ -0,0 +1,162 @@
+package com.onmoim.server.chat.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.onmoim.server.chat.common.config.ChatSenderProfileProperties;
+import com.onmoim.server.chat.domain.dto.ChatMessageDto;
+import com.onmoim.server.chat.domain.dto.ChatSenderProfile;
+import com.onmoim.server.chat.domain.dto.ChatUserDto;
+import com.onmoim.server.chat.messaging.ChatSenderProfileChangedEvent;
+import com.onmoim.server.chat.repository.ChatMessageRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅 메시지 발신자 표시 정보(이름, 프로필 이미지) 캐시
+ * <p>
+ * 메시지 이력은 User 를 JOIN 하지 않고 조회한 뒤, 여기서 발신자 정보를 한 번에 채웁니다.
+ * 캐시에 없는 사용자만 IN 조회 한 번으로 불러옵니다.
+ * 프로필 변경 이벤트가 커밋된 뒤 해당 사용자를 제거합니다.
+ * 다른 노드의 변경은 {@link com.onmoim.server.chat.messaging.relay.ChatCacheInvalidationRelay} 가 relayed 이벤트로 다시 발행합니다.
+ * 제거가 DB 조회 도중에 일어났다면 그 조회 결과는 캐시에 넣지 않습니다. (변경 이전 값이 남지 않도록)
+ */
+@Slf4j
+@Component
+public class ChatSenderProfileCache {
+	private final ChatMessageRepository chatMessageRepository;
+	private final LinkedHashMap<Long, ChatSenderProfile> profiles;
+	private long invalidations;
+
+	private final Counter hitCounter;
+	private final Counter missCounter;
+
+	public ChatSenderProfileCache(
+		ChatMessageRepository chatMessageRepository,
+		ChatSenderProfileProperties properties,
+		MeterRegistry meterRegistry
+	) {
+		this.chatMessageRepository = chatMessageRepository;
+		int maxSize = properties.getMaxSize();
+		this.profiles = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Long, ChatSenderProfile> eldest) {
+				return size() > maxSize;
+			}
+		};
+		this.hitCounter = Counter.builder("chat.sender_profile.hit").register(meterRegistry);
+		this.missCounter = Counter.builder("chat.sender_profile.miss").register(meterRegistry);
+	}
+
+	/**
+	 * @return 발신자 정보, 없는 사용자면 null
+	 */
+	public ChatSenderProfile get(Long userId) {
+		return getAll(List.of(userId)).get(userId);
+	}
+
+	/**
+	 * 여러 사용자를 한 번에 조회합니다. 없는 사용자는 결과에 포함되지 않습니다.
+	 */
+	public Map<Long, ChatSenderProfile> getAll(Collection<Long> userIds) {
+		Map<Long, ChatSenderProfile> result = new HashMap<>();
+		Set<Long> missing = new HashSet<>();
+		long generation;
+		synchronized (this) {
+			for (Long userId : userIds) {
+				ChatSenderProfile profile = profiles.get(userId);
+				if (profile != null) {
+					result.put(userId, profile);
+				} else {
+					missing.add(userId);
+				}
+			}
+			generation = invalidations;
+		}
+		hitCounter.increment(result.size());
+		if (missing.isEmpty()) {
+			return result;
+		}
+
+		missCounter.increment(missing.size());
+		List<ChatSenderProfile> loaded = chatMessageRepository.findSenderProfiles(missing);
+		synchronized (this) {
+			boolean fresh = generation == invalidations;
+			for (ChatSenderProfile profile : loaded) {
+				result.put(profile.id(), profile);
+				if (fresh) {
+					profiles.put(profile.id(), profile);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 메시지마다 발신자 정보를 채운 새 목록을 반환합니다.
+	 * 메시지는 최근 메시지 캐시와 공유될 수 있으므로 원본은 바꾸지 않습니다.
+	 * 발신자를 찾을 수 없는 메시지는 제외합니다. (기존 User JOIN 과 같은 결과)
+	 */
+	public List<ChatMessageDto> enrich(List<ChatMessageDto> messages) {
+		Set<Long> senderIds = new HashSet<>();
+		messages.forEach(message -> senderIds.add(message.getSenderId()));
+		Map<Long, ChatSenderProfile> senders = getAll(senderIds);
+
+		List<ChatMessageDto> enriched = new ArrayList<>(messages.size());
+		for (ChatMessageDto message : messages) {
+			ChatSenderProfile sender = senders.get(message.getSenderId());
+			if (sender == null) {
+				continue;
+			}
+			enriched.add(ChatMessageDto.builder()
+				.messageSequence(message.getMessageSequence())
+				.groupId(message.getGroupId())
+				.type(message.getType())
+				.content(message.getContent())
+				.senderId(message.getSenderId())
+				.timestamp(message.getTimestamp())
+				.chatUserDto(sender.toChatUserDto(false))
+				.build());
+		}
+		return enriched;
+	}
+
+	/**
+	 * 조회 직후의 메시지(공유되지 않는 객체)에 발신자 정보를 직접 채웁니다.
+	 * 발신자가 없으면 빈 발신자 정보를 채웁니다. (기존 LEFT JOIN 과 같은 결과)
+	 */
+	public void fillSenders(Collection<ChatMessageDto> messages) {
+		Set<Long> senderIds = new HashSet<>();
+		messages.forEach(message -> {
+			if (message.getSenderId() != null) {
+				senderIds.add(message.getSenderId());
+			}
+		});
+		Map<Long, ChatSenderProfile> senders = senderIds.isEmpty() ? Map.of() : getAll(senderIds);
+
+		for (ChatMessageDto message : messages) {
+			ChatSenderProfile sender = message.getSenderId() != null ? senders.get(message.getSenderId()) : null;
+			message.setChatUserDto(sender != null ? sender.toChatUserDto(false) : ChatUserDto.builder().build());
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProfileChanged(ChatSenderProfileChangedEvent event) {
+		synchronized (this) {
+			profiles.remove(event.userId());
+			invalidations++;
+		}
+		log.debug("채팅 발신자 정보 캐시 무효화: 사용자ID: {}", event.userId());
+	}
+}
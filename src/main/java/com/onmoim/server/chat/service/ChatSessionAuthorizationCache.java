@@ -0,0 +1,143 @@
+package com.onmoim.server.chat.service;
+
+import static com.onmoim.server.chat.domain.enums.SubscribeRegistry.*;
+
+import java.security.Principal;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import com.onmoim.server.chat.domain.dto.ChatRoomAuthorization;
+import com.onmoim.server.chat.messaging.ChatRoomMemberChangedEvent;
+import com.onmoim.server.common.exception.CustomException;
+import com.onmoim.server.common.exception.ErrorCode;
+import com.onmoim.server.group.entity.GroupUser;
+import com.onmoim.server.group.implement.GroupQueryService;
+import com.onmoim.server.group.implement.GroupUserQueryService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * STOMP 세션별 채팅방 전송 권한 캐시
+ * <p>
+ * /topic/chat.room.{id} 구독 시점에 회원 여부와 모임장 여부를 한 번 확인해 세션에 보관합니다.
+ * 메시지 전송은 보관된 권한만 확인하므로 DB 를 조회하지 않습니다. (구독한 세션의 다른 방은 첫 전송 때 확인 후 보관)
+ * 세션 항목은 구독 시점에만 만듭니다. 구독하지 않은 세션이나 연결 종료 후 늦게 도착한 전송은 보관하지 않고 매번 확인합니다.
+ * - 탈퇴, 강퇴, 모임장 위임, 모임 삭제 : 구성원 변경 이벤트가 커밋된 뒤 해당 사용자의 권한을 제거합니다.
+ *   다중 노드에서는 다른 노드의 변경도 중계되어 같은 이벤트로 들어옵니다. {@link com.onmoim.server.chat.messaging.relay.ChatCacheInvalidationRelay}
+ * - 연결 종료 : 세션의 권한을 모두 제거합니다.
+ * 확인 중에는 같은 세션/방의 제거가 대기하므로(ConcurrentHashMap.computeIfAbsent) 변경 이전 권한이 남지 않습니다.
+ * 회원이 아니면 보관하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatSessionAuthorizationCache {
+	private final GroupQueryService groupQueryService;
+	private final GroupUserQueryService groupUserQueryService;
+
+	private final ConcurrentHashMap<String, SessionAuthorizations> sessions = new ConcurrentHashMap<>();
+	// userId -> sessionId
+	private final ConcurrentHashMap<Long, Set<String>> userSessions = new ConcurrentHashMap<>();
+
+	/**
+	 * 세션의 채팅방 전송 권한을 반환합니다. 보관된 권한이 없으면 확인 후 보관합니다.
+	 * 등록되지 않은 세션이면 보관하지 않고 확인만 합니다.
+	 * @throws CustomException 모임이 없거나 회원이 아닌 경우
+	 */
+	public ChatRoomAuthorization authorize(String sessionId, Long roomId, Long userId) {
+		SessionAuthorizations session = sessionId != null ? sessions.get(sessionId) : null;
+		if (session == null) {
+			return resolve(roomId, userId);
+		}
+		return authorize(session, roomId, userId);
+	}
+
+	private ChatRoomAuthorization authorize(SessionAuthorizations session, Long roomId, Long userId) {
+		if (!session.userId().equals(userId)) {
+			throw new CustomException(ErrorCode.DENIED_UNAUTHORIZED_USER);
+		}
+		return session.rooms().computeIfAbsent(roomId, id -> resolve(id, userId));
+	}
+
+	private SessionAuthorizations register(String sessionId, Long userId) {
+		return sessions.computeIfAbsent(sessionId, id -> {
+			userSessions.computeIfAbsent(userId, key -> ConcurrentHashMap.newKeySet()).add(id);
+			return new SessionAuthorizations(userId, new ConcurrentHashMap<>());
+		});
+	}
+
+	@EventListener
+	public void onSubscribe(SessionSubscribeEvent event) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+		Long roomId = roomIdOf(accessor.getDestination());
+		Principal user = accessor.getUser();
+		if (roomId == null || user == null || accessor.getSessionId() == null) {
+			return;
+		}
+		try {
+			Long userId = Long.parseLong(user.getName());
+			authorize(register(accessor.getSessionId(), userId), roomId, userId);
+		} catch (CustomException e) {
+			log.debug("채팅방 권한 없음: 세션: {}, 방ID: {}, 사유: {}", accessor.getSessionId(), roomId, e.getMessage());
+		} catch (NumberFormatException e) {
+			log.debug("채팅방 권한 확인 생략: 사용자: {}", user.getName());
+		}
+	}
+
+	@EventListener
+	public void onDisconnect(SessionDisconnectEvent event) {
+		SessionAuthorizations session = sessions.remove(event.getSessionId());
+		if (session == null) {
+			return;
+		}
+		userSessions.computeIfPresent(session.userId(), (userId, sessionIds) -> {
+			sessionIds.remove(event.getSessionId());
+			return sessionIds.isEmpty() ? null : sessionIds;
+		});
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onMemberChanged(ChatRoomMemberChangedEvent event) {
+		for (Long userId : event.userIds()) {
+			for (String sessionId : userSessions.getOrDefault(userId, Set.of())) {
+				SessionAuthorizations session = sessions.get(sessionId);
+				if (session != null) {
+					session.rooms().remove(event.groupId());
+				}
+			}
+		}
+		log.debug("채팅방 권한 무효화: 방ID: {}, 대상 사용자: {}", event.groupId(), event.userIds());
+	}
+
+	private ChatRoomAuthorization resolve(Long roomId, Long userId) {
+		groupQueryService.existsById(roomId);
+		GroupUser groupUser = groupUserQueryService.findById(roomId, userId)
+			.filter(GroupUser::isJoined)
+			.orElseThrow(() -> new CustomException(ErrorCode.NOT_EXISTS_GROUP));
+		return new ChatRoomAuthorization(roomId, userId, groupUser.isOwner());
+	}
+
+	private Long roomIdOf(String destination) {
+		if (destination == null
+			|| !destination.startsWith(CHAT_ROOM_SUBSCRIBE_PREFIX.getDestination())
+			|| destination.startsWith(CHAT_ROOM_LIST_PREFIX.getDestination())) {
+			return null;
+		}
+		try {
+			return Long.parseLong(destination.substring(CHAT_ROOM_SUBSCRIBE_PREFIX.getDestination().length()));
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	private record SessionAuthorizations(Long userId, ConcurrentHashMap<Long, ChatRoomAuthorization> rooms) {
+	}
+}
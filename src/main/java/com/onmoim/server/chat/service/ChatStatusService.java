@@ -1,30 +1,83 @@
 package com.onmoim.server.chat.service;
 
-import com.onmoim.server.chat.domain.ChatRoomMessage;
 import com.onmoim.server.chat.domain.ChatRoomMessageId;
 import com.onmoim.server.chat.domain.enums.DeliveryStatus;
-import com.onmoim.server.chat.repository.ChatMessageRepository;
-import com.onmoim.server.common.exception.CustomException;
-import com.onmoim.server.common.exception.ErrorCode;
+import com.onmoim.server.chat.repository.ChatMessageBatchRepository;
+import com.onmoim.server.chat.service.writebehind.ChatMessageWriteBehindService;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메시지 전송 상태 관리
+ * <p>
+ * 상태 변경마다 findById + save 를 하지 않습니다.
+ * - 저장 대기 중인 메시지 : write-behind 대기열의 엔티티를 변경하고 INSERT 에 함께 기록합니다. (추가 쿼리 없음)
+ * - 이미 저장된 메시지 : 메모리에 모아 두었다가 상태별로 묶어 bulk UPDATE 합니다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ChatStatusService {
-	private final ChatMessageRepository chatMessageRepository;
+	private static final int BULK_UPDATE_SIZE = 500;
+
+	private final ChatMessageBatchRepository chatMessageBatchRepository;
+	private final ChatMessageWriteBehindService chatMessageWriteBehindService;
+
+	// 반영 대기 중인 상태, 같은 메시지는 마지막 상태만 남습니다.
+	private final ConcurrentHashMap<ChatRoomMessageId, DeliveryStatus> changedStatuses = new ConcurrentHashMap<>();
 
 	/**
 	 * 메시지 전송 상태 업데이트
 	 */
 	public void updateMessageDeliveryStatus(ChatRoomMessageId messageId, DeliveryStatus status) {
-		ChatRoomMessage message = chatMessageRepository.findById(messageId)
-			.orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_MESSAGE));
+		if (chatMessageWriteBehindService.updatePendingStatus(messageId, status)) {
+			log.debug("저장 대기 메시지 상태 업데이트: ID: {}, 상태: {}", messageId, status);
+			return;
+		}
+
+		changedStatuses.put(messageId, status);
+		log.debug("메시지 상태 업데이트 예약: ID: {}, 상태: {}", messageId, status);
+	}
+
+	/**
+	 * 모아 둔 상태 변경을 상태별 bulk UPDATE 로 반영합니다.
+	 */
+	@Scheduled(fixedDelayString = "${chat.delivery-status.flush-interval-millis:200}")
+	@PreDestroy
+	public void flushDeliveryStatuses() {
+		if (changedStatuses.isEmpty()) {
+			return;
+		}
+
+		Map<DeliveryStatus, List<ChatRoomMessageId>> idsByStatus = new EnumMap<>(DeliveryStatus.class);
+		for (ChatRoomMessageId messageId : changedStatuses.keySet()) {
+			DeliveryStatus status = changedStatuses.remove(messageId);
+			if (status != null) {
+				idsByStatus.computeIfAbsent(status, s -> new ArrayList<>()).add(messageId);
+			}
+		}
 
-		message.setDeliveryStatus(status);
-		chatMessageRepository.save(message);
-		log.debug("메시지 상태 업데이트: ID: {}, 상태: {}", messageId, status);
+		idsByStatus.forEach((status, messageIds) -> {
+			for (int from = 0; from < messageIds.size(); from += BULK_UPDATE_SIZE) {
+				List<ChatRoomMessageId> chunk = messageIds.subList(from, Math.min(from + BULK_UPDATE_SIZE, messageIds.size()));
+				try {
+					int updated = chatMessageBatchRepository.updateDeliveryStatus(status, chunk);
+					log.debug("메시지 상태 일괄 업데이트: 상태: {}, 대상: {}, 반영: {}", status, chunk.size(), updated);
+				} catch (Exception e) {
+					// 다음 주기에 다시 시도, 그 사이 새 상태가 들어왔다면 새 상태를 유지합니다.
+					chunk.forEach(messageId -> changedStatuses.putIfAbsent(messageId, status));
+					log.warn("메시지 상태 일괄 업데이트 실패: 상태: {}, 대상: {}, 오류: {}", status, chunk.size(), e.getMessage());
+				}
+			}
+		});
 	}
 }
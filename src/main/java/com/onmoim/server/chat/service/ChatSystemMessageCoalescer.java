@@ -0,0 +1,202 @@
+package com.onmoim.server.chat.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import com.onmoim.server.chat.common.config.ChatSystemMessageProperties;
+import com.onmoim.server.chat.domain.enums.ChatSystemMessageTemplate;
+import com.onmoim.server.chat.messaging.ChatSystemMessageEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시스템 메시지 전송 및 병합
+ * <p>
+ * 전용 전송 스레드(chat-system-)에서 전송하므로 기본 @Async 실행기와 분리됩니다.
+ * 전송 대기열은 sendQueueCapacity 로 제한하고, 가득 차면 전송하지 않고 chat.system_message.rejected 로 집계합니다.
+ * 스케줄러(chat-system-timer-)는 window 종료 확인만 예약하고 실제 전송은 전송 스레드에 넘깁니다.
+ * 같은 방의 같은 template(가입, 탈퇴) 메시지는 coalesceWindow 간격으로 최대 한 번만 전송합니다.
+ * - 직전 전송 후 window 가 지났으면 바로 전송을 예약합니다.
+ * - window 안에 들어온 이벤트는 이름 maxNames 개와 건수만 모아 "A, B님 외 N명이 가입했습니다." 로 한 번 전송합니다.
+ * 방/template 마다 예약 작업은 하나뿐이고 이름도 maxNames 개까지만 보관하므로, 가입이 몰려도 대기 작업과 메모리가 늘어나지 않습니다.
+ * 전송 후 window 가 끝날 때 다시 확인해, 그 사이 들어온 이벤트가 없으면 방/template 항목을 제거합니다.
+ */
+@Slf4j
+@Component
+public class ChatSystemMessageCoalescer {
+	private final ChatMessageService chatMessageService;
+	private final ChatSystemMessageProperties properties;
+	private final ThreadPoolTaskScheduler scheduler;
+	private final ThreadPoolTaskExecutor sendExecutor;
+	private final LongSupplier clock;
+
+	private final ConcurrentHashMap<Key, Batch> batches = new ConcurrentHashMap<>();
+
+	private final Counter coalescedCounter;
+	private final Counter rejectedCounter;
+
+	@Autowired
+	public ChatSystemMessageCoalescer(
+		ChatMessageService chatMessageService,
+		ChatSystemMessageProperties properties,
+		MeterRegistry meterRegistry
+	) {
+		this(chatMessageService, properties, meterRegistry, newScheduler(), newSendExecutor(properties),
+			System::currentTimeMillis);
+	}
+
+	ChatSystemMessageCoalescer(
+		ChatMessageService chatMessageService,
+		ChatSystemMessageProperties properties,
+		MeterRegistry meterRegistry,
+		ThreadPoolTaskScheduler scheduler,
+		ThreadPoolTaskExecutor sendExecutor,
+		LongSupplier clock
+	) {
+		this.chatMessageService = chatMessageService;
+		this.properties = properties;
+		this.scheduler = scheduler;
+		this.sendExecutor = sendExecutor;
+		this.clock = clock;
+
+		this.coalescedCounter = Counter.builder("chat.system_message.coalesced").register(meterRegistry);
+		this.rejectedCounter = Counter.builder("chat.system_message.rejected")
+			.description("전송 대기열이 가득 차 버린 시스템 메시지 수")
+			.register(meterRegistry);
+	}
+
+	private static ThreadPoolTaskScheduler newScheduler() {
+		// 방/template 마다 예약 작업은 하나뿐이고 전송은 하지 않으므로 한 스레드로 충분합니다.
+		ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+		scheduler.setPoolSize(1);
+		scheduler.setThreadNamePrefix("chat-system-timer-");
+		scheduler.initialize();
+		return scheduler;
+	}
+
+	private static ThreadPoolTaskExecutor newSendExecutor(ChatSystemMessageProperties properties) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(properties.getSchedulerPoolSize());
+		executor.setMaxPoolSize(properties.getSchedulerPoolSize());
+		executor.setQueueCapacity(properties.getSendQueueCapacity());
+		executor.setThreadNamePrefix("chat-system-");
+		executor.initialize();
+		return executor;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		scheduler.shutdown();
+		sendExecutor.shutdown();
+	}
+
+	/**
+	 * 시스템 메시지를 등록합니다. 병합 대상이 아니면 바로 전송을 예약합니다.
+	 */
+	public void submit(ChatSystemMessageEvent event) {
+		if (!event.isCoalescable() || properties.getCoalesceWindowMillis() <= 0) {
+			dispatch(event.groupId(), event.content());
+			return;
+		}
+
+		Key key = new Key(event.groupId(), event.template());
+		// 제거 직전의 항목을 받았다면 새 항목으로 다시 등록합니다.
+		boolean appended;
+		do {
+			appended = append(key, batches.computeIfAbsent(key, k -> new Batch()), event);
+		} while (!appended);
+	}
+
+	/**
+	 * @return 이미 제거된 항목이면 false
+	 */
+	private boolean append(Key key, Batch batch, ChatSystemMessageEvent event) {
+		synchronized (batch) {
+			if (batch.removed) {
+				return false;
+			}
+			if (batch.names.size() < properties.getMaxNames()) {
+				batch.names.add(event.name());
+			}
+			batch.count++;
+			if (batch.scheduled) {
+				coalescedCounter.increment();
+				return true;
+			}
+			batch.scheduled = true;
+			scheduler.schedule(() -> flush(key, batch), Instant.ofEpochMilli(clock.getAsLong()));
+			return true;
+		}
+	}
+
+	/**
+	 * 모인 이벤트를 전송하고 window 종료 시 다시 확인하도록 예약합니다.
+	 * 그때까지 들어온 이벤트가 없으면 항목을 제거합니다.
+	 */
+	private void flush(Key key, Batch batch) {
+		List<String> names;
+		int count;
+		long nextCheckAt;
+		synchronized (batch) {
+			if (batch.count == 0) {
+				batch.removed = true;
+				batches.remove(key, batch);
+				return;
+			}
+			names = List.copyOf(batch.names);
+			count = batch.count;
+			batch.names.clear();
+			batch.count = 0;
+			nextCheckAt = clock.getAsLong() + properties.getCoalesceWindowMillis();
+		}
+		dispatch(key.roomId(), key.template().getCoalescedContent(names, count));
+		scheduler.schedule(() -> flush(key, batch), Instant.ofEpochMilli(nextCheckAt));
+	}
+
+	int batchCount() {
+		return batches.size();
+	}
+
+	/**
+	 * 전송 스레드에 전송을 넘깁니다. 대기열이 가득 차면 버리고 집계합니다.
+	 */
+	private void dispatch(Long roomId, String content) {
+		try {
+			sendExecutor.execute(() -> send(roomId, content));
+		} catch (RejectedExecutionException e) {
+			rejectedCounter.increment();
+			log.warn("시스템 메시지 전송 대기열 초과로 전송하지 않음: 방ID: {}, 내용: {}", roomId, content);
+		}
+	}
+
+	private void send(Long roomId, String content) {
+		try {
+			chatMessageService.sendSystemMessage(roomId, content);
+		} catch (Exception e) {
+			log.error("시스템 메시지 전송 실패: 방ID: {}, 내용: {}, 오류: {}", roomId, content, e.getMessage(), e);
+		}
+	}
+
+	private record Key(Long roomId, ChatSystemMessageTemplate template) {
+	}
+
+	private static class Batch {
+		private final List<String> names = new ArrayList<>();
+		private int count;
+		// 예약된 flush 가 있으면 true, 제거될 때까지 유지됩니다.
+		private boolean scheduled;
+		private boolean removed;
+	}
+}
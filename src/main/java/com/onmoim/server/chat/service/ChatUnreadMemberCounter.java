@@ -0,0 +1,174 @@
+package com.onmoim.server.chat.service;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.onmoim.server.chat.common.config.ChatUnreadCounterProperties;
+import com.onmoim.server.chat.domain.dto.ChatMessageDto;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 메시지별 안 읽은 멤버 수
+ * <p>
+ * 활성 채팅방마다 멤버 읽음 위치를 정렬된 배열(중복 허용)로 보관합니다.
+ * 순번 s 메시지를 읽지 않은 멤버 수는 읽음 위치가 s 보다 작은 멤버 수이므로 이진 탐색 한 번(O(log n))으로 구합니다.
+ * - 첫 조회 때 loader 로 저장된 읽음 위치를 불러와 방을 등록합니다. 등록되지 않은 방의 갱신은 무시합니다.
+ * - 불러오는 동안 들어온 갱신은 먼저 반영해 두고, 불러온 값과 큰 쪽으로 합칩니다. (읽음 위치는 뒤로 가지 않음)
+ * - 구성원이 바뀌면 방을 제거하고 다음 조회 때 다시 불러옵니다.
+ * - 방 수가 상한을 넘으면 가장 오래 사용하지 않은 방부터 제거합니다.
+ */
+@Component
+public class ChatUnreadMemberCounter {
+	private final ChatUnreadCounterProperties properties;
+	private final LinkedHashMap<Long, RoomCursors> rooms = new LinkedHashMap<>(16, 0.75f, true);
+
+	private final Counter missCounter;
+
+	public ChatUnreadMemberCounter(ChatUnreadCounterProperties properties, MeterRegistry meterRegistry) {
+		this.properties = properties;
+		this.missCounter = Counter.builder("chat.unread_counter.miss")
+			.description("저장된 읽음 위치를 다시 불러온 횟수")
+			.register(meterRegistry);
+		Gauge.builder("chat.unread_counter.rooms", this, counter -> counter.roomCount())
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 메시지마다 안 읽은 멤버 수를 채웁니다.
+	 * @param loader 방의 멤버별 저장된 읽음 위치 (userId -> 순번)
+	 */
+	public void fill(Long roomId, List<ChatMessageDto> messages, Supplier<Map<Long, Long>> loader) {
+		if (messages.isEmpty()) {
+			return;
+		}
+		RoomCursors room;
+		boolean loaded;
+		synchronized (this) {
+			room = rooms.get(roomId);
+			if (room == null) {
+				room = new RoomCursors();
+				rooms.put(roomId, room);
+				evictEldest();
+			}
+		}
+		synchronized (room) {
+			loaded = room.loaded;
+		}
+		if (!loaded) {
+			missCounter.increment();
+			Map<Long, Long> persisted = loader.get();
+			synchronized (room) {
+				persisted.forEach(room::advance);
+				room.loaded = true;
+			}
+		}
+		synchronized (room) {
+			for (ChatMessageDto message : messages) {
+				message.setUnreadMemberCount(room.countBelow(message.getMessageSequence()));
+			}
+		}
+	}
+
+	/**
+	 * 등록된 방의 멤버 읽음 위치를 앞으로 옮깁니다.
+	 */
+	public void advance(Long roomId, Long userId, long messageSequence) {
+		RoomCursors room;
+		synchronized (this) {
+			room = rooms.get(roomId);
+		}
+		if (room == null) {
+			return;
+		}
+		synchronized (room) {
+			room.advance(userId, messageSequence);
+		}
+	}
+
+	public synchronized void evict(Long roomId) {
+		rooms.remove(roomId);
+	}
+
+	public synchronized int roomCount() {
+		return rooms.size();
+	}
+
+	private void evictEldest() {
+		var iterator = rooms.entrySet().iterator();
+		while (rooms.size() > properties.getMaxRooms() && iterator.hasNext()) {
+			iterator.next();
+			iterator.remove();
+		}
+	}
+
+	/**
+	 * 멤버별 읽음 위치와 그 값들의 정렬된 배열
+	 */
+	static class RoomCursors {
+		private final Map<Long, Long> cursors = new HashMap<>();
+		private long[] sorted = new long[8];
+		private int size;
+		private boolean loaded;
+
+		void advance(Long userId, long messageSequence) {
+			Long previous = cursors.get(userId);
+			if (previous != null && previous >= messageSequence) {
+				return;
+			}
+			cursors.put(userId, messageSequence);
+			if (previous != null) {
+				remove(previous);
+			}
+			insert(messageSequence);
+		}
+
+		/**
+		 * @return 읽음 위치가 messageSequence 보다 작은 멤버 수
+		 */
+		int countBelow(long messageSequence) {
+			return lowerBound(messageSequence);
+		}
+
+		private void insert(long value) {
+			if (size == sorted.length) {
+				sorted = Arrays.copyOf(sorted, size * 2);
+			}
+			int index = lowerBound(value);
+			System.arraycopy(sorted, index, sorted, index + 1, size - index);
+			sorted[index] = value;
+			size++;
+		}
+
+		private void remove(long value) {
+			int index = lowerBound(value);
+			System.arraycopy(sorted, index + 1, sorted, index, size - index - 1);
+			size--;
+		}
+
+		/**
+		 * value 이상인 첫 위치
+		 */
+		private int lowerBound(long value) {
+			int low = 0;
+			int high = size;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (sorted[mid] < value) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+	}
+}
@@ -0,0 +1,132 @@
+package com.onmoim.server.chat.service.archive;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.onmoim.server.chat.common.config.ChatArchiveProperties;
+import com.onmoim.server.chat.domain.ChatRoomMessage;
+import com.onmoim.server.chat.repository.ChatMessageArchiveBatchRepository;
+import com.onmoim.server.chat.repository.ChatMessageArchiveBatchRepository.StoredMessage;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 보관 기간이 지난 채팅 메시지를 chat_room_messages 에서 chat_room_message_archive 로 옮깁니다.
+ * <p>
+ * - 최근 메시지 테이블을 작게 유지해 INSERT 와 최근 메시지 조회가 작은 인덱스만 사용하도록 합니다.
+ * - 방마다 가장 작은 순번부터 batchSize 개씩 읽어, 보관 기간이 지난 앞부분만 한 트랜잭션으로 옮깁니다.
+ *   보관 기간은 서버 저장 시각(created_date) 기준이므로 클라이언트가 보낸 timestamp 와 무관합니다.
+ *   중간에 최근 메시지가 있으면 그 뒤는 옮기지 않으므로 보관 테이블은 항상 순번 앞부분만 가집니다.
+ * - 다른 스케줄 작업(상태/읽음 위치 반영)을 막지 않도록 전용 스레드에서 실행합니다.
+ * 조회는 {@link com.onmoim.server.chat.repository.ChatMessageHistoryRepository} 가 두 테이블을 이어서 처리합니다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "chat.archive", name = "enabled", havingValue = "true")
+public class ChatMessageArchiveService {
+
+	private final ChatMessageArchiveBatchRepository archiveBatchRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final ChatArchiveProperties properties;
+	private final ThreadPoolTaskScheduler scheduler;
+
+	private final Counter movedCounter;
+
+	public ChatMessageArchiveService(
+		ChatMessageArchiveBatchRepository archiveBatchRepository,
+		TransactionTemplate transactionTemplate,
+		ChatArchiveProperties properties,
+		MeterRegistry meterRegistry
+	) {
+		this.archiveBatchRepository = archiveBatchRepository;
+		this.transactionTemplate = transactionTemplate;
+		this.properties = properties;
+		this.movedCounter = Counter.builder("chat.archive.moved").register(meterRegistry);
+
+		this.scheduler = new ThreadPoolTaskScheduler();
+		scheduler.setPoolSize(1);
+		scheduler.setThreadNamePrefix("chat-archive-");
+		scheduler.initialize();
+		scheduler.scheduleWithFixedDelay(this::archive,
+			Instant.now().plusMillis(properties.getIntervalMillis()), Duration.ofMillis(properties.getIntervalMillis()));
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		scheduler.shutdown();
+	}
+
+	/**
+	 * 모든 채팅방을 채팅방 ID 순으로 돌며 보관 기간이 지난 메시지를 옮깁니다.
+	 * @return 옮긴 메시지 수
+	 */
+	public long archive() {
+		LocalDateTime cutoff = LocalDateTime.now().minusDays(properties.getHotRetentionDays());
+		long moved = 0;
+		Long afterRoomId = 0L;
+		List<Long> roomIds;
+		do {
+			roomIds = archiveBatchRepository.findRoomIds(afterRoomId, properties.getRoomPageSize());
+			for (Long roomId : roomIds) {
+				moved += archiveRoom(roomId, cutoff);
+			}
+			if (!roomIds.isEmpty()) {
+				afterRoomId = roomIds.get(roomIds.size() - 1);
+			}
+		} while (roomIds.size() == properties.getRoomPageSize());
+
+		if (moved > 0) {
+			log.info("채팅 메시지 보관 완료: {}건, 기준 시각: {}", moved, cutoff);
+		}
+		return moved;
+	}
+
+	private long archiveRoom(Long roomId, LocalDateTime cutoff) {
+		long moved = 0;
+		try {
+			// 대부분의 방은 옮길 메시지가 없으므로 가장 오래된 한 건만 먼저 확인합니다.
+			List<StoredMessage> oldest = archiveBatchRepository.findOldest(roomId, 1);
+			if (oldest.isEmpty() || !oldest.get(0).createdDate().isBefore(cutoff)) {
+				return 0;
+			}
+			int count;
+			do {
+				count = moveBatch(roomId, cutoff);
+				moved += count;
+			} while (count == properties.getBatchSize());
+		} catch (Exception e) {
+			log.warn("채팅 메시지 보관 실패, 다음 실행에서 다시 시도합니다. 방ID: {}, 오류: {}", roomId, e.getMessage());
+		}
+		return moved;
+	}
+
+	/**
+	 * @return 옮긴 메시지 수, batchSize 보다 적으면 이 방에서 더 옮길 메시지가 없습니다.
+	 */
+	private int moveBatch(Long roomId, LocalDateTime cutoff) {
+		Integer count = transactionTemplate.execute(status -> {
+			List<StoredMessage> oldest = archiveBatchRepository.findOldest(roomId, properties.getBatchSize());
+			List<ChatRoomMessage> expired = oldest.stream()
+				.takeWhile(stored -> stored.createdDate().isBefore(cutoff))
+				.map(StoredMessage::message)
+				.toList();
+			if (expired.isEmpty()) {
+				return 0;
+			}
+			archiveBatchRepository.moveAll(roomId, expired);
+			return expired.size();
+		});
+		movedCounter.increment(count);
+		return count;
+	}
+}
@@ -1,16 +1,13 @@
 package com.onmoim.server.chat.service.facade;
 
 import com.onmoim.server.chat.domain.dto.ChatMessageDto;
-import com.onmoim.server.chat.domain.dto.ChatUserDto;
+import com.onmoim.server.chat.domain.dto.ChatRoomAuthorization;
+import com.onmoim.server.chat.domain.dto.ChatSenderProfile;
 import com.onmoim.server.chat.service.ChatMessageService;
+import com.onmoim.server.chat.service.ChatSenderProfileCache;
+import com.onmoim.server.chat.service.ChatSessionAuthorizationCache;
 import com.onmoim.server.common.exception.CustomException;
 import com.onmoim.server.common.exception.ErrorCode;
-import com.onmoim.server.group.entity.Group;
-import com.onmoim.server.group.entity.GroupUser;
-import com.onmoim.server.group.implement.GroupQueryService;
-import com.onmoim.server.group.implement.GroupUserQueryService;
-import com.onmoim.server.user.entity.User;
-import com.onmoim.server.user.service.UserQueryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -24,36 +21,32 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class ChatMessageFacade {
 
-	private final GroupUserQueryService groupUserQueryService;
-	private final UserQueryService userQueryService;
-	private final GroupQueryService groupQueryService;
+	private final ChatSenderProfileCache chatSenderProfileCache;
+	private final ChatSessionAuthorizationCache chatSessionAuthorizationCache;
 	private final ChatMessageService chatMessageService;
 
 	/**
 	 * 메시지 전송
+	 * 회원 여부와 모임장 여부는 세션에 보관된 권한을, 발신자 표시 정보는 캐시를 사용합니다.
 	 */
 	@Transactional
-	public void sendMessage(ChatMessageDto message, Long userId) {
+	public void sendMessage(ChatMessageDto message, Long userId, String sessionId) {
 		log.debug("messageDto : {}, sender : {}", message, userId);
 
-		isExistsOrThrow(message.getGroupId());
+		ChatRoomAuthorization authorization =
+			chatSessionAuthorizationCache.authorize(sessionId, message.getGroupId(), userId);
 
-		// 메시지에 인증된 사용자 ID 설정
-		User user = userQueryService.findById(userId);
-		Group group = groupQueryService.getById(message.getGroupId());
-		GroupUser groupUser = groupUserQueryService.findById(group.getId(), userId)
-			.orElseThrow(() -> new CustomException(ErrorCode.NOT_EXISTS_GROUP));
+		// 메시지에 인증된 사용자 ID 설정, 발신자 표시 정보는 캐시에서 조회
+		ChatSenderProfile sender = chatSenderProfileCache.get(userId);
+		if (sender == null || sender.deleted()) {
+			throw new CustomException(ErrorCode.DENIED_UNAUTHORIZED_USER);
+		}
 
 		message.setSenderId(userId);
-		message.setChatUserDto(ChatUserDto.create(user, groupUser.isOwner()));
+		message.setChatUserDto(sender.toChatUserDto(authorization.owner()));
 
 		// 메시지 전송 서비스 호출
 		chatMessageService.sendUserMessage(message);
 	}
 
-	private void isExistsOrThrow(Long groupId) {
-		groupQueryService.existsById(groupId);
-	}
-
 }
-
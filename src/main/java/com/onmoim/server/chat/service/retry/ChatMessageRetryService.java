@@ -1,49 +1,208 @@
 package com.onmoim.server.chat.service.retry;
 
+import static com.onmoim.server.chat.messaging.relay.RedisChatBrokerRelay.*;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.onmoim.server.chat.common.config.ChatRetryProperties;
 import com.onmoim.server.chat.domain.ChatRoomMessageId;
 import com.onmoim.server.chat.domain.dto.ChatMessageDto;
 import com.onmoim.server.chat.domain.enums.DeliveryStatus;
 import com.onmoim.server.chat.service.ChatStatusService;
-import lombok.RequiredArgsConstructor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Recover;
-import org.springframework.retry.annotation.Retryable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 
+/**
+ * 전송 실패 메시지 재전송
+ * <p>
+ * 실패한 메시지를 지연 대기열(ScheduledExecutorService)에 등록하고 전용 스레드에서 재전송합니다.
+ * 호출한 스레드(inbound, 채팅방 lane)는 기다리지 않습니다.
+ * - 메시지별 시도 횟수와 다음 시도 시각을 보관합니다. 같은 메시지가 이미 대기 중이면 다시 등록하지 않습니다.
+ * - 재전송에 성공하면 SENT, maxAttempts 회 모두 실패하면 FAILED_PERMANENTLY 로 상태를 기록합니다.
+ *   상태 기록은 ChatStatusService 의 일괄 반영 경로를 사용합니다.
+ * - 대기열에서 메시지를 꺼낸 쪽(성공, 최종 실패, 종료)만 상태를 기록하므로 한 메시지의 최종 상태는 한 번만 기록됩니다.
+ * - 종료 시 진행 중인 재전송을 잠시 기다린 뒤, 남은 메시지는 FAILED_PERMANENTLY 로 기록합니다.
+ *   ChatStatusService 보다 먼저 종료되므로(의존 순서) 기록된 상태는 ChatStatusService 종료 시 반영됩니다.
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class ChatMessageRetryService {
 	private final SimpMessagingTemplate messagingTemplate;
 	private final ChatStatusService chatStatusService;
+	private final ChatRetryProperties properties;
+	private final ScheduledThreadPoolExecutor scheduler;
+
+	private final ConcurrentHashMap<ChatRoomMessageId, RetryEntry> pending = new ConcurrentHashMap<>();
+
+	private final Counter succeededCounter;
+	private final Counter exhaustedCounter;
+	private final Counter rejectedCounter;
+	private final Counter abandonedCounter;
+
+	public ChatMessageRetryService(
+		SimpMessagingTemplate messagingTemplate,
+		ChatStatusService chatStatusService,
+		ChatRetryProperties properties,
+		MeterRegistry meterRegistry
+	) {
+		this.messagingTemplate = messagingTemplate;
+		this.chatStatusService = chatStatusService;
+		this.properties = properties;
+
+		this.scheduler = new ScheduledThreadPoolExecutor(properties.getPoolSize(),
+			new CustomizableThreadFactory("chat-retry-"));
+		scheduler.setRemoveOnCancelPolicy(true);
+
+		this.succeededCounter = Counter.builder("chat.retry.succeeded").register(meterRegistry);
+		this.exhaustedCounter = Counter.builder("chat.retry.exhausted")
+			.description("최대 횟수까지 실패해 FAILED_PERMANENTLY 로 기록된 메시지 수")
+			.register(meterRegistry);
+		this.rejectedCounter = Counter.builder("chat.retry.rejected")
+			.description("재전송 대기열이 가득 차 바로 FAILED_PERMANENTLY 로 기록된 메시지 수")
+			.register(meterRegistry);
+		this.abandonedCounter = Counter.builder("chat.retry.abandoned")
+			.description("종료 시 재전송 대기 중이어서 FAILED_PERMANENTLY 로 기록된 메시지 수")
+			.register(meterRegistry);
+		Gauge.builder("chat.retry.pending", pending, ConcurrentHashMap::size)
+			.register(meterRegistry);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		scheduler.shutdownNow();
+		try {
+			if (!scheduler.awaitTermination(properties.getShutdownTimeoutMillis(), TimeUnit.MILLISECONDS)) {
+				log.warn("재전송 스레드 종료 대기 시간 초과");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		int abandoned = 0;
+		for (RetryEntry entry : pending.values()) {
+			if (pending.remove(entry.messageId, entry)) {
+				chatStatusService.updateMessageDeliveryStatus(entry.messageId, DeliveryStatus.FAILED_PERMANENTLY);
+				abandonedCounter.increment();
+				abandoned++;
+			}
+		}
+		if (abandoned > 0) {
+			log.warn("종료로 재전송하지 못한 메시지 {}건을 FAILED_PERMANENTLY 로 기록", abandoned);
+		}
+	}
 
-	@Retryable(
-		retryFor = Exception.class,
-		maxAttempts = 3,
-		backoff = @Backoff(delay = 100, multiplier = 1.5, maxDelay = 1000, random = true)
-	) // 약 100ms -> 150ms -> 225ms
+	/**
+	 * 재전송을 예약하고 바로 반환합니다.
+	 */
 	public void failedProcess(ChatMessageDto message, String destination) {
 		ChatRoomMessageId messageId = ChatRoomMessageId.create(message.getGroupId(), message.getMessageSequence());
-		log.debug("메시지 재전송 시도: ID: {}, 방ID: {}", messageId, message.getGroupId());
 
-		// WebSocket을 통해 메시지 재전송
-		messagingTemplate.convertAndSend(destination, message);
+		if (pending.size() >= properties.getMaxPending() && !pending.containsKey(messageId)) {
+			rejectedCounter.increment();
+			log.warn("재전송 대기열 포화: ID: {}, 대기 중: {}", messageId, pending.size());
+			chatStatusService.updateMessageDeliveryStatus(messageId, DeliveryStatus.FAILED_PERMANENTLY);
+			return;
+		}
 
+		RetryEntry entry = new RetryEntry(messageId, message, destination);
+		if (pending.putIfAbsent(messageId, entry) != null) {
+			return; // 이미 재전송 대기 중
+		}
+		schedule(entry);
+	}
+
+	public int pendingCount() {
+		return pending.size();
+	}
+
+	/**
+	 * @return 재전송 대기 중이 아니면 null
+	 */
+	public RetryStatus status(ChatRoomMessageId messageId) {
+		RetryEntry entry = pending.get(messageId);
+		return entry != null ? new RetryStatus(entry.attempts, entry.nextDueAt) : null;
+	}
+
+	private void schedule(RetryEntry entry) {
+		long delay = delayMillis(entry.attempts);
+		entry.nextDueAt = System.currentTimeMillis() + delay;
+		try {
+			scheduler.schedule(() -> retry(entry), delay, TimeUnit.MILLISECONDS);
+		} catch (Exception e) {
+			// 종료 중
+			if (pending.remove(entry.messageId, entry)) {
+				chatStatusService.updateMessageDeliveryStatus(entry.messageId, DeliveryStatus.FAILED_PERMANENTLY);
+			}
+		}
+	}
+
+	private void retry(RetryEntry entry) {
+		entry.attempts++;
+		log.debug("메시지 재전송 시도: ID: {}, 시도: {}", entry.messageId, entry.attempts);
+		try {
+			// WebSocket을 통해 메시지 재전송
+			messagingTemplate.convertAndSend(entry.destination, entry.message,
+				Map.of(MESSAGE_ID_HEADER, entry.messageId.toString()));
+		} catch (Exception e) {
+			if (entry.attempts < properties.getMaxAttempts()) {
+				log.debug("메시지 재전송 실패, 다시 예약: ID: {}, 시도: {}, 오류: {}", entry.messageId, entry.attempts, e.getMessage());
+				schedule(entry);
+				return;
+			}
+			if (!pending.remove(entry.messageId, entry)) {
+				return; // 종료 처리에서 이미 기록
+			}
+			exhaustedCounter.increment();
+			log.warn("메시지 재전송 최종 실패: ID: {}, 방ID: {}, 최대 시도 횟수 초과({}회), 오류: {}",
+				entry.messageId, entry.messageId.getRoomId(), entry.attempts, e.getMessage());
+			chatStatusService.updateMessageDeliveryStatus(entry.messageId, DeliveryStatus.FAILED_PERMANENTLY);
+			return;
+		}
+
+		if (!pending.remove(entry.messageId, entry)) {
+			return; // 종료 처리에서 이미 기록
+		}
+		succeededCounter.increment();
 		// 전송 성공 시 상태 업데이트
-		chatStatusService.updateMessageDeliveryStatus(messageId, DeliveryStatus.SENT);
+		chatStatusService.updateMessageDeliveryStatus(entry.messageId, DeliveryStatus.SENT);
+		log.debug("메시지 재전송 성공: ID: {}, 시도: {}", entry.messageId, entry.attempts);
+	}
 
-		log.debug("메시지 재전송 성공: ID: {}, 방ID: {}", messageId, message.getGroupId());
+	/**
+	 * initialDelay * multiplier^attempts, maxDelay 이하, 0.5~1.5 배 무작위
+	 */
+	private long delayMillis(int attempts) {
+		double base = properties.getInitialDelayMillis() * Math.pow(properties.getMultiplier(), attempts);
+		long capped = (long)Math.min(base, properties.getMaxDelayMillis());
+		return (long)(capped * (0.5 + ThreadLocalRandom.current().nextDouble()));
 	}
 
-	@Recover
-	public void recoverFailedMessage(Exception e, ChatMessageDto message, String destination) {
-		ChatRoomMessageId messageId = ChatRoomMessageId.create(message.getGroupId(), message.getMessageSequence());
+	public record RetryStatus(int attempts, long nextDueAt) {
+	}
 
-		log.warn("메시지 재전송 최종 실패: ID: {}, 방ID: {}, 최대 시도 횟수 초과(3회), 오류: {}",
-			messageId, message.getGroupId(), e.getMessage());
+	private static class RetryEntry {
+		private final ChatRoomMessageId messageId;
+		private final ChatMessageDto message;
+		private final String destination;
+		// 재전송 스레드에서만 변경, 조회용으로 volatile
+		private volatile int attempts;
+		private volatile long nextDueAt;
 
-		chatStatusService.updateMessageDeliveryStatus(messageId, DeliveryStatus.FAILED_PERMANENTLY);
+		private RetryEntry(ChatRoomMessageId messageId, ChatMessageDto message, String destination) {
+			this.messageId = messageId;
+			this.message = message;
+			this.destination = destination;
+		}
 	}
 }
@@ -0,0 +1,490 @@
+package com.onmoim.server.chat.service.search;
+
+import static com.onmoim.server.chat.service.search.ChatSearchTokenizer.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.onmoim.server.chat.common.config.ChatSearchProperties;
+import com.onmoim.server.chat.domain.ChatRoomMessage;
+import com.onmoim.server.chat.domain.ChatRoomMessageId;
+import com.onmoim.server.chat.domain.dto.ChatMessageDto;
+import com.onmoim.server.chat.domain.dto.ChatSearchResponse;
+import com.onmoim.server.chat.repository.ChatMessageHistoryRepository;
+import com.onmoim.server.common.exception.CustomException;
+import com.onmoim.server.common.exception.ErrorCode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅방 메시지 검색 (방별 n-gram 역색인)
+ * <p>
+ * content 에 LIKE '%검색어%' 를 실행하면 방의 메시지를 모두 읽게 되므로, 방마다 bigram → 메시지 순번 목록을 메모리에 둡니다.
+ * - 생성 : 처음 검색한 방은 chat_room_messages 를 기본키 순서로 loadBatchSize 개씩 읽어 색인합니다.
+ * 요청 스레드가 방 lock 을 잡고 색인하므로 한 번에 maxIndexPerSearch 개까지만 읽고,
+ * 마지막 메시지까지 따라잡지 못했으면 CHAT_SEARCH_INDEXING 으로 응답해 다음 검색에서 이어서 색인합니다.
+ * - 갱신 : write-behind 가 커밋한 메시지를 색인하고, 검색 중이면 건너뛴 뒤 다음 검색에서 DB 로 따라잡습니다. (다른 노드의 메시지 포함)
+ * - 빈 순번 : 순번은 노드마다 블록으로 발급되어 커밋 순서와 다르므로, 색인하면서 건너뛴 순번 구간을 기억합니다.
+ * 검색할 때마다 구간을 기본키 범위로 다시 읽어 늦게 커밋된 메시지를 끼워 넣고,
+ * gapRetentionMillis 동안 채워지지 않은 구간은 버려진 순번(블록 잔여, 중복 전송, 시스템 메시지)으로 보고 잊습니다.
+ * - 검색 : 검색어 bigram 목록의 교집합을 최신 순으로 훑고, 후보의 본문에 검색어가 실제로 들어 있는지 확인합니다.
+ * 커서는 마지막으로 돌려준 순번이며 그보다 이전 메시지를 찾습니다. (keyset)
+ * - 방 수나 추정 메모리가 상한을 넘으면 가장 오래 검색하지 않은 방의 색인부터 제거하고, 다음 검색 때 다시 만듭니다.
+ * 방 하나의 색인만으로 메모리 상한을 넘으면 그 방도 제거하고, 다시 만들지 않도록 이후 검색을 거절합니다.
+ */
+@Slf4j
+@Service
+public class ChatMessageSearchService {
+	private static final long TERM_OVERHEAD_BYTES = 96;
+
+	private final ChatMessageHistoryRepository chatMessageHistoryRepository;
+	private final ChatSearchProperties properties;
+	private final LinkedHashMap<Long, RoomIndex> rooms = new LinkedHashMap<>(16, 0.75f, true);
+	// 색인만으로 메모리 상한을 넘은 방, maxRooms 개까지 최근 것만 기억합니다.
+	private final LinkedHashMap<Long, Boolean> oversizedRooms = new LinkedHashMap<>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+			return size() > properties.getMaxRooms();
+		}
+	};
+	private long totalBytes;
+
+	private final Timer searchTimer;
+	private final Counter indexedCounter;
+	private final Counter evictedCounter;
+
+	public ChatMessageSearchService(
+		ChatMessageHistoryRepository chatMessageHistoryRepository,
+		ChatSearchProperties properties,
+		MeterRegistry meterRegistry
+	) {
+		this.chatMessageHistoryRepository = chatMessageHistoryRepository;
+		this.properties = properties;
+		this.searchTimer = Timer.builder("chat.search")
+			.description("채팅방 메시지 검색 소요 시간")
+			.register(meterRegistry);
+		this.indexedCounter = Counter.builder("chat.search.indexed")
+			.description("색인한 메시지 수")
+			.register(meterRegistry);
+		this.evictedCounter = Counter.builder("chat.search.evicted")
+			.description("메모리/방 수 상한으로 제거된 색인 수")
+			.register(meterRegistry);
+		Gauge.builder("chat.search.rooms", this, service -> service.roomCount())
+			.register(meterRegistry);
+		Gauge.builder("chat.search.bytes", this, service -> service.estimatedBytes())
+			.description("색인의 추정 메모리")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 검색어를 포함한 메시지 ID 를 순번 내림차순으로 찾습니다.
+	 * @param cursor 이전 페이지의 nextCursor, 없으면 최신 메시지부터
+	 * @param size 페이지 크기, 없으면 defaultPageSize
+	 */
+	public ChatSearchResponse search(Long roomId, String query, Long cursor, Integer size) {
+		List<String> queryWords = words(normalize(query == null ? "" : query));
+		Set<String> terms = queryTerms(queryWords);
+		if (terms.isEmpty()) {
+			throw new CustomException(ErrorCode.CHAT_SEARCH_QUERY_TOO_SHORT);
+		}
+		int pageSize = Math.min(size == null ? properties.getDefaultPageSize() : Math.max(size, 1),
+			properties.getMaxPageSize());
+
+		return searchTimer.record(() -> {
+			long[] candidates = candidates(roomId, terms);
+			return verify(roomId, candidates, queryWords, cursor, pageSize);
+		});
+	}
+
+	/**
+	 * 저장이 커밋된 메시지를 색인합니다. 색인이 있는 방만 반영합니다.
+	 * write-behind writer 스레드에서 호출되므로 기다리지 않습니다.
+	 */
+	public void onPersisted(Collection<ChatRoomMessage> messages) {
+		for (ChatRoomMessage message : messages) {
+			Long roomId = message.getId().getRoomId();
+			RoomIndex index;
+			synchronized (this) {
+				index = rooms.get(roomId);
+			}
+			if (index == null || !index.lock.tryLock()) {
+				continue;
+			}
+			long delta = 0;
+			try {
+				long sequence = message.getId().getMessageSequence();
+				// 이력 조회와 같게 발신자가 없는 시스템 메시지는 색인하지 않습니다.
+				String content = message.getSenderId() != null ? message.getContent() : null;
+				if (sequence > index.indexedSequence) {
+					index.skipTo(sequence, System.currentTimeMillis(), properties.getMaxGaps());
+					delta = index.add(sequence, content);
+					index.indexedSequence = sequence;
+				} else if (index.fill(sequence, System.currentTimeMillis()) && content != null) {
+					TreeMap<Long, String> late = new TreeMap<>();
+					late.put(sequence, content);
+					delta = index.addLate(late);
+				} else {
+					continue;
+				}
+				if (content != null) {
+					indexedCounter.increment();
+				}
+			} finally {
+				index.lock.unlock();
+			}
+			adjust(roomId, index, delta);
+		}
+	}
+
+	public synchronized int roomCount() {
+		return rooms.size();
+	}
+
+	public synchronized long estimatedBytes() {
+		return totalBytes;
+	}
+
+	/**
+	 * DB 로 색인을 따라잡은 뒤 모든 검색어 bigram 을 포함한 순번 (오름차순)
+	 */
+	private long[] candidates(Long roomId, Set<String> terms) {
+		RoomIndex index;
+		synchronized (this) {
+			if (oversizedRooms.containsKey(roomId)) {
+				throw new CustomException(ErrorCode.CHAT_SEARCH_ROOM_TOO_LARGE);
+			}
+			index = rooms.computeIfAbsent(roomId, id -> new RoomIndex());
+		}
+		long delta;
+		long[] candidates;
+		index.lock.lock();
+		try {
+			delta = catchUp(roomId, index);
+			candidates = index.caughtUp ? index.intersect(terms) : null;
+		} finally {
+			index.lock.unlock();
+		}
+		if (!adjust(roomId, index, delta)) {
+			throw new CustomException(ErrorCode.CHAT_SEARCH_ROOM_TOO_LARGE);
+		}
+		if (candidates == null) {
+			throw new CustomException(ErrorCode.CHAT_SEARCH_INDEXING);
+		}
+		return candidates;
+	}
+
+	/**
+	 * 빈 순번 구간을 다시 확인한 뒤, 색인된 마지막 순번 이후 메시지를 기본키 범위로 maxIndexPerSearch 개까지 읽어 색인합니다.
+	 * @return 추정 메모리 변화량
+	 */
+	private long catchUp(Long roomId, RoomIndex index) {
+		long now = System.currentTimeMillis();
+		index.expireGaps(now - properties.getGapRetentionMillis());
+		long delta = fillGaps(roomId, index, now);
+
+		int remaining = properties.getMaxIndexPerSearch();
+		int batchSize;
+		List<ChatMessageDto> batch;
+		do {
+			batchSize = Math.min(properties.getLoadBatchSize(), remaining);
+			batch = chatMessageHistoryRepository.findByRoomIdAfterCursor(
+				roomId, index.indexedSequence, PageRequest.of(0, batchSize));
+			for (ChatMessageDto message : batch) {
+				index.skipTo(message.getMessageSequence(), now, properties.getMaxGaps());
+				delta += index.add(message.getMessageSequence(), message.getContent());
+				index.indexedSequence = message.getMessageSequence();
+			}
+			indexedCounter.increment(batch.size());
+			remaining -= batch.size();
+		} while (batch.size() == batchSize && remaining > 0);
+		index.caughtUp = batch.size() < batchSize;
+		if (!index.caughtUp) {
+			log.debug("채팅방 검색 색인 중: 방ID: {}, 색인된 순번: {}", roomId, index.indexedSequence);
+		}
+		return delta;
+	}
+
+	/**
+	 * 빈 순번 구간을 기본키 범위로 읽어 늦게 커밋된 메시지를 색인합니다.
+	 * @return 추정 메모리 변화량
+	 */
+	private long fillGaps(Long roomId, RoomIndex index, long now) {
+		if (index.gaps.isEmpty()) {
+			return 0;
+		}
+		int batchSize = properties.getLoadBatchSize();
+		TreeMap<Long, String> late = new TreeMap<>();
+		for (Map.Entry<Long, Gap> gap : List.copyOf(index.gaps.entrySet())) {
+			long after = gap.getKey() - 1;
+			List<ChatMessageDto> batch;
+			do {
+				batch = chatMessageHistoryRepository.findRecentByRoomIdBetween(
+					roomId, after, gap.getValue().end(), PageRequest.of(0, batchSize));
+				for (ChatMessageDto message : batch) {
+					late.put(message.getMessageSequence(), message.getContent());
+					after = message.getMessageSequence();
+				}
+			} while (batch.size() == batchSize);
+		}
+		if (late.isEmpty()) {
+			return 0;
+		}
+
+		late.keySet().forEach(sequence -> index.fill(sequence, now));
+		indexedCounter.increment(late.size());
+		log.debug("채팅방 검색 색인 늦게 커밋된 메시지 반영: 방ID: {}, 개수: {}", roomId, late.size());
+		return index.addLate(late);
+	}
+
+	/**
+	 * 후보를 최신 순으로 pageSize 개씩 DB 에서 확인합니다.
+	 * bigram 교집합에는 글자가 떨어져 있는 메시지도 들어오므로, 정규화한 본문이 검색어 단어를 모두 포함해야 결과에 넣습니다.
+	 */
+	private ChatSearchResponse verify(Long roomId, long[] candidates, List<String> queryWords, Long cursor,
+		int pageSize) {
+		int end = cursor == null ? candidates.length : lowerBound(candidates, cursor);
+		List<ChatRoomMessageId> messageIds = new ArrayList<>(pageSize);
+
+		while (end > 0 && messageIds.size() < pageSize) {
+			int start = Math.max(0, end - pageSize);
+			List<Long> sequences = new ArrayList<>(end - start);
+			for (int i = end - 1; i >= start; i--) {
+				sequences.add(candidates[i]);
+			}
+			Map<Long, String> contents = new HashMap<>();
+			chatMessageHistoryRepository.findByRoomIdAndSequences(roomId, sequences)
+				.forEach(message -> contents.put(message.getMessageSequence(), message.getContent()));
+
+			for (int i = end - 1; i >= start; i--) {
+				end = i;
+				String content = contents.get(candidates[i]);
+				if (content != null && containsAll(normalize(content), queryWords)) {
+					messageIds.add(ChatRoomMessageId.create(roomId, candidates[i]));
+					if (messageIds.size() == pageSize) {
+						break;
+					}
+				}
+			}
+		}
+
+		Long nextCursor = messageIds.size() == pageSize && end > 0
+			? messageIds.get(messageIds.size() - 1).getMessageSequence()
+			: null;
+		return new ChatSearchResponse(messageIds, nextCursor);
+	}
+
+	private static boolean containsAll(String normalizedContent, List<String> queryWords) {
+		for (String word : queryWords) {
+			if (!normalizedContent.contains(word)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return value 이상인 첫 위치
+	 */
+	private static int lowerBound(long[] sorted, long value) {
+		int index = Arrays.binarySearch(sorted, value);
+		return index >= 0 ? index : -index - 1;
+	}
+
+	/**
+	 * 추정 메모리를 반영하고 상한을 넘으면 오래된 방부터 제거합니다.
+	 * 방금 사용한 방은 그 방의 색인만으로 상한을 넘을 때만 제거합니다.
+	 * @return 방금 사용한 방의 색인을 제거했으면 false
+	 */
+	private synchronized boolean adjust(Long roomId, RoomIndex index, long delta) {
+		if (rooms.get(roomId) != index) {
+			return true; // 그 사이 제거되거나 교체된 색인
+		}
+		totalBytes += delta;
+
+		if (index.bytes > properties.getMaxMemoryBytes()) {
+			rooms.remove(roomId);
+			totalBytes -= index.bytes;
+			oversizedRooms.put(roomId, Boolean.TRUE);
+			evictedCounter.increment();
+			log.warn("채팅방 검색 색인이 메모리 상한을 넘어 제거: 방ID: {}, 추정 메모리: {}", roomId, index.bytes);
+			return false;
+		}
+
+		Iterator<Map.Entry<Long, RoomIndex>> iterator = rooms.entrySet().iterator();
+		while ((rooms.size() > properties.getMaxRooms() || totalBytes > properties.getMaxMemoryBytes())
+			&& iterator.hasNext()) {
+			Map.Entry<Long, RoomIndex> eldest = iterator.next();
+			if (eldest.getKey().equals(roomId)) {
+				continue;
+			}
+			iterator.remove();
+			totalBytes -= eldest.getValue().bytes;
+			evictedCounter.increment();
+		}
+		return true;
+	}
+
+	/**
+	 * 아직 색인하지 않은 순번 구간, touchedAt 은 생성되거나 마지막으로 채워진 시각
+	 */
+	private record Gap(long end, long touchedAt) {
+	}
+
+	/**
+	 * 방 하나의 역색인, lock 을 잡은 스레드만 변경합니다.
+	 */
+	private static class RoomIndex {
+		private final ReentrantLock lock = new ReentrantLock();
+		private final HashMap<String, DeltaPostings> postings = new HashMap<>();
+		// 색인된 마지막 순번 이하에서 아직 색인하지 않은 순번 구간 (시작 순번 -> 구간)
+		private final TreeMap<Long, Gap> gaps = new TreeMap<>();
+		private long indexedSequence;
+		// 마지막 따라잡기에서 DB 의 마지막 메시지까지 색인했으면 true
+		private boolean caughtUp;
+		private volatile long bytes;
+
+		/**
+		 * 색인된 마지막 순번 다음부터 sequence 이전까지를 빈 구간으로 기억합니다.
+		 */
+		private void skipTo(long sequence, long now, int maxGaps) {
+			if (sequence <= indexedSequence + 1) {
+				return;
+			}
+			gaps.put(indexedSequence + 1, new Gap(sequence - 1, now));
+			while (gaps.size() > maxGaps) {
+				gaps.pollFirstEntry();
+			}
+		}
+
+		/**
+		 * sequence 가 빈 구간에 있으면 구간을 나눕니다.
+		 * @return 빈 구간에 있던 순번이면 true
+		 */
+		private boolean fill(long sequence, long now) {
+			Map.Entry<Long, Gap> entry = gaps.floorEntry(sequence);
+			if (entry == null || entry.getValue().end() < sequence) {
+				return false;
+			}
+			gaps.remove(entry.getKey());
+			if (entry.getKey() < sequence) {
+				gaps.put(entry.getKey(), new Gap(sequence - 1, now));
+			}
+			if (sequence < entry.getValue().end()) {
+				gaps.put(sequence + 1, new Gap(entry.getValue().end(), now));
+			}
+			return true;
+		}
+
+		/**
+		 * before 이후로 채워진 적이 없는 구간을 잊습니다.
+		 */
+		private void expireGaps(long before) {
+			gaps.values().removeIf(gap -> gap.touchedAt() < before);
+		}
+
+		/**
+		 * 늦게 커밋된 메시지를 색인어별로 모아 순번 목록에 끼워 넣습니다.
+		 * @param contents 순번 오름차순 본문
+		 * @return 추정 메모리 변화량
+		 */
+		private long addLate(SortedMap<Long, String> contents) {
+			Map<String, List<Long>> sequencesByTerm = new HashMap<>();
+			contents.forEach((sequence, content) -> {
+				if (content != null) {
+					for (String term : terms(content)) {
+						sequencesByTerm.computeIfAbsent(term, key -> new ArrayList<>()).add(sequence);
+					}
+				}
+			});
+
+			long delta = 0;
+			for (Map.Entry<String, List<Long>> entry : sequencesByTerm.entrySet()) {
+				DeltaPostings list = postings.get(entry.getKey());
+				if (list == null) {
+					list = new DeltaPostings();
+					postings.put(entry.getKey(), list);
+					delta += TERM_OVERHEAD_BYTES + 2L * entry.getKey().length() + list.capacityBytes();
+				}
+				delta += list.merge(entry.getValue().stream().mapToLong(Long::longValue).toArray());
+			}
+			bytes += delta;
+			return delta;
+		}
+
+		/**
+		 * @return 추정 메모리 변화량
+		 */
+		private long add(long sequence, String content) {
+			if (content == null) {
+				return 0;
+			}
+			long delta = 0;
+			for (String term : terms(content)) {
+				DeltaPostings list = postings.get(term);
+				if (list == null) {
+					list = new DeltaPostings();
+					postings.put(term, list);
+					delta += TERM_OVERHEAD_BYTES + 2L * term.length() + list.capacityBytes();
+				}
+				delta += list.add(sequence);
+			}
+			bytes += delta;
+			return delta;
+		}
+
+		/**
+		 * 목록이 짧은 색인어부터 교집합을 구합니다.
+		 */
+		private long[] intersect(Set<String> terms) {
+			List<DeltaPostings> lists = new ArrayList<>(terms.size());
+			for (String term : terms) {
+				DeltaPostings list = postings.get(term);
+				if (list == null) {
+					return new long[0];
+				}
+				lists.add(list);
+			}
+			lists.sort((a, b) -> Integer.compare(a.count(), b.count()));
+
+			long[] result = lists.get(0).decode();
+			for (int i = 1; i < lists.size() && result.length > 0; i++) {
+				result = intersect(result, lists.get(i).decode());
+			}
+			return result;
+		}
+
+		private static long[] intersect(long[] a, long[] b) {
+			long[] result = new long[Math.min(a.length, b.length)];
+			int size = 0;
+			for (int i = 0, j = 0; i < a.length && j < b.length; ) {
+				if (a[i] == b[j]) {
+					result[size++] = a[i];
+					i++;
+					j++;
+				} else if (a[i] < b[j]) {
+					i++;
+				} else {
+					j++;
+				}
+			}
+			return Arrays.copyOf(result, size);
+		}
+	}
+}
@@ -0,0 +1,85 @@
+package com.onmoim.server.chat.service.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 채팅 메시지 검색용 n-gram(bigram) 토크나이저
+ * <p>
+ * 한국어는 조사와 어미가 붙어 띄어쓰기 단위로는 검색이 어렵기 때문에, 글자 단위 bigram 으로 색인합니다.
+ * - 정규화 : NFKC, 소문자
+ * - 토큰 : 글자/숫자가 아닌 문자로 나눈 단어
+ * - 색인어 : 두 글자 이상 단어는 연속된 두 글자씩, 한 글자 단어는 그 글자
+ */
+final class ChatSearchTokenizer {
+	static final int NGRAM_SIZE = 2;
+
+	private ChatSearchTokenizer() {
+	}
+
+	static String normalize(String text) {
+		return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * 정규화한 문자열을 단어로 나눕니다.
+	 */
+	static List<String> words(String normalized) {
+		List<String> words = new ArrayList<>();
+		int start = -1;
+		for (int i = 0; i < normalized.length(); ) {
+			int codePoint = normalized.codePointAt(i);
+			boolean wordChar = Character.isLetterOrDigit(codePoint);
+			if (wordChar && start < 0) {
+				start = i;
+			} else if (!wordChar && start >= 0) {
+				words.add(normalized.substring(start, i));
+				start = -1;
+			}
+			i += Character.charCount(codePoint);
+		}
+		if (start >= 0) {
+			words.add(normalized.substring(start));
+		}
+		return words;
+	}
+
+	/**
+	 * 메시지 본문의 색인어 (중복 제거)
+	 */
+	static Set<String> terms(String content) {
+		Set<String> terms = new LinkedHashSet<>();
+		for (String word : words(normalize(content))) {
+			addTerms(word, terms);
+		}
+		return terms;
+	}
+
+	/**
+	 * 검색어 단어의 색인어, 한 글자 단어는 색인으로 찾지 않고 본문 확인에서만 사용합니다.
+	 */
+	static Set<String> queryTerms(List<String> queryWords) {
+		Set<String> terms = new LinkedHashSet<>();
+		for (String word : queryWords) {
+			if (word.codePointCount(0, word.length()) >= NGRAM_SIZE) {
+				addTerms(word, terms);
+			}
+		}
+		return terms;
+	}
+
+	private static void addTerms(String word, Set<String> terms) {
+		int[] codePoints = word.codePoints().toArray();
+		if (codePoints.length < NGRAM_SIZE) {
+			terms.add(word);
+			return;
+		}
+		for (int i = 0; i + NGRAM_SIZE <= codePoints.length; i++) {
+			terms.add(new String(codePoints, i, NGRAM_SIZE));
+		}
+	}
+}
@@ -0,0 +1,342 @@
+package com.onmoim.server.chat.service.writebehind;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.onmoim.server.chat.common.config.ChatWriteBehindProperties;
+import com.onmoim.server.chat.domain.ChatRoomMessage;
+import com.onmoim.server.chat.domain.ChatRoomMessageId;
+import com.onmoim.server.chat.domain.enums.DeliveryStatus;
+import com.onmoim.server.chat.repository.ChatMessageBatchRepository;
+import com.onmoim.server.chat.service.search.ChatMessageSearchService;
+import com.onmoim.server.common.exception.CustomException;
+import com.onmoim.server.common.exception.ErrorCode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅 메시지 write-behind 저장
+ * <p>
+ * 시퀀스를 발급받은 메시지는 대기열에 넣은 즉시 브로드캐스트하고, 저장은 전용 writer 스레드가 모아서 처리합니다.
+ * writer 는 batchSize 개가 모이거나 첫 메시지 이후 flushInterval 이 지나면 한 트랜잭션에서 JDBC batch INSERT 합니다. (group commit)
+ * <p>
+ * - 대기열이 가득 차면 호출 스레드(STOMP inbound)를 offerTimeout 만큼 붙잡아 유입 속도를 늦추고, 그래도 자리가 없으면 거절합니다.
+ * - 저장 전 상태 변경(SENT/FAILED)은 대기 중인 엔티티에 반영되어 INSERT 에 함께 기록됩니다.
+ * - enqueue 가 반환하는 future 는 batch 가 커밋되면 완료됩니다. (durable)
+ * - 재시도 후에도 batch 저장에 실패하면 한 건씩 나눠 저장하고, 저장하지 못한 메시지만 실패로 완료합니다.
+ * - 커밋된 메시지는 채팅방 검색 색인에 반영합니다.
+ */
+@Slf4j
+@Service
+public class ChatMessageWriteBehindService {
+
+	private final ChatMessageBatchRepository batchRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final ChatWriteBehindProperties properties;
+	private final ChatMessageSearchService chatMessageSearchService;
+
+	private final BlockingQueue<PendingMessage> queue;
+	// 커밋 전 메시지, 상태 변경을 메모리에서 처리하기 위해 보관합니다.
+	private final ConcurrentHashMap<ChatRoomMessageId, PendingMessage> pending = new ConcurrentHashMap<>();
+
+	private final DistributionSummary batchSizeSummary;
+	private final Timer flushTimer;
+	private final Timer durableLatencyTimer;
+	private final Counter rejectedCounter;
+	private final Counter failedCounter;
+
+	private volatile boolean running;
+	private Thread writer;
+
+	public ChatMessageWriteBehindService(
+		ChatMessageBatchRepository batchRepository,
+		TransactionTemplate transactionTemplate,
+		ChatWriteBehindProperties properties,
+		ChatMessageSearchService chatMessageSearchService,
+		MeterRegistry meterRegistry
+	) {
+		this.batchRepository = batchRepository;
+		this.transactionTemplate = transactionTemplate;
+		this.properties = properties;
+		this.chatMessageSearchService = chatMessageSearchService;
+		this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+
+		this.batchSizeSummary = DistributionSummary.builder("chat.write_behind.batch.size")
+			.description("한 번에 저장한 채팅 메시지 수")
+			.register(meterRegistry);
+		this.flushTimer = Timer.builder("chat.write_behind.flush")
+			.description("batch INSERT 및 커밋 소요 시간")
+			.register(meterRegistry);
+		this.durableLatencyTimer = Timer.builder("chat.write_behind.durable.latency")
+			.description("대기열 등록부터 커밋까지 걸린 시간")
+			.register(meterRegistry);
+		this.rejectedCounter = Counter.builder("chat.write_behind.rejected")
+			.description("대기열이 가득 차 거절된 메시지 수")
+			.register(meterRegistry);
+		this.failedCounter = Counter.builder("chat.write_behind.failed")
+			.description("재시도 후에도 저장하지 못한 메시지 수")
+			.register(meterRegistry);
+		Gauge.builder("chat.write_behind.queue.size", queue, BlockingQueue::size)
+			.description("저장 대기 중인 메시지 수")
+			.register(meterRegistry);
+	}
+
+	@PostConstruct
+	public void start() {
+		running = true;
+		writer = new Thread(this::runWriter, "chat-write-behind");
+		writer.setDaemon(true);
+		writer.start();
+	}
+
+	/**
+	 * 종료 시 대기열에 남은 메시지를 모두 저장한 뒤 writer 를 멈춥니다.
+	 */
+	@PreDestroy
+	public void stop() throws InterruptedException {
+		running = false;
+		writer.join(TimeUnit.SECONDS.toMillis(10));
+	}
+
+	/**
+	 * 메시지를 저장 대기열에 등록합니다.
+	 * @return batch 가 커밋되면 완료되는 future
+	 */
+	public CompletableFuture<ChatRoomMessageId> enqueue(ChatRoomMessage message) {
+		PendingMessage entry = new PendingMessage(message);
+		pending.put(message.getId(), entry);
+
+		if (!running || !offer(entry)) {
+			pending.remove(message.getId(), entry);
+			rejectedCounter.increment();
+			log.warn("메시지 저장 대기열 포화: ID: {}, 대기 중: {}", message.getId(), queue.size());
+			throw new CustomException(ErrorCode.CHAT_MESSAGE_QUEUE_FULL);
+		}
+		return entry.durable;
+	}
+
+	/**
+	 * 아직 저장되지 않은 메시지라면 대기 중인 엔티티의 상태를 변경합니다.
+	 * @return 이미 저장되었거나 대기열에 없는 메시지면 false
+	 */
+	public boolean updatePendingStatus(ChatRoomMessageId messageId, DeliveryStatus status) {
+		PendingMessage entry = pending.get(messageId);
+		if (entry == null) {
+			return false;
+		}
+		synchronized (entry) {
+			if (pending.get(messageId) != entry) {
+				return false;
+			}
+			entry.message.setDeliveryStatus(status);
+			return true;
+		}
+	}
+
+	/**
+	 * 아직 저장되지 않은 방의 메시지 중 afterSequence 이후 메시지
+	 * 저장이 커밋된 뒤에 대기 목록에서 제거되므로, 이 조회 후 DB 를 조회하면 빠지는 메시지가 없습니다.
+	 */
+	public List<ChatRoomMessage> findPending(Long roomId, long afterSequence) {
+		List<ChatRoomMessage> messages = new ArrayList<>();
+		for (PendingMessage entry : pending.values()) {
+			ChatRoomMessageId id = entry.message.getId();
+			if (id.getRoomId().equals(roomId) && id.getMessageSequence() > afterSequence) {
+				messages.add(entry.message);
+			}
+		}
+		return messages;
+	}
+
+	private boolean offer(PendingMessage entry) {
+		try {
+			return queue.offer(entry, properties.getOfferTimeoutMillis(), TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private void runWriter() {
+		List<PendingMessage> batch = new ArrayList<>(properties.getBatchSize());
+		while (running || !queue.isEmpty()) {
+			try {
+				collect(batch);
+			} catch (InterruptedException e) {
+				// 남은 메시지를 저장한 뒤 종료합니다.
+				running = false;
+			}
+			if (!batch.isEmpty()) {
+				flush(batch);
+				batch.clear();
+			}
+		}
+		log.info("채팅 메시지 write-behind 종료");
+	}
+
+	/**
+	 * batchSize 개가 모이거나 첫 메시지 이후 flushInterval 이 지날 때까지 모읍니다.
+	 */
+	private void collect(List<PendingMessage> batch) throws InterruptedException {
+		int batchSize = properties.getBatchSize();
+		long flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(properties.getFlushIntervalMillis());
+
+		PendingMessage first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+		if (first == null) {
+			return;
+		}
+		batch.add(first);
+
+		long deadline = System.nanoTime() + flushIntervalNanos;
+		while (batch.size() < batchSize) {
+			queue.drainTo(batch, batchSize - batch.size());
+			long remaining = deadline - System.nanoTime();
+			if (batch.size() >= batchSize || remaining <= 0 || !running) {
+				return;
+			}
+			PendingMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+			if (next == null) {
+				return;
+			}
+			batch.add(next);
+		}
+	}
+
+	private void flush(List<PendingMessage> batch) {
+		List<ChatRoomMessage> messages = new ArrayList<>(batch.size());
+		for (PendingMessage entry : batch) {
+			synchronized (entry) {
+				entry.writtenStatus = entry.message.getDeliveryStatus();
+			}
+			messages.add(entry.message);
+		}
+
+		Exception lastError = null;
+		for (int attempt = 1; attempt <= properties.getMaxFlushAttempts(); attempt++) {
+			try {
+				write(messages);
+				batchSizeSummary.record(messages.size());
+				markDurable(batch);
+				return;
+			} catch (Exception e) {
+				lastError = e;
+				log.warn("메시지 batch 저장 실패: 시도: {}, 개수: {}, 오류: {}", attempt, messages.size(), e.getMessage());
+				pause();
+			}
+		}
+
+		log.error("메시지 batch 저장 최종 실패, 한 건씩 다시 저장합니다: 개수: {}, 첫 메시지: {}, 마지막 메시지: {}",
+			messages.size(), messages.get(0).getId(), messages.get(messages.size() - 1).getId());
+		flushEach(batch, lastError);
+	}
+
+	/**
+	 * batch 를 나눠 한 건씩 저장하고, 저장하지 못한 메시지만 실패로 처리합니다. (잘못된 한 건이 batch 전체를 버리지 않도록)
+	 * 연속으로 maxFlushAttempts 건이 실패하면 DB 장애로 보고 남은 메시지는 시도하지 않습니다.
+	 */
+	private void flushEach(List<PendingMessage> batch, Exception batchError) {
+		List<PendingMessage> written = new ArrayList<>(batch.size());
+		int consecutiveFailures = 0;
+		for (PendingMessage entry : batch) {
+			Exception error = batchError;
+			if (consecutiveFailures < properties.getMaxFlushAttempts()) {
+				try {
+					write(List.of(entry.message));
+					written.add(entry);
+					consecutiveFailures = 0;
+					continue;
+				} catch (Exception e) {
+					error = e;
+					consecutiveFailures++;
+				}
+			}
+			failedCounter.increment();
+			log.error("메시지 저장 최종 실패: ID: {}, 오류: {}", entry.message.getId(), error.getMessage());
+			pending.remove(entry.message.getId(), entry);
+			entry.durable.completeExceptionally(error);
+		}
+
+		if (!written.isEmpty()) {
+			batchSizeSummary.record(written.size());
+			markDurable(written);
+		}
+	}
+
+	private void write(List<ChatRoomMessage> messages) {
+		flushTimer.record(() -> transactionTemplate.executeWithoutResult(status -> {
+			batchRepository.insertAll(messages);
+			// 채팅방 목록용 마지막 메시지
+			batchRepository.upsertLastMessages(messages);
+		}));
+	}
+
+	/**
+	 * 대기 목록에서 제거하고, INSERT 이후 바뀐 상태가 있으면 한 번 더 batch UPDATE 합니다.
+	 * 제거 이후의 상태 변경은 ChatStatusService 가 bulk UPDATE 로 반영합니다.
+	 */
+	private void markDurable(List<PendingMessage> batch) {
+		List<ChatRoomMessage> changed = new ArrayList<>();
+		long now = System.nanoTime();
+		for (PendingMessage entry : batch) {
+			synchronized (entry) {
+				pending.remove(entry.message.getId(), entry);
+				if (entry.message.getDeliveryStatus() != entry.writtenStatus) {
+					changed.add(entry.message);
+				}
+			}
+			durableLatencyTimer.record(now - entry.enqueuedAt, TimeUnit.NANOSECONDS);
+		}
+
+		if (!changed.isEmpty()) {
+			try {
+				transactionTemplate.executeWithoutResult(status -> batchRepository.updateDeliveryStatuses(changed));
+			} catch (Exception e) {
+				log.warn("저장 중 변경된 메시지 상태 반영 실패: 개수: {}, 오류: {}", changed.size(), e.getMessage());
+			}
+		}
+
+		batch.forEach(entry -> entry.durable.complete(entry.message.getId()));
+		log.debug("메시지 batch 저장 완료: 개수: {}", batch.size());
+
+		// 커밋된 메시지를 검색 색인에 반영합니다.
+		try {
+			chatMessageSearchService.onPersisted(batch.stream().map(entry -> entry.message).toList());
+		} catch (Exception e) {
+			log.warn("검색 색인 반영 실패: 개수: {}, 오류: {}", batch.size(), e.getMessage());
+		}
+	}
+
+	private void pause() {
+		try {
+			Thread.sleep(properties.getFlushIntervalMillis());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static class PendingMessage {
+		private final ChatRoomMessage message;
+		private final CompletableFuture<ChatRoomMessageId> durable = new CompletableFuture<>();
+		private final long enqueuedAt = System.nanoTime();
+		private DeliveryStatus writtenStatus;
+
+		private PendingMessage(ChatRoomMessage message) {
+			this.message = message;
+		}
+	}
+}
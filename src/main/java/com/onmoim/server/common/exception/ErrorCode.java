@@ -35,6 +35,9 @@ public enum ErrorCode {
 	INVALID_KAKAO_RESPONSE(BAD_REQUEST, "카카오 사용자 정보 응답이 올바르지 않습니다."),
 	NOT_FOUND_MESSAGE(BAD_REQUEST, "잘못된 MessageID 입니다."),
 	IS_NOT_CHAT_ROOM_MEMBER(BAD_REQUEST, "채팅방 멤버가 아닌 사용자입니다."),
+	CHAT_SEARCH_QUERY_TOO_SHORT(BAD_REQUEST, "검색어는 2자 이상 입력해 주세요."),
+	CHAT_SEARCH_ROOM_TOO_LARGE(BAD_REQUEST, "메시지가 너무 많아 검색할 수 없는 채팅방입니다."),
+	CHAT_CLIENT_MESSAGE_ID_TOO_LONG(BAD_REQUEST, "clientMessageId 가 너무 깁니다."),
 
 	/* ------------------ 400 BAD_REQUEST : 유저 관련 오류 ------------------ */
 	ALREADY_EXISTS_USER(BAD_REQUEST, "이미 가입된 사용자입니다."),
@@ -78,9 +81,12 @@ public enum ErrorCode {
 
 	/* ------------------ 429 TOO_MANY_REQUESTS : 과도한 요청 ------------------ */
 	MEETING_LOCK_TIMEOUT(HttpStatus.TOO_MANY_REQUESTS, "다른 사용자가 처리 중입니다. 잠시 후 다시 시도해 주세요"),
+	CHAT_MESSAGE_QUEUE_FULL(TOO_MANY_REQUESTS, "메시지가 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요"),
+	CHAT_SEARCH_INDEXING(TOO_MANY_REQUESTS, "검색을 준비하고 있습니다. 잠시 후 다시 시도해 주세요"),
 
 	/* ------------------ 500 INTERNAL_SERVER_ERROR : 시스템 오류 ------------------ */
 	LOCK_SYSTEM_ERROR(INTERNAL_SERVER_ERROR, "락 시스템 오류가 발생했습니다. 잠시 후 다시 시도해 주세요"),
+	CHAT_SEQUENCE_UNAVAILABLE(INTERNAL_SERVER_ERROR, "채팅 메시지 시퀀스를 발급할 수 없습니다."),
 
 	/* ------------------ 409 CONFLICT : 유저 관련 오류(비즈니스 로직상 불가) ------------------ */
 	IS_GROUP_OWNER(CONFLICT, "탈퇴를 위해 모임장 권한 양도가 필요합니다."),
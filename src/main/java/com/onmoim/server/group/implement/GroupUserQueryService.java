@@ -198,6 +198,11 @@ public class GroupUserQueryService {
 		return groupUsers.stream().map(GroupMember::of).toList();
 	}
 
+	// 모임 회원 ID 전체 조회
+	public List<Long> findMemberIds(Long groupId) {
+		return groupRepository.findGroupMemberIds(groupId);
+	}
+
 	/**
 	 * 가입한 모임 조회
 	 */
@@ -20,6 +20,7 @@ public interface GroupRepositoryCustom {
 	Optional<GroupDetail> readGroupDetail(Long groupId, Long userId);
 	Long countGroupMembers(Long groupId);
 	List<GroupUser> findGroupUsers(Long groupId, Long lastMemberId, int size);
+	List<Long> findGroupMemberIds(Long groupId);
 	List<PopularGroupSummary> readPopularGroupsNearMe(Long locationId, Long lastGroupId, Long memberCount, int size);
 	List<PopularGroupRelation> readPopularGroupRelation(List<Long> groupIds, Long userId);
 	List<ActiveGroup> readMostActiveGroups(Long lastGroupId, Long meetingCount, int size);
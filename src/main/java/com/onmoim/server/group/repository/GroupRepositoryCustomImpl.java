@@ -109,6 +109,18 @@ public class GroupRepositoryCustomImpl implements GroupRepositoryCustom {
 			.fetch();
 	}
 
+	/**
+	 * 모임 회원 ID 전체 조회
+	 */
+	@Override
+	public List<Long> findGroupMemberIds(Long groupId) {
+		return queryFactory
+			.select(groupUser.user.id)
+			.from(groupUser)
+			.where(groupUser.group.id.eq(groupId), groupUser.status.in(GROUP_MEMBER))
+			.fetch();
+	}
+
 	private BooleanBuilder memberIdGt(Long lastMemberId) {
 		return nullSafeBuilder(() -> groupUser.user.id.gt(lastMemberId));
 	}
@@ -8,6 +8,7 @@ import java.util.Optional;
 
 import com.onmoim.server.chat.domain.enums.ChatSystemMessageTemplate;
 import com.onmoim.server.chat.domain.enums.SubscribeRegistry;
+import com.onmoim.server.chat.messaging.ChatRoomMemberChangedEvent;
 import com.onmoim.server.chat.messaging.ChatSystemMessageEvent;
 import com.onmoim.server.common.response.CommonCursorPageResponseDto;
 import com.onmoim.server.group.dto.response.GroupSummaryByCategoryResponseDto;
@@ -115,12 +116,13 @@ public class GroupService {
 		// 모임 검사
 		groupUserQueryService.joinGroup(groupUser);
 
+		eventPublisher.publishEvent(new ChatRoomMemberChangedEvent(groupId, List.of(user.getId())));
+
 		eventPublisher.publishEvent(
-			new ChatSystemMessageEvent(
+			ChatSystemMessageEvent.of(
 				group.getId(),
-				ChatSystemMessageTemplate
-					.JOIN_CHAT_ROOM
-					.getContentWithBind(user.getName())
+				ChatSystemMessageTemplate.JOIN_CHAT_ROOM,
+				user.getName()
 			)
 		);
 
@@ -177,8 +179,12 @@ public class GroupService {
 		// 관계가 없었던 경우 PENDING 상태 + 비관적 락
 		GroupUser groupUser = groupUserQueryService.findOrCreateForUpdate(group, user, Status.PENDING);
 		groupUser.checkOwner();
+		// 채팅 권한 무효화 대상 (모임 전체 회원)
+		List<Long> memberIds = groupUserQueryService.findMemberIds(groupId);
 		// 모임 삭제
 		groupQueryService.deleteGroup(group);
+
+		eventPublisher.publishEvent(new ChatRoomMemberChangedEvent(groupId, memberIds));
 	}
 
 	// 모임 탈퇴
@@ -196,12 +202,13 @@ public class GroupService {
 		// 모임 탈퇴
 		groupUserQueryService.leave(groupUser);
 
+		eventPublisher.publishEvent(new ChatRoomMemberChangedEvent(groupId, List.of(user.getId())));
+
 		eventPublisher.publishEvent(
-			new ChatSystemMessageEvent(
+			ChatSystemMessageEvent.of(
 				group.getId(),
-				ChatSystemMessageTemplate
-					.LEAVE_CHAT_ROOM
-					.getContentWithBind(user.getName())
+				ChatSystemMessageTemplate.LEAVE_CHAT_ROOM,
+				user.getName()
 			)
 		);
 	}
@@ -226,6 +233,8 @@ public class GroupService {
 		user.checkMember();
 		// 권한 위임
 		groupUserQueryService.transferOwnership(owner, user);
+
+		eventPublisher.publishEvent(new ChatRoomMemberChangedEvent(groupId, List.of(from.getId(), to.getId())));
 	}
 
 	// 모임원 강퇴
@@ -248,6 +257,8 @@ public class GroupService {
 		user.checkMember();
 		// 모임원 강퇴
 		user.ban();
+
+		eventPublisher.publishEvent(new ChatRoomMemberChangedEvent(groupId, List.of(to.getId())));
 	}
 
 	// 모임 수정
@@ -6,6 +6,7 @@ import static org.springframework.data.jpa.domain.AbstractPersistable_.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 import com.onmoim.server.meeting.entity.Meeting;
@@ -13,6 +14,7 @@ import com.onmoim.server.meeting.entity.UserMeeting;
 import com.onmoim.server.meeting.repository.MeetingRepository;
 import com.onmoim.server.meeting.repository.UserMeetingRepository;
 import com.onmoim.server.security.CustomUserDetails;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -22,6 +24,8 @@ import org.springframework.web.multipart.MultipartFile;
 
 import com.onmoim.server.category.entity.Category;
 import com.onmoim.server.category.repository.CategoryRepository;
+import com.onmoim.server.chat.messaging.ChatRoomMemberChangedEvent;
+import com.onmoim.server.chat.messaging.ChatSenderProfileChangedEvent;
 import com.onmoim.server.common.exception.CustomException;
 import com.onmoim.server.common.exception.ErrorCode;
 import com.onmoim.server.common.s3.dto.FileUploadResponseDto;
@@ -69,6 +73,7 @@ public class UserServiceImpl implements UserService {
 	private final FileStorageService fileStorageService;
 	private final JwtProvider jwtProvider;
 	private final MeetingRepository meetingRepository;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Override
 	public Long getCurrentUserId() {
@@ -198,6 +203,9 @@ public class UserServiceImpl implements UserService {
 		Location location = locationRepository.findById(request.getLocationId())
 			.orElseThrow(() -> new CustomException(LOCATION_NOT_FOUND));
 
+		String previousName = user.getName();
+		String previousProfileImgUrl = user.getProfileImgUrl();
+
 		// 0. 프로필 사진 첨부파일 있을 경우 먼저 S3에 업로드
 		FileUploadResponseDto fileUploadResponse = null;
 		if (profileImgFile != null) {
@@ -231,6 +239,12 @@ public class UserServiceImpl implements UserService {
 			);
 		}
 
+		// 채팅 발신자 정보 캐시 무효화
+		if (!Objects.equals(previousName, user.getName())
+			|| !Objects.equals(previousProfileImgUrl, user.getProfileImgUrl())) {
+			eventPublisher.publishEvent(new ChatSenderProfileChangedEvent(userId));
+		}
+
 		// 2. user_category 테이블 delete
 		List<UserCategory> userCategoryList = userCategoryRepository.findUserCategoriesByUser(user);
 		if (userCategoryList != null) {
@@ -295,12 +309,20 @@ public class UserServiceImpl implements UserService {
 		// 3. group_user 테이블 soft delete
 		List<GroupUser> groupUserList = groupUserRepository.findGroupUserByUserId(userId);
 		log.info("groupUserList.size = {}", groupUserList.size());
+		// 참여 중이던 모임은 채팅방 구성원 변경으로 알립니다. (구성원 명단, 전송 권한, 읽음 위치 정리)
+		List<Long> joinedGroupIds = groupUserList.stream()
+			.filter(GroupUser::isJoined)
+			.map(groupUser -> groupUser.getId().getGroupId())
+			.toList();
 		if (!groupUserList.isEmpty()) {
 			groupUserList.forEach(GroupUser::deleteGroupUser);
 		}
+		joinedGroupIds.forEach(groupId ->
+			eventPublisher.publishEvent(new ChatRoomMemberChangedEvent(groupId, List.of(userId))));
 
 		// 4. user 테이블 soft delete
 		user.leaveUser();
+		eventPublisher.publishEvent(new ChatSenderProfileChangedEvent(userId));
 
 		// 5. redis에서 refresh token 삭제
 		refreshTokenService.deleteRefreshToken(id);
@@ -0,0 +1,98 @@
+package com.onmoim.server.chat.common.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.onmoim.server.common.exception.CustomException;
+import com.onmoim.server.common.exception.ErrorCode;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ChatRoomLaneExecutorTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private ChatRoomLaneExecutor executor;
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdown();
+	}
+
+	@Test
+	@DisplayName("같은 방의 작업은 한 스레드에서 제출 순서대로 실행된다")
+	void sameRoomRunsInOrderOnOneThread() throws InterruptedException {
+		executor = new ChatRoomLaneExecutor(4, 10_000, meterRegistry);
+		List<Integer> executed = new CopyOnWriteArrayList<>();
+		Set<String> threads = ConcurrentHashMap.newKeySet();
+		CountDownLatch done = new CountDownLatch(1_000);
+
+		for (int i = 0; i < 1_000; i++) {
+			int order = i;
+			executor.execute(7L, () -> {
+				executed.add(order);
+				threads.add(Thread.currentThread().getName());
+				done.countDown();
+			});
+		}
+
+		assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(executed).isSorted().hasSize(1_000);
+		assertThat(threads).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("다른 lane 의 방은 막힌 방을 기다리지 않는다")
+	void hotRoomDoesNotBlockColdRoom() throws InterruptedException {
+		executor = new ChatRoomLaneExecutor(2, 100, meterRegistry);
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch coldDone = new CountDownLatch(1);
+
+		executor.execute(0L, () -> await(release));
+		executor.execute(0L, () -> {
+		});
+		executor.execute(1L, coldDone::countDown);
+
+		assertThat(coldDone.await(1, TimeUnit.SECONDS)).isTrue();
+		assertThat(executor.queueSize(executor.laneOf(0L))).isEqualTo(1);
+		assertThat(meterRegistry.get("chat.lane.queue.size").tag("lane", "0").gauge().value()).isEqualTo(1.0);
+		release.countDown();
+	}
+
+	@Test
+	@DisplayName("lane 대기열이 가득 차면 CHAT_MESSAGE_QUEUE_FULL 로 거절한다")
+	void rejectWhenLaneIsFull() {
+		executor = new ChatRoomLaneExecutor(1, 1, meterRegistry);
+		CountDownLatch release = new CountDownLatch(1);
+
+		executor.execute(1L, () -> await(release));
+		executor.execute(1L, () -> {
+		});
+
+		// 실행 중 1건 + 대기 1건 이후 거절
+		assertThatThrownBy(() -> executor.execute(1L, () -> {
+		}))
+			.isInstanceOf(CustomException.class)
+			.extracting("errorCode")
+			.isEqualTo(ErrorCode.CHAT_MESSAGE_QUEUE_FULL);
+		assertThat(meterRegistry.get("chat.lane.rejected").counter().count()).isEqualTo(1.0);
+		release.countDown();
+	}
+
+	private void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,107 @@
+package com.onmoim.server.chat.common.config;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SlowConsumerSessionDecoratorTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final CountDownLatch release = new CountDownLatch(1);
+	private final CountDownLatch sending = new CountDownLatch(1);
+	private final List<WebSocketMessage<?>> delivered = new CopyOnWriteArrayList<>();
+
+	private StompOutboundSessionMonitor monitor;
+	private SlowConsumerSessionDecorator session;
+	private Thread blockedSender;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		StompTransportProperties properties = new StompTransportProperties();
+		properties.setListUpdateDropBufferSize(100);
+		monitor = new StompOutboundSessionMonitor(properties, meterRegistry);
+
+		// 첫 전송이 네트워크에 막힌 느린 클라이언트
+		WebSocketSession delegate = mock(WebSocketSession.class);
+		when(delegate.getId()).thenReturn("slow");
+		doAnswer(invocation -> {
+			sending.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			delivered.add(invocation.getArgument(0));
+			return null;
+		}).when(delegate).sendMessage(any());
+		session = monitor.decorate(delegate, 60_000, 300);
+
+		blockedSender = new Thread(() -> {
+			try {
+				session.sendMessage(frame("/topic/chat.room.1", 10));
+			} catch (Exception ignored) {
+			}
+		});
+		blockedSender.start();
+		sending.await(5, TimeUnit.SECONDS);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		release.countDown();
+		blockedSender.join(5_000);
+	}
+
+	@Test
+	@DisplayName("버퍼가 기준 이상이면 채팅방 목록 갱신만 버리고 채팅 메시지는 버퍼에 남긴다")
+	void dropListUpdates() throws Exception {
+		session.sendMessage(frame("/topic/chat.room.list.7", 20));
+		int belowThreshold = session.getBufferSize();
+		session.sendMessage(frame("/topic/chat.room.1", 120));
+		int buffered = session.getBufferSize();
+		session.sendMessage(frame("/topic/chat.room.list.7", 20));
+
+		assertThat(belowThreshold).isLessThan(100);
+		assertThat(buffered).isGreaterThan(belowThreshold);
+		assertThat(session.getBufferSize()).isEqualTo(buffered);
+		assertThat(monitor.bufferSize("slow")).isEqualTo(session.getBufferSize());
+		assertThat(meterRegistry.counter("stomp.outbound.dropped").count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("버퍼 상한을 넘으면 예외를 던져 연결을 끊게 한다")
+	void disconnectOnBufferLimit() throws Exception {
+		session.sendMessage(frame("/topic/chat.room.1", 200));
+
+		assertThatThrownBy(() -> session.sendMessage(frame("/topic/chat.room.1", 200)))
+			.isInstanceOf(SessionLimitExceededException.class);
+		assertThat(meterRegistry.counter("stomp.outbound.slow_consumer.disconnected").count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("STOMP 헤더의 목적지로 채팅방 목록 갱신, 접속 상태 프레임을 구분한다")
+	void listUpdateFrame() {
+		assertThat(SlowConsumerSessionDecorator.isDroppable(frame("/topic/chat.room.list.7", 10))).isTrue();
+		assertThat(SlowConsumerSessionDecorator.isDroppable(frame("/topic/chat.presence.1", 10))).isTrue();
+		assertThat(SlowConsumerSessionDecorator.isDroppable(frame("/topic/chat.room.1", 10))).isFalse();
+		assertThat(SlowConsumerSessionDecorator.isDroppable(
+			new TextMessage("MESSAGE\ndestination:/topic/chat.room.1\n\n{\"x\":\"\\ndestination:/topic/chat.room.list.1\"}\u0000")))
+			.isFalse();
+	}
+
+	private TextMessage frame(String destination, int bodyLength) {
+		return new TextMessage("MESSAGE\ndestination:" + destination + "\ncontent-type:application/json\n\n"
+			+ "x".repeat(bodyLength) + "\u0000");
+	}
+}
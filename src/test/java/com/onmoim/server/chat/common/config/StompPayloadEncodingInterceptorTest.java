@@ -0,0 +1,149 @@
+package com.onmoim.server.chat.common.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.onmoim.server.chat.domain.dto.ChatMessageDto;
+import com.onmoim.server.chat.domain.dto.ChatRoomListUpdateDto;
+import com.onmoim.server.chat.domain.dto.ChatSyncResponse;
+import com.onmoim.server.chat.domain.dto.ChatUserDto;
+import com.onmoim.server.chat.domain.enums.MessageType;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class StompPayloadEncodingInterceptorTest {
+
+	private static final String ROOM_DESTINATION = "/topic/chat.room.1";
+
+	private final ObjectMapper jsonMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+	private final ObjectMapper cborMapper = StompCborMessageConverter.compactMapper();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private StompPayloadEncodingInterceptor interceptor;
+
+	@BeforeEach
+	void setUp() {
+		interceptor = new StompPayloadEncodingInterceptor(new StompEncodingProperties(), meterRegistry);
+	}
+
+	@Test
+	@DisplayName("CBOR 를 협상한 세션만 CBOR 로 받고, 같은 payload 는 한 번만 변환한다")
+	void negotiatePerSession() throws Exception {
+		connect("cbor-1", "application/cbor");
+		connect("cbor-2", "application/cbor");
+		connect("json", null);
+		byte[] json = jsonMapper.writeValueAsBytes(message(1L));
+
+		Message<?> first = interceptor.preSend(outbound("cbor-1", ROOM_DESTINATION, json), null);
+		Message<?> second = interceptor.preSend(outbound("cbor-2", ROOM_DESTINATION, json), null);
+		Message<?> plain = interceptor.preSend(outbound("json", ROOM_DESTINATION, json), null);
+
+		assertThat(first.getHeaders().get(MessageHeaders.CONTENT_TYPE))
+			.isEqualTo(StompCborMessageConverter.APPLICATION_CBOR);
+		assertThat(first.getPayload()).isSameAs(second.getPayload());
+		assertThat(cborMapper.readValue((byte[])first.getPayload(), ChatMessageDto.class)).isEqualTo(message(1L));
+		assertThat(plain.getPayload()).isSameAs(json);
+		assertThat(meterRegistry.counter("stomp.outbound.cbor.transcoded").count()).isEqualTo(1);
+		assertThat(meterRegistry.counter("stomp.outbound.cbor.frames").count()).isEqualTo(2);
+
+		interceptor.preSend(frame(SimpMessageType.DISCONNECT, "cbor-1"), null);
+		assertThat(interceptor.isCborSession("cbor-1")).isFalse();
+		assertThat(interceptor.preSend(outbound("cbor-1", ROOM_DESTINATION, json), null).getPayload()).isSameAs(json);
+	}
+
+	@Test
+	@DisplayName("클라이언트 SEND 프레임은 변환하지 않고, CBOR SEND 프레임은 CBOR 컨버터로 읽는다")
+	void inboundCbor() throws Exception {
+		connect("cbor-1", "application/cbor");
+		byte[] cbor = cborMapper.writeValueAsBytes(message(1L));
+
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+		accessor.setSessionId("cbor-1");
+		accessor.setDestination("/app/chat.sendMessage");
+		accessor.setContentType(StompCborMessageConverter.APPLICATION_CBOR);
+		Message<byte[]> send = MessageBuilder.createMessage(cbor, accessor.getMessageHeaders());
+
+		assertThat(interceptor.preSend(send, null)).isSameAs(send);
+		assertThat(new StompCborMessageConverter().fromMessage(send, ChatMessageDto.class)).isEqualTo(message(1L));
+		assertThat(new MappingJackson2MessageConverter().fromMessage(send, ChatMessageDto.class)).isNull();
+		// content-type 이 없으면 기본 JSON 컨버터가 처리합니다.
+		assertThat(new StompCborMessageConverter().toMessage(message(1L), null)).isNull();
+	}
+
+	@Test
+	@DisplayName("채팅 메시지, 채팅방 목록, 동기화 응답은 CBOR 가 JSON 보다 작고 그대로 복원된다")
+	void cborSmallerAndRoundTrip() throws Exception {
+		ChatMessageDto chatMessage = message(1024L);
+		ChatRoomListUpdateDto listUpdate = ChatRoomListUpdateDto.builder()
+			.groupId(1L)
+			.groupName("주말 등산 모임")
+			.participantCount(1000)
+			.latestMessage(chatMessage)
+			.build();
+		ChatSyncResponse sync = ChatSyncResponse.of(1L, LongStream.rangeClosed(1, 50).mapToObj(this::message).toList());
+
+		for (Object payload : List.of(chatMessage, listUpdate, sync)) {
+			byte[] json = jsonMapper.writeValueAsBytes(payload);
+			byte[] cbor = cborMapper.writeValueAsBytes(payload);
+
+			assertThat(cbor.length).isLessThan(json.length);
+			assertThat(cborMapper.readValue(cbor, payload.getClass())).usingRecursiveComparison().isEqualTo(payload);
+		}
+	}
+
+	private void connect(String sessionId, String contentType) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.CONNECT);
+		accessor.setSessionId(sessionId);
+		if (contentType != null) {
+			accessor.setNativeHeader(StompPayloadEncodingInterceptor.CONTENT_TYPE_HEADER, contentType);
+		}
+		interceptor.preSend(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()), null);
+	}
+
+	private Message<byte[]> frame(SimpMessageType type, String sessionId) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+		accessor.setSessionId(sessionId);
+		return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+	}
+
+	private Message<byte[]> outbound(String sessionId, String destination, byte[] payload) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+		accessor.setSessionId(sessionId);
+		accessor.setSubscriptionId("sub-" + sessionId);
+		accessor.setDestination(destination);
+		accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+		return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+	}
+
+	private ChatMessageDto message(Long sequence) {
+		return ChatMessageDto.builder()
+			.messageSequence(sequence)
+			.groupId(1L)
+			.type(MessageType.CHAT)
+			.content("이번 주 모임은 화요일 저녁 7시에 강남역 근처에서 진행합니다.")
+			.senderId(54321L)
+			.timestamp(LocalDateTime.of(2025, 8, 11, 14, 0, 12, 345_000_000))
+			.chatUserDto(ChatUserDto.builder()
+				.id(54321L)
+				.username("홍길동")
+				.profileImageUrl("https://cdn.onmoim.com/profile/54321.png")
+				.isOwner(true)
+				.build())
+			.build();
+	}
+}
@@ -0,0 +1,160 @@
+package com.onmoim.server.chat.common.config;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onmoim.server.chat.common.exception.StompErrorEvent;
+import com.onmoim.server.chat.domain.dto.ChatMessageDto;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class StompRateLimitInterceptorTest {
+
+	private final AtomicLong now = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+	private StompRateLimitProperties properties;
+	private StompRateLimitInterceptor interceptor;
+
+	@BeforeEach
+	void setUp() {
+		properties = new StompRateLimitProperties();
+		properties.setUserBurst(5);
+		properties.setUserRefillPerSecond(1);
+		properties.setRoomBurst(8);
+		properties.setRoomRefillPerSecond(2);
+		interceptor = new StompRateLimitInterceptor(properties, eventPublisher, meterRegistry, now::get);
+	}
+
+	@Test
+	@DisplayName("사용자별 burst 를 넘는 SEND 프레임은 버리고, 충전 후 다시 허용한다")
+	void userBucket() {
+		for (int i = 0; i < 5; i++) {
+			assertThat(interceptor.preSend(send("1", "/app/chat.read", "{}"), null)).isNotNull();
+		}
+		assertThat(interceptor.preSend(send("1", "/app/chat.read", "{}"), null)).isNull();
+		assertThat(interceptor.preSend(send("2", "/app/chat.read", "{}"), null)).isNotNull();
+
+		now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+		assertThat(interceptor.preSend(send("1", "/app/chat.read", "{}"), null)).isNotNull();
+		assertThat(interceptor.preSend(send("1", "/app/chat.read", "{}"), null)).isNull();
+
+		assertThat(meterRegistry.counter("stomp.inbound.throttled", "scope", "user").count()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("같은 Principal 이라도 세션이 다르면 bucket 을 따로 쓴다")
+	void separateBucketPerSession() {
+		for (int i = 0; i < 5; i++) {
+			assertThat(interceptor.preSend(send("101", "session-a", "/app/chat.read", "{}"), null)).isNotNull();
+		}
+		assertThat(interceptor.preSend(send("101", "session-a", "/app/chat.read", "{}"), null)).isNull();
+		assertThat(interceptor.preSend(send("101", "session-b", "/app/chat.read", "{}"), null)).isNotNull();
+	}
+
+	@Test
+	@DisplayName("채팅방별 bucket 은 payload 의 groupId 로 구분한다")
+	void roomBucket() {
+		properties.setUserBurst(100);
+		for (int user = 1; user <= 8; user++) {
+			assertThat(interceptor.preSend(send(String.valueOf(user), "/app/chat.sendMessage",
+				"{\"content\":\"안녕\",\"chatUserDto\":{\"groupId\":2},\"groupId\":1}"), null)).isNotNull();
+		}
+		assertThat(interceptor.preSend(send("9", "/app/chat.sendMessage", "{\"groupId\":1}"), null)).isNull();
+		assertThat(interceptor.preSend(send("9", "/app/chat.sendMessage", "{\"groupId\":2}"), null)).isNotNull();
+
+		assertThat(meterRegistry.counter("stomp.inbound.throttled", "scope", "room").count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("CBOR 프레임도 축약 필드명 groupId 로 채팅방별 bucket 을 적용한다")
+	void roomBucketForCbor() throws Exception {
+		properties.setUserBurst(100);
+		ObjectMapper cborMapper = StompCborMessageConverter.compactMapper();
+		ChatMessageDto message = ChatMessageDto.builder().groupId(1L).content("안녕").build();
+		byte[] payload = cborMapper.writeValueAsBytes(message);
+
+		for (int user = 1; user <= 8; user++) {
+			assertThat(interceptor.preSend(cborSend(String.valueOf(user), payload), null)).isNotNull();
+		}
+		assertThat(interceptor.preSend(cborSend("9", payload), null)).isNull();
+		// 같은 방의 JSON 프레임과 bucket 을 공유합니다.
+		assertThat(interceptor.preSend(send("9", "/app/chat.sendMessage", "{\"groupId\":1}"), null)).isNull();
+		assertThat(interceptor.preSend(send("9", "/app/chat.sendMessage", "{\"groupId\":2}"), null)).isNotNull();
+
+		assertThat(meterRegistry.counter("stomp.inbound.throttled", "scope", "room").count()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("거절 알림은 사용자에게 초당 한 번만 보낸다")
+	void notifyOncePerSecond() {
+		for (int i = 0; i < 20; i++) {
+			interceptor.preSend(send("1", "/app/chat.read", "{}"), null);
+		}
+		now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1_100));
+		for (int i = 0; i < 5; i++) {
+			interceptor.preSend(send("1", "/app/chat.read", "{}"), null);
+		}
+
+		ArgumentCaptor<StompErrorEvent> captor = ArgumentCaptor.forClass(StompErrorEvent.class);
+		verify(eventPublisher, times(2)).publishEvent(captor.capture());
+		assertThat(captor.getValue().getUserIdOrSessionId()).isEqualTo("1");
+		assertThat(captor.getValue().getDestination()).isEqualTo("/app/chat.read");
+	}
+
+	@Test
+	@DisplayName("SEND 가 아닌 프레임은 제한하지 않고, 오래 쓰지 않은 bucket 은 정리된다")
+	void otherFramesAndEviction() {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+		accessor.setSessionId("s1");
+		for (int i = 0; i < 20; i++) {
+			assertThat(interceptor.preSend(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()), null))
+				.isNotNull();
+		}
+		interceptor.preSend(send("1", "/app/chat.sendMessage", "{\"groupId\":1}"), null);
+		assertThat(interceptor.bucketCount()).isEqualTo(2);
+
+		now.addAndGet(TimeUnit.MILLISECONDS.toNanos(properties.getIdleEvictMillis()) + TimeUnit.SECONDS.toNanos(10));
+		interceptor.evictIdle();
+
+		assertThat(interceptor.bucketCount()).isZero();
+		verify(eventPublisher, never()).publishEvent(any(Object.class));
+	}
+
+	private Message<byte[]> send(String userId, String destination, String payload) {
+		return send(userId, "session-" + userId, destination, payload);
+	}
+
+	private Message<byte[]> send(String userId, String sessionId, String destination, String payload) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+		accessor.setSessionId(sessionId);
+		accessor.setUser(() -> userId);
+		accessor.setDestination(destination);
+		return MessageBuilder.createMessage(payload.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+	}
+
+	private Message<byte[]> cborSend(String userId, byte[] payload) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+		accessor.setSessionId("session-" + userId);
+		accessor.setUser(() -> userId);
+		accessor.setDestination("/app/chat.sendMessage");
+		accessor.setContentType(StompCborMessageConverter.APPLICATION_CBOR);
+		return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+	}
+}
@@ -0,0 +1,80 @@
+package com.onmoim.server.chat.messaging.relay;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import com.onmoim.server.chat.common.config.ChatRelayProperties;
+import com.onmoim.server.chat.messaging.ChatRoomMemberChangedEvent;
+import com.onmoim.server.chat.messaging.ChatSenderProfileChangedEvent;
+
+/**
+ * 노드 두 개의 무효화 중계를 메모리 Redis pub/sub 으로 연결해 확인합니다.
+ */
+class ChatCacheInvalidationRelayTest {
+
+	private final InMemoryRedisPubSub redis = new InMemoryRedisPubSub();
+	private final Node nodeA = new Node("node-a");
+	private final Node nodeB = new Node("node-b");
+
+	@Test
+	@DisplayName("A 노드의 구성원 변경은 B 노드에 relayed 이벤트로 한 번 전달되고, 다시 발행되지 않는다")
+	void memberChangedRelayedOnce() {
+		nodeA.relay.onMemberChanged(new ChatRoomMemberChangedEvent(1L, List.of(10L)));
+
+		assertThat(nodeA.events).isEmpty();
+		assertThat(nodeB.events).containsExactly(new ChatRoomMemberChangedEvent(1L, List.of(10L), true));
+
+		nodeB.relay.onMemberChanged((ChatRoomMemberChangedEvent)nodeB.events.get(0));
+		assertThat(redis.published).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("A 노드의 발신자 정보 변경은 B 노드에 relayed 이벤트로 한 번 전달되고, 다시 발행되지 않는다")
+	void senderProfileChangedRelayedOnce() {
+		nodeA.relay.onProfileChanged(new ChatSenderProfileChangedEvent(10L));
+
+		assertThat(nodeA.events).isEmpty();
+		assertThat(nodeB.events).containsExactly(new ChatSenderProfileChangedEvent(10L, true));
+
+		nodeB.relay.onProfileChanged((ChatSenderProfileChangedEvent)nodeB.events.get(0));
+		assertThat(redis.published).hasSize(1);
+	}
+
+	private class Node {
+		private final List<Object> events = new ArrayList<>();
+		private final ChatCacheInvalidationRelay relay;
+
+		private Node(String nodeId) {
+			ChatRelayProperties properties = new ChatRelayProperties();
+			properties.setNodeId(nodeId);
+			relay = new ChatCacheInvalidationRelay(redis, properties, events::add);
+			redis.listeners.add(relay);
+		}
+	}
+
+	/**
+	 * Redis pub/sub 대역, 발행된 메시지를 모든 구독 노드(자기 자신 포함)에 동기로 전달합니다.
+	 */
+	private static class InMemoryRedisPubSub extends RedisTemplate<String, String> {
+		private final List<ChatCacheInvalidationRelay> listeners = new ArrayList<>();
+		private final List<String> published = new ArrayList<>();
+
+		@Override
+		public Long convertAndSend(String channel, Object message) {
+			published.add((String)message);
+			DefaultMessage redisMessage = new DefaultMessage(
+				channel.getBytes(StandardCharsets.UTF_8),
+				((String)message).getBytes(StandardCharsets.UTF_8));
+			listeners.forEach(listener -> listener.onMessage(redisMessage, null));
+			return (long)listeners.size();
+		}
+	}
+}
@@ -0,0 +1,226 @@
+package com.onmoim.server.chat.messaging.relay;
+
+import static com.onmoim.server.chat.messaging.relay.RedisChatBrokerRelay.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.onmoim.server.chat.common.config.ChatRecentMessageProperties;
+import com.onmoim.server.chat.common.config.ChatRelayProperties;
+import com.onmoim.server.chat.domain.dto.ChatMessageDto;
+import com.onmoim.server.chat.domain.enums.MessageType;
+import com.onmoim.server.chat.service.ChatFanOutSender;
+import com.onmoim.server.chat.service.ChatRecentMessageCache;
+import com.onmoim.server.chat.service.ChatRelayedMessageBuffer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 노드 두 개(각자 SimpleBroker + brokerChannel + 중계)를 메모리 Redis pub/sub 으로 연결해 노드 간 전달을 확인합니다.
+ */
+class RedisChatBrokerRelayTest {
+
+	private static final String ROOM_DESTINATION = "/topic/chat.room.1";
+
+	private final InMemoryRedisPubSub redis = new InMemoryRedisPubSub();
+	private Node nodeA;
+	private Node nodeB;
+
+	@BeforeEach
+	void setUp() {
+		nodeA = new Node("node-a");
+		nodeB = new Node("node-b");
+	}
+
+	@AfterEach
+	void tearDown() {
+		nodeA.broker.stop();
+		nodeB.broker.stop();
+	}
+
+	@Test
+	@DisplayName("A 노드에서 보낸 채팅방 메시지를 B 노드 구독자도 한 번 받는다")
+	void crossNodeDelivery() {
+		nodeA.subscribe("a-session", ROOM_DESTINATION);
+		nodeB.subscribe("b-session", ROOM_DESTINATION);
+
+		nodeA.messagingTemplate.convertAndSend(ROOM_DESTINATION, message(1L), Map.of(MESSAGE_ID_HEADER, "1-1"));
+
+		assertThat(nodeA.received("a-session")).hasSize(1);
+		assertThat(nodeB.received("b-session")).hasSize(1);
+		assertThat(nodeB.received("b-session").get(0).getPayload())
+			.isEqualTo(nodeA.received("a-session").get(0).getPayload());
+		assertThat(redis.published).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("다른 노드의 채팅방 메시지를 최근 메시지 캐시에 반영한다")
+	void relayedMessageAppendedToRecentMessages() {
+		nodeB.recentMessageCache.getLatest(1L, 100, List::of);
+
+		nodeA.messagingTemplate.convertAndSend(ROOM_DESTINATION, message(1L), Map.of(MESSAGE_ID_HEADER, "1-1"));
+
+		assertThat(nodeB.recentMessageCache.getLatest(1L, 100, List::of))
+			.extracting(ChatMessageDto::getMessageSequence, ChatMessageDto::getContent)
+			.containsExactly(tuple(1L, "안녕하세요 1"));
+	}
+
+	@Test
+	@DisplayName("다른 노드의 채팅방 메시지는 저장 전이어도 재연결 동기화에서 찾을 수 있도록 보관한다")
+	void relayedMessageKeptForSync() {
+		nodeA.messagingTemplate.convertAndSend(ROOM_DESTINATION, message(2L), Map.of(MESSAGE_ID_HEADER, "1-2"));
+
+		assertThat(nodeB.relayedMessageBuffer.findAfter(1L, 1L))
+			.extracting(ChatMessageDto::getMessageSequence)
+			.containsExactly(2L);
+		assertThat(nodeB.relayedMessageBuffer.findAfter(1L, 2L)).isEmpty();
+		assertThat(nodeA.relayedMessageBuffer.findAfter(1L, 0L)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("같은 ChatRoomMessageId 를 재전송하면 다른 노드로는 한 번만 중계된다")
+	void dedupeByMessageId() {
+		nodeB.subscribe("b-session", ROOM_DESTINATION);
+
+		nodeA.messagingTemplate.convertAndSend(ROOM_DESTINATION, message(1L), Map.of(MESSAGE_ID_HEADER, "1-1"));
+		nodeA.messagingTemplate.convertAndSend(ROOM_DESTINATION, message(1L), Map.of(MESSAGE_ID_HEADER, "1-1"));
+		nodeA.messagingTemplate.convertAndSend(ROOM_DESTINATION, message(2L), Map.of(MESSAGE_ID_HEADER, "1-2"));
+
+		assertThat(nodeB.received("b-session")).hasSize(2);
+		assertThat(redis.published).hasSize(2);
+	}
+
+	@Test
+	@DisplayName("채팅방 목록 fan-out 은 목적지 전체를 한 번에 발행하고, 다른 노드의 각 사용자에게 전달된다")
+	void fanOutRelayedOnce() {
+		nodeB.subscribe("user-2", "/topic/chat.room.list.2");
+		nodeB.subscribe("user-3", "/topic/chat.room.list.3");
+		ChatFanOutSender fanOutSender = new ChatFanOutSender(nodeA.messagingTemplate, Optional.of(nodeA.relay));
+
+		fanOutSender.send(
+			List.of("/topic/chat.room.list.1", "/topic/chat.room.list.2", "/topic/chat.room.list.3"),
+			message(1L),
+			"/topic/chat.room.list.|1-1"
+		);
+
+		assertThat(redis.published).hasSize(1);
+		assertThat(nodeB.received("user-2")).hasSize(1);
+		assertThat(nodeB.received("user-3")).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("채팅 목적지가 아니면 중계하지 않는다")
+	void ignoreOtherDestinations() {
+		nodeB.subscribe("b-session", "/topic/notice");
+
+		nodeA.messagingTemplate.convertAndSend("/topic/notice", message(1L));
+
+		assertThat(redis.published).isEmpty();
+		assertThat(nodeB.received("b-session")).isEmpty();
+	}
+
+	private ChatMessageDto message(Long sequence) {
+		return ChatMessageDto.builder()
+			.messageSequence(sequence)
+			.groupId(1L)
+			.type(MessageType.CHAT)
+			.content("안녕하세요 " + sequence)
+			.senderId(1L)
+			.build();
+	}
+
+	/**
+	 * 하나의 애플리케이션 노드에 해당하는 STOMP 브로커 구성
+	 */
+	private class Node {
+		private final ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+		private final ExecutorSubscribableChannel clientInboundChannel = new ExecutorSubscribableChannel();
+		private final ExecutorSubscribableChannel clientOutboundChannel = new ExecutorSubscribableChannel();
+		private final List<Message<?>> outbound = new CopyOnWriteArrayList<>();
+		private final SimpleBrokerMessageHandler broker;
+		private final SimpMessagingTemplate messagingTemplate;
+		private final RedisChatBrokerRelay relay;
+		private final ChatRecentMessageCache recentMessageCache;
+		private final ChatRelayedMessageBuffer relayedMessageBuffer;
+
+		private Node(String nodeId) {
+			MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+			converter.setObjectMapper(new ObjectMapper().registerModule(new JavaTimeModule()));
+			messagingTemplate = new SimpMessagingTemplate(brokerChannel);
+			messagingTemplate.setMessageConverter(converter);
+
+			ChatRelayProperties properties = new ChatRelayProperties();
+			properties.setNodeId(nodeId);
+			recentMessageCache = new ChatRecentMessageCache(new ChatRecentMessageProperties(), new SimpleMeterRegistry());
+			relayedMessageBuffer = new ChatRelayedMessageBuffer(properties);
+			relay = new RedisChatBrokerRelay(redis, properties, messagingTemplate, recentMessageCache,
+				relayedMessageBuffer, new SimpleMeterRegistry());
+			brokerChannel.addInterceptor(relay);
+			redis.listeners.add(relay);
+
+			broker = new SimpleBrokerMessageHandler(clientInboundChannel, clientOutboundChannel, brokerChannel,
+				List.of("/topic", "/queue"));
+			broker.start();
+			clientOutboundChannel.subscribe(outbound::add);
+		}
+
+		private void subscribe(String sessionId, String destination) {
+			SimpMessageHeaderAccessor connect = SimpMessageHeaderAccessor.create(SimpMessageType.CONNECT);
+			connect.setSessionId(sessionId);
+			broker.handleMessage(MessageBuilder.createMessage(new byte[0], connect.getMessageHeaders()));
+
+			SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+			accessor.setSessionId(sessionId);
+			accessor.setSubscriptionId("sub-" + sessionId);
+			accessor.setDestination(destination);
+			broker.handleMessage(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+		}
+
+		private List<Message<?>> received(String sessionId) {
+			return outbound.stream()
+				.filter(m -> SimpMessageHeaderAccessor.getMessageType(m.getHeaders()) == SimpMessageType.MESSAGE)
+				.filter(m -> sessionId.equals(SimpMessageHeaderAccessor.getSessionId(m.getHeaders())))
+				.toList();
+		}
+	}
+
+	/**
+	 * Redis pub/sub 대역, 발행된 메시지를 모든 구독 노드(자기 자신 포함)에 동기로 전달합니다.
+	 */
+	private static class InMemoryRedisPubSub extends RedisTemplate<String, String> {
+		private final List<RedisChatBrokerRelay> listeners = new ArrayList<>();
+		private final List<String> published = new ArrayList<>();
+
+		@Override
+		public Long convertAndSend(String channel, Object message) {
+			published.add((String)message);
+			DefaultMessage redisMessage = new DefaultMessage(
+				channel.getBytes(StandardCharsets.UTF_8),
+				((String)message).getBytes(StandardCharsets.UTF_8));
+			listeners.forEach(listener -> listener.onMessage(redisMessage, null));
+			return (long)listeners.size();
+		}
+	}
+}
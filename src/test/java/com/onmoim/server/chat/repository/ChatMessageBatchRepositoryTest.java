@@ -0,0 +1,64 @@
+package com.onmoim.server.chat.repository;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import com.onmoim.server.chat.domain.ChatRoomMessage;
+import com.onmoim.server.chat.domain.ChatRoomMessageId;
+import com.onmoim.server.chat.domain.enums.DeliveryStatus;
+import com.onmoim.server.chat.domain.enums.MessageType;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageBatchRepositoryTest {
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	@InjectMocks
+	private ChatMessageBatchRepository chatMessageBatchRepository;
+
+	@Test
+	@DisplayName("마지막 메시지 갱신은 batch 안에서 방마다 가장 큰 순번 한 건만 보내고, 메시지 수는 방마다 저장한 건수만큼 늘린다")
+	@SuppressWarnings("unchecked")
+	void upsertLatestMessagePerRoom() throws SQLException {
+		chatMessageBatchRepository.upsertLastMessages(List.of(
+			message(1L, 10L), message(2L, 3L), message(1L, 12L), message(1L, 11L), message(2L, 4L)));
+
+		ArgumentCaptor<Collection<ChatRoomMessage>> captor = ArgumentCaptor.forClass(Collection.class);
+		ArgumentCaptor<ParameterizedPreparedStatementSetter<ChatRoomMessage>> setter =
+			ArgumentCaptor.forClass(ParameterizedPreparedStatementSetter.class);
+		verify(jdbcTemplate).batchUpdate(contains("message_count = message_count + VALUES(message_count)"),
+			captor.capture(), eq(2), setter.capture());
+		assertThat(captor.getValue())
+			.extracting(ChatRoomMessage::getId)
+			.containsExactlyInAnyOrder(ChatRoomMessageId.create(1L, 12L), ChatRoomMessageId.create(2L, 4L));
+
+		PreparedStatement ps = mock(PreparedStatement.class);
+		setter.getValue().setValues(ps, message(1L, 12L));
+		verify(ps).setLong(3, 3L);
+		setter.getValue().setValues(ps, message(2L, 4L));
+		verify(ps).setLong(3, 2L);
+	}
+
+	private ChatRoomMessage message(Long roomId, Long sequence) {
+		return ChatRoomMessage.create(ChatRoomMessageId.create(roomId, sequence), 1L, "내용", LocalDateTime.now(),
+			MessageType.CHAT, DeliveryStatus.PENDING);
+	}
+}
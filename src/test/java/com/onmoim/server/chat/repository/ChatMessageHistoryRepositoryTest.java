@@ -0,0 +1,120 @@
+package com.onmoim.server.chat.repository;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import com.onmoim.server.chat.domain.dto.ChatMessageDto;
+import com.onmoim.server.chat.domain.enums.MessageType;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageHistoryRepositoryTest {
+
+	private static final Long ROOM_ID = 1L;
+
+	@Mock
+	private ChatMessageRepository chatMessageRepository;
+
+	@Mock
+	private ChatMessageArchiveRepository chatMessageArchiveRepository;
+
+	@InjectMocks
+	private ChatMessageHistoryRepository historyRepository;
+
+	@Test
+	@DisplayName("최근 메시지로 한 페이지가 차면 보관 테이블은 조회하지 않는다")
+	void recentPageStaysOnHotTable() {
+		Pageable pageable = PageRequest.of(0, 3);
+		when(chatMessageRepository.findTop100ByRoomIdBeforeCursor(ROOM_ID, 100L, pageable))
+			.thenReturn(messages(99, 98, 97));
+
+		assertThat(sequences(historyRepository.findTop100ByRoomIdBeforeCursor(ROOM_ID, 100L, pageable)))
+			.containsExactly(99L, 98L, 97L);
+		verifyNoInteractions(chatMessageArchiveRepository);
+	}
+
+	@Test
+	@DisplayName("커서가 최근 메시지 범위를 지나면 가장 오래된 최근 메시지 이전을 보관 테이블에서 채운다")
+	void beforeCursorFallsThroughToArchive() {
+		Pageable pageable = PageRequest.of(0, 4);
+		when(chatMessageRepository.findTop100ByRoomIdBeforeCursor(ROOM_ID, 53L, pageable)).thenReturn(messages(52, 51));
+		when(chatMessageArchiveRepository.findArchivedSequence(ROOM_ID)).thenReturn(Optional.of(50L));
+		when(chatMessageArchiveRepository.findByRoomIdBeforeCursor(ROOM_ID, 51L, PageRequest.of(0, 2)))
+			.thenReturn(messages(50, 49));
+
+		assertThat(sequences(historyRepository.findTop100ByRoomIdBeforeCursor(ROOM_ID, 53L, pageable)))
+			.containsExactly(52L, 51L, 50L, 49L);
+	}
+
+	@Test
+	@DisplayName("보관한 적 없는 채팅방은 최근 메시지가 부족해도 보관 테이블을 조회하지 않는다")
+	void noArchiveWithoutWatermark() {
+		Pageable pageable = PageRequest.of(0, 100);
+		when(chatMessageRepository.findTop100ByRoomId(ROOM_ID, pageable)).thenReturn(messages(2, 1));
+		when(chatMessageArchiveRepository.findArchivedSequence(ROOM_ID)).thenReturn(Optional.empty());
+
+		assertThat(sequences(historyRepository.findTop100ByRoomId(ROOM_ID, pageable))).containsExactly(2L, 1L);
+		verify(chatMessageArchiveRepository, never()).findByRoomIdBeforeCursor(any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("동기화 커서가 보관 순번보다 앞이면 보관 메시지와 최근 메시지를 순번순으로 합친다")
+	void afterCursorMergesArchiveAndHot() {
+		Pageable pageable = PageRequest.of(0, 4);
+		when(chatMessageRepository.findByRoomIdAfterCursor(ROOM_ID, 47L, pageable)).thenReturn(messages(50, 51, 52));
+		when(chatMessageArchiveRepository.findArchivedSequence(ROOM_ID)).thenReturn(Optional.of(49L));
+		// 50번은 조회 사이에 옮겨져 양쪽에서 조회됩니다.
+		when(chatMessageArchiveRepository.findByRoomIdAfterCursor(ROOM_ID, 47L, pageable)).thenReturn(messages(48, 49, 50));
+
+		assertThat(sequences(historyRepository.findByRoomIdAfterCursor(ROOM_ID, 47L, pageable)))
+			.containsExactly(48L, 49L, 50L, 51L);
+	}
+
+	@Test
+	@DisplayName("동기화 커서가 보관 순번 이후면 최근 메시지 테이블만 조회한다")
+	void afterCursorPastWatermark() {
+		Pageable pageable = PageRequest.of(0, 4);
+		when(chatMessageRepository.findByRoomIdAfterCursor(ROOM_ID, 60L, pageable)).thenReturn(messages(61));
+		when(chatMessageArchiveRepository.findArchivedSequence(ROOM_ID)).thenReturn(Optional.of(49L));
+
+		assertThat(sequences(historyRepository.findByRoomIdAfterCursor(ROOM_ID, 60L, pageable))).containsExactly(61L);
+		verify(chatMessageArchiveRepository, never()).findByRoomIdAfterCursor(any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("순번 목록 조회는 최근 메시지에 없고 보관 순번 이하인 순번만 보관 테이블에서 찾는다")
+	void sequencesFallThroughToArchive() {
+		when(chatMessageRepository.findByRoomIdAndSequences(ROOM_ID, Set.of(10L, 60L, 61L))).thenReturn(messages(60));
+		when(chatMessageArchiveRepository.findArchivedSequence(ROOM_ID)).thenReturn(Optional.of(49L));
+		when(chatMessageArchiveRepository.findByRoomIdAndSequences(ROOM_ID, Set.of(10L))).thenReturn(messages(10));
+
+		assertThat(sequences(historyRepository.findByRoomIdAndSequences(ROOM_ID, Set.of(10L, 60L, 61L))))
+			.containsExactlyInAnyOrder(10L, 60L);
+	}
+
+	private List<ChatMessageDto> messages(long... sequences) {
+		return LongStream.of(sequences)
+			.mapToObj(sequence -> new ChatMessageDto(sequence, ROOM_ID, MessageType.CHAT, "내용 " + sequence, 10L,
+				LocalDateTime.now()))
+			.toList();
+	}
+
+	private List<Long> sequences(List<ChatMessageDto> messages) {
+		return messages.stream().map(ChatMessageDto::getMessageSequence).toList();
+	}
+}
@@ -0,0 +1,66 @@
+package com.onmoim.server.chat.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.onmoim.server.chat.common.config.ChatDedupProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class InMemoryChatClientMessageIdStoreTest {
+
+	private final ChatDedupProperties properties = new ChatDedupProperties();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final InMemoryChatClientMessageIdStore store = new InMemoryChatClientMessageIdStore(properties, meterRegistry);
+
+	@Test
+	@DisplayName("같은 방, 같은 발신자의 clientMessageId 만 중복으로 본다")
+	void duplicateScopedByRoomAndSender() {
+		assertThat(store.putIfAbsent(1L, 10L, "client-1", 7L)).isNull();
+
+		assertThat(store.putIfAbsent(1L, 10L, "client-1", 8L)).isEqualTo(7L);
+		assertThat(store.find(1L, 10L, "client-1")).isEqualTo(7L);
+		assertThat(store.find(1L, 11L, "client-1")).isNull();
+		assertThat(store.find(2L, 10L, "client-1")).isNull();
+		assertThat(meterRegistry.counter("chat.dedup.duplicates").count()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("기간이 지난 ID 는 잊는다")
+	void expireAfterWindow() {
+		properties.setWindowMillis(0);
+
+		store.putIfAbsent(1L, 10L, "client-1", 7L);
+
+		assertThat(store.find(1L, 10L, "client-1")).isNull();
+		assertThat(store.putIfAbsent(1L, 10L, "client-1", 8L)).isNull();
+	}
+
+	@Test
+	@DisplayName("방마다 최대 개수를 넘으면 가장 오래된 ID 부터 잊는다")
+	void evictEldestOverCapacity() {
+		properties.setMaxEntriesPerRoom(2);
+
+		store.putIfAbsent(1L, 10L, "client-1", 1L);
+		store.putIfAbsent(1L, 10L, "client-2", 2L);
+		store.putIfAbsent(1L, 10L, "client-3", 3L);
+
+		assertThat(store.find(1L, 10L, "client-1")).isNull();
+		assertThat(store.find(1L, 10L, "client-2")).isEqualTo(2L);
+		assertThat(store.find(1L, 10L, "client-3")).isEqualTo(3L);
+	}
+
+	@Test
+	@DisplayName("순번이 같을 때만 기록을 지운다")
+	void removeOnlyMatchingSequence() {
+		store.putIfAbsent(1L, 10L, "client-1", 7L);
+
+		store.remove(1L, 10L, "client-1", 8L);
+		assertThat(store.find(1L, 10L, "client-1")).isEqualTo(7L);
+
+		store.remove(1L, 10L, "client-1", 7L);
+		assertThat(store.find(1L, 10L, "client-1")).isNull();
+	}
+}
@@ -0,0 +1,145 @@
+package com.onmoim.server.chat.repository;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.onmoim.server.chat.common.config.ChatSequenceProperties;
+
+class InMemoryRoomChatMessageIdGeneratorTest {
+
+	private ChatSequenceStore sequenceStore;
+	private Map<Long, Long> table;
+	private AtomicInteger writeCount;
+
+	@BeforeEach
+	void setUp() {
+		table = new ConcurrentHashMap<>();
+		writeCount = new AtomicInteger();
+		sequenceStore = mock(ChatSequenceStore.class);
+		// 같은 행에 대한 UPDATE 는 행 잠금으로 직렬화된다.
+		when(sequenceStore.reserve(anyLong(), anyLong())).thenAnswer(inv -> {
+			synchronized (table) {
+				writeCount.incrementAndGet();
+				return table.merge(inv.getArgument(0), inv.<Long>getArgument(1), Long::sum);
+			}
+		});
+		when(sequenceStore.findCurrentSequence(anyLong()))
+			.thenAnswer(inv -> Optional.ofNullable(table.get(inv.<Long>getArgument(0))));
+	}
+
+	@Test
+	@DisplayName("구간 단위로 예약하면 여러 스레드가 발급해도 중복과 누락이 없고 DB 쓰기는 구간마다 한 번이다")
+	void blockAllocation() throws InterruptedException {
+		InMemoryRoomChatMessageIdGenerator generator = newGenerator(500);
+
+		ConcurrentLinkedQueue<Long> issued = issueConcurrently(generator, 1L, 8, 1000);
+
+		assertThat(issued).doesNotHaveDuplicates();
+		assertThat(issued.stream().sorted().toList())
+			.isEqualTo(LongStream.rangeClosed(1, 8000).boxed().toList());
+		assertThat(writeCount.get()).isEqualTo(16);
+	}
+
+	@Test
+	@DisplayName("재시작하면 이전에 예약한 구간과 checkpointInterval 만큼 건너뛰고 다음 구간부터 발급한다")
+	void skipAheadAfterRestart() {
+		InMemoryRoomChatMessageIdGenerator before = newGenerator(500);
+		for (int i = 0; i < 10; i++) {
+			before.getSequence(1L);
+		}
+
+		// 비정상 종료 후 새 인스턴스
+		InMemoryRoomChatMessageIdGenerator after = newGenerator(500);
+
+		assertThat(after.getSequence(1L)).isEqualTo(601L);
+		assertThat(after.getSequence(1L)).isEqualTo(602L);
+	}
+
+	@Test
+	@DisplayName("redis 에서 바꾸면 마지막 체크포인트 이후 checkpointInterval 안의 순번은 재사용하지 않는다")
+	void switchFromRedis() {
+		// redis 는 체크포인트 300 이후 399 까지 발급했을 수 있습니다.
+		table.put(2L, 300L);
+
+		InMemoryRoomChatMessageIdGenerator generator = newGenerator(500);
+
+		assertThat(generator.getSequence(2L)).isEqualTo(401L);
+		assertThat(table.get(2L)).isEqualTo(900L);
+	}
+
+	@Test
+	@DisplayName("현재 순번은 발급한 마지막 순번이고, 발급 전이면 예약된 구간의 끝이다")
+	void currentSequence() {
+		InMemoryRoomChatMessageIdGenerator generator = newGenerator(500);
+		for (int i = 0; i < 10; i++) {
+			generator.getSequence(1L);
+		}
+		when(sequenceStore.findCurrentSequence(1L)).thenAnswer(inv -> Optional.ofNullable(table.get(1L)));
+
+		assertThat(generator.currentSequence(1L)).isEqualTo(10L);
+		assertThat(newGenerator(500).currentSequence(1L)).isEqualTo(500L);
+	}
+
+	@Test
+	@DisplayName("DB 쓰기 횟수 비교: 메시지마다 쓰기(blockSize=1) vs 구간 예약(blockSize=500)")
+	void writeCountComparison() throws InterruptedException {
+		int threadCount = 8;
+		int perThread = 500;
+		int total = threadCount * perThread;
+
+		ConcurrentLinkedQueue<Long> perMessage = issueConcurrently(newGenerator(1), 10L, threadCount, perThread);
+		int perMessageWrites = writeCount.getAndSet(0);
+
+		ConcurrentLinkedQueue<Long> block = issueConcurrently(newGenerator(500), 20L, threadCount, perThread);
+		int blockWrites = writeCount.get();
+
+		assertThat(perMessage).hasSize(total).doesNotHaveDuplicates();
+		assertThat(block).hasSize(total).doesNotHaveDuplicates();
+		assertThat(perMessageWrites).isEqualTo(total);
+		assertThat(blockWrites).isEqualTo(total / 500);
+	}
+
+	private ConcurrentLinkedQueue<Long> issueConcurrently(InMemoryRoomChatMessageIdGenerator generator, Long roomId,
+		int threadCount, int perThread) throws InterruptedException {
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch latch = new CountDownLatch(threadCount);
+		ConcurrentLinkedQueue<Long> issued = new ConcurrentLinkedQueue<>();
+
+		for (int i = 0; i < threadCount; i++) {
+			executorService.submit(() -> {
+				try {
+					for (int j = 0; j < perThread; j++) {
+						issued.add(generator.getSequence(roomId));
+					}
+				} finally {
+					latch.countDown();
+				}
+			});
+		}
+		latch.await(30, TimeUnit.SECONDS);
+		executorService.shutdown();
+		return issued;
+	}
+
+	private InMemoryRoomChatMessageIdGenerator newGenerator(long blockSize) {
+		ChatSequenceProperties properties = new ChatSequenceProperties();
+		properties.setBlockSize(blockSize);
+		return new InMemoryRoomChatMessageIdGenerator(sequenceStore, properties);
+	}
+}
@@ -0,0 +1,171 @@
+package com.onmoim.server.chat.repository;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.onmoim.server.chat.common.config.ChatSequenceProperties;
+
+class RedisRoomChatMessageIdGeneratorTest {
+
+	private static final long CHECKPOINT_INTERVAL = 50;
+
+	private FakeRedisTemplate redis;
+	private ChatSequenceStore sequenceStore;
+	private ChatSequenceProperties properties;
+	private Map<Long, Long> checkpoints;
+
+	@BeforeEach
+	void setUp() {
+		redis = new FakeRedisTemplate();
+		checkpoints = new ConcurrentHashMap<>();
+		sequenceStore = mock(ChatSequenceStore.class);
+		when(sequenceStore.findCurrentSequence(anyLong()))
+			.thenAnswer(inv -> Optional.ofNullable(checkpoints.get(inv.<Long>getArgument(0))));
+		doAnswer(inv -> checkpoints.merge(inv.getArgument(0), inv.getArgument(1), Math::max))
+			.when(sequenceStore).checkpoint(anyLong(), anyLong());
+
+		properties = new ChatSequenceProperties();
+		properties.setGenerator("redis");
+		properties.setCheckpointInterval(CHECKPOINT_INTERVAL);
+	}
+
+	@Test
+	@DisplayName("여러 generator 인스턴스가 동시에 발급해도 시퀀스는 중복과 누락 없이 1부터 연속된다")
+	void concurrentSequencesAcrossInstances() throws InterruptedException {
+		// given: 3개 노드가 같은 Redis 를 공유
+		List<RedisRoomChatMessageIdGenerator> nodes = List.of(newGenerator(), newGenerator(), newGenerator());
+		Long roomId = 1L;
+		int threadCount = 12;
+		int perThread = 500;
+
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch latch = new CountDownLatch(threadCount);
+		ConcurrentLinkedQueue<Long> issued = new ConcurrentLinkedQueue<>();
+
+		// when
+		for (int i = 0; i < threadCount; i++) {
+			RedisRoomChatMessageIdGenerator generator = nodes.get(i % nodes.size());
+			executorService.submit(() -> {
+				try {
+					for (int j = 0; j < perThread; j++) {
+						issued.add(generator.getSequence(roomId));
+					}
+				} finally {
+					latch.countDown();
+				}
+			});
+		}
+		latch.await(10, TimeUnit.SECONDS);
+		executorService.shutdown();
+
+		// then
+		int total = threadCount * perThread;
+		assertThat(issued).hasSize(total);
+		assertThat(issued).doesNotHaveDuplicates();
+		assertThat(issued.stream().sorted().toList())
+			.isEqualTo(LongStream.rangeClosed(1, total).boxed().toList());
+
+		// 체크포인트는 checkpointInterval 마다만 기록된다.
+		verify(sequenceStore, times((int)(total / CHECKPOINT_INTERVAL))).checkpoint(eq(roomId), longThat(s -> s > 0));
+		assertThat(checkpoints.get(roomId)).isEqualTo((long)total);
+	}
+
+	@Test
+	@DisplayName("Redis 키가 유실되면 체크포인트 이후로 건너뛰어 발급하며 기존 시퀀스를 재사용하지 않는다")
+	void recoverFromCheckpointWhenRedisKeyIsLost() {
+		// given
+		RedisRoomChatMessageIdGenerator generator = newGenerator();
+		Long roomId = 7L;
+		long lastIssued = 0;
+		for (int i = 0; i < 120; i++) {
+			lastIssued = generator.getSequence(roomId);
+		}
+
+		// when: Redis 재시작 등으로 키 유실
+		redis.flushAll();
+		long checkpoint = checkpoints.get(roomId);
+		long recovered = newGenerator().getSequence(roomId);
+
+		// then: 다시 시작한 값도 체크포인트로 기록된다.
+		assertThat(recovered).isGreaterThan(lastIssued);
+		assertThat(recovered).isEqualTo(checkpoint + CHECKPOINT_INTERVAL * 2 + 1);
+		assertThat(checkpoints.get(roomId)).isEqualTo(checkpoint + CHECKPOINT_INTERVAL * 2);
+	}
+
+	@Test
+	@DisplayName("신규 채팅방은 1부터 발급하고 체크포인트 행을 생성한다")
+	void newRoomStartsFromOne() {
+		RedisRoomChatMessageIdGenerator generator = newGenerator();
+
+		assertThat(generator.getSequence(3L)).isEqualTo(1L);
+		assertThat(generator.getSequence(3L)).isEqualTo(2L);
+		assertThat(generator.currentSequence(3L)).isEqualTo(2L);
+		assertThat(checkpoints.get(3L)).isZero();
+	}
+
+	private RedisRoomChatMessageIdGenerator newGenerator() {
+		return new RedisRoomChatMessageIdGenerator(redis, sequenceStore, properties);
+	}
+
+	/**
+	 * 단일 스레드로 명령을 처리하는 Redis 를 흉내 내기 위해 모든 명령을 직렬화합니다.
+	 */
+	@SuppressWarnings("unchecked")
+	private static class FakeRedisTemplate extends RedisTemplate<String, String> {
+		private final Map<String, Long> store = new ConcurrentHashMap<>();
+		private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+
+		FakeRedisTemplate() {
+			when(valueOperations.setIfAbsent(anyString(), anyString())).thenAnswer(inv -> {
+				synchronized (store) {
+					return store.putIfAbsent(inv.getArgument(0), Long.parseLong(inv.getArgument(1))) == null;
+				}
+			});
+			when(valueOperations.get(anyString())).thenAnswer(inv -> {
+				Long value = store.get(inv.<String>getArgument(0));
+				return value != null ? String.valueOf(value) : null;
+			});
+		}
+
+		@Override
+		public <T> T execute(RedisScript<T> script, List<String> keys, Object... args) {
+			synchronized (store) {
+				String key = keys.get(0);
+				Long current = store.get(key);
+				if (current == null) {
+					return (T)Long.valueOf(-1L);
+				}
+				store.put(key, current + 1);
+				return (T)Long.valueOf(current + 1);
+			}
+		}
+
+		@Override
+		public ValueOperations<String, String> opsForValue() {
+			return valueOperations;
+		}
+
+		void flushAll() {
+			store.clear();
+		}
+	}
+}
@@ -0,0 +1,156 @@
+package com.onmoim.server.chat.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.util.MimeTypeUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.onmoim.server.chat.domain.dto.ChatMessageDto;
+import com.onmoim.server.chat.domain.dto.ChatRoomListUpdateDto;
+import com.onmoim.server.chat.domain.dto.ChatUserDto;
+import com.onmoim.server.chat.domain.enums.MessageType;
+
+/**
+ * 직렬화 1회 fan-out 과 목적지별 convertAndSend 비교
+ * 할당량과 CPU 시간 비교는 loadTest 의 ChatComponentBenchmark 에서 출력합니다.
+ */
+class ChatFanOutSenderTest {
+
+	private final List<Message<?>> captured = new ArrayList<>();
+	private boolean capture;
+	private int serializations;
+
+	private SimpMessagingTemplate messagingTemplate;
+	private ChatFanOutSender chatFanOutSender;
+
+	@BeforeEach
+	void setUp() {
+		MessageChannel brokerChannel = (message, timeout) -> {
+			if (capture) {
+				captured.add(message);
+			}
+			return true;
+		};
+		// WebSocketConfig.configureMessageConverters 와 같은 설정
+		MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter() {
+			@Override
+			protected Object convertToInternal(Object payload, MessageHeaders headers, Object conversionHint) {
+				serializations++;
+				return super.convertToInternal(payload, headers, conversionHint);
+			}
+		};
+		ObjectMapper objectMapper = new ObjectMapper();
+		objectMapper.registerModule(new JavaTimeModule());
+		converter.setObjectMapper(objectMapper);
+
+		messagingTemplate = new SimpMessagingTemplate(brokerChannel);
+		messagingTemplate.setMessageConverter(converter);
+		chatFanOutSender = new ChatFanOutSender(messagingTemplate, Optional.empty());
+	}
+
+	@Test
+	@DisplayName("모든 목적지가 같은 byte[] 를 공유하고, convertAndSend 와 같은 본문을 보낸다")
+	void sharesSerializedPayload() {
+		capture = true;
+		ChatRoomListUpdateDto payload = payload();
+
+		messagingTemplate.convertAndSend("/topic/chat.room.list.0", payload);
+		chatFanOutSender.send(List.of("/topic/chat.room.list.1", "/topic/chat.room.list.2"), payload, null);
+
+		Message<?> converted = captured.get(0);
+		Message<?> first = captured.get(1);
+		Message<?> second = captured.get(2);
+
+		assertThat(first.getPayload()).isSameAs(second.getPayload());
+		assertThat((byte[])first.getPayload()).isEqualTo((byte[])converted.getPayload());
+		assertThat(SimpMessageHeaderAccessor.getDestination(first.getHeaders())).isEqualTo("/topic/chat.room.list.1");
+		assertThat(SimpMessageHeaderAccessor.getDestination(second.getHeaders())).isEqualTo("/topic/chat.room.list.2");
+		assertThat(second.getHeaders().get(MessageHeaders.CONTENT_TYPE))
+			.isEqualTo(converted.getHeaders().get(MessageHeaders.CONTENT_TYPE))
+			.isEqualTo(MimeTypeUtils.APPLICATION_JSON);
+	}
+
+	@Test
+	@DisplayName("회원 1000명 방 fan-out 은 한 번만 직렬화하고, 모든 목적지가 payload 한 개를 공유한다")
+	void serializesOncePerFanOut() {
+		capture = true;
+		ChatRoomListUpdateDto payload = payload();
+		List<String> destinations = IntStream.rangeClosed(1, 1000)
+			.mapToObj(userId -> "/topic/chat.room.list." + userId)
+			.toList();
+
+		for (String destination : destinations) {
+			messagingTemplate.convertAndSend(destination, payload);
+		}
+		int perDestinationSerializations = serializations;
+		List<Message<?>> perDestination = new ArrayList<>(captured);
+		captured.clear();
+		serializations = 0;
+
+		chatFanOutSender.send(destinations, payload, null);
+
+		int payloadLength = ((byte[])captured.get(0).getPayload()).length;
+		assertThat(perDestinationSerializations).isEqualTo(1000);
+		assertThat(serializations).isEqualTo(1);
+		assertThat(captured).hasSize(1000);
+		assertThat(distinctPayloadBytes(perDestination)).isEqualTo(1000L * payloadLength);
+		assertThat(distinctPayloadBytes(captured)).isEqualTo(payloadLength);
+	}
+
+	/**
+	 * 서로 다른 payload 배열의 바이트 합, 같은 배열을 공유하면 한 번만 셉니다.
+	 */
+	private long distinctPayloadBytes(List<Message<?>> messages) {
+		Set<Object> payloads = Collections.newSetFromMap(new IdentityHashMap<>());
+		long bytes = 0;
+		for (Message<?> message : messages) {
+			if (payloads.add(message.getPayload())) {
+				bytes += ((byte[])message.getPayload()).length;
+			}
+		}
+		return bytes;
+	}
+
+	private ChatRoomListUpdateDto payload() {
+		ChatMessageDto latestMessage = ChatMessageDto.builder()
+			.messageSequence(1024L)
+			.groupId(1L)
+			.type(MessageType.CHAT)
+			.content("이번 주 모임은 화요일 저녁 7시에 강남역 근처에서 진행합니다. 늦지 않게 와주세요!")
+			.senderId(54321L)
+			.timestamp(LocalDateTime.of(2025, 8, 11, 14, 0))
+			.chatUserDto(ChatUserDto.builder()
+				.id(54321L)
+				.username("홍길동")
+				.profileImageUrl("https://cdn.onmoim.com/profile/54321.png")
+				.isOwner(false)
+				.build())
+			.build();
+
+		return ChatRoomListUpdateDto.builder()
+			.groupId(1L)
+			.groupName("주말 등산 모임")
+			.participantCount(1000)
+			.latestMessage(latestMessage)
+			.build();
+	}
+}
@@ -1,13 +1,25 @@
 package com.onmoim.server.chat.service;
 
+import com.onmoim.server.chat.common.config.ChatRecentMessageProperties;
+import com.onmoim.server.chat.common.config.ChatRelayProperties;
+import com.onmoim.server.chat.common.config.ChatDedupProperties;
+import com.onmoim.server.chat.common.config.ChatSyncProperties;
 import com.onmoim.server.chat.domain.ChatRoomMessage;
 import com.onmoim.server.chat.domain.ChatRoomMessageId;
+import com.onmoim.server.chat.domain.dto.ChatMessageAckDto;
 import com.onmoim.server.chat.domain.dto.ChatMessageDto;
+import com.onmoim.server.chat.domain.dto.ChatSyncResponse;
 import com.onmoim.server.chat.domain.dto.ChatUserDto;
 import com.onmoim.server.chat.domain.enums.DeliveryStatus;
 import com.onmoim.server.chat.domain.enums.MessageType;
-import com.onmoim.server.chat.repository.ChatMessageRepository;
+import com.onmoim.server.chat.repository.ChatClientMessageIdStore;
+import com.onmoim.server.chat.repository.ChatMessageHistoryRepository;
+import com.onmoim.server.chat.repository.InMemoryChatClientMessageIdStore;
 import com.onmoim.server.chat.repository.RoomChatMessageIdGenerator;
+import com.onmoim.server.chat.service.writebehind.ChatMessageWriteBehindService;
+import com.onmoim.server.common.exception.CustomException;
+import com.onmoim.server.common.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
@@ -16,14 +28,16 @@ import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 class ChatMessageServiceTest {
 
 	@Mock
-	ChatMessageRepository chatMessageRepository;
+	ChatMessageHistoryRepository chatMessageHistoryRepository;
 
 	@Mock
 	RoomChatMessageIdGenerator roomChatMessageIdGenerator;
@@ -31,12 +45,39 @@ class ChatMessageServiceTest {
 	@Mock
 	ChatMessageSendService chatMessageSendService;
 
+	@Mock
+	ChatMessageWriteBehindService chatMessageWriteBehindService;
+
+	@Spy
+	ChatRecentMessageCache chatRecentMessageCache =
+		new ChatRecentMessageCache(new ChatRecentMessageProperties(), new SimpleMeterRegistry());
+
+	@Mock
+	ChatSenderProfileCache chatSenderProfileCache;
+
+	@Mock
+	ChatReadCursorService chatReadCursorService;
+
+	@Spy
+	ChatSyncProperties chatSyncProperties = new ChatSyncProperties();
+
+	@Spy
+	ChatRelayedMessageBuffer chatRelayedMessageBuffer = new ChatRelayedMessageBuffer(new ChatRelayProperties());
+
+	@Spy
+	ChatDedupProperties chatDedupProperties = new ChatDedupProperties();
+
+	@Spy
+	ChatClientMessageIdStore chatClientMessageIdStore =
+		new InMemoryChatClientMessageIdStore(chatDedupProperties, new SimpleMeterRegistry());
+
 	@InjectMocks
 	ChatMessageService chatMessageService;
 
 	@BeforeEach
 	void setUp() {
 		MockitoAnnotations.openMocks(this);
+		when(chatSenderProfileCache.enrich(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
 	}
 
 	@Test
@@ -49,19 +90,56 @@ class ChatMessageServiceTest {
 
 		Pageable pageable = PageRequest.of(0, 100);
 
-		when(chatMessageRepository.findTop100ByRoomIdWithUser(roomId, pageable))
+		when(chatMessageHistoryRepository.findTop100ByRoomId(roomId, pageable))
 			.thenReturn(mockMessages);
 
 		List<ChatMessageDto> result = chatMessageService.getMessages(roomId, null);
 
-		verify(chatMessageRepository, times(1))
-			.findTop100ByRoomIdWithUser(roomId, pageable);
-		verify(chatMessageRepository, never())
-			.findTop100ByRoomIdWithUserBeforeCursor(anyLong(), anyLong(), any());
+		verify(chatMessageHistoryRepository, times(1))
+			.findTop100ByRoomId(roomId, pageable);
+		verify(chatMessageHistoryRepository, never())
+			.findTop100ByRoomIdBeforeCursor(anyLong(), anyLong(), any());
 
 		assertThat(result).isEqualTo(mockMessages);
 	}
 
+	@Test
+	void getMessages_커서없음_두번째조회부터_캐시에서_응답() {
+		Long roomId = 1L;
+		Pageable pageable = PageRequest.of(0, 100);
+		when(chatMessageHistoryRepository.findTop100ByRoomId(roomId, pageable))
+			.thenReturn(List.of(createMessage(roomId, 101L), createMessage(roomId, 100L)));
+		when(roomChatMessageIdGenerator.getSequence(roomId)).thenReturn(102L);
+
+		chatMessageService.getMessages(roomId, null);
+		chatMessageService.sendUserMessage(createMessage(roomId, null));
+		List<ChatMessageDto> result = chatMessageService.getMessages(roomId, null);
+
+		verify(chatMessageHistoryRepository, times(1)).findTop100ByRoomId(roomId, pageable);
+		assertThat(result).extracting(ChatMessageDto::getMessageSequence).containsExactly(102L, 101L, 100L);
+	}
+
+	@Test
+	void getMessages_캐시_등록_전_저장대기_메시지도_최신페이지에_포함() {
+		Long roomId = 1L;
+		Pageable pageable = PageRequest.of(0, 100);
+		ChatRoomMessage pending = ChatRoomMessage.create(ChatRoomMessageId.create(roomId, 102L), 123L, "대기 중",
+			LocalDateTime.now(), MessageType.CHAT, DeliveryStatus.PENDING);
+		when(chatMessageWriteBehindService.findPending(roomId, 0L)).thenReturn(List.of(pending));
+		when(chatMessageHistoryRepository.findTop100ByRoomId(roomId, pageable))
+			.thenReturn(List.of(createMessage(roomId, 101L), createMessage(roomId, 100L)));
+		when(roomChatMessageIdGenerator.getSequence(roomId)).thenReturn(103L);
+
+		chatMessageService.getMessages(roomId, null);
+		chatMessageService.sendUserMessage(createMessage(roomId, null));
+		List<ChatMessageDto> result = chatMessageService.getMessages(roomId, null);
+
+		InOrder inOrder = inOrder(chatMessageWriteBehindService, chatMessageHistoryRepository);
+		inOrder.verify(chatMessageWriteBehindService).findPending(roomId, 0L);
+		inOrder.verify(chatMessageHistoryRepository).findTop100ByRoomId(roomId, pageable);
+		assertThat(result).extracting(ChatMessageDto::getMessageSequence).containsExactly(103L, 102L, 101L, 100L);
+	}
+
 	@Test
 	void getMessages_커서있음_이전100개조회() {
 		Long roomId = 1L;
@@ -72,19 +150,129 @@ class ChatMessageServiceTest {
 		);
 		Pageable pageable = PageRequest.of(0, 100);
 
-		when(chatMessageRepository.findTop100ByRoomIdWithUserBeforeCursor(roomId, cursor, pageable))
+		when(chatMessageHistoryRepository.findTop100ByRoomIdBeforeCursor(roomId, cursor, pageable))
 			.thenReturn(mockMessages);
 
 		List<ChatMessageDto> result = chatMessageService.getMessages(roomId, cursor);
 
-		verify(chatMessageRepository, never())
-			.findTop100ByRoomIdWithUser(anyLong(), any());
-		verify(chatMessageRepository, times(1))
-			.findTop100ByRoomIdWithUserBeforeCursor(roomId, cursor, pageable);
+		verify(chatMessageHistoryRepository, never())
+			.findTop100ByRoomId(anyLong(), any());
+		verify(chatMessageHistoryRepository, times(1))
+			.findTop100ByRoomIdBeforeCursor(roomId, cursor, pageable);
 
 		assertThat(result).isEqualTo(mockMessages);
 	}
 
+	@Test
+	void sendUserMessage_저장대기열등록후_브로드캐스트() {
+		Long roomId = 1L;
+		ChatMessageDto message = createMessage(roomId, null);
+		when(roomChatMessageIdGenerator.getSequence(roomId)).thenReturn(7L);
+
+		chatMessageService.sendUserMessage(message);
+
+		InOrder inOrder = inOrder(chatMessageWriteBehindService, chatMessageSendService);
+		ArgumentCaptor<ChatRoomMessage> captor = ArgumentCaptor.forClass(ChatRoomMessage.class);
+		inOrder.verify(chatMessageWriteBehindService).enqueue(captor.capture());
+		inOrder.verify(chatMessageSendService).send(eq("/topic/chat.room." + roomId), any(ChatMessageDto.class));
+
+		assertThat(captor.getValue().getId()).isEqualTo(ChatRoomMessageId.create(roomId, 7L));
+	}
+
+	@Test
+	void sendUserMessage_같은_clientMessageId_재전송은_처음_순번으로_응답() {
+		Long roomId = 1L;
+		when(roomChatMessageIdGenerator.getSequence(roomId)).thenReturn(7L, 8L);
+		when(chatMessageWriteBehindService.enqueue(any())).thenReturn(new CompletableFuture<>());
+
+		chatMessageService.sendUserMessage(createMessage(roomId, null, "client-1"));
+		chatMessageService.sendUserMessage(createMessage(roomId, null, "client-1"));
+
+		verify(roomChatMessageIdGenerator, times(1)).getSequence(roomId);
+		verify(chatMessageWriteBehindService, times(1)).enqueue(any());
+		ArgumentCaptor<ChatMessageDto> sent = ArgumentCaptor.forClass(ChatMessageDto.class);
+		verify(chatMessageSendService, times(1)).send(eq("/topic/chat.room." + roomId), sent.capture());
+		assertThat(sent.getValue().getClientMessageId()).isEqualTo("client-1");
+
+		ArgumentCaptor<ChatMessageAckDto> ack = ArgumentCaptor.forClass(ChatMessageAckDto.class);
+		verify(chatMessageSendService).sendAck(eq(123L), ack.capture());
+		assertThat(ack.getValue().getMessageSequence()).isEqualTo(7L);
+		assertThat(ack.getValue().getClientMessageId()).isEqualTo("client-1");
+	}
+
+	@Test
+	void sendUserMessage_저장대기열_포화로_실패하면_재전송을_다시_처리() {
+		Long roomId = 1L;
+		when(roomChatMessageIdGenerator.getSequence(roomId)).thenReturn(7L, 8L);
+		when(chatMessageWriteBehindService.enqueue(any()))
+			.thenThrow(new CustomException(ErrorCode.CHAT_MESSAGE_QUEUE_FULL))
+			.thenReturn(new CompletableFuture<>());
+
+		assertThatThrownBy(() -> chatMessageService.sendUserMessage(createMessage(roomId, null, "client-1")))
+			.isInstanceOf(CustomException.class);
+		chatMessageService.sendUserMessage(createMessage(roomId, null, "client-1"));
+
+		ArgumentCaptor<ChatMessageDto> sent = ArgumentCaptor.forClass(ChatMessageDto.class);
+		verify(chatMessageSendService).send(eq("/topic/chat.room." + roomId), sent.capture());
+		assertThat(sent.getValue().getMessageSequence()).isEqualTo(8L);
+		verify(chatMessageSendService, never()).sendAck(any(), any());
+	}
+
+	@Test
+	void getMessagesAfter_저장대기_메시지와_DB_메시지를_순번순으로_합친다() {
+		Long roomId = 1L;
+		ChatRoomMessage pending = ChatRoomMessage.create(ChatRoomMessageId.create(roomId, 13L), 123L, "대기 중",
+			LocalDateTime.now(), MessageType.CHAT, DeliveryStatus.PENDING);
+		ChatRoomMessage pendingSystem = ChatRoomMessage.create(ChatRoomMessageId.create(roomId, 14L), null, "시스템",
+			LocalDateTime.now(), MessageType.SYSTEM, DeliveryStatus.PENDING);
+		when(chatMessageWriteBehindService.findPending(roomId, 10L)).thenReturn(List.of(pendingSystem, pending));
+		when(chatMessageHistoryRepository.findByRoomIdAfterCursor(roomId, 10L, PageRequest.of(0, 301)))
+			.thenReturn(List.of(createMessage(roomId, 11L), createMessage(roomId, 12L)));
+
+		ChatSyncResponse response = chatMessageService.getMessagesAfter(roomId, 10L);
+
+		InOrder inOrder = inOrder(chatMessageWriteBehindService, chatMessageHistoryRepository);
+		inOrder.verify(chatMessageWriteBehindService).findPending(roomId, 10L);
+		inOrder.verify(chatMessageHistoryRepository).findByRoomIdAfterCursor(roomId, 10L, PageRequest.of(0, 301));
+		assertThat(response.isReloadRequired()).isFalse();
+		assertThat(response.getMessages()).extracting(ChatMessageDto::getMessageSequence).containsExactly(11L, 12L, 13L);
+	}
+
+	@Test
+	void getMessagesAfter_다른_노드에서_중계된_저장전_메시지도_합친다() {
+		Long roomId = 1L;
+		chatRelayedMessageBuffer.record(createMessage(roomId, 12L));
+		when(chatMessageWriteBehindService.findPending(roomId, 10L)).thenReturn(List.of());
+		// 12번은 다른 노드에서 아직 저장 중이고, 그보다 큰 13번이 먼저 저장되었습니다.
+		when(chatMessageHistoryRepository.findByRoomIdAfterCursor(roomId, 10L, PageRequest.of(0, 301)))
+			.thenReturn(List.of(createMessage(roomId, 11L), createMessage(roomId, 13L)));
+
+		ChatSyncResponse response = chatMessageService.getMessagesAfter(roomId, 10L);
+
+		assertThat(response.getMessages()).extracting(ChatMessageDto::getMessageSequence).containsExactly(11L, 12L, 13L);
+	}
+
+	@Test
+	void getMessagesAfter_최대개수를_넘으면_다시불러오기() {
+		Long roomId = 1L;
+		chatSyncProperties.setMaxMessages(2);
+		when(chatMessageWriteBehindService.findPending(roomId, 10L)).thenReturn(List.of());
+		when(chatMessageHistoryRepository.findByRoomIdAfterCursor(roomId, 10L, PageRequest.of(0, 3)))
+			.thenReturn(List.of(createMessage(roomId, 11L), createMessage(roomId, 12L), createMessage(roomId, 13L)));
+
+		ChatSyncResponse response = chatMessageService.getMessagesAfter(roomId, 10L);
+
+		assertThat(response.isReloadRequired()).isTrue();
+		assertThat(response.getMessages()).isEmpty();
+		verify(chatSenderProfileCache, never()).enrich(anyList());
+	}
+
+	private ChatMessageDto createMessage(Long roomId, Long messageSequence, String clientMessageId) {
+		ChatMessageDto message = createMessage(roomId, messageSequence);
+		message.setClientMessageId(clientMessageId);
+		return message;
+	}
+
 	// 편의 메서드: 테스트용 메시지 생성
 	private ChatMessageDto createMessage(Long roomId, Long messageSequence) {
 		ChatRoomMessage chatRoomMessage = ChatRoomMessage.create(
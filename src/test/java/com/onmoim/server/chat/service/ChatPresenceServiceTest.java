@@ -0,0 +1,111 @@
+package com.onmoim.server.chat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import com.onmoim.server.chat.common.config.ChatPresenceProperties;
+import com.onmoim.server.chat.domain.dto.ChatPresenceDto;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ChatPresenceServiceTest {
+
+	private static final Long ROOM_ID = 1L;
+	private static final String DESTINATION = "/topic/chat.presence.1";
+
+	private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+	private final List<ChatPresenceDto> sent = new CopyOnWriteArrayList<>();
+	private final ManualTaskScheduler scheduler = new ManualTaskScheduler();
+	private ChatPresenceProperties properties;
+	private ChatPresenceService presenceService;
+
+	@BeforeEach
+	void setUp() {
+		doAnswer(inv -> {
+			sent.add(inv.getArgument(1));
+			return null;
+		}).when(messagingTemplate).convertAndSend(eq(DESTINATION), any(Object.class));
+
+		properties = new ChatPresenceProperties();
+		properties.setCoalesceWindowMillis(200);
+		presenceService = new ChatPresenceService(messagingTemplate, mock(ChatSessionAuthorizationCache.class),
+			properties, new SimpleMeterRegistry(), scheduler, scheduler::now);
+	}
+
+	@Test
+	@DisplayName("500명이 한 window 안에 접속하면 상태 프레임은 최신 접속 수로 한 번만 보낸다")
+	void coalesceJoinWave() {
+		presenceService.subscribe("s-0", "sub-0", ROOM_ID, 0L);
+		scheduler.advance(0);
+		assertThat(sent).extracting(ChatPresenceDto::onlineCount).containsExactly(1);
+
+		for (long userId = 1; userId < 500; userId++) {
+			presenceService.subscribe("s-" + userId, "sub-0", ROOM_ID, userId);
+		}
+		assertThat(scheduler.pendingTasks()).isEqualTo(1);
+
+		scheduler.advance(properties.getCoalesceWindowMillis() - 1);
+		assertThat(sent).hasSize(1);
+		scheduler.advance(1);
+		scheduler.advance(properties.getCoalesceWindowMillis() * 5);
+		assertThat(sent).extracting(ChatPresenceDto::onlineCount).containsExactly(1, 500);
+	}
+
+	@Test
+	@DisplayName("여러 기기로 접속한 사용자는 한 명으로 세고, 마지막 세션이 끊길 때 나간 것으로 본다")
+	void multipleDevices() {
+		presenceService.subscribe("phone", "sub-0", ROOM_ID, 7L);
+		presenceService.subscribe("laptop", "sub-0", ROOM_ID, 7L);
+		presenceService.subscribe("other", "sub-0", ROOM_ID, 8L);
+		assertThat(presenceService.getPresence(ROOM_ID).onlineCount()).isEqualTo(2);
+
+		presenceService.disconnect("phone");
+		assertThat(presenceService.getPresence(ROOM_ID).onlineCount()).isEqualTo(2);
+
+		presenceService.unsubscribe("laptop", "sub-0");
+		assertThat(presenceService.getPresence(ROOM_ID).onlineCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("재연결로 나갔다 다시 들어와 상태가 같으면 프레임을 보내지 않는다")
+	void reconnectWaveWithoutChange() {
+		presenceService.subscribe("s-1", "sub-0", ROOM_ID, 1L);
+		scheduler.advance(0);
+
+		presenceService.disconnect("s-1");
+		presenceService.subscribe("s-2", "sub-0", ROOM_ID, 1L);
+
+		scheduler.advance(properties.getCoalesceWindowMillis() * 3);
+		assertThat(sent).extracting(ChatPresenceDto::onlineCount).containsExactly(1);
+	}
+
+	@Test
+	@DisplayName("입력 중 상태는 구독 중인 사용자만 반영하고, 유지 시간이 지나면 해제된다")
+	void typingExpires() {
+		properties.setTypingTtlMillis(300);
+		presenceService.subscribe("s-1", "sub-0", ROOM_ID, 1L);
+		presenceService.typing(ROOM_ID, 1L, true);
+		presenceService.typing(ROOM_ID, 2L, true);
+
+		assertThat(presenceService.getPresence(ROOM_ID).typingUserIds()).containsExactly(1L);
+
+		scheduler.advance(0);
+		// window(200) 마다 만료를 확인하므로 300 이 지난 뒤 첫 확인(400)에서 해제됩니다.
+		scheduler.advance(properties.getCoalesceWindowMillis());
+		assertThat(sent).extracting(ChatPresenceDto::typingUserIds).containsExactly(List.of(1L));
+		scheduler.advance(properties.getCoalesceWindowMillis());
+
+		assertThat(sent).extracting(ChatPresenceDto::typingUserIds).containsExactly(List.of(1L), List.of());
+		assertThat(presenceService.getPresence(ROOM_ID).typingUserIds()).isEmpty();
+		assertThat(scheduler.pendingTasks()).isZero();
+	}
+}
@@ -0,0 +1,155 @@
+package com.onmoim.server.chat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.onmoim.server.chat.domain.ChatReadCursorId;
+import com.onmoim.server.chat.domain.dto.ChatMessageDto;
+import com.onmoim.server.chat.domain.dto.ChatRoomSummeryDto;
+import com.onmoim.server.chat.messaging.ChatRoomMemberChangedEvent;
+import com.onmoim.server.chat.repository.ChatReadCursorRepository;
+import com.onmoim.server.chat.repository.RoomChatMessageIdGenerator;
+
+class ChatReadCursorServiceTest {
+
+	@Mock
+	ChatReadCursorRepository chatReadCursorRepository;
+
+	@Mock
+	ChatUnreadMemberCounter chatUnreadMemberCounter;
+
+	@Mock
+	RoomChatMessageIdGenerator roomChatMessageIdGenerator;
+
+	@InjectMocks
+	ChatReadCursorService chatReadCursorService;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		when(roomChatMessageIdGenerator.currentSequence(anyLong())).thenReturn(Long.MAX_VALUE);
+	}
+
+	@Test
+	@DisplayName("같은 사용자/방의 읽음 위치 갱신 1000번은 가장 큰 순번 한 건으로 한 번 기록된다")
+	void coalesce() {
+		for (long seq = 1; seq <= 1000; seq++) {
+			chatReadCursorService.advance(1L, 10L, seq);
+		}
+		// 늦게 도착한 이전 위치는 무시된다.
+		chatReadCursorService.advance(1L, 10L, 500L);
+		chatReadCursorService.advance(2L, 10L, 7L);
+
+		chatReadCursorService.flush();
+		chatReadCursorService.flush();
+
+		ArgumentCaptor<Map<ChatReadCursorId, Long>> captor = ArgumentCaptor.captor();
+		verify(chatReadCursorRepository, times(1)).upsertAll(captor.capture());
+		assertThat(captor.getValue()).containsExactlyInAnyOrderEntriesOf(Map.of(
+			ChatReadCursorId.create(1L, 10L), 1000L,
+			ChatReadCursorId.create(2L, 10L), 7L
+		));
+	}
+
+	@Test
+	@DisplayName("반영에 실패하면 다음 주기에 다시 시도하고, 그 사이 들어온 더 큰 위치를 유지한다")
+	void retryOnFailure() {
+		chatReadCursorService.advance(1L, 10L, 5L);
+		doThrow(new RuntimeException("DB 오류")).doNothing().when(chatReadCursorRepository).upsertAll(anyMap());
+
+		chatReadCursorService.flush();
+		chatReadCursorService.advance(1L, 10L, 8L);
+		chatReadCursorService.flush();
+
+		ArgumentCaptor<Map<ChatReadCursorId, Long>> captor = ArgumentCaptor.captor();
+		verify(chatReadCursorRepository, times(2)).upsertAll(captor.capture());
+		assertThat(captor.getAllValues().get(1)).containsExactlyEntriesOf(Map.of(ChatReadCursorId.create(1L, 10L), 8L));
+	}
+
+	@Test
+	@DisplayName("안 읽은 메시지 수는 조회한 메시지 수 차이를 쓰고, 반영 전 위치까지 포함해 다 읽은 방은 0 이다")
+	void fillUnreadCountsWithPending() {
+		ChatRoomSummeryDto pendingCaughtUp = room(1L, 100L, 70L, 30L);
+		ChatRoomSummeryDto unread = room(2L, 50L, 45L, 5L);
+		ChatRoomSummeryDto empty = room(3L, null, 0L, 0L);
+		ChatRoomSummeryDto caughtUp = room(4L, 20L, 20L, 0L);
+		chatReadCursorService.advance(1L, 10L, 100L);
+
+		chatReadCursorService.fillUnreadCounts(10L, List.of(pendingCaughtUp, unread, empty, caughtUp));
+
+		assertThat(pendingCaughtUp.getUnreadCount()).isZero();
+		assertThat(unread.getUnreadCount()).isEqualTo(5L);
+		assertThat(empty.getUnreadCount()).isZero();
+		assertThat(caughtUp.getUnreadCount()).isZero();
+		verifyNoInteractions(chatReadCursorRepository);
+	}
+
+	@Test
+	@DisplayName("순번이 건너뛰어도 안 읽은 메시지 수는 순번 차이가 아닌 메시지 수 차이다")
+	void fillUnreadCountsWithSequenceGaps() {
+		// 노드 재시작으로 블록(500)이 버려져 순번 10 다음 메시지가 501, 502 인 경우
+		ChatRoomSummeryDto room = room(1L, 502L, 10L, 2L);
+
+		chatReadCursorService.fillUnreadCounts(10L, List.of(room));
+
+		assertThat(room.getUnreadCount()).isEqualTo(2L);
+	}
+
+	@Test
+	@DisplayName("채팅방 마지막 순번보다 큰 읽음 위치는 마지막 순번으로 맞춘다")
+	void clampToCurrentSequence() {
+		when(roomChatMessageIdGenerator.currentSequence(1L)).thenReturn(42L);
+
+		chatReadCursorService.advance(1L, 10L, Long.MAX_VALUE);
+		chatReadCursorService.flush();
+
+		verify(chatReadCursorRepository).upsertAll(Map.of(ChatReadCursorId.create(1L, 10L), 42L));
+		verify(chatUnreadMemberCounter).advance(1L, 10L, 42L);
+	}
+
+	@Test
+	@DisplayName("구성원 변경 시 대기 중인 위치를 먼저 기록한 뒤 읽음 위치를 정리한다")
+	void memberChanged() {
+		chatReadCursorService.advance(1L, 10L, 3L);
+
+		chatReadCursorService.onMemberChanged(new ChatRoomMemberChangedEvent(1L, List.of(10L)));
+		chatReadCursorService.flush();
+
+		var inOrder = inOrder(chatReadCursorRepository);
+		inOrder.verify(chatReadCursorRepository).upsertAll(Map.of(ChatReadCursorId.create(1L, 10L), 3L));
+		inOrder.verify(chatReadCursorRepository).resetMembers(1L, List.of(10L));
+		verifyNoMoreInteractions(chatReadCursorRepository);
+	}
+
+	@Test
+	@DisplayName("다른 노드에서 중계된 구성원 변경은 대기 중인 위치만 버리고 DB 는 정리하지 않는다")
+	void relayedMemberChanged() {
+		chatReadCursorService.advance(1L, 10L, 3L);
+
+		chatReadCursorService.onMemberChanged(new ChatRoomMemberChangedEvent(1L, List.of(10L), true));
+		chatReadCursorService.flush();
+
+		verifyNoInteractions(chatReadCursorRepository);
+	}
+
+	private ChatRoomSummeryDto room(Long groupId, Long lastSequence, Long lastReadSequence, Long unreadCount) {
+		ChatMessageDto message = lastSequence == null ? null : ChatMessageDto.builder()
+			.groupId(groupId)
+			.messageSequence(lastSequence)
+			.build();
+		return new ChatRoomSummeryDto(groupId, "모임" + groupId, null, null, null, "NONE", message,
+			null, 1L, 0L, lastReadSequence, unreadCount);
+	}
+}
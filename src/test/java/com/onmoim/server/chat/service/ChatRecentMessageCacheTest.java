@@ -0,0 +1,125 @@
+package com.onmoim.server.chat.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.onmoim.server.chat.common.config.ChatRecentMessageProperties;
+import com.onmoim.server.chat.domain.dto.ChatMessageDto;
+import com.onmoim.server.chat.domain.dto.ChatUserDto;
+import com.onmoim.server.chat.domain.enums.MessageType;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ChatRecentMessageCacheTest {
+
+	private final ChatRecentMessageProperties properties = new ChatRecentMessageProperties();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	@DisplayName("첫 조회만 DB 를 읽고, 이후 전송된 메시지는 최신순으로 앞에 붙는다")
+	void loadOnceThenAppend() {
+		properties.setMessagesPerRoom(3);
+		ChatRecentMessageCache cache = new ChatRecentMessageCache(properties, meterRegistry);
+		AtomicInteger loads = new AtomicInteger();
+
+		cache.getLatest(1L, 3, () -> {
+			loads.incrementAndGet();
+			return List.of(message(1L, 2L), message(1L, 1L));
+		});
+		cache.append(message(1L, 3L));
+		cache.append(message(1L, 4L));
+		List<ChatMessageDto> latest = cache.getLatest(1L, 3, List::of);
+
+		assertThat(loads).hasValue(1);
+		assertThat(latest).extracting(ChatMessageDto::getMessageSequence).containsExactly(4L, 3L, 2L);
+		assertThat(meterRegistry.get("chat.recent_message.hit").counter().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("조회된 적 없는 방과 발신자 없는 시스템 메시지는 보관하지 않는다")
+	void ignoreInactiveRoomAndSystemMessage() {
+		ChatRecentMessageCache cache = new ChatRecentMessageCache(properties, meterRegistry);
+
+		cache.append(message(1L, 1L));
+		assertThat(cache.roomCount()).isZero();
+
+		cache.getLatest(1L, 100, List::of);
+		ChatMessageDto system = message(1L, 2L);
+		system.setSenderId(null);
+		cache.append(system);
+
+		assertThat(cache.getLatest(1L, 100, List::of)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("DB 조회 중 전송된 메시지와 DB 결과가 순번 기준으로 중복 없이 합쳐진다")
+	void mergeWhileLoading() {
+		ChatRecentMessageCache cache = new ChatRecentMessageCache(properties, meterRegistry);
+
+		List<ChatMessageDto> latest = cache.getLatest(1L, 100, () -> {
+			// 조회 도중 같은 방에 메시지 전송 (3은 이미 저장되어 DB 결과에도 포함)
+			cache.append(message(1L, 3L));
+			cache.append(message(1L, 4L));
+			return List.of(message(1L, 3L), message(1L, 2L), message(1L, 1L));
+		});
+
+		assertThat(latest).extracting(ChatMessageDto::getMessageSequence).containsExactly(4L, 3L, 2L, 1L);
+	}
+
+	@Test
+	@DisplayName("방 수 상한을 넘으면 가장 오래 사용하지 않은 방부터 제거한다")
+	void evictLeastRecentlyUsedRoom() {
+		properties.setMaxRooms(2);
+		ChatRecentMessageCache cache = new ChatRecentMessageCache(properties, meterRegistry);
+
+		cache.getLatest(1L, 100, () -> List.of(message(1L, 1L)));
+		cache.getLatest(2L, 100, () -> List.of(message(2L, 1L)));
+		cache.append(message(1L, 2L)); // 1번 방을 최근 사용으로
+		cache.getLatest(3L, 100, () -> List.of(message(3L, 1L)));
+
+		AtomicInteger reloads = new AtomicInteger();
+		cache.getLatest(1L, 100, () -> {
+			reloads.incrementAndGet();
+			return List.of();
+		});
+		assertThat(reloads).hasValue(0);
+		assertThat(cache.roomCount()).isEqualTo(2);
+		assertThat(meterRegistry.get("chat.recent_message.evicted").counter().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("추정 메모리 상한을 넘으면 오래된 방을 제거해 상한 아래로 유지한다")
+	void evictByMemoryCap() {
+		properties.setMaxMemoryBytes(20_000);
+		ChatRecentMessageCache cache = new ChatRecentMessageCache(properties, meterRegistry);
+
+		for (long roomId = 1; roomId <= 50; roomId++) {
+			long id = roomId;
+			cache.getLatest(roomId, 100, () -> LongStream.rangeClosed(1, 10)
+				.mapToObj(sequence -> message(id, sequence))
+				.toList());
+		}
+
+		assertThat(cache.estimatedBytes()).isLessThanOrEqualTo(20_000);
+		assertThat(cache.roomCount()).isLessThan(50);
+	}
+
+	private ChatMessageDto message(Long roomId, Long sequence) {
+		return ChatMessageDto.builder()
+			.messageSequence(sequence)
+			.groupId(roomId)
+			.type(MessageType.CHAT)
+			.content("메시지 " + sequence)
+			.senderId(10L)
+			.timestamp(LocalDateTime.of(2025, 8, 11, 14, 0))
+			.chatUserDto(ChatUserDto.builder().id(10L).username("홍길동").build())
+			.build();
+	}
+}
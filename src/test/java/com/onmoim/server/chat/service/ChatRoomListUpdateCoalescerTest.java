@@ -0,0 +1,112 @@
+package com.onmoim.server.chat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.onmoim.server.chat.common.config.ChatRoomListProperties;
+import com.onmoim.server.chat.domain.dto.ChatMessageDto;
+import com.onmoim.server.chat.domain.dto.ChatRoomListUpdateDto;
+import com.onmoim.server.chat.domain.dto.ChatRoomRoster;
+import com.onmoim.server.chat.domain.enums.MessageType;
+
+class ChatRoomListUpdateCoalescerTest {
+
+	private static final Long ROOM_ID = 1L;
+	private static final int MEMBER_COUNT = 250;
+
+	private final ChatFanOutSender chatFanOutSender = mock(ChatFanOutSender.class);
+	private final ChatRoomRosterCache chatRoomRosterCache = mock(ChatRoomRosterCache.class);
+	// 목적지별 전송 횟수와 마지막으로 받은 메시지
+	private final ConcurrentHashMap<String, AtomicInteger> sendCounts = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, ChatRoomListUpdateDto> lastUpdates = new ConcurrentHashMap<>();
+
+	private final ManualTaskScheduler scheduler = new ManualTaskScheduler();
+	private ChatRoomListUpdateCoalescer coalescer;
+
+	@BeforeEach
+	void setUp() {
+		List<Long> memberIds = LongStream.rangeClosed(1, MEMBER_COUNT).boxed().toList();
+		when(chatRoomRosterCache.get(ROOM_ID)).thenReturn(new ChatRoomRoster("모임", memberIds));
+		doAnswer(inv -> {
+			Collection<String> destinations = inv.getArgument(0);
+			for (String destination : destinations) {
+				sendCounts.computeIfAbsent(destination, d -> new AtomicInteger()).incrementAndGet();
+				lastUpdates.put(destination, inv.getArgument(1));
+			}
+			return 0;
+		}).when(chatFanOutSender).send(anyCollection(), any(), any());
+
+		ChatRoomListProperties properties = new ChatRoomListProperties();
+		properties.setCoalesceWindowMillis(200);
+		coalescer = new ChatRoomListUpdateCoalescer(chatFanOutSender, chatRoomRosterCache, properties,
+			scheduler, scheduler::now);
+	}
+
+	@Test
+	@DisplayName("window 안의 메시지 50개는 사용자마다 2번(첫 전송 + window 종료 시 마지막 메시지)으로 병합된다")
+	void coalesceBurst() {
+		coalescer.submit(message(1L));
+		scheduler.advance(0);
+		for (long seq = 2; seq <= 50; seq++) {
+			coalescer.submit(message(seq));
+			scheduler.advance(2);
+		}
+		scheduler.advance(200);
+
+		assertThat(sendCounts).hasSize(MEMBER_COUNT);
+		assertThat(sendCounts.values()).allSatisfy(count -> assertThat(count.get()).isEqualTo(2));
+		assertThat(lastUpdates.values()).allSatisfy(update -> {
+			assertThat(update.getLatestMessage().getMessageSequence()).isEqualTo(50L);
+			assertThat(update.getParticipantCount()).isEqualTo(MEMBER_COUNT);
+		});
+	}
+
+	@Test
+	@DisplayName("window 가 지난 뒤의 메시지는 다시 전송된다")
+	void sendAgainAfterWindow() {
+		coalescer.submit(message(1L));
+		scheduler.advance(400);
+		coalescer.submit(message(2L));
+		scheduler.advance(0);
+
+		assertThat(sendCounts.get("/topic/chat.room.list.1").get()).isEqualTo(2);
+		assertThat(lastUpdates.get("/topic/chat.room.list.1").getLatestMessage().getMessageSequence()).isEqualTo(2L);
+	}
+
+	@Test
+	@DisplayName("window 가 끝날 때까지 메시지가 없으면 방 항목을 제거한다")
+	void removeIdleRoom() {
+		coalescer.submit(message(1L));
+		scheduler.advance(0);
+		coalescer.submit(message(2L));
+		scheduler.advance(200);
+		assertThat(coalescer.roomCount()).isEqualTo(1);
+
+		scheduler.advance(200);
+
+		assertThat(coalescer.roomCount()).isZero();
+		assertThat(scheduler.pendingTasks()).isZero();
+		assertThat(sendCounts.get("/topic/chat.room.list.1").get()).isEqualTo(2);
+	}
+
+	private ChatMessageDto message(Long sequence) {
+		return ChatMessageDto.builder()
+			.messageSequence(sequence)
+			.groupId(ROOM_ID)
+			.type(MessageType.CHAT)
+			.content("content " + sequence)
+			.senderId(1L)
+			.build();
+	}
+}
@@ -0,0 +1,72 @@
+package com.onmoim.server.chat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.onmoim.server.chat.domain.dto.ChatRoomRoster;
+import com.onmoim.server.chat.messaging.ChatRoomMemberChangedEvent;
+import com.onmoim.server.group.entity.Group;
+import com.onmoim.server.group.implement.GroupQueryService;
+import com.onmoim.server.group.implement.GroupUserQueryService;
+
+class ChatRoomRosterCacheTest {
+
+	@Mock
+	GroupQueryService groupQueryService;
+
+	@Mock
+	GroupUserQueryService groupUserQueryService;
+
+	@InjectMocks
+	ChatRoomRosterCache chatRoomRosterCache;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		Group group = mock(Group.class);
+		when(group.getName()).thenReturn("모임");
+		when(groupQueryService.getById(1L)).thenReturn(group);
+	}
+
+	@Test
+	@DisplayName("구성원 변경 전까지는 캐시된 명단을 사용하고, 변경 이벤트 후 다시 조회한다")
+	void invalidateOnMemberChanged() {
+		when(groupUserQueryService.findMemberIds(1L))
+			.thenReturn(List.of(1L, 2L))
+			.thenReturn(List.of(1L, 2L, 3L));
+
+		chatRoomRosterCache.get(1L);
+		ChatRoomRoster cached = chatRoomRosterCache.get(1L);
+
+		chatRoomRosterCache.onMemberChanged(new ChatRoomMemberChangedEvent(1L, List.of(3L)));
+		ChatRoomRoster reloaded = chatRoomRosterCache.get(1L);
+
+		verify(groupUserQueryService, times(2)).findMemberIds(1L);
+		assertThat(cached.participantCount()).isEqualTo(2);
+		assertThat(reloaded.memberIds()).containsExactly(1L, 2L, 3L);
+	}
+
+	@Test
+	@DisplayName("다른 노드에서 중계된 구성원 변경 이벤트도 명단을 제거한다")
+	void invalidateOnRelayedMemberChanged() {
+		when(groupUserQueryService.findMemberIds(1L))
+			.thenReturn(List.of(1L, 2L))
+			.thenReturn(List.of(1L));
+
+		chatRoomRosterCache.get(1L);
+		chatRoomRosterCache.onMemberChanged(new ChatRoomMemberChangedEvent(1L, List.of(2L), true));
+		ChatRoomRoster reloaded = chatRoomRosterCache.get(1L);
+
+		verify(groupUserQueryService, times(2)).findMemberIds(1L);
+		assertThat(reloaded.memberIds()).containsExactly(1L);
+	}
+}
@@ -0,0 +1,121 @@
+package com.onmoim.server.chat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.onmoim.server.chat.common.config.ChatSenderProfileProperties;
+import com.onmoim.server.chat.domain.dto.ChatMessageDto;
+import com.onmoim.server.chat.domain.dto.ChatSenderProfile;
+import com.onmoim.server.chat.domain.enums.MessageType;
+import com.onmoim.server.chat.messaging.ChatSenderProfileChangedEvent;
+import com.onmoim.server.chat.repository.ChatMessageRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ChatSenderProfileCacheTest {
+
+	@Mock
+	private ChatMessageRepository chatMessageRepository;
+
+	private ChatSenderProfileCache cache;
+
+	@BeforeEach
+	void setUp() {
+		cache = new ChatSenderProfileCache(chatMessageRepository, new ChatSenderProfileProperties(),
+			new SimpleMeterRegistry());
+	}
+
+	@Test
+	@DisplayName("메시지 발신자 정보를 한 번의 IN 조회로 채우고, 다음 조회는 캐시에서 응답한다")
+	void enrichWithSingleMultiGet() {
+		when(chatMessageRepository.findSenderProfiles(anyCollection())).thenReturn(List.of(
+			new ChatSenderProfile(1L, "홍길동", "a.png", false),
+			new ChatSenderProfile(2L, "김철수", null, false)));
+		List<ChatMessageDto> messages = List.of(message(3L, 1L), message(2L, 2L), message(1L, 1L));
+
+		List<ChatMessageDto> first = cache.enrich(messages);
+		List<ChatMessageDto> second = cache.enrich(messages);
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<Collection<Long>> captor = ArgumentCaptor.forClass(Collection.class);
+		verify(chatMessageRepository, times(1)).findSenderProfiles(captor.capture());
+		assertThat(captor.getValue()).containsExactlyInAnyOrder(1L, 2L);
+		assertThat(first).extracting(m -> m.getChatUserDto().getUsername()).containsExactly("홍길동", "김철수", "홍길동");
+		assertThat(second).usingRecursiveFieldByFieldElementComparator().isEqualTo(first);
+		assertThat(messages).allSatisfy(m -> assertThat(m.getChatUserDto()).isNull());
+	}
+
+	@Test
+	@DisplayName("프로필 변경 이벤트 후에는 다시 불러온다")
+	void reloadAfterProfileChanged() {
+		when(chatMessageRepository.findSenderProfiles(anyCollection()))
+			.thenReturn(List.of(new ChatSenderProfile(1L, "홍길동", null, false)))
+			.thenReturn(List.of(new ChatSenderProfile(1L, "홍길순", "b.png", false)));
+
+		cache.get(1L);
+		cache.onProfileChanged(new ChatSenderProfileChangedEvent(1L));
+
+		assertThat(cache.get(1L).name()).isEqualTo("홍길순");
+		assertThat(cache.get(1L).profileImgUrl()).isEqualTo("b.png");
+		verify(chatMessageRepository, times(2)).findSenderProfiles(anyCollection());
+	}
+
+	@Test
+	@DisplayName("조회 도중 무효화되면 그 결과는 캐시에 남기지 않는다")
+	void discardLoadRacingWithInvalidation() {
+		when(chatMessageRepository.findSenderProfiles(anyCollection()))
+			.thenAnswer(invocation -> {
+				cache.onProfileChanged(new ChatSenderProfileChangedEvent(1L));
+				return List.of(new ChatSenderProfile(1L, "변경 전", null, false));
+			})
+			.thenReturn(List.of(new ChatSenderProfile(1L, "변경 후", null, false)));
+
+		assertThat(cache.get(1L).name()).isEqualTo("변경 전");
+		assertThat(cache.get(1L).name()).isEqualTo("변경 후");
+	}
+
+	@Test
+	@DisplayName("발신자를 찾을 수 없는 메시지는 제외한다")
+	void dropMessagesWithoutSender() {
+		when(chatMessageRepository.findSenderProfiles(anyCollection()))
+			.thenReturn(List.of(new ChatSenderProfile(1L, "홍길동", null, false)));
+
+		List<ChatMessageDto> enriched = cache.enrich(List.of(message(2L, 99L), message(1L, 1L)));
+
+		assertThat(enriched).extracting(ChatMessageDto::getMessageSequence).containsExactly(1L);
+	}
+
+	@Test
+	@DisplayName("채팅방 목록 마지막 메시지에 발신자 정보를 채우고, 발신자가 없으면 빈 정보를 채운다")
+	void fillSendersForRoomList() {
+		when(chatMessageRepository.findSenderProfiles(anyCollection()))
+			.thenReturn(List.of(new ChatSenderProfile(1L, "홍길동", "a.png", false)));
+		ChatMessageDto userMessage = message(1L, 1L);
+		ChatMessageDto systemMessage = message(2L, null);
+
+		cache.fillSenders(List.of(userMessage, systemMessage));
+
+		assertThat(userMessage.getChatUserDto().getUsername()).isEqualTo("홍길동");
+		assertThat(systemMessage.getChatUserDto().getId()).isNull();
+		assertThat(systemMessage.getChatUserDto().getUsername()).isNull();
+	}
+
+	private ChatMessageDto message(Long sequence, Long senderId) {
+		return new ChatMessageDto(sequence, 1L, MessageType.CHAT, "내용 " + sequence, senderId,
+			LocalDateTime.of(2025, 8, 11, 14, 0));
+	}
+}
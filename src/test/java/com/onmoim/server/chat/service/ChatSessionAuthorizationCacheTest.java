@@ -0,0 +1,136 @@
+package com.onmoim.server.chat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.security.Principal;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import com.onmoim.server.chat.domain.dto.ChatRoomAuthorization;
+import com.onmoim.server.chat.messaging.ChatRoomMemberChangedEvent;
+import com.onmoim.server.common.exception.CustomException;
+import com.onmoim.server.group.entity.GroupUser;
+import com.onmoim.server.group.implement.GroupQueryService;
+import com.onmoim.server.group.implement.GroupUserQueryService;
+
+@ExtendWith(MockitoExtension.class)
+class ChatSessionAuthorizationCacheTest {
+
+	@Mock
+	private GroupQueryService groupQueryService;
+
+	@Mock
+	private GroupUserQueryService groupUserQueryService;
+
+	private ChatSessionAuthorizationCache cache;
+
+	@BeforeEach
+	void setUp() {
+		cache = new ChatSessionAuthorizationCache(groupQueryService, groupUserQueryService);
+	}
+
+	@Test
+	@DisplayName("구독 시 확인한 권한으로 전송하면 DB 를 조회하지 않는다")
+	void noLookupOnSendAfterSubscribe() {
+		GroupUser owner = groupUser(true, true);
+		when(groupUserQueryService.findById(1L, 10L)).thenReturn(Optional.of(owner));
+
+		cache.onSubscribe(subscribe("session-1", "/topic/chat.room.1", 10L));
+		clearInvocations(groupQueryService, groupUserQueryService);
+
+		for (int i = 0; i < 100; i++) {
+			ChatRoomAuthorization authorization = cache.authorize("session-1", 1L, 10L);
+			assertThat(authorization.owner()).isTrue();
+		}
+		verifyNoInteractions(groupQueryService, groupUserQueryService);
+	}
+
+	@Test
+	@DisplayName("채팅방 목록 구독은 권한 확인 대상이 아니다")
+	void ignoreRoomListSubscription() {
+		cache.onSubscribe(subscribe("session-1", "/topic/chat.room.list.10", 10L));
+
+		verifyNoInteractions(groupQueryService, groupUserQueryService);
+	}
+
+	@Test
+	@DisplayName("강퇴 등 구성원 변경 후에는 다시 확인하고, 회원이 아니면 거절한다")
+	void revalidateAfterMemberChanged() {
+		GroupUser member = groupUser(true, false);
+		GroupUser banned = groupUser(false, false);
+		when(groupUserQueryService.findById(1L, 10L))
+			.thenReturn(Optional.of(member))
+			.thenReturn(Optional.of(banned));
+
+		cache.onSubscribe(subscribe("session-1", "/topic/chat.room.1", 10L));
+		cache.onMemberChanged(new ChatRoomMemberChangedEvent(1L, List.of(10L)));
+
+		assertThatThrownBy(() -> cache.authorize("session-1", 1L, 10L)).isInstanceOf(CustomException.class);
+		verify(groupUserQueryService, times(2)).findById(1L, 10L);
+	}
+
+	@Test
+	@DisplayName("다른 사용자 구성원 변경은 영향이 없고, 연결 종료 시 세션 권한을 제거한다")
+	void disconnectClearsSession() {
+		GroupUser member = groupUser(true, false);
+		when(groupUserQueryService.findById(1L, 10L)).thenReturn(Optional.of(member));
+
+		cache.onSubscribe(subscribe("session-1", "/topic/chat.room.1", 10L));
+		cache.onMemberChanged(new ChatRoomMemberChangedEvent(1L, List.of(20L)));
+		cache.authorize("session-1", 1L, 10L);
+		verify(groupUserQueryService, times(1)).findById(1L, 10L);
+
+		cache.onDisconnect(new SessionDisconnectEvent(this, disconnectMessage(), "session-1", CloseStatus.NORMAL));
+		cache.authorize("session-1", 1L, 10L);
+		verify(groupUserQueryService, times(2)).findById(1L, 10L);
+	}
+
+	@Test
+	@DisplayName("구독하지 않은 세션이나 연결 종료 후 늦게 도착한 전송은 세션 권한을 만들지 않는다")
+	void noSessionEntryWithoutSubscribe() {
+		GroupUser member = groupUser(true, false);
+		when(groupUserQueryService.findById(1L, 10L)).thenReturn(Optional.of(member));
+
+		cache.authorize("session-1", 1L, 10L);
+		cache.authorize("session-1", 1L, 10L);
+
+		verify(groupUserQueryService, times(2)).findById(1L, 10L);
+	}
+
+	private GroupUser groupUser(boolean joined, boolean owner) {
+		GroupUser groupUser = mock(GroupUser.class);
+		when(groupUser.isJoined()).thenReturn(joined);
+		lenient().when(groupUser.isOwner()).thenReturn(owner);
+		return groupUser;
+	}
+
+	private SessionSubscribeEvent subscribe(String sessionId, String destination, Long userId) {
+		Principal principal = () -> String.valueOf(userId);
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+		accessor.setSessionId(sessionId);
+		accessor.setDestination(destination);
+		accessor.setUser(principal);
+		Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+		return new SessionSubscribeEvent(this, message, principal);
+	}
+
+	private Message<byte[]> disconnectMessage() {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.DISCONNECT);
+		return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+	}
+}
@@ -0,0 +1,92 @@
+package com.onmoim.server.chat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.onmoim.server.chat.domain.ChatRoomMessageId;
+import com.onmoim.server.chat.domain.enums.DeliveryStatus;
+import com.onmoim.server.chat.repository.ChatMessageBatchRepository;
+import com.onmoim.server.chat.service.writebehind.ChatMessageWriteBehindService;
+
+class ChatStatusServiceTest {
+
+	@Mock
+	ChatMessageBatchRepository chatMessageBatchRepository;
+
+	@Mock
+	ChatMessageWriteBehindService chatMessageWriteBehindService;
+
+	@InjectMocks
+	ChatStatusService chatStatusService;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+	}
+
+	@Test
+	@DisplayName("저장 대기 중인 메시지는 쿼리 없이 메모리에서 상태를 변경한다")
+	void pendingMessage() {
+		ChatRoomMessageId messageId = ChatRoomMessageId.create(1L, 1L);
+		when(chatMessageWriteBehindService.updatePendingStatus(messageId, DeliveryStatus.SENT)).thenReturn(true);
+
+		chatStatusService.updateMessageDeliveryStatus(messageId, DeliveryStatus.SENT);
+		chatStatusService.flushDeliveryStatuses();
+
+		verifyNoInteractions(chatMessageBatchRepository);
+	}
+
+	@Test
+	@DisplayName("저장된 메시지 1000건의 상태 변경은 상태별 bulk UPDATE 3번으로 반영된다")
+	void bulkUpdate() {
+		for (long seq = 1; seq <= 1000; seq++) {
+			chatStatusService.updateMessageDeliveryStatus(ChatRoomMessageId.create(1L, seq), DeliveryStatus.FAILED);
+		}
+		// 700건은 재시도 성공으로 다시 SENT, 마지막 상태만 반영된다.
+		for (long seq = 1; seq <= 700; seq++) {
+			chatStatusService.updateMessageDeliveryStatus(ChatRoomMessageId.create(1L, seq), DeliveryStatus.SENT);
+		}
+
+		chatStatusService.flushDeliveryStatuses();
+
+		ArgumentCaptor<List<ChatRoomMessageId>> sent = listCaptor();
+		ArgumentCaptor<List<ChatRoomMessageId>> failed = listCaptor();
+		verify(chatMessageBatchRepository, times(2)).updateDeliveryStatus(eq(DeliveryStatus.SENT), sent.capture());
+		verify(chatMessageBatchRepository, times(1)).updateDeliveryStatus(eq(DeliveryStatus.FAILED), failed.capture());
+		assertThat(sent.getAllValues().stream().mapToInt(List::size).sum()).isEqualTo(700);
+		assertThat(failed.getValue()).hasSize(300)
+			.allSatisfy(id -> assertThat(id.getMessageSequence()).isGreaterThan(700L));
+	}
+
+	@Test
+	@DisplayName("bulk UPDATE 가 실패하면 다음 주기에 다시 반영한다")
+	void retryOnFailure() {
+		ChatRoomMessageId messageId = ChatRoomMessageId.create(1L, 1L);
+		when(chatMessageBatchRepository.updateDeliveryStatus(any(), anyList()))
+			.thenThrow(new RuntimeException("connection closed"))
+			.thenReturn(1);
+
+		chatStatusService.updateMessageDeliveryStatus(messageId, DeliveryStatus.SENT);
+		chatStatusService.flushDeliveryStatuses();
+		chatStatusService.flushDeliveryStatuses();
+		chatStatusService.flushDeliveryStatuses();
+
+		verify(chatMessageBatchRepository, times(2)).updateDeliveryStatus(DeliveryStatus.SENT, List.of(messageId));
+	}
+
+	@SuppressWarnings("unchecked")
+	private ArgumentCaptor<List<ChatRoomMessageId>> listCaptor() {
+		return ArgumentCaptor.forClass((Class<List<ChatRoomMessageId>>)(Class<?>)List.class);
+	}
+}
@@ -0,0 +1,160 @@
+package com.onmoim.server.chat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.onmoim.server.chat.common.config.ChatSystemMessageProperties;
+import com.onmoim.server.chat.domain.enums.ChatSystemMessageTemplate;
+import com.onmoim.server.chat.messaging.ChatSystemMessageEvent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ChatSystemMessageCoalescerTest {
+
+	private static final Long ROOM_ID = 1L;
+
+	private final ChatMessageService chatMessageService = mock(ChatMessageService.class);
+	private final List<String> sent = new CopyOnWriteArrayList<>();
+
+	private ChatSystemMessageCoalescer coalescer;
+
+	@BeforeEach
+	void setUp() {
+		doAnswer(inv -> {
+			sent.add(inv.getArgument(1));
+			return null;
+		}).when(chatMessageService).sendSystemMessage(eq(ROOM_ID), anyString());
+
+		ChatSystemMessageProperties properties = new ChatSystemMessageProperties();
+		properties.setCoalesceWindowMillis(300);
+		coalescer = new ChatSystemMessageCoalescer(chatMessageService, properties, new SimpleMeterRegistry());
+	}
+
+	@AfterEach
+	void tearDown() {
+		coalescer.shutdown();
+	}
+
+	@Test
+	@DisplayName("첫 가입은 바로 보내고, window 안의 가입은 이름 두 개와 나머지 인원 수로 한 번에 보낸다")
+	void coalesceJoins() {
+		coalescer.submit(join("가"));
+		verify(chatMessageService, timeout(200)).sendSystemMessage(ROOM_ID, "가님이 가입했습니다.");
+
+		for (String name : List.of("나", "다", "라", "마")) {
+			coalescer.submit(join(name));
+		}
+
+		verify(chatMessageService, timeout(2_000).times(2)).sendSystemMessage(eq(ROOM_ID), anyString());
+		assertThat(sent).containsExactly("가님이 가입했습니다.", "나, 다님 외 2명이 가입했습니다.");
+	}
+
+	@Test
+	@DisplayName("가입과 탈퇴는 따로 병합하고, 병합 대상이 아닌 메시지는 그대로 보낸다")
+	void separateTemplates() {
+		coalescer.submit(new ChatSystemMessageEvent(ROOM_ID, ChatSystemMessageTemplate.CREATE_CHAT_ROOM.getContent()));
+		coalescer.submit(join("가"));
+		coalescer.submit(ChatSystemMessageEvent.of(ROOM_ID, ChatSystemMessageTemplate.LEAVE_CHAT_ROOM, "나"));
+		verify(chatMessageService, timeout(200).times(3)).sendSystemMessage(eq(ROOM_ID), anyString());
+		coalescer.submit(join("다"));
+
+		verify(chatMessageService, timeout(2_000).times(4)).sendSystemMessage(eq(ROOM_ID), anyString());
+		assertThat(sent).containsExactlyInAnyOrder(
+			"채팅방이 생성되었습니다.",
+			"가님이 가입했습니다.",
+			"나님이 탈퇴했습니다.",
+			"다님이 가입했습니다."
+		);
+	}
+
+	@Test
+	@DisplayName("표시할 이름 수 이하로 모이면 이름만 나열한다")
+	void coalescedContent() {
+		assertThat(ChatSystemMessageTemplate.JOIN_CHAT_ROOM.getCoalescedContent(List.of("가", "나"), 2))
+			.isEqualTo("가, 나님이 가입했습니다.");
+		assertThat(ChatSystemMessageTemplate.LEAVE_CHAT_ROOM.getCoalescedContent(List.of("가", "나"), 14))
+			.isEqualTo("가, 나님 외 12명이 탈퇴했습니다.");
+	}
+
+	@Test
+	@DisplayName("window 가 끝날 때까지 이벤트가 없으면 방/template 항목을 제거하고, 이후 이벤트는 새 항목으로 바로 보낸다")
+	void removeIdleBatch() {
+		ManualTaskScheduler scheduler = new ManualTaskScheduler();
+		ChatSystemMessageProperties properties = new ChatSystemMessageProperties();
+		properties.setCoalesceWindowMillis(300);
+		ChatSystemMessageCoalescer manual = new ChatSystemMessageCoalescer(chatMessageService, properties,
+			new SimpleMeterRegistry(), scheduler, directExecutor(), scheduler::now);
+
+		manual.submit(join("가"));
+		scheduler.advance(0);
+		manual.submit(join("나"));
+		scheduler.advance(300);
+		assertThat(manual.batchCount()).isEqualTo(1);
+
+		scheduler.advance(300);
+		assertThat(manual.batchCount()).isZero();
+		assertThat(scheduler.pendingTasks()).isZero();
+
+		manual.submit(join("다"));
+		scheduler.advance(0);
+		assertThat(sent).containsExactly("가님이 가입했습니다.", "나님이 가입했습니다.", "다님이 가입했습니다.");
+	}
+
+	@Test
+	@DisplayName("전송 대기열이 가득 차면 메시지를 버리고 rejected 로 집계한다")
+	void rejectWhenQueueFull() throws InterruptedException {
+		CountDownLatch release = new CountDownLatch(1);
+		doAnswer(inv -> {
+			release.await(2, TimeUnit.SECONDS);
+			sent.add(inv.getArgument(1));
+			return null;
+		}).when(chatMessageService).sendSystemMessage(eq(ROOM_ID), anyString());
+
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(1);
+		executor.setQueueCapacity(1);
+		executor.initialize();
+		ManualTaskScheduler scheduler = new ManualTaskScheduler();
+		MeterRegistry meterRegistry = new SimpleMeterRegistry();
+		ChatSystemMessageCoalescer bounded = new ChatSystemMessageCoalescer(chatMessageService,
+			new ChatSystemMessageProperties(), meterRegistry, scheduler, executor, scheduler::now);
+
+		// 첫 메시지는 전송 스레드가 잡고, 두 번째는 대기열에, 세 번째는 버려진다.
+		for (String content : List.of("하나", "둘", "셋")) {
+			bounded.submit(new ChatSystemMessageEvent(ROOM_ID, content));
+		}
+		release.countDown();
+
+		verify(chatMessageService, timeout(2_000).times(2)).sendSystemMessage(eq(ROOM_ID), anyString());
+		assertThat(sent).containsExactly("하나", "둘");
+		assertThat(meterRegistry.counter("chat.system_message.rejected").count()).isEqualTo(1);
+		bounded.shutdown();
+	}
+
+	private static ThreadPoolTaskExecutor directExecutor() {
+		return new ThreadPoolTaskExecutor() {
+			@Override
+			public void execute(Runnable task) {
+				task.run();
+			}
+		};
+	}
+
+	private ChatSystemMessageEvent join(String name) {
+		return ChatSystemMessageEvent.of(ROOM_ID, ChatSystemMessageTemplate.JOIN_CHAT_ROOM, name);
+	}
+}
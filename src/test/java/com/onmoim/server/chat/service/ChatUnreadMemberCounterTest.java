@@ -0,0 +1,127 @@
+package com.onmoim.server.chat.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.onmoim.server.chat.common.config.ChatUnreadCounterProperties;
+import com.onmoim.server.chat.domain.dto.ChatMessageDto;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ChatUnreadMemberCounterTest {
+
+	private final ChatUnreadMemberCounter counter =
+		new ChatUnreadMemberCounter(new ChatUnreadCounterProperties(), new SimpleMeterRegistry());
+
+	@Test
+	@DisplayName("메시지마다 읽음 위치가 그보다 작은 멤버 수를 채운다")
+	void fill() {
+		List<ChatMessageDto> messages = messages(1L, 5L, 10L, 11L);
+
+		counter.fill(1L, messages, () -> new HashMap<>(Map.of(1L, 10L, 2L, 4L, 3L, 10L, 4L, 0L)));
+
+		assertThat(messages).extracting(ChatMessageDto::getUnreadMemberCount).containsExactly(1, 2, 2, 4);
+	}
+
+	@Test
+	@DisplayName("등록된 방은 다시 불러오지 않고, 읽음 위치 갱신을 반영하며 뒤로 가는 위치는 무시한다")
+	void advance() {
+		AtomicInteger loads = new AtomicInteger();
+		counter.fill(1L, messages(1L), () -> {
+			loads.incrementAndGet();
+			return new HashMap<>(Map.of(1L, 0L, 2L, 0L));
+		});
+
+		counter.advance(1L, 1L, 10L);
+		counter.advance(1L, 1L, 3L);
+		counter.advance(2L, 1L, 10L); // 등록되지 않은 방
+		List<ChatMessageDto> messages = messages(5L, 10L, 11L);
+		counter.fill(1L, messages, () -> {
+			loads.incrementAndGet();
+			return Map.of();
+		});
+
+		assertThat(loads).hasValue(1);
+		assertThat(messages).extracting(ChatMessageDto::getUnreadMemberCount).containsExactly(1, 1, 2);
+		assertThat(counter.roomCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("불러오는 동안 들어온 갱신은 불러온 위치와 큰 쪽으로 합쳐진다")
+	void advanceWhileLoading() {
+		List<ChatMessageDto> messages = messages(6L);
+
+		counter.fill(1L, messages, () -> {
+			counter.advance(1L, 1L, 8L);
+			counter.advance(1L, 2L, 2L);
+			return new HashMap<>(Map.of(1L, 3L, 2L, 5L));
+		});
+
+		assertThat(messages.get(0).getUnreadMemberCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("무작위 갱신 후에도 멤버 전체를 세는 방식과 결과가 같다")
+	void matchesScan() {
+		Random random = new Random(42);
+		Map<Long, Long> expected = new HashMap<>();
+		for (long userId = 1; userId <= 300; userId++) {
+			expected.put(userId, (long)random.nextInt(500));
+		}
+		counter.fill(1L, messages(1L), () -> new HashMap<>(expected));
+
+		for (int i = 0; i < 5_000; i++) {
+			long userId = 1 + random.nextInt(300);
+			long sequence = random.nextInt(1_000);
+			counter.advance(1L, userId, sequence);
+			expected.merge(userId, sequence, Math::max);
+		}
+
+		List<ChatMessageDto> messages = new ArrayList<>();
+		for (long sequence = 0; sequence <= 1_001; sequence += 7) {
+			messages.add(message(sequence));
+		}
+		counter.fill(1L, messages, Map::of);
+
+		for (ChatMessageDto message : messages) {
+			long scanned = expected.values().stream().filter(cursor -> cursor < message.getMessageSequence()).count();
+			assertThat(message.getUnreadMemberCount()).isEqualTo((int)scanned);
+		}
+	}
+
+	@Test
+	@DisplayName("제거된 방은 다음 조회 때 다시 불러온다")
+	void evict() {
+		counter.fill(1L, messages(1L), () -> new HashMap<>(Map.of(1L, 0L)));
+		counter.evict(1L);
+
+		List<ChatMessageDto> messages = messages(1L);
+		counter.fill(1L, messages, () -> new HashMap<>(Map.of(1L, 0L, 2L, 0L)));
+
+		assertThat(messages.get(0).getUnreadMemberCount()).isEqualTo(2);
+	}
+
+	private List<ChatMessageDto> messages(Long... sequences) {
+		List<ChatMessageDto> messages = new ArrayList<>();
+		for (Long sequence : sequences) {
+			messages.add(message(sequence));
+		}
+		return messages;
+	}
+
+	private ChatMessageDto message(long sequence) {
+		return ChatMessageDto.builder()
+			.groupId(1L)
+			.messageSequence(sequence)
+			.build();
+	}
+}
@@ -0,0 +1,49 @@
+package com.onmoim.server.chat.service;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.ScheduledFuture;
+
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 예약된 작업을 테스트 스레드에서 직접 실행하는 스케줄러
+ * 시각은 {@link #now()} 를 clock 으로 넘겨 함께 사용하고, {@link #advance(long)} 로만 흐릅니다.
+ */
+class ManualTaskScheduler extends ThreadPoolTaskScheduler {
+	private final PriorityQueue<ScheduledTask> tasks = new PriorityQueue<>(
+		Comparator.comparingLong(ScheduledTask::runAt).thenComparingLong(ScheduledTask::order));
+	private long now = 1_000_000L;
+	private long order;
+
+	long now() {
+		return now;
+	}
+
+	@Override
+	public ScheduledFuture<?> schedule(Runnable task, Instant startTime) {
+		tasks.add(new ScheduledTask(startTime.toEpochMilli(), order++, task));
+		return null;
+	}
+
+	/**
+	 * millis 만큼 시각을 옮기며, 그 사이 실행 시각이 된 작업을 시각 순서대로 실행합니다.
+	 */
+	void advance(long millis) {
+		long target = now + millis;
+		while (!tasks.isEmpty() && tasks.peek().runAt() <= target) {
+			ScheduledTask task = tasks.poll();
+			now = Math.max(now, task.runAt());
+			task.task().run();
+		}
+		now = target;
+	}
+
+	int pendingTasks() {
+		return tasks.size();
+	}
+
+	private record ScheduledTask(long runAt, long order, Runnable task) {
+	}
+}
@@ -0,0 +1,137 @@
+package com.onmoim.server.chat.service.archive;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.onmoim.server.chat.common.config.ChatArchiveProperties;
+import com.onmoim.server.chat.domain.ChatRoomMessage;
+import com.onmoim.server.chat.domain.ChatRoomMessageId;
+import com.onmoim.server.chat.domain.enums.DeliveryStatus;
+import com.onmoim.server.chat.domain.enums.MessageType;
+import com.onmoim.server.chat.repository.ChatMessageArchiveBatchRepository;
+import com.onmoim.server.chat.repository.ChatMessageArchiveBatchRepository.StoredMessage;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * chat_room_messages 를 방별 TreeMap 으로 두고 보관 작업이 옮기는 범위를 확인합니다.
+ */
+class ChatMessageArchiveServiceTest {
+
+	private final Map<Long, TreeMap<Long, StoredMessage>> hot = new TreeMap<>();
+	private final Map<Long, List<Long>> archived = new TreeMap<>();
+	private final ChatMessageArchiveBatchRepository repository = mock(ChatMessageArchiveBatchRepository.class);
+	private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+	private final ChatArchiveProperties properties = new ChatArchiveProperties();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private ChatMessageArchiveService archiveService;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		when(transactionTemplate.execute(any())).thenAnswer(inv -> ((TransactionCallback<Object>)inv.getArgument(0))
+			.doInTransaction(null));
+		when(repository.findRoomIds(anyLong(), anyInt())).thenAnswer(inv -> {
+			long afterRoomId = inv.getArgument(0);
+			int limit = inv.getArgument(1);
+			return hot.keySet().stream().filter(roomId -> roomId > afterRoomId).limit(limit).toList();
+		});
+		when(repository.findOldest(anyLong(), anyInt())).thenAnswer(inv -> {
+			int limit = inv.getArgument(1);
+			return hot.get((Long)inv.getArgument(0)).values().stream().limit(limit).toList();
+		});
+		doAnswer(inv -> {
+			Long roomId = inv.getArgument(0);
+			List<ChatRoomMessage> messages = inv.getArgument(1);
+			messages.forEach(message -> hot.get(roomId).remove(message.getId().getMessageSequence()));
+			messages.forEach(message ->
+				archived.computeIfAbsent(roomId, id -> new ArrayList<>()).add(message.getId().getMessageSequence()));
+			return null;
+		}).when(repository).moveAll(anyLong(), anyList());
+
+		properties.setHotRetentionDays(30);
+		properties.setBatchSize(2);
+		properties.setRoomPageSize(1);
+		properties.setIntervalMillis(3_600_000);
+		archiveService = new ChatMessageArchiveService(repository, transactionTemplate, properties, meterRegistry);
+	}
+
+	@AfterEach
+	void tearDown() {
+		archiveService.shutdown();
+	}
+
+	@Test
+	@DisplayName("방마다 보관 기간이 지난 앞부분만 batch 단위로 옮기고, 중간의 최근 메시지 뒤는 남긴다")
+	void moveExpiredPrefixInBatches() {
+		save(1L, 1L, 40);
+		save(1L, 2L, 35);
+		save(1L, 3L, 31);
+		save(1L, 4L, 1);
+		save(1L, 5L, 60); // 최근 메시지 뒤에 늦게 저장된 오래된 메시지
+		save(2L, 1L, 10);
+		save(3L, 1L, 45);
+
+		assertThat(archiveService.archive()).isEqualTo(4);
+
+		assertThat(archived.get(1L)).containsExactly(1L, 2L, 3L);
+		assertThat(hot.get(1L).keySet()).containsExactly(4L, 5L);
+		assertThat(archived).doesNotContainKey(2L);
+		assertThat(archived.get(3L)).containsExactly(1L);
+		assertThat(meterRegistry.counter("chat.archive.moved").count()).isEqualTo(4);
+	}
+
+	@Test
+	@DisplayName("보관 여부는 클라이언트 timestamp 가 아닌 서버 저장 시각으로 판단한다")
+	void useServerCreatedDate() {
+		save(1L, 1L, 40, LocalDateTime.now().plusYears(1)); // 미래 timestamp
+		save(1L, 2L, 40, LocalDateTime.now().minusDays(40));
+		save(2L, 1L, 1, LocalDateTime.now().minusYears(1)); // 과거 timestamp
+
+		assertThat(archiveService.archive()).isEqualTo(2);
+
+		assertThat(archived.get(1L)).containsExactly(1L, 2L);
+		assertThat(archived).doesNotContainKey(2L);
+	}
+
+	@Test
+	@DisplayName("한 방에서 옮기다 실패해도 다음 방은 계속 옮긴다")
+	void continueAfterRoomFailure() {
+		save(1L, 1L, 40);
+		save(2L, 1L, 40);
+		doThrow(new IllegalStateException("보관 대상 메시지 수가 달라졌습니다."))
+			.when(repository).moveAll(eq(1L), anyList());
+
+		assertThat(archiveService.archive()).isEqualTo(1);
+		assertThat(hot.get(1L)).containsKey(1L);
+		assertThat(archived.get(2L)).containsExactly(1L);
+	}
+
+	private void save(Long roomId, Long sequence, int daysAgo) {
+		save(roomId, sequence, daysAgo, LocalDateTime.now().minusDays(daysAgo));
+	}
+
+	/**
+	 * @param daysAgo 서버 저장 시각
+	 * @param timestamp 클라이언트가 보낸 시각
+	 */
+	private void save(Long roomId, Long sequence, int daysAgo, LocalDateTime timestamp) {
+		hot.computeIfAbsent(roomId, id -> new TreeMap<>()).put(sequence, new StoredMessage(ChatRoomMessage.create(
+			ChatRoomMessageId.create(roomId, sequence), 10L, "내용", timestamp, MessageType.CHAT, DeliveryStatus.SENT),
+			LocalDateTime.now().minusDays(daysAgo)));
+	}
+}
@@ -0,0 +1,134 @@
+package com.onmoim.server.chat.service.retry;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import com.onmoim.server.chat.common.config.ChatRetryProperties;
+import com.onmoim.server.chat.domain.ChatRoomMessageId;
+import com.onmoim.server.chat.domain.dto.ChatMessageDto;
+import com.onmoim.server.chat.domain.enums.DeliveryStatus;
+import com.onmoim.server.chat.service.ChatStatusService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ChatMessageRetryServiceTest {
+
+	private static final String DESTINATION = "/topic/chat.room.1";
+	private static final ChatRoomMessageId MESSAGE_ID = ChatRoomMessageId.create(1L, 7L);
+
+	private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+	private final ChatStatusService chatStatusService = mock(ChatStatusService.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private ChatRetryProperties properties;
+	private ChatMessageRetryService retryService;
+
+	@BeforeEach
+	void setUp() {
+		properties = new ChatRetryProperties();
+		properties.setInitialDelayMillis(20);
+		properties.setMaxDelayMillis(50);
+		retryService = new ChatMessageRetryService(messagingTemplate, chatStatusService, properties, meterRegistry);
+	}
+
+	@AfterEach
+	void tearDown() {
+		retryService.shutdown();
+	}
+
+	@Test
+	@DisplayName("재전송을 예약만 하고 바로 반환하며, 두 번째 시도에서 성공하면 SENT 로 기록한다")
+	void retryAsynchronously() {
+		CountDownLatch block = new CountDownLatch(1);
+		doAnswer(invocation -> {
+			block.await(1, TimeUnit.SECONDS);
+			throw new MessageDeliveryException("브로커 오류");
+		}).doNothing().when(messagingTemplate).convertAndSend(eq(DESTINATION), any(Object.class), anyMap());
+
+		long startedAt = System.nanoTime();
+		retryService.failedProcess(message(), DESTINATION);
+		assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(20);
+		assertThat(retryService.status(MESSAGE_ID)).isNotNull();
+		block.countDown();
+
+		verify(chatStatusService, timeout(2_000)).updateMessageDeliveryStatus(MESSAGE_ID, DeliveryStatus.SENT);
+		verify(messagingTemplate, times(2)).convertAndSend(eq(DESTINATION), any(Object.class), anyMap());
+		assertThat(retryService.pendingCount()).isZero();
+		assertThat(meterRegistry.counter("chat.retry.succeeded").count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("최대 횟수까지 실패하면 FAILED_PERMANENTLY 로 한 번 기록한다")
+	void exhausted() {
+		doThrow(new MessageDeliveryException("브로커 오류"))
+			.when(messagingTemplate).convertAndSend(eq(DESTINATION), any(Object.class), anyMap());
+
+		retryService.failedProcess(message(), DESTINATION);
+
+		verify(chatStatusService, timeout(2_000)).updateMessageDeliveryStatus(MESSAGE_ID, DeliveryStatus.FAILED_PERMANENTLY);
+		verify(messagingTemplate, times(3)).convertAndSend(eq(DESTINATION), any(Object.class), anyMap());
+		verify(chatStatusService, never()).updateMessageDeliveryStatus(MESSAGE_ID, DeliveryStatus.SENT);
+		assertThat(meterRegistry.counter("chat.retry.exhausted").count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("같은 메시지가 대기 중이면 다시 등록하지 않고, 대기열이 가득 차면 바로 FAILED_PERMANENTLY 로 기록한다")
+	void duplicateAndFull() {
+		properties.setInitialDelayMillis(10_000);
+		properties.setMaxDelayMillis(10_000);
+		properties.setMaxPending(1);
+
+		retryService.failedProcess(message(), DESTINATION);
+		retryService.failedProcess(message(), DESTINATION);
+		ChatMessageDto other = message();
+		other.setMessageSequence(8L);
+		retryService.failedProcess(other, DESTINATION);
+
+		assertThat(retryService.pendingCount()).isEqualTo(1);
+		assertThat(retryService.status(MESSAGE_ID).attempts()).isZero();
+		assertThat(retryService.status(MESSAGE_ID).nextDueAt()).isGreaterThan(System.currentTimeMillis());
+		verify(chatStatusService).updateMessageDeliveryStatus(ChatRoomMessageId.create(1L, 8L),
+			DeliveryStatus.FAILED_PERMANENTLY);
+		verifyNoInteractions(messagingTemplate);
+	}
+
+	@Test
+	@DisplayName("종료 시 재전송 대기 중인 메시지는 버리지 않고 FAILED_PERMANENTLY 로 기록한다")
+	void shutdownMarksPendingFailed() {
+		properties.setInitialDelayMillis(10_000);
+		properties.setMaxDelayMillis(10_000);
+
+		retryService.failedProcess(message(), DESTINATION);
+		ChatMessageDto other = message();
+		other.setMessageSequence(8L);
+		retryService.failedProcess(other, DESTINATION);
+
+		retryService.shutdown();
+
+		assertThat(retryService.pendingCount()).isZero();
+		verify(chatStatusService).updateMessageDeliveryStatus(MESSAGE_ID, DeliveryStatus.FAILED_PERMANENTLY);
+		verify(chatStatusService).updateMessageDeliveryStatus(ChatRoomMessageId.create(1L, 8L),
+			DeliveryStatus.FAILED_PERMANENTLY);
+		assertThat(meterRegistry.counter("chat.retry.abandoned").count()).isEqualTo(2);
+		verifyNoInteractions(messagingTemplate);
+	}
+
+	private ChatMessageDto message() {
+		return ChatMessageDto.builder()
+			.groupId(1L)
+			.messageSequence(7L)
+			.senderId(1L)
+			.content("안녕하세요")
+			.build();
+	}
+}
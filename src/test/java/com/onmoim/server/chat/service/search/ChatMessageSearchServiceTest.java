@@ -0,0 +1,234 @@
+package com.onmoim.server.chat.service.search;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import com.onmoim.server.chat.common.config.ChatSearchProperties;
+import com.onmoim.server.chat.domain.ChatRoomMessage;
+import com.onmoim.server.chat.domain.ChatRoomMessageId;
+import com.onmoim.server.chat.domain.dto.ChatMessageDto;
+import com.onmoim.server.chat.domain.dto.ChatSearchResponse;
+import com.onmoim.server.chat.domain.enums.DeliveryStatus;
+import com.onmoim.server.chat.domain.enums.MessageType;
+import com.onmoim.server.chat.repository.ChatMessageHistoryRepository;
+import com.onmoim.server.common.exception.CustomException;
+import com.onmoim.server.common.exception.ErrorCode;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * chat_room_messages 대신 메모리 TreeMap 을 기본키 순서로 조회하는 저장소로 검색 색인을 확인합니다.
+ */
+class ChatMessageSearchServiceTest {
+
+	private static final Long ROOM_ID = 1L;
+
+	private final TreeMap<Long, ChatMessageDto> table = new TreeMap<>();
+	private final ChatMessageHistoryRepository repository = mock(ChatMessageHistoryRepository.class);
+	private final ChatSearchProperties properties = new ChatSearchProperties();
+	private ChatMessageSearchService searchService;
+
+	@BeforeEach
+	void setUp() {
+		when(repository.findByRoomIdAfterCursor(eq(ROOM_ID), anyLong(), any(Pageable.class))).thenAnswer(inv -> {
+			long cursor = inv.getArgument(1);
+			Pageable pageable = inv.getArgument(2);
+			return table.tailMap(cursor, false).values().stream()
+				.filter(message -> message.getSenderId() != null)
+				.limit(pageable.getPageSize())
+				.toList();
+		});
+		when(repository.findRecentByRoomIdBetween(eq(ROOM_ID), anyLong(), anyLong(), any(Pageable.class)))
+			.thenAnswer(inv -> {
+				long after = inv.getArgument(1);
+				long upTo = inv.getArgument(2);
+				Pageable pageable = inv.getArgument(3);
+				return table.subMap(after, false, upTo, true).values().stream()
+					.filter(message -> message.getSenderId() != null)
+					.limit(pageable.getPageSize())
+					.toList();
+			});
+		when(repository.findByRoomIdAndSequences(eq(ROOM_ID), anyCollection())).thenAnswer(inv -> {
+			Collection<Long> sequences = inv.getArgument(1);
+			return sequences.stream().map(table::get).filter(message -> message != null).toList();
+		});
+		properties.setLoadBatchSize(4);
+		searchService = new ChatMessageSearchService(repository, properties, new SimpleMeterRegistry());
+	}
+
+	@Test
+	@DisplayName("조사가 붙은 한국어 단어도 찾고, bigram 만 겹치는 메시지는 결과에서 뺀다")
+	void koreanSubstringSearch() {
+		save(1L, "내일 강남역에서 만나요");
+		save(2L, "강남 맛집 추천해 주세요");
+		save(3L, "역삼역 3번 출구");
+		save(4L, "강남 말고 남역 근처");
+		save(5L, "강남역 2번 출구 앞!");
+
+		assertThat(sequences(searchService.search(ROOM_ID, "강남역", null, null))).containsExactly(5L, 1L);
+		assertThat(sequences(searchService.search(ROOM_ID, "강남", null, null))).containsExactly(5L, 4L, 2L, 1L);
+		assertThat(sequences(searchService.search(ROOM_ID, "출구 강남역", null, null))).containsExactly(5L);
+		assertThat(sequences(searchService.search(ROOM_ID, "번 출구", null, null))).containsExactly(5L, 3L);
+	}
+
+	@Test
+	@DisplayName("nextCursor 로 이전 결과를 이어서 조회하고, 마지막 페이지는 nextCursor 가 없다")
+	void keysetPagination() {
+		for (long sequence = 1; sequence <= 25; sequence++) {
+			save(sequence, sequence % 2 == 0 ? "오늘 모임 장소 " + sequence : "잡담 " + sequence);
+		}
+
+		ChatSearchResponse first = searchService.search(ROOM_ID, "모임", null, 5);
+		ChatSearchResponse second = searchService.search(ROOM_ID, "모임", first.getNextCursor(), 5);
+		ChatSearchResponse last = searchService.search(ROOM_ID, "모임", second.getNextCursor(), 5);
+
+		assertThat(sequences(first)).containsExactly(24L, 22L, 20L, 18L, 16L);
+		assertThat(first.getNextCursor()).isEqualTo(16L);
+		assertThat(sequences(second)).containsExactly(14L, 12L, 10L, 8L, 6L);
+		assertThat(sequences(last)).containsExactly(4L, 2L);
+		assertThat(last.getNextCursor()).isNull();
+	}
+
+	@Test
+	@DisplayName("커밋된 다음 순번은 바로 색인하고, 순번이 비면 다음 검색에서 DB 로 따라잡는다")
+	void incrementalIndexAndCatchUp() {
+		save(1L, "첫 번째 공지");
+		searchService.search(ROOM_ID, "공지", null, null);
+
+		ChatRoomMessage next = save(2L, "두 번째 공지");
+		searchService.onPersisted(List.of(next));
+		clearInvocations(repository);
+		assertThat(sequences(searchService.search(ROOM_ID, "공지", null, null))).containsExactly(2L, 1L);
+		verify(repository).findByRoomIdAfterCursor(eq(ROOM_ID), eq(2L), any(Pageable.class));
+
+		// 3번은 다른 노드에서 저장되어 이 노드의 색인 반영 대상이 아닙니다.
+		save(3L, "세 번째 공지");
+		ChatRoomMessage afterGap = save(4L, "네 번째 공지");
+		searchService.onPersisted(List.of(afterGap));
+		assertThat(sequences(searchService.search(ROOM_ID, "공지", null, null))).containsExactly(4L, 3L, 2L, 1L);
+	}
+
+	@Test
+	@DisplayName("색인된 순번보다 앞에 늦게 커밋된 다른 노드의 메시지도 다음 검색에서 찾는다")
+	void lateCommitBelowIndexedSequence() {
+		// 노드 A 는 1~500, 노드 B 는 501~1000 블록으로 발급하므로 커밋 순서와 순번 순서가 다릅니다.
+		save(1L, "정기 모임 안내");
+		save(501L, "정기 모임 장소");
+		assertThat(sequences(searchService.search(ROOM_ID, "정기", null, null))).containsExactly(501L, 1L);
+
+		save(502L, "정기 모임 시간");
+		save(2L, "정기 모임 회비"); // 다른 노드에서 커밋되어 DB 로만 확인됩니다.
+		assertThat(sequences(searchService.search(ROOM_ID, "정기", null, null))).containsExactly(502L, 501L, 2L, 1L);
+		verify(repository).findRecentByRoomIdBetween(eq(ROOM_ID), eq(1L), eq(500L), any(Pageable.class));
+	}
+
+	@Test
+	@DisplayName("이 노드에서 커밋한 빈 순번의 메시지는 바로 끼워 넣고, 채워진 순번은 다시 조회하지 않는다")
+	void onPersistedFillsGap() {
+		save(1L, "첫 공지");
+		save(501L, "두 번째 공지");
+		searchService.search(ROOM_ID, "공지", null, null);
+
+		ChatRoomMessage late = save(2L, "세 번째 공지");
+		searchService.onPersisted(List.of(late));
+		table.remove(2L); // DB 로 다시 찾지 않아도 색인되어 있어야 합니다.
+		clearInvocations(repository);
+
+		assertThat(searchService.search(ROOM_ID, "공지", null, null).getMessageIds())
+			.extracting(ChatRoomMessageId::getMessageSequence)
+			.containsExactly(501L, 1L);
+		verify(repository).findRecentByRoomIdBetween(eq(ROOM_ID), eq(2L), eq(500L), any(Pageable.class));
+		verify(repository).findByRoomIdAndSequences(eq(ROOM_ID), eq(List.of(501L, 2L, 1L)));
+	}
+
+	@Test
+	@DisplayName("한 번에 maxIndexPerSearch 개까지만 색인하고, 다 따라잡지 못하면 준비 중으로 응답한 뒤 다음 검색에서 이어서 색인한다")
+	void limitIndexPerSearch() {
+		properties.setMaxIndexPerSearch(6);
+		for (long sequence = 1; sequence <= 10; sequence++) {
+			save(sequence, "공지 " + sequence);
+		}
+
+		assertThatThrownBy(() -> searchService.search(ROOM_ID, "공지", null, null))
+			.isInstanceOf(CustomException.class)
+			.extracting(e -> ((CustomException)e).getErrorCode())
+			.isEqualTo(ErrorCode.CHAT_SEARCH_INDEXING);
+		verify(repository, never()).findByRoomIdAfterCursor(eq(ROOM_ID), eq(6L), any(Pageable.class));
+
+		assertThat(sequences(searchService.search(ROOM_ID, "공지", null, 3))).containsExactly(10L, 9L, 8L);
+		verify(repository).findByRoomIdAfterCursor(eq(ROOM_ID), eq(6L), any(Pageable.class));
+	}
+
+	@Test
+	@DisplayName("방 하나의 색인만으로 메모리 상한을 넘으면 그 방을 제거하고, 이후 검색은 색인하지 않고 거절한다")
+	void refuseOversizedRoom() {
+		properties.setMaxMemoryBytes(1_000);
+		for (long sequence = 1; sequence <= 20; sequence++) {
+			save(sequence, "서로 다른 내용의 긴 메시지 번호 " + sequence);
+		}
+
+		assertThatThrownBy(() -> searchService.search(ROOM_ID, "메시지", null, null))
+			.isInstanceOf(CustomException.class)
+			.extracting(e -> ((CustomException)e).getErrorCode())
+			.isEqualTo(ErrorCode.CHAT_SEARCH_ROOM_TOO_LARGE);
+		assertThat(searchService.roomCount()).isZero();
+		assertThat(searchService.estimatedBytes()).isZero();
+
+		clearInvocations(repository);
+		assertThatThrownBy(() -> searchService.search(ROOM_ID, "메시지", null, null))
+			.isInstanceOf(CustomException.class)
+			.extracting(e -> ((CustomException)e).getErrorCode())
+			.isEqualTo(ErrorCode.CHAT_SEARCH_ROOM_TOO_LARGE);
+		verifyNoInteractions(repository);
+	}
+
+	@Test
+	@DisplayName("두 글자 이상 단어가 없는 검색어는 거절한다")
+	void rejectShortQuery() {
+		assertThatThrownBy(() -> searchService.search(ROOM_ID, "강 남", null, null))
+			.isInstanceOf(CustomException.class)
+			.extracting(e -> ((CustomException)e).getErrorCode())
+			.isEqualTo(ErrorCode.CHAT_SEARCH_QUERY_TOO_SHORT);
+	}
+
+	@Test
+	@DisplayName("순번 목록은 차이값 varint 로 저장되어 long[] 보다 작고, 그대로 복원된다")
+	void deltaPostingsRoundTrip() {
+		DeltaPostings postings = new DeltaPostings();
+		List<Long> sequences = new ArrayList<>();
+		for (long sequence = 1_000_000; sequence < 1_010_000; sequence += 1 + sequence % 3) {
+			postings.add(sequence);
+			sequences.add(sequence);
+		}
+		postings.add(sequences.get(0)); // 이미 있는 순번은 무시
+
+		assertThat(postings.decode()).containsExactly(sequences.stream().mapToLong(Long::longValue).toArray());
+		assertThat(postings.capacityBytes()).isLessThan(sequences.size() * Long.BYTES / 4);
+	}
+
+	private ChatRoomMessage save(Long sequence, String content) {
+		table.put(sequence, dto(sequence, content));
+		return ChatRoomMessage.create(ChatRoomMessageId.create(ROOM_ID, sequence), 10L, content,
+			LocalDateTime.now(), MessageType.CHAT, DeliveryStatus.SENT);
+	}
+
+	private ChatMessageDto dto(Long sequence, String content) {
+		return new ChatMessageDto(sequence, ROOM_ID, MessageType.CHAT, content, 10L, LocalDateTime.now());
+	}
+
+	private List<Long> sequences(ChatSearchResponse response) {
+		return response.getMessageIds().stream().map(ChatRoomMessageId::getMessageSequence).toList();
+	}
+}
@@ -0,0 +1,221 @@
+package com.onmoim.server.chat.service.writebehind;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.onmoim.server.chat.common.config.ChatWriteBehindProperties;
+import com.onmoim.server.chat.domain.ChatRoomMessage;
+import com.onmoim.server.chat.domain.ChatRoomMessageId;
+import com.onmoim.server.chat.domain.enums.DeliveryStatus;
+import com.onmoim.server.chat.domain.enums.MessageType;
+import com.onmoim.server.chat.repository.ChatMessageBatchRepository;
+import com.onmoim.server.chat.service.search.ChatMessageSearchService;
+import com.onmoim.server.common.exception.CustomException;
+import com.onmoim.server.common.exception.ErrorCode;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ChatMessageWriteBehindServiceTest {
+
+	private final ChatMessageBatchRepository batchRepository = mock(ChatMessageBatchRepository.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	// insertAll 호출 시점의 메시지별 상태
+	private final List<List<DeliveryStatus>> insertedBatches = new CopyOnWriteArrayList<>();
+
+	private ChatMessageWriteBehindService service;
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		service.stop();
+	}
+
+	@Test
+	@DisplayName("batchSize 만큼 모아서 한 번에 저장하고 커밋되면 future 가 완료된다")
+	void flushByBatchSize() throws Exception {
+		recordInserts();
+		service = start(properties(10_000, 200, 1_000));
+
+		List<CompletableFuture<ChatRoomMessageId>> futures = new ArrayList<>();
+		for (long seq = 1; seq <= 400; seq++) {
+			futures.add(service.enqueue(message(seq)));
+		}
+		CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+		assertThat(insertedBatches).hasSize(2).allSatisfy(batch -> assertThat(batch).hasSize(200));
+		assertThat(meterRegistry.get("chat.write_behind.batch.size").summary().totalAmount()).isEqualTo(400);
+		assertThat(meterRegistry.get("chat.write_behind.flush").timer().count()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("batchSize 를 채우지 못해도 flushInterval 이 지나면 저장한다")
+	void flushByInterval() throws Exception {
+		recordInserts();
+		service = start(properties(10_000, 200, 20));
+
+		CompletableFuture<ChatRoomMessageId> first = service.enqueue(message(1L));
+		service.enqueue(message(2L));
+		CompletableFuture<ChatRoomMessageId> last = service.enqueue(message(3L));
+
+		assertThat(last.get(5, TimeUnit.SECONDS)).isEqualTo(ChatRoomMessageId.create(1L, 3L));
+		assertThat(first).isCompleted();
+		assertThat(insertedBatches).hasSize(1);
+		assertThat(insertedBatches.get(0)).hasSize(3);
+	}
+
+	@Test
+	@DisplayName("저장 전 변경된 상태는 INSERT 에 함께 기록되고, 저장 후에는 대기 목록에서 빠진다")
+	void pendingStatusUpdate() throws Exception {
+		CountDownLatch inserting = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		doAnswer(inv -> {
+			inserting.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			insertedBatches.add(statuses(inv.getArgument(0)));
+			return null;
+		}).when(batchRepository).insertAll(anyList());
+		service = start(properties(10_000, 1, 1_000));
+
+		// 첫 메시지로 writer 를 붙잡아 두 번째 메시지를 대기 상태로 유지
+		service.enqueue(message(1L));
+		inserting.await(5, TimeUnit.SECONDS);
+		CompletableFuture<ChatRoomMessageId> second = service.enqueue(message(2L));
+
+		assertThat(service.updatePendingStatus(ChatRoomMessageId.create(1L, 2L), DeliveryStatus.SENT)).isTrue();
+		release.countDown();
+		second.get(5, TimeUnit.SECONDS);
+
+		assertThat(insertedBatches.get(1)).containsExactly(DeliveryStatus.SENT);
+		assertThat(service.updatePendingStatus(ChatRoomMessageId.create(1L, 2L), DeliveryStatus.FAILED)).isFalse();
+	}
+
+	@Test
+	@DisplayName("대기열이 가득 차면 offerTimeout 동안 기다린 뒤 거절한다")
+	void backpressure() throws Exception {
+		CountDownLatch inserting = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		doAnswer(inv -> {
+			inserting.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return null;
+		}).when(batchRepository).insertAll(anyList());
+		service = start(properties(2, 1, 1_000));
+
+		// writer 가 1개를 처리 중이고 대기열 2개가 찬 상태
+		service.enqueue(message(1L));
+		inserting.await(5, TimeUnit.SECONDS);
+		service.enqueue(message(2L));
+		service.enqueue(message(3L));
+
+		assertThatThrownBy(() -> service.enqueue(message(4L)))
+			.isInstanceOf(CustomException.class)
+			.extracting(e -> ((CustomException)e).getErrorCode())
+			.isEqualTo(ErrorCode.CHAT_MESSAGE_QUEUE_FULL);
+		assertThat(meterRegistry.get("chat.write_behind.rejected").counter().count()).isEqualTo(1);
+		release.countDown();
+	}
+
+	@Test
+	@DisplayName("종료 시 대기열에 남은 메시지를 모두 저장한다")
+	void drainOnStop() throws Exception {
+		recordInserts();
+		service = start(properties(10_000, 50, 1_000));
+
+		List<CompletableFuture<ChatRoomMessageId>> futures = new ArrayList<>();
+		for (long seq = 1; seq <= 120; seq++) {
+			futures.add(service.enqueue(message(seq)));
+		}
+		service.stop();
+
+		assertThat(futures).allSatisfy(future -> assertThat(future).isCompleted());
+		assertThat(insertedBatches.stream().mapToInt(List::size).sum()).isEqualTo(120);
+	}
+
+	@Test
+	@DisplayName("재시도 후에도 batch 저장에 실패하면 한 건씩 저장하고, 잘못된 메시지만 실패로 완료한다")
+	void isolatePoisonRow() throws Exception {
+		ChatRoomMessageId poisonId = ChatRoomMessageId.create(1L, 3L);
+		doAnswer(inv -> {
+			List<ChatRoomMessage> messages = inv.getArgument(0);
+			if (messages.stream().anyMatch(message -> message.getId().equals(poisonId))) {
+				throw new IllegalStateException("잘못된 메시지");
+			}
+			insertedBatches.add(statuses(messages));
+			return null;
+		}).when(batchRepository).insertAll(anyList());
+		ChatWriteBehindProperties properties = properties(10_000, 5, 20);
+		properties.setMaxFlushAttempts(2);
+		service = start(properties);
+
+		List<CompletableFuture<ChatRoomMessageId>> futures = new ArrayList<>();
+		for (long seq = 1; seq <= 5; seq++) {
+			futures.add(service.enqueue(message(seq)));
+		}
+		CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+			.exceptionally(e -> null)
+			.get(5, TimeUnit.SECONDS);
+
+		assertThat(futures.get(2)).isCompletedExceptionally();
+		assertThat(List.of(futures.get(0), futures.get(1), futures.get(3), futures.get(4)))
+			.allSatisfy(future -> assertThat(future).isCompleted().isNotCompletedExceptionally());
+		// batch 2번 시도 + 한 건씩 5번
+		verify(batchRepository, times(7)).insertAll(anyList());
+		assertThat(insertedBatches).hasSize(4).allSatisfy(batch -> assertThat(batch).hasSize(1));
+		assertThat(meterRegistry.get("chat.write_behind.failed").counter().count()).isEqualTo(1);
+		assertThat(service.findPending(1L, 0L)).isEmpty();
+	}
+
+	private void recordInserts() {
+		doAnswer(inv -> {
+			insertedBatches.add(statuses(inv.getArgument(0)));
+			return null;
+		}).when(batchRepository).insertAll(anyList());
+	}
+
+	private List<DeliveryStatus> statuses(List<ChatRoomMessage> messages) {
+		return messages.stream().map(ChatRoomMessage::getDeliveryStatus).toList();
+	}
+
+	private ChatMessageWriteBehindService start(ChatWriteBehindProperties properties) {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+		ChatMessageWriteBehindService writeBehindService =
+			new ChatMessageWriteBehindService(batchRepository, transactionTemplate, properties,
+				mock(ChatMessageSearchService.class), meterRegistry);
+		writeBehindService.start();
+		return writeBehindService;
+	}
+
+	private ChatWriteBehindProperties properties(int queueCapacity, int batchSize, long flushIntervalMillis) {
+		ChatWriteBehindProperties properties = new ChatWriteBehindProperties();
+		properties.setQueueCapacity(queueCapacity);
+		properties.setBatchSize(batchSize);
+		properties.setFlushIntervalMillis(flushIntervalMillis);
+		properties.setOfferTimeoutMillis(20);
+		return properties;
+	}
+
+	private ChatRoomMessage message(Long sequence) {
+		return ChatRoomMessage.create(
+			ChatRoomMessageId.create(1L, sequence),
+			100L,
+			"content " + sequence,
+			LocalDateTime.now(),
+			MessageType.CHAT,
+			DeliveryStatus.PENDING
+		);
+	}
+}